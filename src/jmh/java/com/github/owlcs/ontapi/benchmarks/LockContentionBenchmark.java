@@ -0,0 +1,105 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.benchmarks;
+
+import com.github.owlcs.ontapi.OntManagers;
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.OntologyManager;
+import com.github.owlcs.ontapi.jena.OptimisticReadWriteLock;
+import com.github.owlcs.ontapi.jena.VersionedGraph;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphUtil;
+import org.apache.jena.graph.Triple;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * A lock contention benchmark for concurrent managers:
+ * many threads perform point queries ({@code contains}) against a shared ontology and its graph,
+ * while a single thread rarely modifies it.
+ * Compares the default {@link ReentrantReadWriteLock} with the {@link OptimisticReadWriteLock}.
+ * The ontology graph is a {@link VersionedGraph},
+ * since optimistic reads are not used for graphs that are not safe for concurrent reads.
+ *
+ * @see com.github.owlcs.ontapi.tests.RaceTest
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LockContentionBenchmark {
+
+    @Param({"ReentrantReadWriteLock", "OptimisticReadWriteLock"})
+    public String lock;
+
+    private Ontology ontology;
+    private Graph graph;
+    private List<OWLAxiom> axioms;
+    private List<Triple> triples;
+    private OWLAxiom change;
+
+    @Setup(Level.Trial)
+    public void setup() throws OWLOntologyCreationException, URISyntaxException {
+        ReadWriteLock rw = "OptimisticReadWriteLock".equals(lock) ?
+                new OptimisticReadWriteLock() : new ReentrantReadWriteLock();
+        OntologyManager m = OntManagers.createConcurrentManager(rw);
+        IRI doc = IRI.create(Objects.requireNonNull(LockContentionBenchmark.class.getResource("/ontapi/pizza.ttl")).toURI());
+        Graph data = new VersionedGraph();
+        GraphUtil.addInto(data, OntManagers.createManager().loadOntologyFromOntologyDocument(doc)
+                .asGraphModel().getBaseGraph());
+        ontology = m.addOntology(data);
+        graph = ontology.asGraphModel().getBaseGraph();
+        axioms = ReadBenchmark.sample(ontology.axioms().sorted().collect(Collectors.toList()));
+        triples = ReadBenchmark.sample(graph.find().toList());
+        OWLDataFactory df = m.getOWLDataFactory();
+        change = df.getOWLSubClassOfAxiom(df.getOWLClass("http://test#X"), df.getOWLThing());
+    }
+
+    @Benchmark
+    @Group("contention")
+    @GroupThreads(7)
+    public void read(Blackhole bh) {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        bh.consume(ontology.containsAxiom(axioms.get(r.nextInt(axioms.size()))));
+        bh.consume(graph.contains(triples.get(r.nextInt(triples.size()))));
+    }
+
+    @Benchmark
+    @Group("contention")
+    @GroupThreads(1)
+    public void write() {
+        Blackhole.consumeCPU(100_000);
+        if (ontology.containsAxiom(change)) {
+            ontology.remove(change);
+        } else {
+            ontology.add(change);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.benchmarks;
+
+import com.github.owlcs.ontapi.OntManagers;
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.OntologyManager;
+import com.github.owlcs.ontapi.config.CacheSettings;
+import com.github.owlcs.ontapi.config.OntLoaderConfiguration;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Objects;
+
+/**
+ * A base benchmark state:
+ * the bundled test ontology to work with and the {@link CacheSettings model cache level} to use.
+ */
+@State(Scope.Benchmark)
+public abstract class OntologyState {
+
+    @Param({"ontapi/pizza.ttl", "ontapi/family.ttl", "ontapi/NCBITAXON-CUT.ttl", "ontapi/goodrelations.rdf"})
+    public String file;
+
+    @Param({"CACHE_ITERATOR", "CACHE_COMPONENT", "CACHE_CONTENT"})
+    public String cache;
+
+    /**
+     * Answers the document IRI of the test resource.
+     *
+     * @return {@link IRI}
+     */
+    protected IRI documentIRI() {
+        URL res = Objects.requireNonNull(OntologyState.class.getResource("/" + file), "Can't find " + file);
+        try {
+            return IRI.create(res.toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates a new manager with the loader configuration corresponding to the {@link #cache} parameter.
+     *
+     * @return {@link OntologyManager}
+     */
+    protected OntologyManager createManager() {
+        OntologyManager res = OntManagers.createManager();
+        OntLoaderConfiguration conf = res.getOntologyLoaderConfiguration().setModelCacheLevel(cacheLevel(cache));
+        res.setOntologyLoaderConfiguration(conf);
+        return res;
+    }
+
+    /**
+     * Loads a fresh copy of the test ontology.
+     *
+     * @return {@link Ontology}
+     * @throws OWLOntologyCreationException if the document cannot be loaded
+     */
+    protected Ontology load() throws OWLOntologyCreationException {
+        return createManager().loadOntologyFromOntologyDocument(documentIRI());
+    }
+
+    /**
+     * Maps the name of a {@link CacheSettings} constant to its value.
+     *
+     * @param name {@code String}
+     * @return {@code int}
+     */
+    public static int cacheLevel(String name) {
+        switch (name) {
+            case "CACHE_ITERATOR":
+                return CacheSettings.CACHE_ITERATOR;
+            case "CACHE_COMPONENT":
+                return CacheSettings.CACHE_COMPONENT;
+            case "CACHE_CONTENT":
+                return CacheSettings.CACHE_CONTENT;
+            case "CACHE_ALL":
+                return CacheSettings.CACHE_ALL;
+            default:
+                throw new IllegalArgumentException("Unknown cache level " + name);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.benchmarks;
+
+import com.github.owlcs.ontapi.Ontology;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the read paths of an already loaded {@link Ontology}:
+ * listing axioms, counting, referencing-axioms and contains-axiom queries.
+ * The query samples are taken uniformly from the ontology signature and axioms.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReadBenchmark extends OntologyState {
+    private static final int SAMPLE_SIZE = 100;
+
+    private Ontology ontology;
+    private List<OWLEntity> entities;
+    private List<OWLAxiom> axioms;
+
+    @Setup(Level.Trial)
+    public void setup() throws OWLOntologyCreationException {
+        ontology = load();
+        entities = sample(ontology.signature().sorted().collect(Collectors.toList()));
+        axioms = sample(ontology.axioms().sorted().collect(Collectors.toList()));
+    }
+
+    static <X> List<X> sample(List<X> list) {
+        if (list.size() <= SAMPLE_SIZE) {
+            return list;
+        }
+        int step = list.size() / SAMPLE_SIZE;
+        return IntStream.range(0, SAMPLE_SIZE).mapToObj(i -> list.get(i * step))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long axioms() {
+        return ontology.axioms().count();
+    }
+
+    @Benchmark
+    public int getAxiomCount() {
+        return ontology.getAxiomCount();
+    }
+
+    @Benchmark
+    public void referencingAxioms(Blackhole bh) {
+        for (OWLEntity e : entities) {
+            bh.consume(ontology.referencingAxioms(e).count());
+        }
+    }
+
+    @Benchmark
+    public void containsAxiom(Blackhole bh) {
+        for (OWLAxiom a : axioms) {
+            bh.consume(ontology.containsAxiom(a));
+        }
+    }
+}
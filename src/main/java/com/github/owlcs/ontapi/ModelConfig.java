@@ -179,6 +179,36 @@ public class ModelConfig implements InternalConfig, Serializable {
         return getLoaderConfig().getModelCacheLevel();
     }
 
+    @Override
+    public int getContentCacheLoadParallelism() {
+        return getLoaderConfig().getContentCacheLoadParallelism();
+    }
+
+    @Override
+    public int getContentArraysCacheSize() {
+        return getLoaderConfig().getContentArraysCacheSize();
+    }
+
+    @Override
+    public boolean isCollectCacheMetrics() {
+        return getLoaderConfig().isCollectCacheMetrics();
+    }
+
+    @Override
+    public boolean isIndexReferencingAxioms() {
+        return getLoaderConfig().isIndexReferencingAxioms();
+    }
+
+    @Override
+    public boolean isClassifyNodes() {
+        return getLoaderConfig().isClassifyNodes();
+    }
+
+    @Override
+    public boolean isCacheListMembers() {
+        return getLoaderConfig().isCacheListMembers();
+    }
+
     @Override
     public boolean parallel() {
         return manager.isConcurrent();
@@ -177,6 +177,17 @@ public class OWLFactoryWrapper implements OntologyFactory.Loader {
                                 return of(getBase().add(change.getAxiom()));
                             }
 
+                            @Override
+                            public Set<OWLAxiom> addAxioms(Collection<OWLAxiom> axioms) {
+                                return getBase().addAxioms(axioms);
+                            }
+
+                            @Override
+                            public Set<OWLAxiom> removeAxioms(Collection<OWLAxiom> axioms) {
+                                LOGGER.warn("Suspicious: remove {} axioms", axioms.size());
+                                return getBase().removeAxioms(axioms);
+                            }
+
                             @Override
                             public ChangeApplied visit(AddOntologyAnnotation change) {
                                 return of(getBase().add(change.getAnnotation()));
@@ -210,6 +221,11 @@ public class OWLFactoryWrapper implements OntologyFactory.Loader {
                 return base.createGraph();
             }
 
+            @Override
+            public Graph createGraph(OntLoaderConfiguration c) {
+                return base.createGraph(c);
+            }
+
             @Override
             public UnionGraph createUnionGraph(Graph g, OntLoaderConfiguration c) {
                 return base.createUnionGraph(g, c);
@@ -15,6 +15,8 @@
 package com.github.owlcs.ontapi;
 
 import com.github.owlcs.ontapi.internal.InternalModel;
+import com.github.owlcs.ontapi.jena.CompactGraph;
+import com.github.owlcs.ontapi.jena.VersionedGraph;
 import com.github.owlcs.ontapi.jena.model.OntModel;
 import com.github.owlcs.ontapi.owlapi.OWLObjectImpl;
 import org.apache.jena.graph.Graph;
@@ -1122,7 +1124,9 @@ public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
      * Note: only the base graph is serialized,
      * so if you serialize and then de-serialize standalone ontology it will loss all its references,
      * please use managers serialization, it will restore any links.
-     * Also please note: an exception is expected if the encapsulated graph is not {@link GraphMem}.
+     * Also please note: an exception is expected if the encapsulated graph is not {@link GraphMem}, {@link CompactGraph}
+     * or {@link VersionedGraph},
+     * and the base graph is always restored as {@link GraphMem}.
      *
      * @param out {@link ObjectOutputStream}
      * @throws IOException     if I/O errors occur while writing to the underlying <code>OutputStream</code>
@@ -1130,7 +1134,7 @@ public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
      */
     private void writeObject(ObjectOutputStream out) throws IOException, OntApiException {
         Graph g = base.getBaseGraph();
-        if (!(g instanceof GraphMem))
+        if (!(g instanceof GraphMem) && !(g instanceof CompactGraph) && !(g instanceof VersionedGraph))
             throw new OntApiException(getOntologyID() + ":: Serialization is not supported for " + g.getClass());
         out.defaultWriteObject();
         // serialize only base graph (it will be wrapped as UnionGraph):
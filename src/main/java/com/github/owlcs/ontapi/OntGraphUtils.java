@@ -67,6 +67,16 @@ public class OntGraphUtils {
     // following constants are copy-pasted from org.semanticweb.owlapi.io.DocumentSource:
     public static final String TEXT_PLAIN_REQUEST_TYPE = ", text/plain; q=0.1";
     public static final String LAST_REQUEST_TYPE = ", */*; q=0.09";
+    /**
+     * The number of bytes at the beginning of a document to be inspected to guess its format.
+     */
+    public static final int SNIFF_SIZE = 8192;
+    /**
+     * The max number of bytes of a document kept in memory to reuse it with another format
+     * if the first attempt to parse fails.
+     * For larger documents the source is reopened.
+     */
+    public static final int MAX_REPLAY_BUFFER_SIZE = 64 * 1024 * 1024;
     public static final String DEFAULT_REQUEST = "application/rdf+xml, application/xml; q=0.7, text/xml; q=0.6" +
             TEXT_PLAIN_REQUEST_TYPE + LAST_REQUEST_TYPE;
 
@@ -270,8 +280,15 @@ public class OntGraphUtils {
     }
 
     /**
-     * Performs reading to the graph from the source using {@link OntInputSupplier ont-supplier},
-     * which produces a new input stream each call.
+     * Performs reading to the graph from the source using {@link OntInputSupplier ont-supplier}.
+     * If the source has no explicit format, then the beginning of the document is inspected
+     * (see {@link #sniffFormat(byte[], int)}) and the most likely format is tried first.
+     * The input stream is opened only once:
+     * the content is buffered (up to {@link #MAX_REPLAY_BUFFER_SIZE} bytes) until some parser succeeds,
+     * and reused if another format needs to be tried;
+     * this is also the case when the guessed format is not supported by Jena (e.g. OWL/XML).
+     * For larger documents the source is reopened.
+     * If a parsing attempt fails, the partially read triples are removed from the (initially empty) graph.
      *
      * @param graph    {@link Graph}
      * @param source   {@link OWLOntologyDocumentSource}
@@ -285,37 +302,209 @@ public class OntGraphUtils {
         IRI iri = source.getDocumentIRI();
         final OWLOntologyCreationException cause = new UnsupportedFormatException(String.format("Can't read %s %s.",
                 source.getClass().getSimpleName(), iri));
-        for (OntFormat format : getSupportedFormats(source)) {
-            if (format.isOWLOnly()) {
-                cause.addSuppressed(new UnsupportedFormatException("Not supported by jena.")
-                        .putFormat(format).putSource(iri));
-                continue;
+        Collection<OntFormat> formats = getSupportedFormats(source);
+        if (formats.stream().allMatch(OntFormat::isOWLOnly)) {
+            formats.forEach(format -> cause.addSuppressed(new UnsupportedFormatException("Not supported by jena.")
+                    .putFormat(format).putSource(iri)));
+            throw cause;
+        }
+        boolean isEmpty = graph.isEmpty();
+        try (InputStream is = supplier.open(source)) {
+            if (is == null) {
+                return null;
             }
-            Lang lang = format.getLang();
-            try (InputStream is = supplier.open(source)) {
-                if (is == null) {
-                    return null;
+            ReplayableSource replay = null;
+            if (formats.size() > 1) {
+                replay = new ReplayableSource(is, MAX_REPLAY_BUFFER_SIZE);
+                byte[] head = new byte[SNIFF_SIZE];
+                OntFormat first = sniffFormat(head, replay.head(head));
+                if (first != null && formats.contains(first)) {
+                    formats = moveFirst(formats, first);
                 }
+            }
+            for (OntFormat format : formats) {
+                if (format.isOWLOnly()) {
+                    cause.addSuppressed(new UnsupportedFormatException("Not supported by jena.")
+                            .putFormat(format).putSource(iri));
+                    continue;
+                }
+                Lang lang = format.getLang();
                 if (LOGGER.isDebugEnabled())
                     LOGGER.debug("try <{}>", lang);
-                // with @base:
-                RDFDataMgr.read(graph, is, iri.toString(), lang);
-                return format;
-            } catch (OWLOntologyInputSourceException | IOException e) {
-                throw new OWLOntologyCreationException(source.getClass().getSimpleName() +
-                        ": can't open or close input stream from " + iri, e);
-            } catch (RuntimeException e) {
-                // could be org.apache.jena.shared.JenaException ||
-                // org.apache.jena.atlas.AtlasException ||
-                // org.apache.jena.atlas.json.JsonParseException || ...
-                if (LOGGER.isDebugEnabled())
-                    LOGGER.debug("<{}> failed: '{}'", lang, e.getMessage());
-                cause.addSuppressed(new UnsupportedFormatException(e).putSource(iri).putFormat(format));
+                try {
+                    InputStream in = replay == null ? is : replay.replay();
+                    if (in != null) {
+                        // with @base:
+                        RDFDataMgr.read(graph, in, iri.toString(), lang);
+                    } else {
+                        // the document is too large to be kept in memory, open it once again
+                        try (InputStream again = supplier.open(source)) {
+                            RDFDataMgr.read(graph, again, iri.toString(), lang);
+                        }
+                    }
+                    return format;
+                } catch (RuntimeException e) {
+                    // could be org.apache.jena.shared.JenaException ||
+                    // org.apache.jena.atlas.AtlasException ||
+                    // org.apache.jena.atlas.json.JsonParseException || ...
+                    if (LOGGER.isDebugEnabled())
+                        LOGGER.debug("<{}> failed: '{}'", lang, e.getMessage());
+                    cause.addSuppressed(new UnsupportedFormatException(e).putSource(iri).putFormat(format));
+                    if (isEmpty) {
+                        // remove partial content
+                        graph.clear();
+                        graph.getPrefixMapping().clearNsPrefixMap();
+                    }
+                }
             }
+        } catch (OWLOntologyInputSourceException | IOException e) {
+            throw new OWLOntologyCreationException(source.getClass().getSimpleName() +
+                    ": can't open or close input stream from " + iri, e);
         }
         throw cause;
     }
 
+    private static Collection<OntFormat> moveFirst(Collection<OntFormat> formats, OntFormat first) {
+        Set<OntFormat> res = new LinkedHashSet<>();
+        res.add(first);
+        res.addAll(formats);
+        return res;
+    }
+
+    /**
+     * Guesses the document format by its beginning (usually the first few kilobytes).
+     * Recognizes XML documents (RDF/XML, OWL/XML, TriX), JSON documents (JSON-LD, RDF/JSON),
+     * Turtle with {@code @prefix} or {@code PREFIX} directives,
+     * and the OWL Functional and Manchester syntaxes.
+     * For everything else (e.g. N-Triples, which is also a valid Turtle) {@code null} is returned.
+     *
+     * @param head   {@code byte[]}, the beginning of the document, not {@code null}
+     * @param length {@code int}, the number of bytes in the {@code head} to inspect
+     * @return {@link OntFormat} or {@code null} if the format cannot be guessed
+     */
+    public static OntFormat sniffFormat(byte[] head, int length) {
+        String txt = skipComments(new String(head, 0, Math.max(length, 0), StandardCharsets.UTF_8));
+        if (txt.isEmpty()) {
+            return null;
+        }
+        char first = txt.charAt(0);
+        if (first == '<') {
+            if (!isXMLStart(txt)) {
+                // an URI: N-Triples, N-Quads or Turtle
+                return null;
+            }
+            String root = rootElement(txt);
+            if (root == null || root.startsWith("rdf:RDF") || root.contains("rdf:about") || root.contains("rdf:ID")) {
+                return OntFormat.RDF_XML;
+            }
+            if (root.startsWith("TriX")) {
+                return OntFormat.TRIX;
+            }
+            if (root.startsWith("Ontology") && root.contains("http://www.w3.org/2002/07/owl#")) {
+                return OntFormat.OWL_XML;
+            }
+            if (root.startsWith("html")) {
+                return OntFormat.RDFA;
+            }
+            return OntFormat.RDF_XML;
+        }
+        if (first == '{' || first == '[') {
+            if (first == '[' || txt.contains("\"@context\"") || txt.contains("\"@id\"") || txt.contains("\"@graph\"")) {
+                return OntFormat.JSON_LD;
+            }
+            return OntFormat.RDF_JSON;
+        }
+        if (txt.startsWith("Prefix(") || txt.startsWith("Ontology(")) {
+            return OntFormat.FUNCTIONAL_SYNTAX;
+        }
+        if (txt.startsWith("Prefix:") || txt.startsWith("Ontology:")) {
+            return OntFormat.MANCHESTER_SYNTAX;
+        }
+        if (txt.startsWith("@prefix") || txt.startsWith("@base") || startsWithKeyword(txt, "PREFIX") || startsWithKeyword(txt, "BASE")) {
+            return OntFormat.TURTLE;
+        }
+        return null;
+    }
+
+    private static String skipComments(String txt) {
+        int i = 0;
+        int length = txt.length();
+        while (i < length) {
+            char c = txt.charAt(i);
+            if (c == '\uFEFF' || Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            if (c != '#') {
+                break;
+            }
+            // Turtle, N-Triples and Manchester Syntax comments
+            while (i < length && txt.charAt(i) != '\n' && txt.charAt(i) != '\r') {
+                i++;
+            }
+        }
+        return txt.substring(i);
+    }
+
+    private static boolean isXMLStart(String txt) {
+        if (txt.length() < 2) {
+            return false;
+        }
+        char c = txt.charAt(1);
+        if (c == '?' || c == '!') {
+            return true;
+        }
+        if (!Character.isLetter(c) && c != '_') {
+            return false;
+        }
+        // an element name is followed by a whitespace, '>' or '/>', while an URI usually contains '/' or '#'
+        int i = 2;
+        while (i < txt.length()) {
+            c = txt.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == ':' || c == '-' || c == '_' || c == '.') {
+                i++;
+                continue;
+            }
+            return c == '>' || Character.isWhitespace(c) || txt.startsWith("/>", i);
+        }
+        return true;
+    }
+
+    private static boolean startsWithKeyword(String txt, String keyword) {
+        return txt.regionMatches(true, 0, keyword, 0, keyword.length())
+                && txt.length() > keyword.length() && Character.isWhitespace(txt.charAt(keyword.length()));
+    }
+
+    /**
+     * Returns the content of the first XML element start tag (without {@code <} and {@code >}),
+     * skipping the prolog, processing instructions, comments and DOCTYPE declaration.
+     *
+     * @param txt {@code String}, not {@code null}
+     * @return {@code String} or {@code null} if there is no complete start tag in the given text
+     */
+    private static String rootElement(String txt) {
+        int i = 0;
+        while ((i = txt.indexOf('<', i)) >= 0) {
+            if (txt.startsWith("<?", i)) {
+                i = txt.indexOf("?>", i);
+            } else if (txt.startsWith("<!--", i)) {
+                i = txt.indexOf("-->", i);
+            } else if (txt.startsWith("<!", i)) {
+                // DOCTYPE, possibly with an internal subset containing ENTITY declarations
+                int subset = txt.indexOf('[', i);
+                int end = txt.indexOf('>', i);
+                i = subset >= 0 && subset < end ? txt.indexOf("]>", subset) : end;
+            } else {
+                int end = txt.indexOf('>', i);
+                return end < 0 ? null : txt.substring(i + 1, end);
+            }
+            if (i < 0) {
+                return null;
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns supported formats related to the source.
      * The result (ordered set) can only contain a single format in case the source has {@link OWLDocumentFormat},
@@ -419,4 +608,120 @@ public class OntGraphUtils {
          */
         InputStream open(OWLOntologyDocumentSource source) throws OWLOntologyInputSourceException;
     }
+
+    /**
+     * An {@link InputStream} wrapper that records the read bytes,
+     * so that the content can be read again from the beginning without reopening the source.
+     * The recording stops when the buffer size exceeds the limit;
+     * after that replaying is possible only until the first byte that is not recorded is read.
+     * Not thread-safe; only one replaying stream can be used at a time.
+     */
+    protected static class ReplayableSource {
+        private final InputStream source;
+        private final int limit;
+        private byte[] buffer = new byte[SNIFF_SIZE];
+        private int size;
+        private boolean overflow;
+
+        protected ReplayableSource(InputStream source, int limit) {
+            this.source = Objects.requireNonNull(source);
+            this.limit = limit;
+        }
+
+        /**
+         * Reads the beginning of the document into the given array.
+         *
+         * @param res {@code byte[]} to fill
+         * @return {@code int} the number of bytes read
+         * @throws IOException if an I/O error occurs
+         */
+        protected int head(byte[] res) throws IOException {
+            InputStream in = replay();
+            int n = 0;
+            int r;
+            while (n < res.length && (r = in.read(res, n, res.length - n)) > 0) {
+                n += r;
+            }
+            return n;
+        }
+
+        /**
+         * Answers a new {@link InputStream} that starts from the beginning of the document.
+         *
+         * @return {@link InputStream} or {@code null} if the buffer is exhausted
+         */
+        protected InputStream replay() {
+            if (overflow) {
+                return null;
+            }
+            return new InputStream() {
+                private int pos;
+
+                @Override
+                public int read() throws IOException {
+                    if (!overflow && pos < size) {
+                        return buffer[pos++] & 0xFF;
+                    }
+                    int res = source.read();
+                    if (res >= 0) {
+                        record(res);
+                        pos++;
+                    }
+                    return res;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    if (len == 0) {
+                        return 0;
+                    }
+                    if (!overflow && pos < size) {
+                        int n = Math.min(len, size - pos);
+                        System.arraycopy(buffer, pos, b, off, n);
+                        pos += n;
+                        return n;
+                    }
+                    int n = source.read(b, off, len);
+                    if (n > 0) {
+                        record(b, off, n);
+                        pos += n;
+                    }
+                    return n;
+                }
+
+                @Override
+                public void close() {
+                    // the source is closed by the owner
+                }
+            };
+        }
+
+        private void record(byte[] b, int off, int n) {
+            if (ensureCapacity(n)) {
+                System.arraycopy(b, off, buffer, size, n);
+                size += n;
+            }
+        }
+
+        private void record(int b) {
+            if (ensureCapacity(1)) {
+                buffer[size++] = (byte) b;
+            }
+        }
+
+        private boolean ensureCapacity(int n) {
+            if (overflow) {
+                return false;
+            }
+            if (size + n > limit) {
+                overflow = true;
+                buffer = null;
+                return false;
+            }
+            if (size + n > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.min(limit, Math.max(size + n, buffer.length * 2)));
+            }
+            return true;
+        }
+    }
 }
@@ -19,6 +19,7 @@ import com.github.owlcs.ontapi.config.OntConfig;
 import com.github.owlcs.ontapi.config.OntLoaderConfiguration;
 import com.github.owlcs.ontapi.config.OntSettings;
 import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.jena.OptimisticReadWriteLock;
 import com.google.common.collect.LinkedListMultimap;
 import org.semanticweb.owlapi.io.OWLParserFactory;
 import org.semanticweb.owlapi.model.*;
@@ -134,6 +135,32 @@ public class OntManagers implements OWLOntologyManagerFactory {
         return DEFAULT_PROFILE.createManager(true);
     }
 
+    /**
+     * Creates a ready to use {@code ONT-API} ontology manager with default configuration
+     * and the given locking strategy to work in a concurrent environment.
+     * The lock is shared between the manager and all its components, as for {@link #createConcurrentManager()}.
+     * For read-mostly workloads the {@link OptimisticReadWriteLock} can be specified:
+     * in this case the point queries to the ontology graphs ({@code contains}, {@code size}, {@code isEmpty})
+     * are performed using optimistic reads, without acquiring the shared read lock,
+     * but only if the graphs are safe for concurrent reads, i.e. {@link com.github.owlcs.ontapi.jena.VersionedGraph}s
+     * (see {@link com.github.owlcs.ontapi.jena.RWLockedGraph#isOptimistic()}).
+     * For this reason, if the lock is optimistic,
+     * the manager is configured to create such graphs
+     * (see {@link com.github.owlcs.ontapi.config.OntConfig#setUseVersionedGraph(boolean)}),
+     * and {@link OWLOntology#containsAxiom(OWLAxiom)} reads the already loaded axiom cache without locking.
+     *
+     * @param lock {@link ReadWriteLock}, not {@code null}
+     * @return {@link OntologyManager} a fresh {@code ONT-API} manager instance with concurrency
+     * @see OptimisticReadWriteLock
+     */
+    public static OntologyManager createConcurrentManager(ReadWriteLock lock) {
+        OntologyManager res = DEFAULT_PROFILE.createManager(OntApiException.notNull(lock, "Null lock"));
+        if (lock instanceof OptimisticReadWriteLock) {
+            res.getOntologyConfigurator().setUseVersionedGraph(true);
+        }
+        return res;
+    }
+
     /**
      * Creates a ready to use direct {@code ONT-API} ontology manager.
      * Notes:
@@ -407,8 +434,18 @@ public class OntManagers implements OWLOntologyManagerFactory {
 
         @Override
         public OntologyManager createManager(boolean concurrency) {
-            OntologyManager res = createManager(createDataFactory(),
-                    concurrency ? new ReentrantReadWriteLock() : NoOpReadWriteLock.NO_OP_RW_LOCK);
+            return createManager(concurrency ? new ReentrantReadWriteLock() : NoOpReadWriteLock.NO_OP_RW_LOCK);
+        }
+
+        /**
+         * Creates a fresh {@link OntologyManager Ontology Manager} with the given lock
+         * and with all {@code OWL-API} storers and parsers that are available in the classpath.
+         *
+         * @param lock {@link ReadWriteLock}, not {@code null}
+         * @return {@link OntologyManager}
+         */
+        public OntologyManager createManager(ReadWriteLock lock) {
+            OntologyManager res = createManager(createDataFactory(), lock);
             initParsers(res);
             initStorers(res);
             return res;
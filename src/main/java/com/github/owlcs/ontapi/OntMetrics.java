@@ -0,0 +1,321 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi;
+
+import com.github.owlcs.ontapi.internal.InternalMetrics;
+import com.github.owlcs.ontapi.internal.OWLTopObjectType;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * An immutable snapshot of the runtime cache statistics of an {@link Ontology} or of all ontologies of a manager.
+ * It includes the hits, misses and evictions for each {@link InternalMetrics.Kind kind of cache}
+ * (nodes, objects and content caches),
+ * and the number and the total duration of content loadings for each {@link OWLTopObjectType},
+ * i.e. the reading time of each axiom translator.
+ * The statistics can be also exported via JMX, see {@link #register(OntologyManager, ObjectName)}.
+ * <p>
+ * The statistics are collected only if it is enabled in the config
+ * (see {@link com.github.owlcs.ontapi.config.CacheSettings#isCollectCacheMetrics()}),
+ * otherwise all numbers are zero.
+ * The numbers of evictions are approximate.
+ */
+public class OntMetrics {
+    private static final OntMetrics EMPTY = new OntMetrics(new long[3][InternalMetrics.Kind.values().length],
+            new long[2][OWLTopObjectType.values().length]);
+
+    // hits, misses, evictions per cache kind
+    private final long[][] caches;
+    // counts, nanos per content type
+    private final long[][] loads;
+
+    protected OntMetrics(long[][] caches, long[][] loads) {
+        this.caches = caches;
+        this.loads = loads;
+    }
+
+    /**
+     * Takes a snapshot of the cache statistics of the given ontology.
+     *
+     * @param ontology {@link Ontology}, not {@code null}
+     * @return {@link OntMetrics}
+     */
+    public static OntMetrics of(Ontology ontology) {
+        InternalMetrics m = OWLAdapter.get().asBaseModel(Objects.requireNonNull(ontology, "Null ontology"))
+                .getBase().getMetrics();
+        long[][] caches = new long[3][InternalMetrics.Kind.values().length];
+        for (InternalMetrics.Kind k : InternalMetrics.Kind.values()) {
+            caches[0][k.ordinal()] = m.getHits(k);
+            caches[1][k.ordinal()] = m.getMisses(k);
+            caches[2][k.ordinal()] = m.getEvictions(k);
+        }
+        long[][] loads = new long[2][OWLTopObjectType.values().length];
+        for (OWLTopObjectType t : OWLTopObjectType.values()) {
+            loads[0][t.ordinal()] = m.getLoadCount(t);
+            loads[1][t.ordinal()] = m.getLoadNanos(t);
+        }
+        return new OntMetrics(caches, loads);
+    }
+
+    /**
+     * Takes a snapshot of the summary cache statistics of all ontologies in the given manager.
+     *
+     * @param manager {@link OntologyManager}, not {@code null}
+     * @return {@link OntMetrics}
+     */
+    public static OntMetrics of(OntologyManager manager) {
+        return Objects.requireNonNull(manager, "Null manager").ontologies()
+                .map(x -> of(OWLAdapter.get().asONT(x))).reduce(EMPTY, OntMetrics::plus);
+    }
+
+    /**
+     * Resets the cache statistics of the given ontology.
+     *
+     * @param ontology {@link Ontology}, not {@code null}
+     */
+    public static void reset(Ontology ontology) {
+        OWLAdapter.get().asBaseModel(Objects.requireNonNull(ontology, "Null ontology")).getBase().getMetrics().reset();
+    }
+
+    /**
+     * Resets the cache statistics of all ontologies in the given manager.
+     *
+     * @param manager {@link OntologyManager}, not {@code null}
+     */
+    public static void reset(OntologyManager manager) {
+        Objects.requireNonNull(manager, "Null manager").ontologies()
+                .forEach(x -> reset(OWLAdapter.get().asONT(x)));
+    }
+
+    /**
+     * Registers an MXBean in the platform {@link MBeanServer},
+     * which provides the live summary statistics of all ontologies in the given manager.
+     * To unregister use {@link MBeanServer#unregisterMBean(ObjectName)}.
+     *
+     * @param manager {@link OntologyManager}, not {@code null}
+     * @param name    {@link ObjectName}, not {@code null}
+     * @throws JMException if the bean cannot be registered
+     * @see MetricsMXBean
+     */
+    public static void register(OntologyManager manager, ObjectName name) throws JMException {
+        Objects.requireNonNull(manager, "Null manager");
+        register(() -> of(manager), () -> reset(manager), name);
+    }
+
+    /**
+     * Registers an MXBean in the platform {@link MBeanServer},
+     * which provides the live statistics of the given ontology.
+     * To unregister use {@link MBeanServer#unregisterMBean(ObjectName)}.
+     *
+     * @param ontology {@link Ontology}, not {@code null}
+     * @param name     {@link ObjectName}, not {@code null}
+     * @throws JMException if the bean cannot be registered
+     * @see MetricsMXBean
+     */
+    public static void register(Ontology ontology, ObjectName name) throws JMException {
+        Objects.requireNonNull(ontology, "Null ontology");
+        register(() -> of(ontology), () -> reset(ontology), name);
+    }
+
+    private static void register(Supplier<OntMetrics> source, Runnable reset, ObjectName name) throws JMException {
+        MetricsMXBean bean = new MetricsMXBean() {
+            @Override
+            public Map<String, Long> getHits() {
+                return source.get().toMap(OntMetrics::getHits);
+            }
+
+            @Override
+            public Map<String, Long> getMisses() {
+                return source.get().toMap(OntMetrics::getMisses);
+            }
+
+            @Override
+            public Map<String, Long> getEvictions() {
+                return source.get().toMap(OntMetrics::getEvictions);
+            }
+
+            @Override
+            public Map<String, Long> getLoadCounts() {
+                OntMetrics m = source.get();
+                return toMap(OWLTopObjectType.values(), m::getLoadCount);
+            }
+
+            @Override
+            public Map<String, Long> getLoadTimesMillis() {
+                OntMetrics m = source.get();
+                return toMap(OWLTopObjectType.values(), t -> m.getLoadTime(t).toMillis());
+            }
+
+            @Override
+            public void reset() {
+                reset.run();
+            }
+        };
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.registerMBean(new StandardMBean(bean, MetricsMXBean.class, true), Objects.requireNonNull(name));
+    }
+
+    private static <K extends Enum<K>> Map<String, Long> toMap(K[] keys, ToLongFunction<K> value) {
+        Map<String, Long> res = new LinkedHashMap<>();
+        for (K k : keys) {
+            long v = value.applyAsLong(k);
+            if (v != 0) {
+                res.put(k.name(), v);
+            }
+        }
+        return res;
+    }
+
+    private Map<String, Long> toMap(BiFunction<OntMetrics, InternalMetrics.Kind, Long> value) {
+        return toMap(InternalMetrics.Kind.values(), k -> value.apply(this, k));
+    }
+
+    /**
+     * Returns a new snapshot that is the sum of this and the given one.
+     *
+     * @param other {@link OntMetrics}, not {@code null}
+     * @return {@link OntMetrics}
+     */
+    public OntMetrics plus(OntMetrics other) {
+        return new OntMetrics(sum(caches, other.caches), sum(loads, other.loads));
+    }
+
+    private static long[][] sum(long[][] left, long[][] right) {
+        long[][] res = new long[left.length][];
+        for (int i = 0; i < left.length; i++) {
+            res[i] = new long[left[i].length];
+            for (int j = 0; j < res[i].length; j++) {
+                res[i][j] = left[i][j] + right[i][j];
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Returns the number of hits of the given cache.
+     *
+     * @param kind {@link InternalMetrics.Kind}, not {@code null}
+     * @return long
+     */
+    public long getHits(InternalMetrics.Kind kind) {
+        return caches[0][kind.ordinal()];
+    }
+
+    /**
+     * Returns the number of misses of the given cache.
+     *
+     * @param kind {@link InternalMetrics.Kind}, not {@code null}
+     * @return long
+     */
+    public long getMisses(InternalMetrics.Kind kind) {
+        return caches[1][kind.ordinal()];
+    }
+
+    /**
+     * Returns the approximate number of evictions of the given cache.
+     *
+     * @param kind {@link InternalMetrics.Kind}, not {@code null}
+     * @return long
+     */
+    public long getEvictions(InternalMetrics.Kind kind) {
+        return caches[2][kind.ordinal()];
+    }
+
+    /**
+     * Returns the ratio of hits to all requests of the given cache,
+     * or {@code 0} if there were no requests.
+     *
+     * @param kind {@link InternalMetrics.Kind}, not {@code null}
+     * @return double, from {@code 0} to {@code 1}
+     */
+    public double getHitRate(InternalMetrics.Kind kind) {
+        long hits = getHits(kind);
+        long all = hits + getMisses(kind);
+        return all == 0 ? 0 : (double) hits / all;
+    }
+
+    /**
+     * Returns the number of loadings of the content bucket of the given type.
+     *
+     * @param type {@link OWLTopObjectType}, not {@code null}
+     * @return long
+     */
+    public long getLoadCount(OWLTopObjectType type) {
+        return loads[0][type.ordinal()];
+    }
+
+    /**
+     * Returns the total duration of loadings of the content bucket of the given type.
+     *
+     * @param type {@link OWLTopObjectType}, not {@code null}
+     * @return {@link Duration}
+     */
+    public Duration getLoadTime(OWLTopObjectType type) {
+        return Duration.ofNanos(loads[1][type.ordinal()]);
+    }
+
+    /**
+     * Returns the total duration of all content loadings.
+     *
+     * @return {@link Duration}
+     */
+    public Duration getTotalLoadTime() {
+        return Duration.ofNanos(Arrays.stream(loads[1]).sum());
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner res = new StringJoiner(", ", "OntMetrics{", "}");
+        Stream.of(InternalMetrics.Kind.values()).forEach(k -> res.add(String.format(Locale.ENGLISH,
+                "%s=[hits=%d, misses=%d, evictions=%d]", k, getHits(k), getMisses(k), getEvictions(k))));
+        res.add("load=" + getTotalLoadTime());
+        return res.toString();
+    }
+
+    /**
+     * The JMX view of the cache statistics.
+     * All maps are keyed by the names of {@link InternalMetrics.Kind} or {@link OWLTopObjectType} constants,
+     * zero values are omitted.
+     *
+     * @see #register(OntologyManager, ObjectName)
+     */
+    public interface MetricsMXBean {
+
+        Map<String, Long> getHits();
+
+        Map<String, Long> getMisses();
+
+        Map<String, Long> getEvictions();
+
+        Map<String, Long> getLoadCounts();
+
+        Map<String, Long> getLoadTimesMillis();
+
+        /**
+         * Resets all counters.
+         */
+        void reset();
+    }
+}
@@ -0,0 +1,513 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi;
+
+import com.github.owlcs.ontapi.internal.InternalModel;
+import com.github.owlcs.ontapi.internal.ONTObject;
+import com.github.owlcs.ontapi.internal.ONTWrapperImpl;
+import com.github.owlcs.ontapi.internal.OWLTopObjectType;
+import com.github.owlcs.ontapi.internal.objects.ONTObjectImpl;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.mem.GraphMem;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.lang.LabelToNode;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.apache.jena.riot.system.StreamRDFWriter;
+import org.semanticweb.owlapi.model.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A helper to save and restore {@link Ontology Ontologies} in a binary snapshot form.
+ * <p>
+ * Unlike the RDF serialization (see {@link OntologyManager#saveOntology(OWLOntology, OutputStream)})
+ * or the java serialization of the {@link OntologyManager manager}, a snapshot can also hold the content cache,
+ * i.e. the already computed axioms and ontology annotations,
+ * so the restored ontologies are ready to use immediately:
+ * the graphs are read from the binary {@link RDFFormat#RDF_THRIFT RDF Thrift} form
+ * without any graph transformations, and the cached axioms are put back into the models without translation.
+ * The axioms are stored in the model-free form (see {@link ONTObjectImpl#eraseModel(OWLObject)})
+ * together with the references to their triples, so they are restored as {@link ONTWrapperImpl wrapper}s.
+ * Blank node labels are preserved.
+ * <p>
+ * The snapshot is a short-term storage, it is tied to the current version of the library:
+ * the axioms are written using java serialization.
+ * When reading, only the classes matching the {@link #FILTER allow-list} are deserialized,
+ * nevertheless, a snapshot should not be read from an untrusted source.
+ *
+ * @see OntBaseModelImpl#DEFAULT_SERIALIZATION_FORMAT
+ */
+public class OntSnapshots {
+    private static final long MAGIC = 0x4F4E544150495350L; // "ONTAPISP"
+    private static final int VERSION = 2;
+    /**
+     * The allow-list of classes that can be deserialized from a snapshot:
+     * OWL-API and ONT-API objects and the basic JDK types they are made of.
+     */
+    public static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=64;maxrefs=1000000;maxarray=1000000;" +
+                    "com.github.owlcs.ontapi.**;org.semanticweb.owlapi.**;uk.ac.manchester.cs.owl.owlapi.**;" +
+                    "java.lang.*;java.util.*;java.math.*;!*");
+    // the size of a chunk of the RDF Thrift payload
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * Writes the given ontology and its imports closure into the output stream.
+     * The stream is flushed, but not closed.
+     *
+     * @param ontology    {@link Ontology}, not {@code null}
+     * @param out         {@link OutputStream}, not {@code null}
+     * @param withContent if {@code true}, the loaded content caches are also written
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(Ontology ontology, OutputStream out, boolean withContent) throws IOException {
+        OntologyManager manager = Objects.requireNonNull(ontology, "Null ontology").getOWLOntologyManager();
+        write(manager, ontology.importsClosure(), out, withContent);
+    }
+
+    /**
+     * Writes all ontologies of the given manager into the output stream.
+     * The stream is flushed, but not closed.
+     *
+     * @param manager     {@link OntologyManager}, not {@code null}
+     * @param out         {@link OutputStream}, not {@code null}
+     * @param withContent if {@code true}, the loaded content caches are also written
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(OntologyManager manager, OutputStream out, boolean withContent) throws IOException {
+        write(manager, Objects.requireNonNull(manager, "Null manager").ontologies(), out, withContent);
+    }
+
+    /**
+     * Reads the ontologies from the snapshot and puts them into the given manager.
+     * The graphs are passed to the manager as is, without transformations,
+     * the missing imports are resolved within the snapshot.
+     * The stream is not closed.
+     * The java deserialization is restricted with the {@link #FILTER}.
+     *
+     * @param manager {@link OntologyManager}, not {@code null}
+     * @param in      {@link InputStream}, not {@code null}
+     * @return a {@code List} of {@link Ontology}s in the order they are written in the snapshot
+     * @throws IOException     if an I/O error occurs or the stream is not a snapshot,
+     *                         or it contains a class that is not allowed by the {@link #FILTER}
+     * @throws OntApiException if the ontologies cannot be put into the manager,
+     *                         e.g. some of them are already present there
+     */
+    public static List<Ontology> read(OntologyManager manager, InputStream in) throws IOException {
+        Objects.requireNonNull(manager, "Null manager");
+        ObjectInputStream data = new ObjectInputStream(new BufferedInputStream(in));
+        data.setObjectInputFilter(FILTER);
+        if (data.readLong() != MAGIC) {
+            throw new IOException("Not an ontology snapshot");
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+        int count = data.readInt();
+        List<Snapshot> snapshots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            snapshots.add(Snapshot.read(data));
+        }
+        Map<ID, Snapshot> ids = new LinkedHashMap<>();
+        snapshots.forEach(s -> ids.put(OntGraphUtils.getOntologyID(s.graph), s));
+        OntologyManager.DocumentSourceMapping mapping = id -> ids.entrySet().stream()
+                .filter(e -> OntologyManagerImpl.matchIDs(e.getKey(), id))
+                .map(e -> e.getValue().asSource())
+                .findFirst()
+                .orElse(null);
+        List<Ontology> res = new ArrayList<>(count);
+        manager.getDocumentSourceMappers().add(mapping);
+        try {
+            for (Snapshot s : snapshots) {
+                if (find(manager, s.graph) == null) {
+                    manager.loadOntologyFromOntologyDocument(s.asSource(), manager.getOntologyLoaderConfiguration());
+                }
+            }
+        } catch (OWLOntologyCreationException e) {
+            throw new OntApiException("Unable to put the snapshot into the manager", e);
+        } finally {
+            manager.getDocumentSourceMappers().remove(mapping);
+        }
+        for (Snapshot s : snapshots) {
+            Ontology ont = find(manager, s.graph);
+            if (ont == null) {
+                throw new OntApiException("Can't find the ontology " + OntGraphUtils.getOntologyID(s.graph));
+            }
+            InternalModel model = OWLAdapter.get().asBaseModel(ont).getBase();
+            s.content.forEach(model::restoreContentCache);
+            res.add(ont);
+        }
+        return res;
+    }
+
+    private static void write(OntologyManager manager,
+                              Stream<? extends OWLOntology> ontologies,
+                              OutputStream out,
+                              boolean withContent) throws IOException {
+        Lock lock = manager instanceof OntologyManagerImpl ? ((OntologyManagerImpl) manager).getLock().readLock() : null;
+        if (lock != null) {
+            lock.lock();
+        }
+        try {
+            List<Ontology> list = ontologies.map(OWLAdapter.get()::asONT).collect(Collectors.toList());
+            ObjectOutputStream data = new ObjectOutputStream(new BufferedOutputStream(out));
+            data.writeLong(MAGIC);
+            data.writeInt(VERSION);
+            data.writeInt(list.size());
+            for (Ontology ont : list) {
+                Snapshot.create(manager, ont, withContent).write(data);
+                // do not keep the references to the objects of the previous ontology
+                data.reset();
+            }
+            data.flush();
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static Ontology find(OntologyManager manager, Graph base) {
+        return manager.ontologies()
+                .map(OWLAdapter.get()::asONT)
+                .filter(x -> x.asGraphModel().getBaseGraph() == base)
+                .findFirst().orElse(null);
+    }
+
+    /**
+     * A snapshot of a single ontology.
+     */
+    protected static class Snapshot {
+        protected final Graph graph;
+        protected final IRI document;
+        protected final OntFormat format;
+        // the triples that are not in the base graph, but are referenced by the content objects
+        protected final List<Triple> extra;
+        protected final Map<OWLTopObjectType, List<ONTObject<OWLObject>>> content;
+
+        protected Snapshot(Graph graph,
+                           IRI document,
+                           OntFormat format,
+                           List<Triple> extra,
+                           Map<OWLTopObjectType, List<ONTObject<OWLObject>>> content) {
+            this.graph = graph;
+            this.document = document;
+            this.format = format;
+            this.extra = extra;
+            this.content = content;
+        }
+
+        protected static Snapshot create(OntologyManager manager, Ontology ont, boolean withContent) {
+            OWLDocumentFormat format = manager.getOntologyFormat(ont);
+            InternalModel model = OWLAdapter.get().asBaseModel(ont).getBase();
+            Map<OWLTopObjectType, List<ONTObject<OWLObject>>> content = new EnumMap<>(OWLTopObjectType.class);
+            if (withContent) {
+                OWLTopObjectType.all().forEach(type -> {
+                    List<ONTObject<OWLObject>> objects = model.listCachedContent(type).collect(Collectors.toList());
+                    if (!objects.isEmpty()) {
+                        content.put(type, objects);
+                    }
+                });
+            }
+            return new Snapshot(model.getBaseGraph(), manager.getOntologyDocumentIRI(ont),
+                    format == null ? null : OntFormat.get(format), new ArrayList<>(), content);
+        }
+
+        protected static Snapshot read(ObjectInputStream in) throws IOException {
+            String document = in.readUTF();
+            String format = in.readUTF();
+            int size = in.readInt();
+            if (size < 0) {
+                throw new IOException("Wrong number of triples " + size);
+            }
+            Graph graph = new GraphMem();
+            List<Triple> triples = new ArrayList<>(size);
+            ChunkedInputStream payload = new ChunkedInputStream(in);
+            RDFParser.source(payload)
+                    .lang(RDFLanguages.RDFTHRIFT)
+                    .labelToNode(LabelToNode.createUseLabelAsGiven())
+                    .parse(new StreamRDFBase() {
+                        @Override
+                        public void triple(Triple triple) {
+                            if (triples.size() < size) {
+                                graph.add(triple);
+                            }
+                            triples.add(triple);
+                        }
+
+                        @Override
+                        public void prefix(String prefix, String iri) {
+                            graph.getPrefixMapping().setNsPrefix(prefix, iri);
+                        }
+                    });
+            payload.skipRemaining();
+            if (triples.size() < size) {
+                throw new IOException("Expected " + size + " triples, but found " + triples.size());
+            }
+            Map<OWLTopObjectType, List<ONTObject<OWLObject>>> content = new EnumMap<>(OWLTopObjectType.class);
+            int types = in.readInt();
+            for (int i = 0; i < types; i++) {
+                OWLTopObjectType type = readType(in);
+                int count = in.readInt();
+                if (count < 0) {
+                    throw new IOException("Wrong number of " + type + " objects " + count);
+                }
+                List<ONTObject<OWLObject>> objects = new ArrayList<>(count);
+                for (int j = 0; j < count; j++) {
+                    OWLObject object;
+                    try {
+                        object = (OWLObject) in.readObject();
+                    } catch (ClassNotFoundException | ClassCastException e) {
+                        throw new IOException("Can't read the content object", e);
+                    }
+                    int refsCount = in.readInt();
+                    if (refsCount < 0) {
+                        throw new IOException("Wrong number of triples " + refsCount + " for " + object);
+                    }
+                    Triple[] refs = new Triple[refsCount];
+                    for (int k = 0; k < refs.length; k++) {
+                        int index = in.readInt();
+                        if (index < 0 || index >= triples.size()) {
+                            throw new IOException("Wrong triple index " + index + " for " + object +
+                                    ", the number of triples is " + triples.size());
+                        }
+                        refs[k] = triples.get(index);
+                    }
+                    objects.add(ONTWrapperImpl.create(object).append(() -> Arrays.stream(refs)));
+                }
+                content.put(type, objects);
+            }
+            return new Snapshot(graph,
+                    document.isEmpty() ? null : IRI.create(document),
+                    format.isEmpty() ? null : OntFormat.get(format),
+                    triples.subList(size, triples.size()), content);
+        }
+
+        private static OWLTopObjectType readType(ObjectInputStream in) throws IOException {
+            String name = in.readUTF();
+            try {
+                return OWLTopObjectType.valueOf(name);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Unknown content type " + name, e);
+            }
+        }
+
+        protected void write(ObjectOutputStream out) throws IOException {
+            out.writeUTF(document == null ? "" : document.getIRIString());
+            out.writeUTF(format == null ? "" : format.getID());
+            List<Triple> triples = graph.find().toList();
+            Map<Triple, Integer> index = new HashMap<>();
+            List<int[]> refs = new ArrayList<>();
+            if (!content.isEmpty()) {
+                for (int i = 0; i < triples.size(); i++) {
+                    index.put(triples.get(i), i);
+                }
+                content.values().forEach(objects -> objects.forEach(o -> refs.add(o.triples().distinct()
+                        .mapToInt(t -> index.computeIfAbsent(t, x -> {
+                            extra.add(x);
+                            return triples.size() + extra.size() - 1;
+                        })).toArray())));
+            }
+            out.writeInt(triples.size());
+            ChunkedOutputStream payload = new ChunkedOutputStream(out);
+            StreamRDF stream = StreamRDFWriter.getWriterStream(payload, RDFFormat.RDF_THRIFT);
+            stream.start();
+            graph.getPrefixMapping().getNsPrefixMap().forEach(stream::prefix);
+            triples.forEach(stream::triple);
+            extra.forEach(stream::triple);
+            stream.finish();
+            payload.close();
+            out.writeInt(content.size());
+            Iterator<int[]> it = refs.iterator();
+            for (Map.Entry<OWLTopObjectType, List<ONTObject<OWLObject>>> e : content.entrySet()) {
+                out.writeUTF(e.getKey().name());
+                out.writeInt(e.getValue().size());
+                for (ONTObject<OWLObject> o : e.getValue()) {
+                    out.writeObject(ONTObjectImpl.eraseModel(o.getOWLObject()));
+                    int[] r = it.next();
+                    out.writeInt(r.length);
+                    for (int x : r) {
+                        out.writeInt(x);
+                    }
+                }
+            }
+        }
+
+        protected OntGraphDocumentSource asSource() {
+            return new OntGraphDocumentSource() {
+                @Override
+                public Graph getGraph() {
+                    return graph;
+                }
+
+                @Override
+                public IRI getDocumentIRI() {
+                    return document != null ? document : super.getDocumentIRI();
+                }
+
+                @Override
+                public OntFormat getOntFormat() {
+                    return format != null ? format : super.getOntFormat();
+                }
+
+                @Override
+                public boolean withTransforms() {
+                    return false;
+                }
+            };
+        }
+    }
+
+    /**
+     * An {@code OutputStream} that writes the data into the underlying {@link DataOutput} by chunks,
+     * each chunk is prefixed by its length, the end of data is marked by an empty chunk.
+     * This allows to embed a stream of unknown length (the RDF Thrift payload)
+     * without buffering it entirely.
+     * Closing does not close the underlying output.
+     */
+    protected static class ChunkedOutputStream extends OutputStream {
+        private final DataOutput out;
+        private final byte[] buffer = new byte[CHUNK_SIZE];
+        private int count;
+        private boolean closed;
+
+        protected ChunkedOutputStream(DataOutput out) {
+            this.out = Objects.requireNonNull(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) {
+                writeChunk();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            while (len > 0) {
+                if (count == buffer.length) {
+                    writeChunk();
+                }
+                int n = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        private void writeChunk() throws IOException {
+            if (count == 0) {
+                return;
+            }
+            out.writeInt(count);
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            writeChunk();
+            out.writeInt(0);
+        }
+    }
+
+    /**
+     * An {@code InputStream} to read the data written by the {@link ChunkedOutputStream}.
+     * It reports the end of stream on the terminating empty chunk,
+     * and never reads the underlying input beyond it.
+     * Closing does not close the underlying input.
+     */
+    protected static class ChunkedInputStream extends InputStream {
+        private final DataInput in;
+        // the number of bytes left in the current chunk, -1 if the end is reached
+        private int left;
+
+        protected ChunkedInputStream(DataInput in) {
+            this.in = Objects.requireNonNull(in);
+        }
+
+        private boolean hasData() throws IOException {
+            if (left == 0) {
+                int n = in.readInt();
+                if (n < 0 || n > CHUNK_SIZE) {
+                    throw new IOException("Wrong chunk size " + n);
+                }
+                left = n == 0 ? -1 : n;
+            }
+            return left > 0;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!hasData()) {
+                return -1;
+            }
+            left--;
+            return in.readUnsignedByte();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            if (!hasData()) {
+                return -1;
+            }
+            int n = Math.min(len, left);
+            in.readFully(b, off, n);
+            left -= n;
+            return n;
+        }
+
+        /**
+         * Skips the rest of the data up to the terminating chunk.
+         *
+         * @throws IOException if an I/O error occurs
+         */
+        protected void skipRemaining() throws IOException {
+            while (hasData()) {
+                int n = in.skipBytes(left);
+                if (n <= 0) {
+                    in.readByte();
+                    n = 1;
+                }
+                left -= n;
+            }
+        }
+
+        @Override
+        public void close() {
+            // do not close the underlying input
+        }
+    }
+}
@@ -38,7 +38,7 @@ public class OntologyBuilderImpl implements OntologyFactory.Builder {
     @Override
     public Ontology createOntology(ID id, OntologyManager manager, OntLoaderConfiguration config) {
         OntologyManagerImpl m = getAdapter().asIMPL(manager);
-        OntologyModelImpl res = createOntologyImpl(createGraph(), m, config);
+        OntologyModelImpl res = createOntologyImpl(createGraph(config), m, config);
         res.setOntologyID(id);
         return withLock(res, m.getLock());
     }
@@ -15,7 +15,9 @@
 package com.github.owlcs.ontapi;
 
 import com.github.owlcs.ontapi.config.OntLoaderConfiguration;
+import com.github.owlcs.ontapi.jena.CompactGraph;
 import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.VersionedGraph;
 import org.apache.jena.graph.Factory;
 import org.apache.jena.graph.Graph;
 
@@ -72,6 +74,24 @@ public interface OntologyCreator {
         return Factory.createGraphMem();
     }
 
+    /**
+     * Creates a fresh empty {@link Graph RDF Graph} instance in accordance with the given config settings.
+     * By default, the method offers a {@link VersionedGraph} or a {@link CompactGraph},
+     * if it is {@link OntLoaderConfiguration#isUseVersionedGraph() enabled}
+     * or {@link OntLoaderConfiguration#isUseCompactGraph() enabled} in the config,
+     * otherwise it delegates to the {@link #createGraph()} method.
+     *
+     * @param config {@link OntLoaderConfiguration} the config, not {@code null}
+     * @return {@link Graph Jena Graph}
+     * @see OntologyCreator#createGraph()
+     */
+    default Graph createGraph(OntLoaderConfiguration config) {
+        if (config.isUseVersionedGraph()) {
+            return new VersionedGraph();
+        }
+        return config.isUseCompactGraph() ? new CompactGraph() : createGraph();
+    }
+
     /**
      * Wraps the specified {@code graph} as an {@link UnionGraph Union Graph},
      * that maintains an ontology {@code owl:imports} hierarchical structure.
@@ -21,6 +21,7 @@ import com.github.owlcs.ontapi.jena.utils.Graphs;
 import com.github.owlcs.ontapi.jena.utils.OntModels;
 import com.github.owlcs.ontapi.jena.vocabulary.OWL;
 import com.github.owlcs.ontapi.transforms.GraphStats;
+import com.github.owlcs.ontapi.transforms.GraphTransformers;
 import com.github.owlcs.ontapi.transforms.TransformException;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.GraphUtil;
@@ -36,6 +37,9 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nonnull;
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -69,6 +73,7 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
     protected Map<String, GraphInfo> graphs = new LinkedHashMap<>();
     protected Map<IRI, Optional<IRI>> sourceMap = new HashMap<>();
     protected Map<IRI, GraphInfo> loaded = new HashMap<>();
+    protected Map<String, GraphInfo> prefetched = new HashMap<>();
 
     /**
      * Creates a default {@code Loader} instance.
@@ -116,6 +121,8 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
             // null key in case of anonymous ontology.
             // But: only one anonymous is allowed (as root of imports tree), if there is no mapping in manager.
             graphs.put(primary.getURI(), primary);
+            // read the whole imports closure at once, if it is allowed:
+            prefetchImports(primary, builder, manager, config);
             // first expand graphs map by creating primary model:
             Ontology res = OntApiException.notNull(createModel(primary, builder, manager, config), "Should never happen");
             // then process all the rest dependent models
@@ -142,6 +149,7 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         graphs.clear();
         sourceMap.clear();
         loaded.clear();
+        prefetched.clear();
     }
 
     /**
@@ -232,7 +240,7 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         if (LOGGER.isDebugEnabled())
             LOGGER.debug("Perform graph transformations on <{}>.", info.name());
         try {
-            stats = config.getGraphTransformers().transform(graph, transformed);
+            stats = transform(graph, transformed, config);
         } catch (TransformException t) {
             throw new OntologyFactoryImpl.OWLTransformException(t);
         }
@@ -382,6 +390,10 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
                                    OntologyCreator builder,
                                    OntologyManager manager,
                                    OntLoaderConfiguration config) throws OWLOntologyCreationException {
+        GraphInfo info = prefetched.remove(uri);
+        if (info != null) {
+            return info;
+        }
         IRI ontologyIRI = IRI.create(uri);
         Ontology res = findModel(manager, ontologyIRI);
         if (res != null) {
@@ -394,13 +406,151 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         if (res != null) {
             return toGraphInfo(res, null);
         }
-        // Document Source Mappers:
-        OWLOntologyDocumentSource source = manager.getDocumentSourceMappers().stream()
+        return loadGraph(documentSource(manager, ontologyIRI, documentIRI), builder, manager, config);
+    }
+
+    /**
+     * Finds the document source for the given ontology IRI using the manager's document source mappers.
+     *
+     * @param manager     {@link OntologyManager}
+     * @param ontologyIRI {@link IRI} of the ontology
+     * @param documentIRI {@link IRI} of the document, the default source
+     * @return {@link OWLOntologyDocumentSource}
+     */
+    protected OWLOntologyDocumentSource documentSource(OntologyManager manager, IRI ontologyIRI, IRI documentIRI) {
+        return manager.getDocumentSourceMappers().stream()
                 .map(f -> f.map(ontologyIRI))
                 .filter(Objects::nonNull)
                 .findFirst()
                 .orElse(new IRIDocumentSource(documentIRI));
-        return loadGraph(source, builder, manager, config);
+    }
+
+    /**
+     * Performs the graph transformations,
+     * concurrently if it is allowed by the {@link OntLoaderConfiguration#getTransformsParallelism() config}.
+     *
+     * @param graph  {@link UnionGraph} to transform
+     * @param skip   a {@code Set} of {@link Graph}s that should not be transformed
+     * @param config {@link OntLoaderConfiguration} the config
+     * @return {@link GraphStats}
+     * @throws TransformException if something is wrong while transformation
+     */
+    protected GraphStats transform(UnionGraph graph,
+                                   Set<Graph> skip,
+                                   OntLoaderConfiguration config) throws TransformException {
+        GraphTransformers transformers = config.getGraphTransformers();
+        int parallelism = config.getTransformsParallelism();
+        if (parallelism < 2 || graph.getUnderlying().isEmpty()) {
+            return transformers.transform(graph, skip);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return transformers.transform(graph, skip, pool);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the documents of the whole {@code owl:imports} closure of the given graph concurrently,
+     * if it is allowed by the {@link OntLoaderConfiguration#getImportsLoadParallelism() config}.
+     * The closure is traversed level by level:
+     * the imports of each level are resolved in the calling thread (IRI-mappers, existing ontologies, etc.),
+     * then the corresponding documents are parsed by Apache Jena in parallel.
+     * The results are stored in the {@link #prefetched} map and picked up later
+     * by the {@link #fetchGraph(String, OntologyCreator, OntologyManager, OntLoaderConfiguration)} method,
+     * so the {@code UnionGraph} hierarchy is assembled in the usual (deterministic) order.
+     * Any document that cannot be read in this way (e.g. in OWL-API native format or unavailable)
+     * is skipped here and will be processed sequentially, including the missing imports handling.
+     *
+     * @param root    {@link GraphInfo} the root graph
+     * @param builder {@link OntologyCreator} to create {@link Graph} instances
+     * @param manager {@link OntologyManager} the manager
+     * @param config  {@link OntLoaderConfiguration} the config
+     */
+    protected void prefetchImports(GraphInfo root,
+                                   OntologyCreator builder,
+                                   OntologyManager manager,
+                                   OntLoaderConfiguration config) {
+        int parallelism = config.getImportsLoadParallelism();
+        if (parallelism < 2 || !config.isProcessImports()) {
+            return;
+        }
+        Set<String> seen = new HashSet<>(graphs.keySet());
+        List<GraphInfo> level = List.of(root);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            while (!level.isEmpty()) {
+                Map<String, Future<GraphInfo>> tasks = new LinkedHashMap<>();
+                for (GraphInfo node : level) {
+                    for (String uri : new TreeSet<>(node.getImports())) {
+                        if (!seen.add(uri)) {
+                            continue;
+                        }
+                        OWLOntologyDocumentSource source = prefetchSource(uri, manager, config);
+                        if (source == null) {
+                            continue;
+                        }
+                        IRI doc = source.getDocumentIRI();
+                        tasks.put(uri, pool.submit(() -> readGraph(source, doc, builder, config)));
+                    }
+                }
+                List<GraphInfo> next = new ArrayList<>();
+                for (Map.Entry<String, Future<GraphInfo>> e : tasks.entrySet()) {
+                    GraphInfo info;
+                    try {
+                        info = e.getValue().get();
+                    } catch (ExecutionException ex) {
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug("Can't prefetch <{}>: '{}'", e.getKey(), ex.getCause().getMessage());
+                        }
+                        continue;
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new OntApiException("Interrupted while loading imports", ex);
+                    }
+                    prefetched.put(e.getKey(), info);
+                    next.add(info);
+                }
+                level = next;
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Resolves the document source for the given import declaration URI,
+     * if it has to be loaded from some external document.
+     *
+     * @param uri     String, the ontology uri
+     * @param manager {@link OntologyManager}
+     * @param config  {@link OntLoaderConfiguration}
+     * @return {@link OWLOntologyDocumentSource} or {@code null}
+     * if there is nothing to load (ignored import, existing ontology, graph source, etc.)
+     */
+    protected OWLOntologyDocumentSource prefetchSource(String uri,
+                                                       OntologyManager manager,
+                                                       OntLoaderConfiguration config) {
+        IRI ontologyIRI = IRI.create(uri);
+        if (config.isIgnoredImport(ontologyIRI) || findModel(manager, ontologyIRI) != null) {
+            return null;
+        }
+        IRI documentIRI = documentIRI(manager, ontologyIRI).orElse(ontologyIRI);
+        if (findModel(manager, documentIRI) != null) {
+            return null;
+        }
+        OWLOntologyDocumentSource source = documentSource(manager, ontologyIRI, documentIRI);
+        if (source instanceof OntGraphDocumentSource || loaded.containsKey(source.getDocumentIRI())) {
+            return null;
+        }
+        if (config.getSupportedSchemes().stream().noneMatch(s -> s.same(source.getDocumentIRI()))) {
+            return null;
+        }
+        return documentIRI(manager, source.getDocumentIRI())
+                .map(IRIDocumentSource::new)
+                .map(OWLOntologyDocumentSource.class::cast)
+                .orElse(source);
     }
 
     /**
@@ -522,15 +672,7 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
                 .map(OWLOntologyDocumentSource.class::cast)
                 .orElse(source);
         try {
-            // jena:
-            Graph graph = builder.createGraph();
-            OntFormat format = OntGraphUtils.readGraph(graph, src, config);
-            GraphInfo res = createGraphInfo(graph, format, doc, true);
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Graph <{}> is loaded by jena. Source: {}[{}]. Format: {}",
-                        res.name(), source.getClass().getSimpleName(), res.getSource(), res.getFormat());
-            }
-            return res;
+            return readGraph(src, doc, builder, config);
         } catch (OntologyFactoryImpl.UnsupportedFormatException jenaEx) {
             // owl-api:
             if (alternative == null) {
@@ -573,6 +715,31 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         }
     }
 
+    /**
+     * Reads the {@link Graph Jena Graph} from the given document source using Apache Jena only.
+     * The method does not change the state of this loader and therefore can be used concurrently.
+     *
+     * @param source  {@link OWLOntologyDocumentSource the document source}
+     * @param doc     {@link IRI} the document IRI to record
+     * @param builder {@link OntologyCreator} to construct a fresh {@link Graph} instance
+     * @param config  {@link OntLoaderConfiguration the load configuration}
+     * @return {@link GraphInfo graph-info}
+     * @throws OWLOntologyCreationException if loading is not possible
+     */
+    protected GraphInfo readGraph(OWLOntologyDocumentSource source,
+                                  IRI doc,
+                                  OntologyCreator builder,
+                                  OntLoaderConfiguration config) throws OWLOntologyCreationException {
+        Graph graph = builder.createGraph(config);
+        OntFormat format = OntGraphUtils.readGraph(graph, source, config);
+        GraphInfo res = createGraphInfo(graph, format, doc, true);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Graph <{}> is loaded by jena. Source: {}[{}]. Format: {}",
+                    res.name(), source.getClass().getSimpleName(), res.getSource(), res.getFormat());
+        }
+        return res;
+    }
+
     /**
      * Optimizes the given builder for the given loader.
      *
@@ -736,7 +903,8 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         }
 
         protected boolean noTransforms() {
-            return !transforms;
+            // a read-only graph (e.g. MappedGraph) cannot be fixed, it is accepted as is
+            return !transforms || !graph.getCapabilities().addAllowed();
         }
 
         protected void setProcessed() {
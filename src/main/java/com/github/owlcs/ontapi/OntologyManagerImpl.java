@@ -1269,6 +1269,11 @@ public class OntologyManagerImpl
     }
 
     /**
+     * Applies the changes.
+     * Each run of consecutive {@link AddAxiom} (or {@link RemoveAxiom}) changes
+     * that refer to the same ontology is applied at once, in bulk mode,
+     * see {@link #enactBulkChangeApplication(List)}.
+     *
      * @param changes           {@code List} of {@link OWLOntologyChange}
      * @param rollbackRequested boolean
      * @param allNoOps          boolean
@@ -1278,12 +1283,30 @@ public class OntologyManagerImpl
                                  AtomicBoolean rollbackRequested,
                                  AtomicBoolean allNoOps,
                                  List<OWLOntologyChange> appliedChanges) {
-        for (OWLOntologyChange change : changes) {
+        int index = 0;
+        while (index < changes.size()) {
             // once rollback is requested by a failed change, do not carry
             // out any more changes
             if (rollbackRequested.get()) {
+                return;
+            }
+            int end = findBulkEnd(changes, index);
+            if (end - index > 1) {
+                List<OWLAxiomChange> bulk = changes.subList(index, end).stream()
+                        .map(OWLAxiomChange.class::cast).collect(Collectors.toList());
+                Set<OWLAxiom> res = new HashSet<>(enactBulkChangeApplication(bulk));
+                for (OWLAxiomChange change : bulk) {
+                    // the same axiom may occur several times, only the first change is successful
+                    if (res.remove(change.getAxiom())) {
+                        allNoOps.set(false);
+                        appliedChanges.add(change);
+                    }
+                    listeners.fireChangeApplied(change);
+                }
+                index = end;
                 continue;
             }
+            OWLOntologyChange change = changes.get(index++);
             ChangeApplied enactChangeApplication = enactChangeApplication(change);
             if (enactChangeApplication == ChangeApplied.UNSUCCESSFULLY) {
                 rollbackRequested.set(true);
@@ -1296,6 +1319,50 @@ public class OntologyManagerImpl
         }
     }
 
+    /**
+     * Finds the end (exclusive) of the run of changes, starting at the specified position,
+     * that can be applied at once.
+     * Such a run consists of applicable {@link AddAxiom}s or {@link RemoveAxiom}s (but not both)
+     * for the same ONT-API ontology.
+     *
+     * @param changes {@code List} of {@link OWLOntologyChange}, not {@code null}
+     * @param start   int, the position of the first change
+     * @return int, the end position, always greater than {@code start}
+     */
+    protected int findBulkEnd(List<? extends OWLOntologyChange> changes, int start) {
+        OWLOntologyChange first = changes.get(start);
+        OWLOntology ont = first.getOntology();
+        if (!(first instanceof AddAxiom || first instanceof RemoveAxiom)
+                || !(ont instanceof OntologyModelImpl || ont instanceof OntologyModelImpl.Concurrent)
+                || !hasOntology(ont)) {
+            return start + 1;
+        }
+        int res = start;
+        while (res < changes.size()) {
+            OWLOntologyChange change = changes.get(res);
+            if (change.getClass() != first.getClass() || change.getOntology() != ont || !isChangeApplicable(change)) {
+                break;
+            }
+            res++;
+        }
+        return Math.max(res, start + 1);
+    }
+
+    /**
+     * Applies the homogeneous list of axiom changes for the same ontology at once.
+     *
+     * @param changes {@code List} of {@link OWLAxiomChange}s, not empty
+     * @return a {@code Set} of {@link OWLAxiom}s that have been actually added or removed
+     * @see #findBulkEnd(List, int)
+     */
+    protected Set<OWLAxiom> enactBulkChangeApplication(List<OWLAxiomChange> changes) {
+        OWLOntology ont = changes.get(0).getOntology();
+        if (ont instanceof OntologyModelImpl.Concurrent) {
+            return ((OntologyModelImpl.Concurrent) ont).applyDirectChanges(changes);
+        }
+        return ((OntologyModelImpl) ont).applyDirectChanges(changes);
+    }
+
     /**
      * @param appliedChanges {@code List} of {@link OWLOntologyChange}
      */
@@ -24,7 +24,6 @@ import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Triple;
-import org.apache.jena.mem.GraphMem;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.vocabulary.RDFS;
@@ -95,6 +94,9 @@ public class OntologyMetaData implements OWLOntologyLoaderMetaData {
     /**
      * A factory method.
      * Creates {@link OWLOntologyLoaderMetaData} from the given {@link GraphStats Transformation Stats}.
+     * The unparsed triples and guessed declarations are copied from the stats,
+     * which are not referenced by the returned object;
+     * if the stats are bounded (see {@link GraphStats#getLimit()}), the metadata contains only their samples.
      *
      * @param stats not null
      * @return {@link OntologyMetaData} instance, not null
@@ -109,19 +111,37 @@ public class OntologyMetaData implements OWLOntologyLoaderMetaData {
         if (stats.hasTriples(GraphStats.Type.DELETED, idKey)) {
             header = RDFOntologyHeaderStatus.PARSED_MULTIPLE_HEADERS;
         }
-        Set<RDFTriple> unparsed = stats.triples(GraphStats.Type.UNPARSED)
-                .map(OntGraphUtils::triple)
-                .collect(Collectors.toSet());
-        ArrayListMultimap<IRI, Class<? extends OWLObject>> guessedDeclarations = ArrayListMultimap.create();
+        return new OntologyMetaData(graph, header,
+                unparsedTriples(stats).collect(Collectors.toSet()), guessedDeclarations(stats));
+    }
+
+    /**
+     * Lists unparsed triples from the given {@link GraphStats Transformation Stats}.
+     *
+     * @param stats {@link GraphStats}, not null
+     * @return {@code Stream} of {@link RDFTriple}s
+     */
+    protected static Stream<RDFTriple> unparsedTriples(GraphStats stats) {
+        return stats.triples(GraphStats.Type.UNPARSED).distinct().map(OntGraphUtils::triple);
+    }
+
+    /**
+     * Collects guessed declarations from the given {@link GraphStats Transformation Stats}.
+     *
+     * @param stats {@link GraphStats}, not null
+     * @return {@link ArrayListMultimap}, IRI as key (even for blank nodes), Class type as value
+     */
+    protected static ArrayListMultimap<IRI, Class<? extends OWLObject>> guessedDeclarations(GraphStats stats) {
+        ArrayListMultimap<IRI, Class<? extends OWLObject>> res = ArrayListMultimap.create();
         stats.triples(GraphStats.Type.ADDED)
-                .collect(Collectors.toSet())
+                .distinct()
                 .forEach(t -> {
                     // note: anonymous subject also wrapped as iri
                     IRI iri = IRI.create(t.getSubject().toString());
                     Class<? extends OWLObject> type = guessTripleType(t);
-                    guessedDeclarations.put(iri, type);
+                    res.put(iri, type);
                 });
-        return new OntologyMetaData(graph, header, unparsed, guessedDeclarations);
+        return res;
     }
 
     /**
@@ -169,7 +189,8 @@ public class OntologyMetaData implements OWLOntologyLoaderMetaData {
     }
 
     /**
-     * Loads triple count in lazy manner if the associated graph is {@link org.apache.jena.mem.GraphMem Memory Graph}.
+     * Loads triple count in lazy manner if the associated graph is sized,
+     * i.e. it is {@link org.apache.jena.mem.GraphMem Memory Graph} or {@link com.github.owlcs.ontapi.jena.CompactGraph}.
      * Otherwise returns -1.
      * Lazy loading is in order to relieve performance on loading.
      * Anyway nobody uses this stupid interface.
@@ -182,7 +203,7 @@ public class OntologyMetaData implements OWLOntologyLoaderMetaData {
     }
 
     protected int calcTripleCount() {
-        return graph instanceof GraphMem ? graph.size() : -1;
+        return Graphs.isSized(graph) ? graph.size() : -1;
     }
 
     @Override
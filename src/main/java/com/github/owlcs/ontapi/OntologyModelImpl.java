@@ -15,6 +15,7 @@
 package com.github.owlcs.ontapi;
 
 import com.github.owlcs.ontapi.internal.InternalModel;
+import com.github.owlcs.ontapi.jena.OptimisticReadWriteLock;
 import com.github.owlcs.ontapi.jena.UnionGraph;
 import com.github.owlcs.ontapi.jena.impl.OntGraphModelImpl;
 import com.github.owlcs.ontapi.jena.impl.conf.OntPersonality;
@@ -27,12 +28,10 @@ import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.Serializable;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -67,6 +66,37 @@ public class OntologyModelImpl extends OntBaseModelImpl implements Ontology, OWL
         return change.accept(changer);
     }
 
+    /**
+     * Applies the given axiom changes at once.
+     * All changes must be of the same kind, either {@link AddAxiom}s or {@link RemoveAxiom}s,
+     * and must refer to this ontology.
+     * If the {@link #changer change processor} is a {@link ChangeProcessor},
+     * then the bulk operation is performed,
+     * see {@link InternalModel#addAxioms(Collection)} and {@link InternalModel#removeAxioms(Collection)}.
+     * Otherwise, the changes are applied one by one.
+     *
+     * @param changes a {@code List} of {@link OWLAxiomChange}s, not {@code null}
+     * @return a {@code Set} of {@link OWLAxiom}s that have been actually added or removed
+     * @see #applyDirectChange(OWLOntologyChange)
+     */
+    protected Set<OWLAxiom> applyDirectChanges(List<? extends OWLAxiomChange> changes) {
+        if (changes.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (changer instanceof ChangeProcessor) {
+            List<OWLAxiom> axioms = changes.stream().map(OWLAxiomChange::getAxiom).collect(Collectors.toList());
+            ChangeProcessor processor = (ChangeProcessor) changer;
+            return changes.get(0).isAddAxiom() ? processor.addAxioms(axioms) : processor.removeAxioms(axioms);
+        }
+        Set<OWLAxiom> res = new HashSet<>();
+        changes.forEach(c -> {
+            if (applyDirectChange(c) == ChangeApplied.SUCCESSFULLY) {
+                res.add(c.getAxiom());
+            }
+        });
+        return res;
+    }
+
     @Override
     public OntologyManagerImpl getOWLOntologyManager() {
         return (OntologyManagerImpl) super.getOWLOntologyManager();
@@ -125,6 +155,30 @@ public class OntologyModelImpl extends OntBaseModelImpl implements Ontology, OWL
             return ChangeApplied.NO_OPERATION;
         }
 
+        /**
+         * Adds all the given axioms at once.
+         *
+         * @param axioms a {@code Collection} of {@link OWLAxiom}s, not {@code null}
+         * @return a {@code Set} of {@link OWLAxiom}s that have been actually added
+         * @see #visit(AddAxiom)
+         */
+        public Set<OWLAxiom> addAxioms(Collection<OWLAxiom> axioms) {
+            beforeChange();
+            return getBase().addAxioms(axioms);
+        }
+
+        /**
+         * Removes all the given axioms at once.
+         *
+         * @param axioms a {@code Collection} of {@link OWLAxiom}s, not {@code null}
+         * @return a {@code Set} of {@link OWLAxiom}s that have been actually removed
+         * @see #visit(RemoveAxiom)
+         */
+        public Set<OWLAxiom> removeAxioms(Collection<OWLAxiom> axioms) {
+            beforeChange();
+            return getBase().removeAxioms(axioms);
+        }
+
         @Override
         public ChangeApplied visit(@Nonnull AddImport change) {
             OWLImportsDeclaration importDeclaration = change.getImportDeclaration();
@@ -260,6 +314,17 @@ public class OntologyModelImpl extends OntBaseModelImpl implements Ontology, OWL
             return (OntologyModelImpl) delegate;
         }
 
+        /**
+         * Applies the given axiom changes at once under the write lock.
+         *
+         * @param changes a {@code List} of {@link OWLAxiomChange}s, not {@code null}
+         * @return a {@code Set} of {@link OWLAxiom}s that have been actually added or removed
+         * @see OntologyModelImpl#applyDirectChanges(List)
+         */
+        protected Set<OWLAxiom> applyDirectChanges(List<? extends OWLAxiomChange> changes) {
+            return withWriteLockToObject(() -> delegate().applyDirectChanges(changes));
+        }
+
         /**
          * Creates a concurrent version of Ontology Graph Model with R/W Lock inside, backed by the given model.
          * The internal Jena model, which is provided by the method {@link #getBase()}, does not contain any lock.
@@ -279,6 +344,28 @@ public class OntologyModelImpl extends OntBaseModelImpl implements Ontology, OWL
             }
         }
 
+        /**
+         * Answers whether the given axiom is in the ontology.
+         * If the lock is {@link OptimisticReadWriteLock} and the axiom cache is already loaded,
+         * the method performs an optimistic read without acquiring the shared read lock,
+         * otherwise the standard read lock is used.
+         *
+         * @param axiom {@link OWLAxiom}
+         * @return boolean
+         * @see OptimisticReadWriteLock#optimisticRead(java.util.function.Supplier)
+         */
+        @Override
+        public boolean containsAxiom(OWLAxiom axiom) {
+            if (lock instanceof OptimisticReadWriteLock) {
+                Boolean res = ((OptimisticReadWriteLock) lock)
+                        .optimisticRead(() -> delegate().getBase().containsIfLoaded(axiom));
+                if (res != null) {
+                    return res;
+                }
+            }
+            return super.containsAxiom(axiom);
+        }
+
         /**
          * Clears the cache.
          * It does not change the object state so the method uses read lock.
@@ -55,6 +55,8 @@ interface CacheControl<R> extends CacheSettings {
      *     <li>{@link CacheSettings#CACHE_ITERATOR}</li>
      *     <li>{@link CacheSettings#CACHE_COMPONENT}</li>
      *     <li>{@link CacheSettings#CACHE_CONTENT}</li>
+     *     <li>{@link CacheSettings#CACHE_TRIPLES}</li>
+     *     <li>{@link CacheSettings#CACHE_STREAM}</li>
      *     <li>{@link CacheSettings#CACHE_ALL}</li>
      * </ul>
      *
@@ -66,6 +68,70 @@ interface CacheControl<R> extends CacheSettings {
      */
     R setModelCacheLevel(int level);
 
+    /**
+     * Sets the number of threads to be used while loading the model content cache.
+     * The number {@code 1} means that the content cache is loaded sequentially.
+     *
+     * @param parallelism int, a positive number
+     * @return {@link R}
+     * @throws IllegalArgumentException in case the input is not a positive number
+     * @see CacheSettings#getContentCacheLoadParallelism()
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_LOAD_PARALLELISM
+     */
+    R setContentCacheLoadParallelism(int parallelism);
+
+    /**
+     * Sets the maximum number of content array elements to be kept in a size-bounded store.
+     * The number {@code 0} means that the arrays are held as soft references.
+     *
+     * @param size int, a non-negative number
+     * @return {@link R}
+     * @throws IllegalArgumentException in case the input is a negative number
+     * @see CacheSettings#getContentArraysCacheSize()
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_CONTENT_ARRAYS
+     */
+    R setContentArraysCacheSize(int size);
+
+    /**
+     * Turns on/off the collecting of runtime cache statistics.
+     *
+     * @param b boolean
+     * @return {@link R}
+     * @see CacheSettings#isCollectCacheMetrics()
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_METRICS
+     */
+    R setCollectCacheMetrics(boolean b);
+
+    /**
+     * Turns on/off the inverted index of referencing axioms.
+     *
+     * @param b boolean
+     * @return {@link R}
+     * @see CacheSettings#isIndexReferencingAxioms()
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_REFERENCES_INDEX
+     */
+    R setIndexReferencingAxioms(boolean b);
+
+    /**
+     * Turns on/off the whole-graph classifier of nodes, which replaces the size-bounded nodes cache.
+     *
+     * @param b boolean
+     * @return {@link R}
+     * @see CacheSettings#isClassifyNodes()
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_NODES_CLASSIFIER
+     */
+    R setClassifyNodes(boolean b);
+
+    /**
+     * Turns on/off the cache of {@code []}-list members.
+     *
+     * @param b boolean
+     * @return {@link R}
+     * @see CacheSettings#isCacheListMembers()
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_LISTS
+     */
+    R setCacheListMembers(boolean b);
+
     /**
      * Turns on/off the content cache use.
      * Other cache settings are untouched,
@@ -78,6 +144,8 @@ interface CacheControl<R> extends CacheSettings {
      * @see CacheSettings#CACHE_CONTENT
      * @see CacheSettings#CACHE_COMPONENT
      * @see CacheSettings#CACHE_ITERATOR
+     * @see CacheSettings#CACHE_TRIPLES
+     * @see CacheSettings#CACHE_STREAM
      * @see CacheSettings#CACHE_ALL
      */
     default R setModelCacheLevel(int constant, boolean b) {
@@ -56,7 +56,25 @@ public interface CacheSettings {
      */
     int CACHE_CONTENT = 16;
     /**
-     * A constant value signifying that all model's caches are enabled.
+     * A constant value signifying that the triple reference-count index is enabled.
+     * This index maps each content triple to the number of content containers (axioms and header annotations)
+     * that own it, and is used to speed up removing axioms.
+     * The index makes sense only together with {@link #CACHE_CONTENT}.
+     * It is not included in {@link #CACHE_ALL}, since it requires additional memory.
+     */
+    int CACHE_TRIPLES = 32;
+    /**
+     * A constant value signifying that, if the content cache is disabled,
+     * the content is streamed directly from the graph without duplicates.
+     * Unlike the {@link #CACHE_CONTENT content cache}, the whole content is not materialized in memory,
+     * only the objects that may have several sources in the graph are remembered during iteration.
+     * The option makes sense only without {@link #CACHE_CONTENT}, e.g. for one-pass exporting of huge ontologies.
+     *
+     * @see com.github.owlcs.ontapi.internal.StreamObjectMapImpl
+     */
+    int CACHE_STREAM = 64;
+    /**
+     * A constant value signifying that all model's caches are enabled, except the optional {@link #CACHE_TRIPLES}.
      * It is default value.
      * Note that all these constants do not relate to nodes and objects caches.
      */
@@ -111,7 +129,9 @@ public interface CacheSettings {
      * the content (axioms/ontology annotations) and components (entities/anonymous individuals) found in a graph</li>
      * <li>{@link #CACHE_COMPONENT} - use cache-optimization to optimize iteration over components found in a graph</li>
      * <li>{@link #CACHE_CONTENT} - use cache-optimization to optimize iteration over content and its modification</li>
-     * <li>{@link #CACHE_ALL} - all possible cache-optimizations</li>
+     * <li>{@link #CACHE_TRIPLES} - use the triple reference-count index to optimize removing content</li>
+     * <li>{@link #CACHE_STREAM} - list the content without duplicates if {@link #CACHE_CONTENT} is disabled</li>
+     * <li>{@link #CACHE_ALL} - all default cache-optimizations</li>
      * </ul>
      * Note: the list above may be changed in the ONT-API evolution.
      *
@@ -121,6 +141,102 @@ public interface CacheSettings {
      */
     int getModelCacheLevel();
 
+    /**
+     * Returns the number of threads that are used to warm up the model content cache.
+     * The content cache consists of independent buckets (one per axiom type and one for the ontology header),
+     * which can be loaded concurrently, since the loading is a read-only operation over the graph.
+     * The system default value is {@code 1}, which means the buckets are loaded one after another
+     * in the calling thread.
+     * A greater number enables loading the whole content on a dedicated {@link java.util.concurrent.ForkJoinPool}
+     * with the specified parallelism, which reduces the time of the first access to the axioms
+     * (e.g. {@link Ontology#axioms()} or {@link Ontology#getAxiomCount()}) on multi-core machines.
+     * The option makes sense only if the content cache is enabled.
+     *
+     * @return int, a positive number
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_LOAD_PARALLELISM
+     * @see CacheControl#setContentCacheLoadParallelism(int)
+     */
+    int getContentCacheLoadParallelism();
+
+    /**
+     * Returns the maximum number of elements in the content arrays of the model's OWL objects
+     * (class expressions, data ranges, annotations, axioms, etc.), which can be kept in memory at the same time.
+     * Each such object keeps its components (sub-objects) in the form of an array,
+     * which can always be restored from the graph.
+     * The system default value is {@code 0}, which means that each array is held
+     * as a {@link java.lang.ref.SoftReference soft reference} and, therefore, can be cleared by the GC at any time.
+     * Under memory pressure, the GC clears such arrays in bulk, and then they all have to be recomputed.
+     * A positive number enables a model-wide store that is bounded by the total number of array elements,
+     * and that evicts least recently used arrays explicitly,
+     * so that the memory consumption is predictable and does not depend on the GC heuristics.
+     *
+     * @return int, a non-negative number
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_CONTENT_ARRAYS
+     * @see CacheControl#setContentArraysCacheSize(int)
+     */
+    int getContentArraysCacheSize();
+
+    /**
+     * Answers {@code true} if the runtime cache statistics should be collected:
+     * hits, misses and evictions of the nodes, objects and content caches,
+     * and the durations of the content loading per each axiom type.
+     * The system default value is {@code false}.
+     * The collected statistics can be obtained through {@link com.github.owlcs.ontapi.OntMetrics}.
+     *
+     * @return boolean
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_METRICS
+     * @see CacheControl#setCollectCacheMetrics(boolean)
+     */
+    boolean isCollectCacheMetrics();
+
+    /**
+     * Answers {@code true} if the content cache should be accompanied by an inverted index,
+     * that maps each entity, literal and anonymous individual to the axioms that reference it.
+     * The index is built from the whole content cache on the first query,
+     * and then is maintained incrementally while adding and removing axioms,
+     * so the referencing axioms can be found in time proportional to the result size.
+     * It makes sense only if the {@link #useContentCache() content cache} is enabled, and it costs some memory.
+     * The system default value is {@code false}.
+     *
+     * @return boolean
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_REFERENCES_INDEX
+     * @see CacheControl#setIndexReferencingAxioms(boolean)
+     */
+    boolean isIndexReferencingAxioms();
+
+    /**
+     * Answers {@code true} if the search model should remember for each node the types it can or cannot be viewed as
+     * in the form of a compact bit-set, instead of using the size-bounded per-type nodes cache.
+     * This classification is not limited by the {@link #getLoadNodesCacheSize() nodes cache size}
+     * and covers the whole graph, so each type recognition is performed only once for a node,
+     * any subsequent check is a bit-set lookup.
+     * It is useful for ontologies with many anonymous class expressions (e.g. galen),
+     * but takes memory proportional to the number of resources in the graph.
+     * It makes sense only if the {@link #useLoadNodesCache() nodes cache} is enabled.
+     * The system default value is {@code false}.
+     *
+     * @return boolean
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_NODES_CLASSIFIER
+     * @see CacheControl#setClassifyNodes(boolean)
+     */
+    boolean isClassifyNodes();
+
+    /**
+     * Answers {@code true} if the members of {@code []}-lists
+     * (e.g. {@code owl:unionOf}, {@code owl:oneOf}, {@code owl:propertyChainAxiom})
+     * should be cached in the form of node arrays, bound to the base graph through a listener,
+     * so that reading a list does not walk its {@code rdf:first}/{@code rdf:rest} chain every time.
+     * The cached list is discarded as soon as any triple of its chain is added or deleted.
+     * The cache is not bounded and the listener is notified about every change of the base graph,
+     * so it is worth enabling for read-mostly ontologies with many lists only.
+     * The system default value is {@code false}.
+     *
+     * @return boolean
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_LISTS
+     * @see CacheControl#setCacheListMembers(boolean)
+     */
+    boolean isCacheListMembers();
+
     /**
      * Answers whether an internal model content cache is enabled, that is {@code true} by default.
      * <p>
@@ -189,6 +305,41 @@ public interface CacheSettings {
         return (getModelCacheLevel() & CACHE_ITERATOR) == CACHE_ITERATOR;
     }
 
+    /**
+     * Answers {@code true} if the triple reference-count index is enabled.
+     * The index is maintained along with the content cache,
+     * so the method returns {@code false} if the content cache is disabled.
+     *
+     * @return boolean
+     * @see #CACHE_TRIPLES
+     * @see CacheControl#setModelCacheLevel(int, boolean)
+     */
+    default boolean useTriplesCache() {
+        return useContentCache() && (getModelCacheLevel() & CACHE_TRIPLES) == CACHE_TRIPLES;
+    }
+
+    /**
+     * Answers {@code true} if the content cache is disabled,
+     * but the content is required to be streamed without duplicates.
+     *
+     * @return boolean
+     * @see #CACHE_STREAM
+     * @see CacheControl#setModelCacheLevel(int, boolean)
+     */
+    default boolean useContentStream() {
+        return !useContentCache() && (getModelCacheLevel() & CACHE_STREAM) == CACHE_STREAM;
+    }
+
+    /**
+     * Answers {@code true} if the content cache is enabled and it should be loaded in several threads.
+     *
+     * @return boolean
+     * @see #getContentCacheLoadParallelism()
+     */
+    default boolean useParallelContentCacheLoading() {
+        return useContentCache() && getContentCacheLoadParallelism() > 1;
+    }
+
     /**
      * Answers {@code true} if the nodes cache is enabled.
      * This cache is located in the search model, that is used as optimization while read operations.
@@ -210,4 +361,15 @@ public interface CacheSettings {
     default boolean useLoadObjectsCache() {
         return getLoadObjectsCacheSize() > 0;
     }
+
+    /**
+     * Answers {@code true} if the content arrays of OWL objects should be kept in a size-bounded store
+     * instead of soft references.
+     *
+     * @return boolean
+     * @see #getContentArraysCacheSize()
+     */
+    default boolean useContentArraysCache() {
+        return getContentArraysCacheSize() > 0;
+    }
 }
@@ -72,6 +72,30 @@ interface LoadControl<R> extends LoadSettings {
      */
     R setProcessImports(boolean b);
 
+    /**
+     * Sets the number of threads to be used while loading the {@code owl:imports} closure.
+     * The number {@code 1} means that the imports are loaded sequentially.
+     *
+     * @param parallelism int, a positive number
+     * @return {@link R} (this or copied instance)
+     * @throws IllegalArgumentException in case the input is not a positive number
+     * @see LoadSettings#getImportsLoadParallelism()
+     * @see OntSettings#ONT_API_LOAD_CONF_IMPORTS_LOAD_PARALLELISM
+     */
+    R setImportsLoadParallelism(int parallelism);
+
+    /**
+     * Sets the number of threads to be used while transforming the graphs of the {@code owl:imports} closure.
+     * The number {@code 1} means that the graphs are transformed sequentially.
+     *
+     * @param parallelism int, a positive number
+     * @return {@link R} (this or copied instance)
+     * @throws IllegalArgumentException in case the input is not a positive number
+     * @see LoadSettings#getTransformsParallelism()
+     * @see OntSettings#ONT_API_LOAD_CONF_TRANSFORMS_PARALLELISM
+     */
+    R setTransformsParallelism(int parallelism);
+
     /**
      * Changes the preferable way to load a {@code Graph}.
      * If {@code true} specified, the OWL-API native parsers will be used.
@@ -84,6 +108,30 @@ interface LoadControl<R> extends LoadSettings {
      */
     R setUseOWLParsersToLoad(boolean b);
 
+    /**
+     * Changes the type of the base {@code Graph}s created by the manager.
+     * If {@code true} specified, the {@link com.github.owlcs.ontapi.jena.CompactGraph} will be used
+     * instead of the default in-memory graph.
+     *
+     * @param b boolean
+     * @return {@link R} (this or copied instance)
+     * @see LoadSettings#isUseCompactGraph()
+     * @see OntSettings#ONT_API_LOAD_CONF_USE_COMPACT_GRAPH
+     */
+    R setUseCompactGraph(boolean b);
+
+    /**
+     * Changes the type of the base {@code Graph}s created by the manager.
+     * If {@code true} specified, the {@link com.github.owlcs.ontapi.jena.VersionedGraph} will be used
+     * instead of the default in-memory graph.
+     *
+     * @param b boolean
+     * @return {@link R} (this or copied instance)
+     * @see LoadSettings#isUseVersionedGraph()
+     * @see OntSettings#ONT_API_LOAD_CONF_USE_VERSIONED_GRAPH
+     */
+    R setUseVersionedGraph(boolean b);
+
     /**
      * Sets a new collection of {@link Scheme}-controllers.
      *
@@ -115,6 +115,43 @@ public interface LoadSettings {
      */
     boolean isProcessImports();
 
+    /**
+     * Returns the number of threads that are used to fetch and parse the documents of the {@code owl:imports} closure.
+     * The system default value is {@code 1}, which means the imports are loaded one by one, recursively,
+     * in the calling thread.
+     * A greater number enables reading all imported documents concurrently
+     * (on a dedicated {@link java.util.concurrent.ForkJoinPool} with the specified parallelism),
+     * level by level of the imports tree, before assembling the {@link com.github.owlcs.ontapi.jena.UnionGraph}
+     * hierarchy, which is still done in the calling thread.
+     * The result of loading does not depend on this setting:
+     * documents that cannot be read concurrently are reloaded sequentially in the usual way,
+     * so the missing import handling is the same.
+     * The option makes sense only if the processing imports is enabled.
+     *
+     * @return int, a positive number
+     * @see LoadControl#setImportsLoadParallelism(int)
+     * @see OntSettings#ONT_API_LOAD_CONF_IMPORTS_LOAD_PARALLELISM
+     */
+    int getImportsLoadParallelism();
+
+    /**
+     * Returns the number of threads that are used to perform {@link #getGraphTransformers() graph transformations}
+     * over the {@code owl:imports} closure.
+     * The system default value is {@code 1}, which means the graphs are transformed one by one,
+     * recursively, in the calling thread.
+     * A greater number enables transforming independent imported graphs concurrently
+     * (on a dedicated {@link java.util.concurrent.ForkJoinPool} with the specified parallelism):
+     * a graph is still processed only after all its imports are processed,
+     * and the transforms are still applied to a single graph one after another, in the order of the store.
+     * The resulting {@link com.github.owlcs.ontapi.transforms.GraphStats} tree does not depend on this setting.
+     *
+     * @return int, a positive number
+     * @see LoadControl#setTransformsParallelism(int)
+     * @see OntSettings#ONT_API_LOAD_CONF_TRANSFORMS_PARALLELISM
+     * @see com.github.owlcs.ontapi.transforms.GraphTransformers#transform(org.apache.jena.graph.Graph, java.util.Set, java.util.concurrent.Executor)
+     */
+    int getTransformsParallelism();
+
     /**
      * Answers {@code true} if the native OWL-API parsers must be preferred while loading ontology,
      * which is strongly not recommended (and the method returns {@code false} by default).
@@ -144,6 +181,36 @@ public interface LoadSettings {
      */
     boolean isUseOWLParsersToLoad();
 
+    /**
+     * Answers {@code true} if the fresh ontologies (both created and loaded)
+     * must be backed by the {@link com.github.owlcs.ontapi.jena.CompactGraph},
+     * which keeps data in primitive arrays of dictionary-encoded nodes
+     * and therefore requires several times less memory than the default in-memory graph.
+     * Note that the {@code CompactGraph} matches literals by term equality, not by value.
+     * The setting is taken into account by the {@link com.github.owlcs.ontapi.OntologyCreator#createGraph(OntLoaderConfiguration)} method.
+     *
+     * @return boolean, ({@code false} by default}
+     * @see LoadControl#setUseCompactGraph(boolean)
+     * @see OntSettings#ONT_API_LOAD_CONF_USE_COMPACT_GRAPH
+     */
+    boolean isUseCompactGraph();
+
+    /**
+     * Answers {@code true} if the fresh ontologies (both created and loaded)
+     * must be backed by the {@link com.github.owlcs.ontapi.jena.VersionedGraph},
+     * which can be read without locking while it is being modified.
+     * This allows a concurrent manager with {@link com.github.owlcs.ontapi.jena.OptimisticReadWriteLock}
+     * to perform point queries optimistically.
+     * Note that the {@code VersionedGraph} matches literals by term equality, not by value.
+     * The setting is taken into account by the {@link com.github.owlcs.ontapi.OntologyCreator#createGraph(OntLoaderConfiguration)} method
+     * and takes precedence over the {@link #isUseCompactGraph()} setting.
+     *
+     * @return boolean, ({@code false} by default}
+     * @see LoadControl#setUseVersionedGraph(boolean)
+     * @see OntSettings#ONT_API_LOAD_CONF_USE_VERSIONED_GRAPH
+     */
+    boolean isUseVersionedGraph();
+
     /**
      * Answers a {@code Collection} of allowed {@link Scheme}-controllers.
      * This mechanism is used during preliminary analysis of {@link IRI} before loading a document.
@@ -43,16 +43,26 @@ import java.util.stream.Stream;
  * <li>{@link #getLoadObjectsCacheSize()} and {@link #setLoadObjectsCacheSize(int)} (<b>since 1.4.0</b>)</li>
  * <li>{@link #setModelCacheLevel(int, boolean)} (<b>since 1.4.2</b>), {@link #setModelCacheLevel(int)} (<b>since 1.4.0</b>)</li>
  * <li>{@link #useContentCache()}, {@link #useComponentCache()}, {@link #useIteratorCache()} (<b>since 1.4.2</b>)</li>
+ * <li>{@link #getContentCacheLoadParallelism()} and {@link #setContentCacheLoadParallelism(int)}</li>
+ * <li>{@link #getContentArraysCacheSize()} and {@link #setContentArraysCacheSize(int)}</li>
+ * <li>{@link #isCollectCacheMetrics()} and {@link #setCollectCacheMetrics(boolean)}</li>
+ * <li>{@link #isIndexReferencingAxioms()} and {@link #setIndexReferencingAxioms(boolean)}</li>
+ * <li>{@link #isClassifyNodes()} and {@link #setClassifyNodes(boolean)}</li>
+ * <li>{@link #isCacheListMembers()} and {@link #setCacheListMembers(boolean)}</li>
  * <li>{@link #getPersonality()} and {@link #setPersonality(OntPersonality)}</li>
  * <li>{@link #getGraphTransformers()} amd {@link #setGraphTransformers(GraphTransformers)}</li>
  * <li>{@link #isPerformTransformation()} and {@link #setPerformTransformation(boolean)}</li>
+ * <li>{@link #getTransformsParallelism()} and {@link #setTransformsParallelism(int)}</li>
  * <li>{@link #isProcessImports()} and {@link #setProcessImports(boolean)} (<b>since 1.4.1</b>)</li>
+ * <li>{@link #getImportsLoadParallelism()} and {@link #setImportsLoadParallelism(int)}</li>
  * <li>{@link #getSupportedSchemes()} and {@link #setSupportedSchemes(List)}</li>
  * <li>{@link #disableWebAccess()} (<b>since 1.1.0</b>)</li>
  * <li>{@link #isAllowReadDeclarations()} and {@link #setAllowReadDeclarations(boolean)}</li>
  * <li>{@link #isAllowBulkAnnotationAssertions()} and {@link #setAllowBulkAnnotationAssertions(boolean)}</li>
  * <li>{@link #isIgnoreAnnotationAxiomOverlaps()} and {@link #setIgnoreAnnotationAxiomOverlaps(boolean)}</li>
  * <li>{@link #isUseOWLParsersToLoad()} and {@link #setUseOWLParsersToLoad(boolean)}</li>
+ * <li>{@link #isUseCompactGraph()} and {@link #setUseCompactGraph(boolean)}</li>
+ * <li>{@link #isUseVersionedGraph()} and {@link #setUseVersionedGraph(boolean)}</li>
  * <li>{@link #isControlImports()} and {@link #setControlImports(boolean)} </li>
  * <li>{@link #isIgnoreAxiomsReadErrors()} and {@link #setIgnoreAxiomsReadErrors(boolean)} (<b>since 1.1.0</b>)</li>
  * <li>{@link #isSplitAxiomAnnotations()} and {@link #setSplitAxiomAnnotations(boolean)} (<b>since 1.3.0</b>)</li>
@@ -392,6 +402,8 @@ public class OntConfig extends OntologyConfigurator
      * @see CacheSettings#CACHE_COMPONENT
      * @see CacheSettings#CACHE_CONTENT
      * @see CacheSettings#CACHE_ITERATOR
+     * @see CacheSettings#CACHE_TRIPLES
+     * @see CacheSettings#CACHE_STREAM
      * @see CacheSettings#CACHE_ALL
      */
     @Override
@@ -399,6 +411,136 @@ public class OntConfig extends OntologyConfigurator
         return putNonNegative(OntSettings.ONT_API_LOAD_CONF_CACHE_MODEL, level);
     }
 
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     *
+     * @return int
+     */
+    @Override
+    public int getContentCacheLoadParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_LOAD_PARALLELISM);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param parallelism int
+     * @return this instance
+     */
+    @Override
+    public OntConfig setContentCacheLoadParallelism(int parallelism) {
+        return putPositive(OntSettings.ONT_API_LOAD_CONF_CACHE_LOAD_PARALLELISM, parallelism);
+    }
+
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     *
+     * @return int
+     */
+    @Override
+    public int getContentArraysCacheSize() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_CONTENT_ARRAYS);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param size int
+     * @return this instance
+     */
+    @Override
+    public OntConfig setContentArraysCacheSize(int size) {
+        return putNonNegative(OntSettings.ONT_API_LOAD_CONF_CACHE_CONTENT_ARRAYS, size);
+    }
+
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCollectCacheMetrics() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_METRICS);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param b boolean to enable/disable this config parameter
+     * @return this instance
+     */
+    @Override
+    public OntConfig setCollectCacheMetrics(boolean b) {
+        return put(OntSettings.ONT_API_LOAD_CONF_CACHE_METRICS, b);
+    }
+
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isIndexReferencingAxioms() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_REFERENCES_INDEX);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param b boolean to enable/disable this config parameter
+     * @return this instance
+     */
+    @Override
+    public OntConfig setIndexReferencingAxioms(boolean b) {
+        return put(OntSettings.ONT_API_LOAD_CONF_CACHE_REFERENCES_INDEX, b);
+    }
+
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isClassifyNodes() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_NODES_CLASSIFIER);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param b boolean to enable/disable this config parameter
+     * @return this instance
+     */
+    @Override
+    public OntConfig setClassifyNodes(boolean b) {
+        return put(OntSettings.ONT_API_LOAD_CONF_CACHE_NODES_CLASSIFIER, b);
+    }
+
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheListMembers() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_LISTS);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param b boolean to enable/disable this config parameter
+     * @return this instance
+     */
+    @Override
+    public OntConfig setCacheListMembers(boolean b) {
+        return put(OntSettings.ONT_API_LOAD_CONF_CACHE_LISTS, b);
+    }
+
     /**
      * An ONT-API manager's load config getter.
      * {@inheritDoc}
@@ -474,6 +616,52 @@ public class OntConfig extends OntologyConfigurator
         return put(OntSettings.ONT_API_LOAD_CONF_PROCESS_IMPORTS, b);
     }
 
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     *
+     * @return int
+     */
+    @Override
+    public int getImportsLoadParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_IMPORTS_LOAD_PARALLELISM);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param parallelism int
+     * @return this instance
+     */
+    @Override
+    public OntConfig setImportsLoadParallelism(int parallelism) {
+        return putPositive(OntSettings.ONT_API_LOAD_CONF_IMPORTS_LOAD_PARALLELISM, parallelism);
+    }
+
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     *
+     * @return int
+     */
+    @Override
+    public int getTransformsParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_TRANSFORMS_PARALLELISM);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param parallelism int
+     * @return this instance
+     */
+    @Override
+    public OntConfig setTransformsParallelism(int parallelism) {
+        return putPositive(OntSettings.ONT_API_LOAD_CONF_TRANSFORMS_PARALLELISM, parallelism);
+    }
+
     /**
      * An ONT-API manager's load config getter.
      * {@inheritDoc}
@@ -570,6 +758,48 @@ public class OntConfig extends OntologyConfigurator
         return put(OntSettings.ONT_API_LOAD_CONF_USE_OWL_PARSERS_TO_LOAD, b);
     }
 
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isUseCompactGraph() {
+        return get(OntSettings.ONT_API_LOAD_CONF_USE_COMPACT_GRAPH);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param b boolean to enable/disable this config parameter
+     * @return this instance
+     */
+    @Override
+    public OntConfig setUseCompactGraph(boolean b) {
+        return put(OntSettings.ONT_API_LOAD_CONF_USE_COMPACT_GRAPH, b);
+    }
+
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isUseVersionedGraph() {
+        return get(OntSettings.ONT_API_LOAD_CONF_USE_VERSIONED_GRAPH);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param b boolean to enable/disable this config parameter
+     * @return this instance
+     */
+    @Override
+    public OntConfig setUseVersionedGraph(boolean b) {
+        return put(OntSettings.ONT_API_LOAD_CONF_USE_VERSIONED_GRAPH, b);
+    }
+
     /**
      * An ONT-API manager's load config getter.
      * {@inheritDoc}
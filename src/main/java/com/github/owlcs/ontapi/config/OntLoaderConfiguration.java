@@ -198,6 +198,48 @@ public class OntLoaderConfiguration extends OWLOntologyLoaderConfiguration imple
         return set(OntSettings.ONT_API_LOAD_CONF_PROCESS_IMPORTS, b);
     }
 
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public int getImportsLoadParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_IMPORTS_LOAD_PARALLELISM);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param parallelism int, positive integer
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setImportsLoadParallelism(int parallelism) {
+        return setPositive(OntSettings.ONT_API_LOAD_CONF_IMPORTS_LOAD_PARALLELISM, parallelism);
+    }
+
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTransformsParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_TRANSFORMS_PARALLELISM);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param parallelism int, positive integer
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setTransformsParallelism(int parallelism) {
+        return setPositive(OntSettings.ONT_API_LOAD_CONF_TRANSFORMS_PARALLELISM, parallelism);
+    }
+
     /**
      * An ONT-API config setter.
      * {@inheritDoc}
@@ -261,6 +303,132 @@ public class OntLoaderConfiguration extends OWLOntologyLoaderConfiguration imple
         return get(OntSettings.ONT_API_LOAD_CONF_CACHE_MODEL);
     }
 
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param parallelism int, positive integer
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setContentCacheLoadParallelism(int parallelism) {
+        return setPositive(OntSettings.ONT_API_LOAD_CONF_CACHE_LOAD_PARALLELISM, parallelism);
+    }
+
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public int getContentCacheLoadParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_LOAD_PARALLELISM);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param size int, non-negative integer
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setContentArraysCacheSize(int size) {
+        return setNonNegative(OntSettings.ONT_API_LOAD_CONF_CACHE_CONTENT_ARRAYS, size);
+    }
+
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public int getContentArraysCacheSize() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_CONTENT_ARRAYS);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param b boolean to enable/disable this config parameter
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setCollectCacheMetrics(boolean b) {
+        return set(OntSettings.ONT_API_LOAD_CONF_CACHE_METRICS, b);
+    }
+
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCollectCacheMetrics() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_METRICS);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param b boolean to enable/disable this config parameter
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setIndexReferencingAxioms(boolean b) {
+        return set(OntSettings.ONT_API_LOAD_CONF_CACHE_REFERENCES_INDEX, b);
+    }
+
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isIndexReferencingAxioms() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_REFERENCES_INDEX);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param b boolean to enable/disable this config parameter
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setClassifyNodes(boolean b) {
+        return set(OntSettings.ONT_API_LOAD_CONF_CACHE_NODES_CLASSIFIER, b);
+    }
+
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isClassifyNodes() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_NODES_CLASSIFIER);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param b boolean to enable/disable this config parameter
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setCacheListMembers(boolean b) {
+        return set(OntSettings.ONT_API_LOAD_CONF_CACHE_LISTS, b);
+    }
+
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheListMembers() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_LISTS);
+    }
+
     /**
      * An ONT-API config getter.
      * {@inheritDoc}
@@ -381,6 +549,48 @@ public class OntLoaderConfiguration extends OWLOntologyLoaderConfiguration imple
         return set(OntSettings.ONT_API_LOAD_CONF_USE_OWL_PARSERS_TO_LOAD, b);
     }
 
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isUseCompactGraph() {
+        return get(OntSettings.ONT_API_LOAD_CONF_USE_COMPACT_GRAPH);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param b {@code true} to store ontology data in {@link com.github.owlcs.ontapi.jena.CompactGraph}s
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setUseCompactGraph(boolean b) {
+        return set(OntSettings.ONT_API_LOAD_CONF_USE_COMPACT_GRAPH, b);
+    }
+
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isUseVersionedGraph() {
+        return get(OntSettings.ONT_API_LOAD_CONF_USE_VERSIONED_GRAPH);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param b {@code true} to store ontology data in {@link com.github.owlcs.ontapi.jena.VersionedGraph}s
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setUseVersionedGraph(boolean b) {
+        return set(OntSettings.ONT_API_LOAD_CONF_USE_VERSIONED_GRAPH, b);
+    }
+
     /**
      * An ONT-API config getter.
      * {@inheritDoc}
@@ -67,6 +67,8 @@ public enum OntSettings {
     ONT_API_LOAD_CONF_USE_OWL_PARSERS_TO_LOAD(false),
     ONT_API_LOAD_CONF_IGNORE_AXIOMS_READ_ERRORS(false),
     ONT_API_LOAD_CONF_SPLIT_AXIOM_ANNOTATIONS(false),
+    ONT_API_LOAD_CONF_USE_COMPACT_GRAPH(false),
+    ONT_API_LOAD_CONF_USE_VERSIONED_GRAPH(false),
 
     // cache options since 1.4.0
     ONT_API_LOAD_CONF_CACHE_MODEL(CacheSettings.CACHE_ALL),
@@ -77,6 +79,15 @@ public enum OntSettings {
     // since 1.4.1
     ONT_API_LOAD_CONF_PROCESS_IMPORTS(true),
 
+    ONT_API_LOAD_CONF_CACHE_LOAD_PARALLELISM(1),
+    ONT_API_LOAD_CONF_CACHE_CONTENT_ARRAYS(0),
+    ONT_API_LOAD_CONF_CACHE_METRICS(false),
+    ONT_API_LOAD_CONF_CACHE_REFERENCES_INDEX(false),
+    ONT_API_LOAD_CONF_CACHE_NODES_CLASSIFIER(false),
+    ONT_API_LOAD_CONF_CACHE_LISTS(false),
+    ONT_API_LOAD_CONF_IMPORTS_LOAD_PARALLELISM(1),
+    ONT_API_LOAD_CONF_TRANSFORMS_PARALLELISM(1),
+
     OWL_API_LOAD_CONF_ACCEPT_HTTP_COMPRESSION(true),
     OWL_API_LOAD_CONF_CONNECTION_TIMEOUT(20_000),
     OWL_API_LOAD_CONF_FOLLOW_REDIRECTS(true),
@@ -16,11 +16,16 @@ package com.github.owlcs.ontapi.internal;
 
 import com.github.owlcs.ontapi.DataFactory;
 import com.github.owlcs.ontapi.config.AxiomsSettings;
+import com.github.owlcs.ontapi.jena.impl.OntStatementImpl;
 import com.github.owlcs.ontapi.jena.model.OntModel;
 import com.github.owlcs.ontapi.jena.model.OntStatement;
 import com.github.owlcs.ontapi.jena.utils.Iter;
+import com.github.owlcs.ontapi.jena.vocabulary.RDF;
 import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.shared.JenaException;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.model.AxiomType;
@@ -270,6 +275,69 @@ public abstract class AxiomTranslator<Axiom extends OWLAxiom> extends BaseSearch
         return Collections.emptyList();
     }
 
+    /**
+     * Returns a collection of {@link Triple triple}-patterns that match any main statement of this axiom type.
+     * A pattern may contain {@link Node#ANY} as a wildcard.
+     * A statement, that does not match any of the returned patterns,
+     * is never tested by this translator when the whole graph is read in a single pass.
+     * The default implementation returns {@link Triple#ANY}, which means that any statement can be a candidate.
+     *
+     * @return a {@code Collection} of {@link Triple}s, not empty
+     * @see AxiomsDispatcher
+     * @see #testStatement(OntStatement, AxiomsSettings)
+     */
+    public Collection<Triple> getTriggers() {
+        return Collections.singleton(Triple.ANY);
+    }
+
+    /**
+     * Returns the given statement in the form in which it is listed by the method
+     * {@link #listStatements(OntModel, AxiomsSettings)}.
+     * The input is a local statement that matches some of the {@link #getTriggers() triggers}.
+     * The default implementation returns the same statement.
+     * A translator that works with {@link com.github.owlcs.ontapi.jena.model.OntObject#getMainStatement() main statements}
+     * must return a main statement, since it may have additional annotations (i.e. the subject's annotation assertions).
+     *
+     * @param statement {@link OntStatement}, not {@code null}
+     * @return {@link OntStatement}
+     */
+    public OntStatement prepareStatement(OntStatement statement) {
+        return statement;
+    }
+
+    /**
+     * Makes a main statement from the given one.
+     *
+     * @param statement {@link OntStatement}, not {@code null}
+     * @return {@link OntStatement}
+     * @see #prepareStatement(OntStatement)
+     */
+    protected static OntStatement asMainStatement(OntStatement statement) {
+        return statement instanceof OntStatementImpl ? ((OntStatementImpl) statement).asRootStatement() : statement;
+    }
+
+    /**
+     * Creates a trigger-pattern {@code ANY @predicate ANY}.
+     *
+     * @param predicate {@link Property}, not {@code null}
+     * @return {@link Triple}
+     * @see #getTriggers()
+     */
+    protected static Triple triggerByPredicate(Property predicate) {
+        return Triple.create(Node.ANY, predicate.asNode(), Node.ANY);
+    }
+
+    /**
+     * Creates a trigger-pattern {@code ANY rdf:type @type}.
+     *
+     * @param type {@link Resource}, not {@code null}
+     * @return {@link Triple}
+     * @see #getTriggers()
+     */
+    protected static Triple triggerByType(Resource type) {
+        return Triple.create(Node.ANY, RDF.Nodes.type, type.asNode());
+    }
+
     /**
      * Writes the given axiom to the model.
      *
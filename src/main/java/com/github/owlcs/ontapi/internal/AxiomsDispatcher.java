@@ -0,0 +1,222 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.internal;
+
+import com.github.owlcs.ontapi.config.AxiomsSettings;
+import com.github.owlcs.ontapi.jena.model.OntModel;
+import com.github.owlcs.ontapi.jena.model.OntStatement;
+import com.github.owlcs.ontapi.jena.vocabulary.RDF;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.shared.JenaException;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A dispatch table that maps a {@link Triple} to the list of {@link OWLTopObjectType axiom types},
+ * whose {@link AxiomTranslator translators} may produce an axiom from a statement with that triple.
+ * The table is built from the {@link AxiomTranslator#getTriggers() translator triggers}:
+ * it is indexed by the predicate and, for {@code rdf:type} triples, by the object.
+ * <p>
+ * This allows reading the whole content of a graph in a single pass:
+ * each triple of the base graph is tested by one or two plausible translators only,
+ * instead of each translator performing its own scan of the graph.
+ *
+ * @see AxiomTranslator#getTriggers()
+ */
+public final class AxiomsDispatcher extends BaseSearcher {
+
+    private static final AxiomsDispatcher INSTANCE = new AxiomsDispatcher(OWLTopObjectType.axioms());
+
+    // predicate -> candidates, includes wildcard candidates
+    private final Map<Node, Candidates> byPredicate;
+    // rdf:type object -> candidates, includes the rdf:type and wildcard candidates
+    private final Map<Node, Candidates> byType;
+    // candidates for any triple
+    private final Candidates any;
+    private final Map<OWLTopObjectType, AxiomTranslator<OWLAxiom>> translators;
+
+    private AxiomsDispatcher(Stream<OWLTopObjectType> types) {
+        this.translators = new EnumMap<>(OWLTopObjectType.class);
+        Map<Node, Set<OWLTopObjectType>> predicates = new HashMap<>();
+        Map<Node, Set<OWLTopObjectType>> objects = new HashMap<>();
+        Set<OWLTopObjectType> wildcards = EnumSet.noneOf(OWLTopObjectType.class);
+        types.forEach(type -> translators.computeIfAbsent(type, OWLTopObjectType::getTranslator)
+                .getTriggers().forEach(t -> {
+            Node p = t.getPredicate();
+            Node o = t.getObject();
+            if (!p.isConcrete()) {
+                wildcards.add(type);
+            } else if (RDF.Nodes.type.equals(p) && o.isConcrete()) {
+                objects.computeIfAbsent(o, x -> EnumSet.noneOf(OWLTopObjectType.class)).add(type);
+            } else {
+                predicates.computeIfAbsent(p, x -> EnumSet.noneOf(OWLTopObjectType.class)).add(type);
+            }
+        }));
+        Set<OWLTopObjectType> anyType = predicates.computeIfAbsent(RDF.Nodes.type,
+                x -> EnumSet.noneOf(OWLTopObjectType.class));
+        this.any = toCandidates(wildcards);
+        this.byPredicate = new HashMap<>();
+        predicates.forEach((p, set) -> byPredicate.put(p, toCandidates(set, wildcards)));
+        this.byType = new HashMap<>();
+        objects.forEach((o, set) -> byType.put(o, toCandidates(set, anyType, wildcards)));
+    }
+
+    /**
+     * Returns the dispatcher for all axiom types.
+     *
+     * @return {@link AxiomsDispatcher}
+     */
+    public static AxiomsDispatcher get() {
+        return INSTANCE;
+    }
+
+    @SafeVarargs
+    private Candidates toCandidates(Set<OWLTopObjectType>... sets) {
+        Set<OWLTopObjectType> res = EnumSet.noneOf(OWLTopObjectType.class);
+        for (Set<OWLTopObjectType> set : sets) {
+            res.addAll(set);
+        }
+        // the natural order is preserved: declarations go first
+        List<OWLTopObjectType> types = List.copyOf(res);
+        List<AxiomTranslator<OWLAxiom>> translators = types.stream().map(this.translators::get)
+                .collect(Collectors.toUnmodifiableList());
+        return new Candidates(types, translators);
+    }
+
+    private Candidates candidates(Triple triple) {
+        Node p = triple.getPredicate();
+        if (RDF.Nodes.type.equals(p)) {
+            Candidates res = byType.get(triple.getObject());
+            if (res != null) {
+                return res;
+            }
+        }
+        return byPredicate.getOrDefault(p, any);
+    }
+
+    /**
+     * Lists all axiom types whose translators may accept a statement with the given triple.
+     * The returned list is a subset of all axiom types, in their natural order.
+     * Note that the selection is based on the triple pattern only,
+     * so each candidate still needs to {@link AxiomTranslator#testStatement(OntStatement, AxiomsSettings) test}
+     * the statement.
+     *
+     * @param triple {@link Triple}, not {@code null}
+     * @return an unmodifiable {@code List} of {@link OWLTopObjectType}s, possibly empty
+     */
+    public List<OWLTopObjectType> select(Triple triple) {
+        return candidates(triple).types;
+    }
+
+    /**
+     * Lists all translators that may accept a statement with the given triple.
+     * This is the same as {@link #select(Triple)}, but returns {@link AxiomTranslator}s instead of types.
+     *
+     * @param triple {@link Triple}, not {@code null}
+     * @return an unmodifiable {@code List} of {@link AxiomTranslator}s, possibly empty
+     */
+    public List<AxiomTranslator<OWLAxiom>> translators(Triple triple) {
+        return candidates(triple).translators;
+    }
+
+    /**
+     * Reads all axioms of the specified types from the base graph of the given model in a single pass,
+     * passing each of them to the {@code consumer} along with its type.
+     * An axiom can be passed several times if the graph contains several statements that correspond to it;
+     * it is the consumer's responsibility to merge such duplicates.
+     *
+     * @param types    a {@code Set} of {@link OWLTopObjectType}s to read, not {@code null}
+     * @param model    {@link OntModel}, not {@code null}
+     * @param factory  {@link ONTObjectFactory} to produce OWL-API Objects, not {@code null}
+     * @param config   {@link AxiomsSettings} to control the process, not {@code null}
+     * @param consumer {@link BiConsumer} to accept axiom type and {@link ONTObject}-axiom, not {@code null}
+     * @throws JenaException if some axiom cannot be read
+     */
+    public void read(Set<OWLTopObjectType> types,
+                     OntModel model,
+                     ONTObjectFactory factory,
+                     AxiomsSettings config,
+                     BiConsumer<OWLTopObjectType, ONTObject<OWLAxiom>> consumer) throws JenaException {
+        if (types.isEmpty()) {
+            return;
+        }
+        // main statements (e.g. owl:AllDisjointClasses) are processed after the scan,
+        // to keep the same order as the translators list them: this matters when merging
+        Map<OWLTopObjectType, List<OntStatement>> deferred = new EnumMap<>(OWLTopObjectType.class);
+        ExtendedIterator<Triple> triples = model.getBaseGraph().find();
+        try {
+            while (triples.hasNext()) {
+                Triple t = triples.next();
+                OntStatement s = null;
+                for (OWLTopObjectType type : select(t)) {
+                    if (!types.contains(type)) {
+                        continue;
+                    }
+                    if (s == null) {
+                        s = model.asStatement(t);
+                    }
+                    AxiomTranslator<OWLAxiom> translator = translators.get(type);
+                    OntStatement statement = translator.prepareStatement(s);
+                    if (statement != s) {
+                        deferred.computeIfAbsent(type, x -> new ArrayList<>()).add(statement);
+                        continue;
+                    }
+                    read(type, translator, statement, factory, config, consumer);
+                }
+            }
+        } finally {
+            triples.close();
+        }
+        deferred.forEach((type, statements) -> {
+            AxiomTranslator<OWLAxiom> translator = translators.get(type);
+            statements.forEach(s -> read(type, translator, s, factory, config, consumer));
+        });
+    }
+
+    private static void read(OWLTopObjectType type,
+                             AxiomTranslator<OWLAxiom> translator,
+                             OntStatement statement,
+                             ONTObjectFactory factory,
+                             AxiomsSettings config,
+                             BiConsumer<OWLTopObjectType, ONTObject<OWLAxiom>> consumer) {
+        if (!translator.testStatement(statement, config)) {
+            return;
+        }
+        if (config.isSplitAxiomAnnotations()) {
+            split(translator, statement, factory, config).forEachRemaining(x -> consumer.accept(type, x));
+        } else {
+            consumer.accept(type, toAxiom(translator, statement, factory, config));
+        }
+    }
+
+    /**
+     * A pair of lists of axiom types and the corresponding translators.
+     */
+    private static class Candidates {
+        private final List<OWLTopObjectType> types;
+        private final List<AxiomTranslator<OWLAxiom>> translators;
+
+        private Candidates(List<OWLTopObjectType> types, List<AxiomTranslator<OWLAxiom>> translators) {
+            this.types = types;
+            this.translators = translators;
+        }
+    }
+}
@@ -55,6 +55,8 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
     private final boolean parallel;
     // to control key-iteration
     private final boolean fastIterator;
+    // if true, the objects are kept in a ConcurrentMap, so that lookups do not require any locking
+    private final boolean concurrentReads;
     // a state flag that responds whether some axioms have been manually added to this map
     // the dangerous of manual added axioms is that the same information can be represented in different ways.
     private boolean hasNew;
@@ -80,10 +82,30 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
                               boolean withMerge,
                               boolean parallel,
                               boolean fastIterator) {
+        this(loader, withMerge, parallel, fastIterator, false);
+    }
+
+    /**
+     * Constructs a bucket instance.
+     *
+     * @param loader          a {@code Supplier} to load object-triples pairs, not {@code null}
+     * @param withMerge       if {@code true} merging is performed while loading cache,
+     *                        otherwise the source is assumed to be distinct
+     * @param parallel        if {@code true} use caffeine cache, otherwise LHM based cache
+     * @param fastIterator    if {@code true} use Array-based cache to speedup iteration over {@link X}-keys
+     * @param concurrentReads if {@code true} the objects are kept in a {@code ConcurrentMap},
+     *                        so that {@link #containsIfLoaded(OWLObject)} can be called concurrently with a writer
+     */
+    public CacheObjectMapImpl(Supplier<Iterator<ONTObject<X>>> loader,
+                              boolean withMerge,
+                              boolean parallel,
+                              boolean fastIterator,
+                              boolean concurrentReads) {
         this.loader = Objects.requireNonNull(loader);
         this.withMerge = withMerge;
         this.parallel = parallel;
         this.fastIterator = fastIterator;
+        this.concurrentReads = concurrentReads;
         this.map = InternalCache.createSoftSingleton(CacheObjectMapImpl::loadMap);
     }
 
@@ -93,43 +115,32 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
      * @return {@link CachedMap}
      */
     protected CachedMap<X, ONTObject<X>> loadMap() {
-        this.hasNew = false;
-        this.hasAnnotatedAxioms = null;
-        Iterator<ONTObject<X>> it = loader.get();
-        Map<X, ONTObject<X>> res = createMap();
-        if (withMerge) {
-            while (it.hasNext()) {
-                ONTObject<X> v = it.next();
-                setHasAxiomAnnotations(v);
-                WithMerge.add(res, v);
-            }
-            setHasAxiomAnnotations();
-            return CachedMap.create(res, WithMerge.getMerger(), parallel);
-        }
-        while (it.hasNext()) {
-            ONTObject<X> v = it.next();
-            setHasAxiomAnnotations(v);
-            res.put(v.getOWLObject(), v);
-        }
-        setHasAxiomAnnotations();
-        return CachedMap.create(res, null, parallel);
+        return loadMap(loader.get());
     }
 
-    private void setHasAxiomAnnotations(ONTObject<X> v) {
-        if (hasAnnotatedAxioms != null) return;
-        X obj = v.getOWLObject();
-        if (!obj.isAxiom()) {
-            return;
-        }
-        if (((OWLAxiom) obj).isAnnotated()) {
-            hasAnnotatedAxioms = true;
+    /**
+     * Loads the cache into memory from the given source.
+     *
+     * @param it {@code Iterator} of {@link ONTObject}s, not {@code null}
+     * @return {@link CachedMap}
+     */
+    protected CachedMap<X, ONTObject<X>> loadMap(Iterator<ONTObject<X>> it) {
+        Loader res = new Loader();
+        while (it.hasNext()) {
+            res.add(it.next());
         }
+        return loadMap(res);
     }
 
-    private void setHasAxiomAnnotations() {
-        if (hasAnnotatedAxioms == null) {
-            hasAnnotatedAxioms = false;
-        }
+    /**
+     * Completes the loading of the cache from the objects collected by the given {@link Loader}.
+     * Both the iterator-based loading and the incremental one end here.
+     *
+     * @param loader {@link Loader}, not {@code null}
+     * @return {@link CachedMap}
+     */
+    protected CachedMap<X, ONTObject<X>> loadMap(Loader loader) {
+        return loader.build();
     }
 
     /**
@@ -150,7 +161,7 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
      * @return {@link Map}
      */
     protected <K, V> Map<K, V> createMap() {
-        if (parallel && !fastIterator) {
+        if (concurrentReads || parallel && !fastIterator) {
             // use ConcurrentMap to ensure the objects list will not be broken by some mutation
             return new ConcurrentHashMap<>();
         }
@@ -175,6 +186,33 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
         getMap();
     }
 
+    /**
+     * Loads the cache using the specified source instead of the encapsulated loader, if it is not loaded yet.
+     * This allows to fill the bucket in some other thread, with its own search model and object factory.
+     *
+     * @param source a {@code Supplier} to load object-triples pairs, not {@code null}
+     */
+    public void load(Supplier<Iterator<ONTObject<X>>> source) {
+        Objects.requireNonNull(source);
+        if (isLoaded()) return;
+        // the same monitor is used by the soft singleton while loading through the encapsulated loader
+        synchronized (map) {
+            if (isLoaded()) return;
+            map.put(this, loadMap(source.get()));
+        }
+    }
+
+    /**
+     * Creates a {@link Loader} to fill the cache incrementally, object by object,
+     * e.g. when several buckets are filled at once while scanning the graph.
+     * The cache is not considered loaded until {@link Loader#finish()} is called.
+     *
+     * @return {@link Loader}
+     */
+    public Loader createLoader() {
+        return new Loader();
+    }
+
     @Override
     public boolean hasNew() {
         return isLoaded() && hasNew;
@@ -212,6 +250,38 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
         return getMap().contains(o);
     }
 
+    /**
+     * Answers whether the given object is in the cache, if the cache is already loaded.
+     * The method never loads the cache and has no side effects.
+     * If the bucket is created with the {@code concurrentReads} flag,
+     * it can be called without locking, concurrently with a writer;
+     * in this case, the answer must be validated by the caller.
+     *
+     * @param o {@link X} key-object, not {@code null}
+     * @return {@code Boolean} or {@code null} if the cache is not loaded or concurrent reads are not supported
+     */
+    public Boolean containsIfLoaded(X o) {
+        if (!concurrentReads) {
+            return null;
+        }
+        CachedMap<X, ONTObject<X>> res = map.getIfPresent(this);
+        return res == null ? null : res.contains(o);
+    }
+
+    /**
+     * Answers {@code true} if this map contains an axiom that is equal to the given one ignoring annotations.
+     * The first call builds a secondary index keyed by the axioms without annotations,
+     * which is then kept in sync on {@link #add(ONTObject) add} and {@link #remove(OWLObject) remove},
+     * so the check does not require a linear scan even if the bucket consists of annotated axioms.
+     *
+     * @param o {@link X} key-object, not {@code null}
+     * @return boolean
+     * @see OWLAxiom#equalsIgnoreAnnotations(OWLAxiom)
+     */
+    public boolean containsIgnoreAnnotations(X o) {
+        return getMap().containsIgnoreAnnotations(o);
+    }
+
     /**
      * Deletes the given object and all its associated triples.
      *
@@ -253,10 +323,68 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
         hasAnnotatedAxioms = null;
     }
 
+    /**
+     * A helper to fill the cache object by object.
+     * It is not thread-safe: all objects must be added from the same thread.
+     */
+    public class Loader {
+        private final Map<X, ONTObject<X>> res = createMap();
+        private final long start = System.nanoTime();
+        private boolean annotated;
+
+        private Loader() {
+        }
+
+        /**
+         * Adds the object into the cache that is being loaded, merging duplicates if needed.
+         *
+         * @param value {@link ONTObject}, not {@code null}
+         */
+        public void add(ONTObject<X> value) {
+            if (!annotated) {
+                X obj = value.getOWLObject();
+                annotated = obj.isAxiom() && ((OWLAxiom) obj).isAnnotated();
+            }
+            if (withMerge) {
+                WithMerge.add(res, value);
+            } else {
+                res.put(value.getOWLObject(), value);
+            }
+        }
+
+        /**
+         * Returns the time passed since this loader was created.
+         *
+         * @return {@code long}, nanoseconds
+         */
+        long getElapsedTime() {
+            return System.nanoTime() - start;
+        }
+
+        private CachedMap<X, ONTObject<X>> build() {
+            hasNew = false;
+            hasAnnotatedAxioms = annotated;
+            return CachedMap.create(res, withMerge ? WithMerge.getMerger() : null, parallel);
+        }
+
+        /**
+         * Completes the loading, if the cache is not loaded yet; otherwise the collected objects are discarded.
+         */
+        public void finish() {
+            if (isLoaded()) return;
+            synchronized (map) {
+                if (isLoaded()) return;
+                map.put(CacheObjectMapImpl.this, loadMap(this));
+            }
+        }
+    }
+
     /**
      * An internal map-object that holds true-{@code Map} with {@link K}-keys and {@link V}-values.
      * It has the dedicated cache implemented as {@link java.lang.ref.SoftReference}
-     * for the map keys to provide fast iteration, this is the only difference with the standard map.
+     * for the map keys to provide fast iteration,
+     * and one more such cache for the keys without annotations (if the keys are axioms),
+     * which is used to check the containment ignoring annotations.
      * @param <K> the type of keys maintained by this map
      * @param <V> the type of mapped values
      */
@@ -264,12 +392,16 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
         protected final Map<K, V> map;
         protected final BiFunction<V, V, V> merger;
         protected final InternalCache.Loading<CachedMap<?, ?>, List<K>> keys;
+        // stripped key -> the number of keys that are equal to it ignoring annotations
+        protected final InternalCache.Loading<CachedMap<?, ?>, Map<Object, Integer>> plainKeys;
 
         protected CachedMap(Map<K, V> objects,
                             InternalCache.Loading<CachedMap<?, ?>, List<K>> cache,
+                            InternalCache.Loading<CachedMap<?, ?>, Map<Object, Integer>> plainCache,
                             BiFunction<V, V, V> merger) {
             this.map = Objects.requireNonNull(objects);
             this.keys = Objects.requireNonNull(cache);
+            this.plainKeys = Objects.requireNonNull(plainCache);
             this.merger = merger;
         }
 
@@ -295,7 +427,25 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
                 // but (I believe), R/W locking reduces the List's mutation costs
                 return new CopyOnWriteArrayList<>(map.keySet());
             });
-            return new CachedMap<>(map, keys, merger);
+            InternalCache.Loading<CachedMap<?, ?>, Map<Object, Integer>> plainKeys = InternalCache.createSoftSingleton(m -> {
+                Map<Object, Integer> res = parallel ? new ConcurrentHashMap<>() : new HashMap<>();
+                map.keySet().forEach(k -> res.merge(withoutAnnotations(k), 1, Integer::sum));
+                return res;
+            });
+            return new CachedMap<>(map, keys, plainKeys, merger);
+        }
+
+        /**
+         * Returns the axiom without annotations if the given key is an annotated axiom, otherwise the key itself.
+         *
+         * @param key {@code Object}
+         * @return {@code Object}
+         */
+        protected static Object withoutAnnotations(Object key) {
+            if (key instanceof OWLAxiom && ((OWLAxiom) key).isAnnotated()) {
+                return ((OWLAxiom) key).getAxiomWithoutAnnotations();
+            }
+            return key;
         }
 
         /**
@@ -334,9 +484,14 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
          * @return {@code boolean} -- {@code true} if {@code key} has really been removed
          */
         public boolean remove(K key) {
+            // take the index before modification, so that it is not reloaded with the key already removed
+            Map<Object, Integer> plain = plainKeys.isEmpty() ? null : plainKeys.get(this);
             if (map.remove(key) == null) {
                 return false;
             }
+            if (plain != null) {
+                plain.computeIfPresent(withoutAnnotations(key), (k, v) -> v == 1 ? null : v - 1);
+            }
             if (keys.isEmpty()) {
                 return true;
             }
@@ -358,11 +513,16 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
          * @param value value to be associated with the specified key
          */
         public void put(K key, V value) {
+            // take the index before modification, so that it is not reloaded with the key already added
+            Map<Object, Integer> plain = plainKeys.isEmpty() || map.containsKey(key) ? null : plainKeys.get(this);
             if (merger != null) {
                 map.merge(key, value, merger);
             } else {
                 map.put(key, value);
             }
+            if (plain != null) {
+                plain.merge(withoutAnnotations(key), 1, Integer::sum);
+            }
             if (keys.isEmpty()) {
                 return;
             }
@@ -383,6 +543,18 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
             return map.containsKey(key);
         }
 
+        /**
+         * Returns {@code true} if this map contains a key that is equal to the specified {@code key},
+         * if to ignore annotations.
+         * For non-axiom keys this is the same as {@link #contains(Object)}.
+         *
+         * @param key key whose presence in this map is to be tested
+         * @return boolean
+         */
+        public boolean containsIgnoreAnnotations(K key) {
+            return map.containsKey(key) || plainKeys.get(this).containsKey(withoutAnnotations(key));
+        }
+
         /**
          * Returns the value to which the specified key is mapped,
          * or {@code null} if this map contains no mapping for the key.
@@ -0,0 +1,159 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.internal;
+
+import com.github.owlcs.ontapi.jena.model.OntModel;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A model-wide store for content arrays of {@link com.github.owlcs.ontapi.internal.objects.WithContent ONT Object}s,
+ * which is an alternative for per-object {@link java.lang.ref.SoftReference soft references}.
+ * The store is bounded by the total number of array elements and evicts least recently used arrays explicitly,
+ * so the memory consumption does not depend on the GC heuristics:
+ * the content is never cleared in bulk under memory pressure.
+ * Keys are compared by identity and held as weak references,
+ * so an array is also discarded together with its owner.
+ * <p>
+ * For internal usage only.
+ *
+ * @see com.github.owlcs.ontapi.config.CacheSettings#getContentArraysCacheSize()
+ */
+public class ContentArrayCache {
+    private final InternalCache<Object, Object[]> cache;
+    private final long size;
+
+    /**
+     * Creates a store for the given maximum number of array elements.
+     *
+     * @param size long, positive
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public ContentArrayCache(long size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Wrong size: " + size);
+        }
+        this.size = size;
+        // each array is weighted by its length plus one for the entry itself
+        this.cache = InternalCache.createWeighted(size, x -> x.length + 1);
+    }
+
+    /**
+     * Finds the store that is attached to the given model.
+     *
+     * @param model {@link OntModel}, not {@code null}
+     * @return {@link ContentArrayCache} or {@code null} if the model does not provide a store
+     */
+    public static ContentArrayCache get(OntModel model) {
+        if (model instanceof InternalReadModel) {
+            return ((InternalReadModel) model).getContentArrayCache();
+        }
+        if (model instanceof SearchModel) {
+            return ((SearchModel) model).getContentArrayCache();
+        }
+        return null;
+    }
+
+    /**
+     * Creates a content-cache-container for the given {@code owner}.
+     * If the {@code store} is specified, the array is kept there,
+     * otherwise it is kept as a {@link java.lang.ref.SoftReference soft reference}
+     * (see {@link InternalCache#createSoftSingleton(Function)}), i.e. as usual, without any additional wrapper.
+     *
+     * @param owner  {@link K} - the object whose content is cached, not {@code null}
+     * @param store  {@link ContentArrayCache} or {@code null} if the feature is disabled
+     * @param loader a {@link Function} to derive the content
+     * @param <K>    the type of owner
+     * @return {@link InternalCache.Loading}
+     */
+    public static <K> InternalCache.Loading<K, Object[]> createLoading(K owner,
+                                                                       ContentArrayCache store,
+                                                                       Function<? super K, Object[]> loader) {
+        Objects.requireNonNull(owner);
+        Objects.requireNonNull(loader);
+        return store == null ? InternalCache.createSoftSingleton(loader) : store.createLoading(owner, loader);
+    }
+
+    /**
+     * Creates a content-cache-container, which is backed by this store.
+     *
+     * @param owner  {@link K}, not {@code null}
+     * @param loader a {@link Function} to derive the content
+     * @param <K>    the type of owner
+     * @return {@link InternalCache.Loading}
+     */
+    protected <K> InternalCache.Loading<K, Object[]> createLoading(K owner, Function<? super K, Object[]> loader) {
+        return new InternalCache.Loading<>() {
+            @Override
+            public Object[] get(K key) {
+                Object[] res = cache.get(owner);
+                if (res != null) return res;
+                cache.put(owner, res = Objects.requireNonNull(loader.apply(key)));
+                return res;
+            }
+
+            @Override
+            public InternalCache<K, Object[]> asCache() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Object[] getIfPresent(K key) {
+                return cache.get(owner);
+            }
+
+            @Override
+            public void clear() {
+                cache.remove(owner);
+            }
+
+            @Override
+            public void put(K key, Object[] value) {
+                cache.put(owner, Objects.requireNonNull(value));
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return cache.get(owner) == null;
+            }
+        };
+    }
+
+    /**
+     * Returns the maximum number of array elements this store can hold.
+     *
+     * @return long
+     */
+    public long getMaximumSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of arrays currently held.
+     *
+     * @return long
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Discards all arrays.
+     */
+    public void clear() {
+        cache.clear();
+    }
+}
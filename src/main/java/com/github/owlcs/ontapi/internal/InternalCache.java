@@ -23,6 +23,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 /**
  * The simplest common Cache Adapter interface for internal use.
@@ -203,13 +204,43 @@ public interface InternalCache<K, V> {
      * @return {@link InternalCache}
      */
     static <K, V> InternalCache<K, V> createBounded(boolean caffeine, long size) {
+        return createBounded(caffeine, size, null);
+    }
+
+    /**
+     * Creates a bounded LRU cache,
+     * that wraps either {@link Cache Caffeine} or simple {@link LinkedHashMap} based cache,
+     * and notifies about each entry that is evicted due to the size limit.
+     * Note that a caffeine cache calls the listener asynchronously.
+     *
+     * @param caffeine   boolean factor, if {@code true} a caffeine cache will be created,
+     *                   otherwise - a LHM based cache
+     * @param size       int the maximum size of the cache
+     * @param onEviction {@link Runnable} to call on each eviction, can be {@code null}
+     * @param <K>        the type of keys maintained by the return cache
+     * @param <V>        the type of mapped values
+     * @return {@link InternalCache}
+     */
+    static <K, V> InternalCache<K, V> createBounded(boolean caffeine, long size, Runnable onEviction) {
         if (caffeine) {
-            return new CaffeineWrapper<>(Caffeine.newBuilder().maximumSize(size).build());
+            Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(size);
+            if (onEviction == null) {
+                return new CaffeineWrapper<>(builder.build());
+            }
+            return new CaffeineWrapper<>(builder.<K, V>removalListener((k, v, cause) -> {
+                if (cause.wasEvicted()) onEviction.run();
+            }).build());
         }
         return fromMap(new LinkedHashMap<>((int) size, 0.75f, true) {
             @Override
             protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-                return size() > size;
+                if (size() <= size) {
+                    return false;
+                }
+                if (onEviction != null) {
+                    onEviction.run();
+                }
+                return true;
             }
         });
     }
@@ -240,6 +271,28 @@ public interface InternalCache<K, V> {
         return res.asLoading(loader);
     }
 
+    /**
+     * Creates a {@link Cache Caffeine} cache, which is bounded by the total weight of its values
+     * and which compares keys by identity (i.e. {@code ==}).
+     * The keys are weak references, so an entry is also discarded when its key is no longer reachable.
+     * The eviction is performed in the calling thread, so the bound is respected right after each modification.
+     *
+     * @param weight  long, the maximum total weight of the cache
+     * @param weigher {@link ToIntFunction} to calculate the weight of a value, must return a non-negative number
+     * @param <K>     the type of keys maintained by the return cache
+     * @param <V>     the type of mapped values
+     * @return {@link InternalCache}
+     */
+    static <K, V> InternalCache<K, V> createWeighted(long weight, ToIntFunction<? super V> weigher) {
+        Objects.requireNonNull(weigher);
+        return new CaffeineWrapper<>(Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .weakKeys()
+                .maximumWeight(weight)
+                .<K, V>weigher((k, v) -> weigher.applyAsInt(v))
+                .build());
+    }
+
     /**
      * Creates an unbounded LRU cache with soft reference values,
      * that wraps either {@link Cache Caffeine} or simple {@link LinkedHashMap} based cache.
@@ -309,6 +362,11 @@ public interface InternalCache<K, V> {
                 throw new UnsupportedOperationException();
             }
 
+            @Override
+            public V getIfPresent(K key) {
+                return value;
+            }
+
             @Override
             public void clear() {
                 value = null;
@@ -359,6 +417,12 @@ public interface InternalCache<K, V> {
                 throw new UnsupportedOperationException();
             }
 
+            @Override
+            public V getIfPresent(K key) {
+                SoftReference<V> res = value;
+                return res == null ? null : res.get();
+            }
+
             @Override
             public void clear() {
                 value = null;
@@ -415,6 +479,17 @@ public interface InternalCache<K, V> {
          */
         InternalCache<K, V> asCache();
 
+        /**
+         * Returns the value associated with the {@code key} in this cache, if it is present,
+         * never loading it.
+         *
+         * @param key {@link K}
+         * @return {@link V} or {@code null}
+         */
+        default V getIfPresent(K key) {
+            return asCache().get(key);
+        }
+
         /**
          * Discards all entries in the cache.
          */
@@ -68,6 +68,12 @@ public interface InternalConfig extends CacheSettings, AxiomsSettings {
             map.put(Key.CACHE_NODES_SIZE, delegate.getLoadNodesCacheSize());
             map.put(Key.CACHE_OBJECTS_SIZE, delegate.getLoadObjectsCacheSize());
             map.put(Key.CONTENT_CACHE_LEVEL, delegate.getModelCacheLevel());
+            map.put(Key.CONTENT_CACHE_LOAD_PARALLELISM, delegate.getContentCacheLoadParallelism());
+            map.put(Key.CONTENT_ARRAYS_CACHE_SIZE, delegate.getContentArraysCacheSize());
+            map.put(Key.CACHE_METRICS, delegate.isCollectCacheMetrics());
+            map.put(Key.REFERENCES_INDEX, delegate.isIndexReferencingAxioms());
+            map.put(Key.NODES_CLASSIFIER, delegate.isClassifyNodes());
+            map.put(Key.LISTS, delegate.isCacheListMembers());
         }
 
         @SuppressWarnings("unchecked")
@@ -120,6 +126,36 @@ public interface InternalConfig extends CacheSettings, AxiomsSettings {
             return get(Key.CONTENT_CACHE_LEVEL);
         }
 
+        @Override
+        public int getContentCacheLoadParallelism() {
+            return get(Key.CONTENT_CACHE_LOAD_PARALLELISM);
+        }
+
+        @Override
+        public int getContentArraysCacheSize() {
+            return get(Key.CONTENT_ARRAYS_CACHE_SIZE);
+        }
+
+        @Override
+        public boolean isCollectCacheMetrics() {
+            return get(Key.CACHE_METRICS);
+        }
+
+        @Override
+        public boolean isIndexReferencingAxioms() {
+            return get(Key.REFERENCES_INDEX);
+        }
+
+        @Override
+        public boolean isClassifyNodes() {
+            return get(Key.NODES_CLASSIFIER);
+        }
+
+        @Override
+        public boolean isCacheListMembers() {
+            return get(Key.LISTS);
+        }
+
         @Override
         public boolean parallel() {
             return parallel;
@@ -152,6 +188,12 @@ public interface InternalConfig extends CacheSettings, AxiomsSettings {
             CACHE_NODES_SIZE,
             CACHE_OBJECTS_SIZE,
             CONTENT_CACHE_LEVEL,
+            CONTENT_CACHE_LOAD_PARALLELISM,
+            CONTENT_ARRAYS_CACHE_SIZE,
+            CACHE_METRICS,
+            REFERENCES_INDEX,
+            NODES_CLASSIFIER,
+            LISTS,
         }
     }
 
@@ -208,6 +250,36 @@ public interface InternalConfig extends CacheSettings, AxiomsSettings {
                 return conf.getModelCacheLevel();
             }
 
+            @Override
+            public int getContentCacheLoadParallelism() {
+                return conf.getContentCacheLoadParallelism();
+            }
+
+            @Override
+            public int getContentArraysCacheSize() {
+                return conf.getContentArraysCacheSize();
+            }
+
+            @Override
+            public boolean isCollectCacheMetrics() {
+                return conf.isCollectCacheMetrics();
+            }
+
+            @Override
+            public boolean isIndexReferencingAxioms() {
+                return conf.isIndexReferencingAxioms();
+            }
+
+            @Override
+            public boolean isClassifyNodes() {
+                return conf.isClassifyNodes();
+            }
+
+            @Override
+            public boolean isCacheListMembers() {
+                return conf.isCacheListMembers();
+            }
+
         };
     }
 }
@@ -0,0 +1,265 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.internal;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A collector of runtime statistics for the caches of a single {@link InternalModel}:
+ * hits, misses and evictions for each {@link Kind kind of cache},
+ * and the number and the total duration of content bucket loadings for each {@link OWLTopObjectType},
+ * which are, in fact, the reading times of the corresponding translators.
+ * All counters are thread-safe and do not require any lock.
+ * The statistics are collected only if it is enabled in the config, otherwise all counters remain zero.
+ * For internal usage only, the public view is {@link com.github.owlcs.ontapi.OntMetrics}.
+ *
+ * @see com.github.owlcs.ontapi.config.CacheSettings#isCollectCacheMetrics()
+ */
+public class InternalMetrics {
+    private final Counter[] caches = new Counter[Kind.values().length];
+    private final LongAdder[] loads = new LongAdder[OWLTopObjectType.values().length];
+    private final LongAdder[] loadTimes = new LongAdder[OWLTopObjectType.values().length];
+
+    public InternalMetrics() {
+        for (Kind k : Kind.values()) {
+            caches[k.ordinal()] = new Counter();
+        }
+        for (OWLTopObjectType t : OWLTopObjectType.values()) {
+            loads[t.ordinal()] = new LongAdder();
+            loadTimes[t.ordinal()] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registers a hit for the given cache.
+     *
+     * @param kind {@link Kind}, not {@code null}
+     */
+    public void hit(Kind kind) {
+        caches[kind.ordinal()].hits.increment();
+    }
+
+    /**
+     * Registers a miss for the given cache.
+     *
+     * @param kind {@link Kind}, not {@code null}
+     */
+    public void miss(Kind kind) {
+        caches[kind.ordinal()].misses.increment();
+    }
+
+    /**
+     * Registers an eviction for the given cache.
+     *
+     * @param kind {@link Kind}, not {@code null}
+     */
+    public void evict(Kind kind) {
+        caches[kind.ordinal()].evictions.increment();
+    }
+
+    /**
+     * Registers a loading of the content bucket.
+     *
+     * @param type  {@link OWLTopObjectType}, not {@code null}
+     * @param nanos long, the duration in nanoseconds
+     */
+    public void load(OWLTopObjectType type, long nanos) {
+        loads[type.ordinal()].increment();
+        loadTimes[type.ordinal()].add(nanos);
+    }
+
+    /**
+     * Returns the number of hits for the given cache.
+     *
+     * @param kind {@link Kind}, not {@code null}
+     * @return long
+     */
+    public long getHits(Kind kind) {
+        return caches[kind.ordinal()].hits.sum();
+    }
+
+    /**
+     * Returns the number of misses for the given cache.
+     *
+     * @param kind {@link Kind}, not {@code null}
+     * @return long
+     */
+    public long getMisses(Kind kind) {
+        return caches[kind.ordinal()].misses.sum();
+    }
+
+    /**
+     * Returns the (approximate) number of evictions for the given cache.
+     *
+     * @param kind {@link Kind}, not {@code null}
+     * @return long
+     */
+    public long getEvictions(Kind kind) {
+        return caches[kind.ordinal()].evictions.sum();
+    }
+
+    /**
+     * Returns the number of loadings of the content bucket.
+     *
+     * @param type {@link OWLTopObjectType}, not {@code null}
+     * @return long
+     */
+    public long getLoadCount(OWLTopObjectType type) {
+        return loads[type.ordinal()].sum();
+    }
+
+    /**
+     * Returns the total duration of loadings of the content bucket in nanoseconds.
+     *
+     * @param type {@link OWLTopObjectType}, not {@code null}
+     * @return long
+     */
+    public long getLoadNanos(OWLTopObjectType type) {
+        return loadTimes[type.ordinal()].sum();
+    }
+
+    /**
+     * Resets all counters.
+     */
+    public void reset() {
+        for (Counter c : caches) {
+            c.hits.reset();
+            c.misses.reset();
+            c.evictions.reset();
+        }
+        for (int i = 0; i < loads.length; i++) {
+            loads[i].reset();
+            loadTimes[i].reset();
+        }
+    }
+
+    /**
+     * Creates a bounded LRU cache, whose accesses and evictions are registered in this collector.
+     *
+     * @param kind     {@link Kind}, not {@code null}
+     * @param caffeine boolean, see {@link InternalCache#createBounded(boolean, long)}
+     * @param size     long, the maximum size of the cache
+     * @param <K>      the type of keys maintained by the cache
+     * @param <V>      the type of mapped values
+     * @return {@link InternalCache}
+     */
+    public <K, V> InternalCache<K, V> createBounded(Kind kind, boolean caffeine, long size) {
+        Objects.requireNonNull(kind);
+        return count(kind, InternalCache.createBounded(caffeine, size, () -> evict(kind)));
+    }
+
+    /**
+     * Wraps the given cache so that each access is registered in this collector.
+     * A miss is a call of the mapping function (or an absent value for a plain lookup).
+     * Evictions are not registered by this wrapper,
+     * they are counted by the cache itself, see {@link #createBounded(Kind, boolean, long)}.
+     *
+     * @param kind  {@link Kind}, not {@code null}
+     * @param cache {@link InternalCache} to wrap, not {@code null}
+     * @param <K>   the type of keys maintained by the cache
+     * @param <V>   the type of mapped values
+     * @return {@link InternalCache}
+     */
+    public <K, V> InternalCache<K, V> count(Kind kind, InternalCache<K, V> cache) {
+        Objects.requireNonNull(kind);
+        Objects.requireNonNull(cache);
+        return new InternalCache<>() {
+            @Override
+            public void put(K key, V value) {
+                cache.put(key, value);
+            }
+
+            @Override
+            public V get(K key) {
+                V res = cache.get(key);
+                if (res == null) {
+                    miss(kind);
+                } else {
+                    hit(kind);
+                }
+                return res;
+            }
+
+            @Override
+            public V get(K key, Function<? super K, ? extends V> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                boolean[] loaded = new boolean[1];
+                V res = cache.get(key, k -> {
+                    loaded[0] = true;
+                    return mappingFunction.apply(k);
+                });
+                if (loaded[0]) {
+                    miss(kind);
+                } else {
+                    hit(kind);
+                }
+                return res;
+            }
+
+            @Override
+            public void remove(K key) {
+                cache.remove(key);
+            }
+
+            @Override
+            public void clear() {
+                cache.clear();
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return cache.isEmpty();
+            }
+
+            @Override
+            public long size() {
+                return cache.size();
+            }
+        };
+    }
+
+    /**
+     * The kinds of model caches.
+     */
+    public enum Kind {
+        /**
+         * The nodes cache of the search model, that speeds up the checking of the node types.
+         *
+         * @see com.github.owlcs.ontapi.config.CacheSettings#getLoadNodesCacheSize()
+         */
+        NODES,
+        /**
+         * The object factory cache that holds OWL entities and IRIs.
+         *
+         * @see com.github.owlcs.ontapi.config.CacheSettings#getLoadObjectsCacheSize()
+         */
+        OBJECTS,
+        /**
+         * The content cache; an access is a hit if the corresponding bucket is already loaded,
+         * a miss is a loading of the bucket.
+         *
+         * @see com.github.owlcs.ontapi.config.CacheSettings#useContentCache()
+         */
+        CONTENT,
+    }
+
+    private static class Counter {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+    }
+}
@@ -21,6 +21,8 @@ import com.github.owlcs.ontapi.jena.model.OntModel;
 import org.apache.jena.rdf.model.Model;
 import org.semanticweb.owlapi.model.*;
 
+import java.util.Collection;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -271,6 +273,16 @@ public interface InternalModel extends OntModel, PersonalityModel, HasOntologyID
      */
     boolean contains(OWLAxiom axiom);
 
+    /**
+     * Answers whether the given axiom is present within this buffer-model, if it is known without loading any cache.
+     * Unlike {@link #contains(OWLAxiom)}, the method has no side effects.
+     *
+     * @param axiom {@link OWLAxiom}, not {@code null}
+     * @return {@code Boolean} or {@code null} if the answer is unknown (e.g. the content cache is not loaded yet)
+     * @see #contains(OWLAxiom)
+     */
+    Boolean containsIfLoaded(OWLAxiom axiom);
+
     /**
      * Answers {@code true} if the given annotation is present in ontology header.
      *
@@ -336,6 +348,29 @@ public interface InternalModel extends OntModel, PersonalityModel, HasOntologyID
      */
     boolean remove(OWLAnnotation annotation);
 
+    /**
+     * Adds all the given axioms to the model in a single bulk operation.
+     * Unlike the sequence of {@link #add(OWLAxiom)} calls, the triples are first collected in a buffer
+     * and then inserted into the graph at once, and the caches are updated once at the end.
+     * The operation is atomic: if some axiom cannot be written, the graph is not changed.
+     *
+     * @param axioms a {@code Collection} of {@link OWLAxiom}s, not {@code null}
+     * @return a {@code Set} of {@link OWLAxiom}s that have been actually added (i.e. were absent before)
+     * @see #add(OWLAxiom)
+     */
+    Set<OWLAxiom> addAxioms(Collection<? extends OWLAxiom> axioms);
+
+    /**
+     * Removes all the given axioms from the model in a single bulk operation.
+     * Unlike the sequence of {@link #remove(OWLAxiom)} calls,
+     * the triples that are shared with the rest of the content are calculated only once.
+     *
+     * @param axioms a {@code Collection} of {@link OWLAxiom}s, not {@code null}
+     * @return a {@code Set} of {@link OWLAxiom}s that have been found in the model and removed
+     * @see #remove(OWLAxiom)
+     */
+    Set<OWLAxiom> removeAxioms(Collection<? extends OWLAxiom> axioms);
+
     /**
      * Invalidates all caches.
      */
@@ -346,6 +381,36 @@ public interface InternalModel extends OntModel, PersonalityModel, HasOntologyID
      */
     void forceLoad();
 
+    /**
+     * Lists all content objects of the given type that are currently held in the cache.
+     * Returns an empty {@code Stream} if the corresponding bucket is not loaded yet or the content cache is disabled.
+     *
+     * @param type {@link OWLTopObjectType}, not {@code null}
+     * @return {@code Stream} of {@link ONTObject}s
+     * @see #restoreContentCache(OWLTopObjectType, Collection)
+     */
+    Stream<ONTObject<OWLObject>> listCachedContent(OWLTopObjectType type);
+
+    /**
+     * Fills the content cache bucket of the given type with the specified objects without reading the graph.
+     * Does nothing if the bucket is already loaded or the content cache is disabled.
+     * The caller is responsible for the consistency of the objects with the graph,
+     * this method is intended to restore a previously {@link #listCachedContent(OWLTopObjectType) saved} state.
+     *
+     * @param type    {@link OWLTopObjectType}, not {@code null}
+     * @param content {@code Collection} of {@link ONTObject}s, not {@code null}
+     * @return boolean, {@code true} if the bucket has been filled
+     */
+    boolean restoreContentCache(OWLTopObjectType type, Collection<ONTObject<OWLObject>> content);
+
+    /**
+     * Returns the runtime statistics of the model caches.
+     *
+     * @return {@link InternalMetrics}
+     * @see com.github.owlcs.ontapi.config.CacheSettings#isCollectCacheMetrics()
+     */
+    InternalMetrics getMetrics();
+
     /**
      * Invalidates the cache if needed.
      * <p>
@@ -25,19 +25,21 @@ import com.github.owlcs.ontapi.jena.model.OntID;
 import com.github.owlcs.ontapi.jena.model.OntModel;
 import com.github.owlcs.ontapi.jena.model.OntObject;
 import com.github.owlcs.ontapi.jena.utils.Iter;
+import com.github.owlcs.ontapi.jena.vocabulary.OWL;
+import com.github.owlcs.ontapi.jena.vocabulary.RDF;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.GraphEventManager;
+import org.apache.jena.graph.GraphUtil;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
+import org.apache.jena.mem.GraphMem;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.sparql.util.graph.GraphListenerBase;
 import org.semanticweb.owlapi.model.*;
 
 import javax.annotation.Nonnull;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * A Buffer Graph OWL model, which supports both listing OWL-API objects (OWL Axioms, Entities and Annotations)
@@ -74,6 +76,16 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
      * The direct listener, it monitors changes that occur through the main (Jena) interface.
      */
     protected final DirectListener directListener;
+    /**
+     * The optional triple reference-count index:
+     * each content triple is mapped to the number of content containers (axioms and header annotations) that own it.
+     * It is built from the whole content cache on the first removal,
+     * and then is maintained incrementally while adding and removing content.
+     * Any other change of the content cache discards it.
+     *
+     * @see InternalConfig#useTriplesCache()
+     */
+    protected final InternalCache.Loading<InternalModelImpl, Map<Triple, Integer>> references;
 
     /**
      * Constructs a model instance.
@@ -93,6 +105,7 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
                              DataFactory dataFactory,
                              Map<Class<? extends OWLPrimitive>, InternalCache<?, ?>> fromManager) {
         super(base, personality, config, dataFactory, fromManager);
+        this.references = InternalCache.createSingleton(x -> loadReferences());
         this.directListener = createDirectListener();
         enableDirectListening();
     }
@@ -105,6 +118,7 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
             // these are controlled changes; do not reset the whole cache,
             // just only annotations (associated triples map is changed):
             getHeaderCache().clear();
+            references.clear();
             if (Objects.requireNonNull(id, "Null id").isAnonymous()) {
                 OntID res;
                 if (id instanceof ID) {
@@ -206,6 +220,8 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
             return false;
         }
         map.add(value);
+        addReferences(value);
+        addToIndex(container);
         // put new components into objects cache
         cacheComponents(container);
         // clear search model and object factory
@@ -236,8 +252,12 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
                 // they, sometimes, do not be aware what they do
                 return false;
             }
+            if (getConfig().useTriplesCache()) {
+                return deleteUnreferenced(Map.of(container, key));
+            }
             map.remove(container);
             container = value.getOWLObject();
+            removeFromIndex(container);
             OntModel m = toModel(value);
             // triples that are used by other content objects:
             Set<Triple> used = getUsedTriples(m, container);
@@ -258,6 +278,213 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
         }
     }
 
+    @Override
+    public Set<OWLAxiom> addAxioms(Collection<? extends OWLAxiom> axioms) {
+        // the buffer is a base of the write-model, the whole ontology graph is its underlying part:
+        // the translators see all existing data, but new triples go to the buffer
+        Graph buffer = new GraphMem();
+        OntModel m = toModel(buffer, "Buffer");
+        GraphEventManager evm = m.getGraph().getEventManager();
+        Map<OWLAxiom, OWLTriples<OWLObject>> values = new LinkedHashMap<>();
+        for (OWLAxiom axiom : axioms) {
+            OWLTopObjectType key = OWLTopObjectType.get(axiom.getAxiomType());
+            ObjectMap<OWLObject> map = getContentCache(key);
+            map.load(); // before graph modification
+            if (values.containsKey(axiom) || map.contains(axiom)) {
+                continue;
+            }
+            OWLTriples.Listener listener = OWLTriples.createListener();
+            try {
+                evm.register(listener);
+                key.write(m, axiom);
+            } catch (Exception e) {
+                // nothing has been written to the graph yet
+                if (e instanceof OntApiException)
+                    throw e;
+                throw new OntApiException(String.format("OWLObject: %s, message: '%s'", axiom, e.getMessage()), e);
+            } finally {
+                evm.unregister(listener);
+            }
+            OWLTriples<OWLObject> value = listener.toObject((OWLObject) axiom);
+            if (value.isDefinitelyEmpty()) {
+                LOGGER.warn("Attempt to add empty OWL object: {}", axiom);
+                continue;
+            }
+            values.put(axiom, value);
+        }
+        if (values.isEmpty()) {
+            return Collections.emptySet();
+        }
+        try {
+            disableDirectListening();
+            // single insert with a single bulk event
+            GraphUtil.add(getGraph(), buffer.find().toList());
+        } finally {
+            enableDirectListening();
+        }
+        values.forEach((axiom, value) -> {
+            getContentCache(OWLTopObjectType.get(axiom.getAxiomType())).add(value);
+            addReferences(value);
+            addToIndex(axiom);
+            cacheComponents(axiom);
+        });
+        clearOtherCaches();
+        return values.keySet();
+    }
+
+    @Override
+    public Set<OWLAxiom> removeAxioms(Collection<? extends OWLAxiom> axioms) {
+        try {
+            disableDirectListening();
+            if (getConfig().useTriplesCache()) {
+                Map<OWLObject, OWLTopObjectType> keys = new LinkedHashMap<>();
+                Set<OWLAxiom> res = new LinkedHashSet<>();
+                for (OWLAxiom axiom : axioms) {
+                    OWLTopObjectType key = OWLTopObjectType.get(axiom.getAxiomType());
+                    if (getContentCache(key).contains(axiom)) {
+                        keys.put(axiom, key);
+                        res.add(axiom);
+                    }
+                }
+                deleteUnreferenced(keys);
+                return res;
+            }
+            Graph triples = new GraphMem();
+            Set<OWLObject> containers = new HashSet<>();
+            Set<OWLAxiom> res = new LinkedHashSet<>();
+            for (OWLAxiom axiom : axioms) {
+                ObjectMap<OWLObject> map = getContentCache(OWLTopObjectType.get(axiom.getAxiomType()));
+                ONTObject<OWLObject> value = map.get(axiom);
+                if (value == null) {
+                    continue;
+                }
+                map.remove(axiom);
+                removeFromIndex(axiom);
+                containers.add(value.getOWLObject());
+                value.triples().forEach(triples::add);
+                res.add(axiom);
+            }
+            if (res.isEmpty()) {
+                return res;
+            }
+            OntModel m = toModel(triples, containers);
+            // triples that are used by other content objects, calculated once for the whole batch:
+            Set<Triple> used = getUsedTriples(m, containers);
+            containers.forEach(this::clearComponents);
+            m.getBaseGraph().find().filterDrop(used::contains).forEachRemaining(this::delete);
+            clearOtherCaches();
+            return res;
+        } finally {
+            enableDirectListening();
+        }
+    }
+
+    /**
+     * Removes the given content containers from the cache and deletes from the graph
+     * those of their triples that are no longer owned by any other container.
+     * This is the {@link #references triple reference-count index} based version of removing,
+     * which does not need to scan the whole content:
+     * only the triples whose counter drops to zero are considered as candidates for deletion.
+     * Since an {@link ONTObject} calculates its triples on demand,
+     * the counters may be inexact if the graph has been extended after the index has been built,
+     * so, to be safe, the candidates are still checked for shared declarations and punned axioms,
+     * see {@link #getUsedContentTriples(OntModel, Set)}.
+     * Must be called when the direct listening is disabled.
+     *
+     * @param keys a {@code Map} of content containers with their {@link OWLTopObjectType types}, not {@code null}
+     * @return {@code true} if the graph has been changed
+     */
+    protected boolean deleteUnreferenced(Map<OWLObject, OWLTopObjectType> keys) {
+        if (keys.isEmpty()) {
+            return false;
+        }
+        Map<Triple, Integer> index = references.get(this); // before changing the content cache
+        Set<OWLObject> containers = new HashSet<>();
+        Graph candidates = new GraphMem();
+        keys.forEach((key, type) -> {
+            ObjectMap<OWLObject> map = getContentCache(type);
+            ONTObject<OWLObject> value = map.get(key);
+            if (value == null) {
+                return;
+            }
+            map.remove(key);
+            removeFromIndex(key);
+            containers.add(value.getOWLObject());
+            value.triples().distinct().forEach(t -> {
+                Integer count = index.computeIfPresent(t, (k, v) -> v == 1 ? null : v - 1);
+                if (count == null) {
+                    candidates.add(t);
+                }
+            });
+        });
+        // remove related components from the objects cache;
+        // do it before graph modification since ONTObject's may rely on graph
+        containers.forEach(this::clearComponents);
+        boolean res = false;
+        if (!candidates.isEmpty()) {
+            OntModel m = toModel(candidates, containers);
+            Set<Triple> used = getUsedContentTriples(m, containers);
+            Graph g = getBaseGraph();
+            long size = g.size();
+            candidates.find().filterDrop(used::contains).forEachRemaining(this::delete);
+            res = size != g.size();
+        }
+        clearOtherCaches();
+        return res;
+    }
+
+    /**
+     * Builds the {@link #references triple reference-count index} from the whole content cache.
+     *
+     * @return a {@code Map} with {@link Triple}s as keys and positive numbers as values
+     */
+    protected Map<Triple, Integer> loadReferences() {
+        Map<Triple, Integer> res = new HashMap<>();
+        contentCaches().forEach(map -> map.values()
+                .forEach(x -> x.triples().distinct().forEach(t -> res.merge(t, 1, Integer::sum))));
+        return res;
+    }
+
+    /**
+     * Increments the reference counters for all triples of the given content container
+     * if the {@link #references index} is already built.
+     *
+     * @param value {@link ONTObject}, not {@code null}
+     */
+    protected void addReferences(ONTObject<? extends OWLObject> value) {
+        if (references.isEmpty()) {
+            return;
+        }
+        Map<Triple, Integer> index = references.get(this);
+        value.triples().distinct().forEach(t -> index.merge(t, 1, Integer::sum));
+    }
+
+    /**
+     * Puts the given content container into the {@link #referencing inverted index},
+     * if it is an axiom and the index is already built.
+     *
+     * @param container {@link OWLObject}, not {@code null}
+     */
+    protected void addToIndex(OWLObject container) {
+        if (referencing.isEmpty() || !(container instanceof OWLAxiom)) {
+            return;
+        }
+        indexAxiom(referencing.get(this), (OWLAxiom) container);
+    }
+
+    /**
+     * Removes the given content container from the {@link #referencing inverted index},
+     * if it is an axiom and the index is already built.
+     *
+     * @param container {@link OWLObject}, not {@code null}
+     */
+    protected void removeFromIndex(OWLObject container) {
+        if (referencing.isEmpty() || !(container instanceof OWLAxiom)) {
+            return;
+        }
+        unindexAxiom(referencing.get(this), (OWLAxiom) container);
+    }
+
     /**
      * Calculates and returns the {@link Triple triple}s,
      * that belong to both the given content-container and some other one.
@@ -283,6 +510,38 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
      * @return {@code Set} of {@code Triple}s in intersection
      */
     protected Set<Triple> getUsedTriples(OntModel model, OWLObject container) {
+        return getUsedTriples(model, Set.of(container));
+    }
+
+    /**
+     * Calculates and returns the {@link Triple triple}s,
+     * that belong to both the given content-containers and some other content-container, which is not in the set.
+     *
+     * @param model      {@link OntModel} the model to traverse over,
+     *                   must correspond to the {@code containers}, not {@code null}
+     * @param containers a {@code Set} of {@link OWLObject} - content-containers,
+     *                   for which this operation is performed, not {@code null}
+     * @return {@code Set} of {@code Triple}s in intersection
+     * @see #getUsedTriples(OntModel, OWLObject)
+     */
+    protected Set<Triple> getUsedTriples(OntModel model, Set<? extends OWLObject> containers) {
+        Set<Triple> res = getUsedContentTriples(model, containers);
+        res.addAll(getSharedComponentTriples(model, containers));
+        return res;
+    }
+
+    /**
+     * Calculates and returns the {@link Triple triple}s of the given content-containers,
+     * that are used by some other content-container as shared declarations or punned axioms.
+     *
+     * @param model      {@link OntModel} the model to traverse over,
+     *                   must correspond to the {@code containers}, not {@code null}
+     * @param containers a {@code Set} of {@link OWLObject} - content-containers,
+     *                   for which this operation is performed, not {@code null}
+     * @return {@code Set} of {@code Triple}s in intersection
+     * @see #getUsedTriples(OntModel, Set)
+     */
+    protected Set<Triple> getUsedContentTriples(OntModel model, Set<? extends OWLObject> containers) {
         ModelObjectFactory f = HasObjectFactory.getObjectFactory(model);
         InternalConfig c = HasConfig.getConfig(model);
         Set<Triple> res = new HashSet<>();
@@ -290,7 +549,7 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
         Iter.flatMap(OWLTopObjectType.listAll(), type -> type.getSearcher().listONTObjects(model, f, c)
                 .filterKeep(x -> {
                     OWLObject obj = x.getOWLObject();
-                    if (type != OWLTopObjectType.DECLARATION && container.equals(obj)) return false;
+                    if (type != OWLTopObjectType.DECLARATION && containers.contains(obj)) return false;
                     if (InternalModelImpl.this.getContentCache(type).contains(obj)) {
                         return true;
                     }
@@ -301,6 +560,23 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
                     return false;
                 }))
                 .forEachRemaining(x -> x.triples().forEach(res::add));
+        return res;
+    }
+
+    /**
+     * Calculates and returns the {@link Triple triple}s of non-entity components (e.g. class expressions),
+     * that are shared between the given content-containers and some other content-container.
+     *
+     * @param model      {@link OntModel} the model to traverse over,
+     *                   must correspond to the {@code containers}, not {@code null}
+     * @param containers a {@code Set} of {@link OWLObject} - content-containers,
+     *                   for which this operation is performed, not {@code null}
+     * @return {@code Set} of {@code Triple}s in intersection
+     * @see #getUsedTriples(OntModel, Set)
+     */
+    protected Set<Triple> getSharedComponentTriples(OntModel model, Set<? extends OWLObject> containers) {
+        ModelObjectFactory f = HasObjectFactory.getObjectFactory(model);
+        Set<Triple> res = new HashSet<>();
         // other shared components:
         OWLComponentType.sharedComponents().forEach(type -> {
             Set<OWLObject> candidates = new HashSet<>();
@@ -316,7 +592,7 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
             selectContentContainers(type)
                     .forEach(x -> {
                         OWLObject obj = x.getOWLObject();
-                        if (container.equals(obj)) {
+                        if (containers.contains(obj)) {
                             return;
                         }
                         if (!type.containsAny(obj, candidates)) {
@@ -335,7 +611,19 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
      * @return {@link OntModel}
      */
     protected OntModel toModel(ONTObject<? extends OWLObject> o) {
-        Graph g = o.toGraph();
+        return toModel(o.toGraph(), o.getOWLObject());
+    }
+
+    /**
+     * Represents the given graph as a {@link OntModel OWL Graph Model},
+     * which has the given graph as a base and the whole ontology graph as an underlying part.
+     * All changes go to the given graph.
+     *
+     * @param g    {@link Graph} a base graph
+     * @param name {@code Object} to describe the model
+     * @return {@link OntModel}
+     */
+    protected OntModel toModel(Graph g, Object name) {
         if (LOGGER.isDebugEnabled()) {
             g.getPrefixMapping().setNsPrefixes(getNsPrefixMap());
         }
@@ -353,7 +641,7 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
 
             @Override
             public String toString() {
-                return String.format("ModelFor{%s}", o.getOWLObject());
+                return String.format("ModelFor{%s}", name);
             }
 
             @Override
@@ -406,10 +694,74 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
     public void clearCache() {
         cachedID = null;
         content.clear();
+        references.clear();
+        referencing.clear();
+        if (!lists.isEmpty()) {
+            getBaseGraph().getEventManager().unregister(lists.get(this));
+            lists.clear();
+        }
         config.clear();
+        if (!arrays.isEmpty()) {
+            arrays.get(this).clear();
+            arrays.clear();
+        }
+        clearComponentsCaches();
+    }
+
+    /**
+     * Invalidates the caches that may be affected by the given triple,
+     * which has been added to or deleted from the graph not through the OWL-API interface.
+     * Only those {@link #content} buckets that may hold the triple are released;
+     * the {@link #references}, {@link #referencing}, {@link #components}, {@link #objectFactory}
+     * and {@link #searchModel} caches are always reset.
+     * In case of a structurally ambiguous change (see {@link #selectContentTypes(Triple)}),
+     * the whole cache is cleared.
+     *
+     * @param triple {@link Triple}, not {@code null}
+     * @see #clearCache()
+     */
+    protected void clearCache(Triple triple) {
+        Collection<OWLTopObjectType> keys = selectContentTypes(triple);
+        if (keys == null) {
+            clearCache();
+            return;
+        }
+        if (!content.isEmpty()) {
+            Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> store = content.get(this);
+            keys.forEach(k -> store.get(k).clear());
+        }
+        references.clear();
+        referencing.clear();
         clearComponentsCaches();
     }
 
+    /**
+     * Selects the content types ({@link OWLTopObjectType}s), whose buckets may hold the given triple.
+     * Returns {@code null} if the triple may affect objects of any type,
+     * i.e. if it is an {@code rdf:type} triple (it changes the nature of the subject),
+     * a triple with a blank node (it may be a part of a b-node structure, such as an {@code rdf:List},
+     * a class expression or a reified annotation) or a triple describing the ontology header.
+     *
+     * @param triple {@link Triple}, not {@code null}
+     * @return a {@code Collection} of {@link OWLTopObjectType}s or {@code null}
+     */
+    protected Collection<OWLTopObjectType> selectContentTypes(Triple triple) {
+        Node subject = triple.getSubject();
+        if (!subject.isURI() || triple.getObject().isBlank() || RDF.Nodes.type.equals(triple.getPredicate())) {
+            return null;
+        }
+        if (getBaseGraph().contains(subject, RDF.Nodes.type, OWL.Ontology.asNode())) {
+            return null;
+        }
+        Set<OWLTopObjectType> res = EnumSet.noneOf(OWLTopObjectType.class);
+        res.addAll(AxiomsDispatcher.get().select(triple));
+        if (!getConfig().isLoadAnnotationAxioms()) {
+            // annotation assertions are treated as declaration annotations
+            res.add(OWLTopObjectType.DECLARATION);
+        }
+        return res;
+    }
+
     /**
      * Invalidates {@link #components}, {@link #objectFactory} and {@link #searchModel} caches.
      * Auxiliary method.
@@ -472,7 +824,24 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
 
     @Override
     public void forceLoad() {
-        contentCaches().forEach(ObjectMap::load);
+        loadContentCaches();
+    }
+
+    @Override
+    public Stream<ONTObject<OWLObject>> listCachedContent(OWLTopObjectType type) {
+        ObjectMap<OWLObject> map = getContentCache(type);
+        return map instanceof CacheObjectMapImpl && map.isLoaded() ? map.values() : Stream.empty();
+    }
+
+    @Override
+    public boolean restoreContentCache(OWLTopObjectType type, Collection<ONTObject<OWLObject>> content) {
+        Objects.requireNonNull(content);
+        ObjectMap<OWLObject> map = getContentCache(type);
+        if (!(map instanceof CacheObjectMapImpl) || map.isLoaded()) {
+            return false;
+        }
+        ((CacheObjectMapImpl<OWLObject>) map).load(content::iterator);
+        return true;
     }
 
     /**
@@ -487,19 +856,20 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
             clearCache();
         }
 
+        protected void invalidate(Triple t) {
+            clearCache(t);
+        }
+
         @Override
         protected void addEvent(Triple t) {
-            // we don't know which axiom would own this triple, so we clear the whole cache.
-            invalidate();
+            // only those content buckets, which may own this triple, are released;
+            // for b-nodes, rdf:type and header triples we don't know this, so the whole cache is cleared
+            invalidate(t);
         }
 
         @Override
         protected void deleteEvent(Triple t) {
-            // Although it is possible to detect only those cache elements,
-            // that are really affected by deleting the triple,
-            // but such a calculation would be rather too complicated and time-consuming and (therefore) possibly buggy.
-            // So it seems to be better just release all caches.
-            invalidate();
+            invalidate(t);
         }
 
         @Override
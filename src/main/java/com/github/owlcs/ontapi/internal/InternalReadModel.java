@@ -22,7 +22,9 @@ import com.github.owlcs.ontapi.internal.searchers.axioms.*;
 import com.github.owlcs.ontapi.internal.searchers.objects.*;
 import com.github.owlcs.ontapi.jena.OntJenaException;
 import com.github.owlcs.ontapi.jena.RWLockedGraph;
+import com.github.owlcs.ontapi.jena.VersionedGraph;
 import com.github.owlcs.ontapi.jena.impl.OntGraphModelImpl;
+import com.github.owlcs.ontapi.jena.impl.OntListCache;
 import com.github.owlcs.ontapi.jena.impl.conf.OntPersonality;
 import com.github.owlcs.ontapi.jena.model.*;
 import com.github.owlcs.ontapi.jena.vocabulary.OWL;
@@ -41,12 +43,17 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -110,6 +117,47 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
      * @see ObjectMap
      */
     protected final InternalCache.Loading<InternalReadModel, Map<OWLComponentType, ObjectMap<OWLObject>>> components;
+    /**
+     * A size-bounded store for content arrays of OWL objects,
+     * which is used instead of per-object soft references if it is enabled in the config.
+     * It is reset together with the {@link #config}.
+     *
+     * @see InternalConfig#useContentArraysCache()
+     * @see ContentArrayCache
+     */
+    protected final InternalCache.Loading<InternalReadModel, ContentArrayCache> arrays;
+    /**
+     * The runtime statistics of the caches, which are collected only if it is enabled in the config.
+     * Unlike the caches, it is never reset automatically.
+     *
+     * @see InternalConfig#isCollectCacheMetrics()
+     */
+    protected final InternalMetrics metrics = new InternalMetrics();
+    /**
+     * The planner to choose the way to search referencing axioms, keeps the statistics of the previous queries.
+     *
+     * @see #planReferencingAxiomsSearch(OWLComponentType, InternalConfig)
+     */
+    protected final ReferencingAxiomsPlanner planner = new ReferencingAxiomsPlanner();
+    /**
+     * The optional inverted index of referencing axioms:
+     * each entity, literal and anonymous individual is mapped to the set of axioms that contain it.
+     * It is built from the whole content cache on the first query,
+     * and then is maintained incrementally while adding and removing axioms (see {@link InternalModelImpl}).
+     * Any other change of the content cache discards it.
+     *
+     * @see InternalConfig#isIndexReferencingAxioms()
+     */
+    protected final InternalCache.Loading<InternalReadModel, Map<OWLPrimitive, Set<OWLAxiom>>> referencing;
+    /**
+     * The cache of {@code []}-list members, which is bound to the base graph as a listener,
+     * and therefore is maintained automatically on any change of the graph.
+     * It is shared with the {@link #searchModel}.
+     * The listener is registered only when the cache is first requested, i.e. only if the setting is on.
+     *
+     * @see InternalConfig#isCacheListMembers()
+     */
+    protected final InternalCache.Loading<InternalReadModel, OntListCache> lists;
 
     // Helpers to provide searching axioms by some objects (referencing by primitives).
     protected final ByObjectSearcher<OWLAxiom, OWLClass> byClass = new ByClass();
@@ -165,6 +213,9 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         this.searchModel = InternalCache.createSoftSingleton(x -> createSearchModel());
         this.content = InternalCache.createSingleton(x -> createContentStore());
         this.components = InternalCache.createSingleton(x -> createComponentStore());
+        this.arrays = InternalCache.createSingleton(x -> new ContentArrayCache(getConfig().getContentArraysCacheSize()));
+        this.referencing = InternalCache.createSingleton(x -> loadReferencingIndex());
+        this.lists = InternalCache.createSingleton(x -> createListCache());
     }
 
     public ID getOntologyID() {
@@ -196,6 +247,49 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         return objectFactory.get(this);
     }
 
+    /**
+     * Returns the runtime cache statistics.
+     * All the counters are zero if the statistics collecting is disabled.
+     *
+     * @return {@link InternalMetrics}
+     * @see InternalConfig#isCollectCacheMetrics()
+     */
+    public InternalMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the store for content arrays of OWL objects, if it is enabled.
+     *
+     * @return {@link ContentArrayCache} or {@code null} if the arrays should be held as soft references
+     * @see InternalConfig#getContentArraysCacheSize()
+     */
+    public ContentArrayCache getContentArrayCache() {
+        return getConfig().useContentArraysCache() ? arrays.get(this) : null;
+    }
+
+    /**
+     * Returns the cache of {@code []}-list members, if it is enabled.
+     *
+     * @return {@link OntListCache} or {@code null}
+     * @see InternalConfig#isCacheListMembers()
+     */
+    @Override
+    public OntListCache getListCache() {
+        return getConfig().isCacheListMembers() ? lists.get(this) : null;
+    }
+
+    /**
+     * Creates a {@link OntListCache} and registers it as a listener of the base graph.
+     *
+     * @return {@link OntListCache}
+     */
+    protected OntListCache createListCache() {
+        OntListCache res = new OntListCache(getBaseGraph());
+        getBaseGraph().getEventManager().register(res);
+        return res;
+    }
+
     /**
      * Creates a fresh {@link ModelObjectFactory Object Factory} instance,
      * which is responsible for mapping {@link Node} (and {@link OntObject}) to {@link OWLObject}.
@@ -211,14 +305,33 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
      */
     protected ModelObjectFactory createObjectFactory(DataFactory df,
                                                      Map<Class<? extends OWLPrimitive>, InternalCache<?, ?>> external) {
+        return createObjectFactory(df, external, this::getSearchModel);
+    }
+
+    /**
+     * Creates a fresh {@link ModelObjectFactory Object Factory} instance,
+     * whose {@link ONTObject}s are bound to the given model.
+     *
+     * @param df       {@link DataFactory}, not {@code null}
+     * @param external a {@code Map} with shared outer caches, can be {@code null}
+     * @param model    a {@code Supplier} of {@link OntModel} to read, not {@code null}
+     * @return {@link ModelObjectFactory}
+     * @see #createObjectFactory(DataFactory, Map)
+     */
+    protected ModelObjectFactory createObjectFactory(DataFactory df,
+                                                     Map<Class<? extends OWLPrimitive>, InternalCache<?, ?>> external,
+                                                     Supplier<OntModel> model) {
         InternalConfig conf = getConfig();
-        Supplier<OntModel> model = this::getSearchModel;
         if (!conf.useLoadObjectsCache()) {
             return new InternalObjectFactory(df, model);
         }
         long size = conf.getLoadObjectsCacheSize();
         boolean parallel = conf.parallel();
         Map<Class<? extends OWLPrimitive>, InternalCache<?, ?>> map = external == null ? Collections.emptyMap() : external;
+        if (conf.isCollectCacheMetrics()) {
+            return new CacheObjectFactory(df, model, map,
+                    () -> metrics.createBounded(InternalMetrics.Kind.OBJECTS, parallel, size));
+        }
         return new CacheObjectFactory(df, model, map, () -> InternalCache.createBounded(parallel, size));
     }
 
@@ -249,17 +362,39 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         if (!useModelSearchOptimization(getConfig())) {
             return this;
         }
-        return new SearchModel(getGraph(), getOntPersonality(), getConfig()) {
+        return createSearchModel(getConfig(), this::getObjectFactory);
+    }
+
+    /**
+     * Creates a fresh {@link SearchModel} instance that is bound to the specified object factory.
+     *
+     * @param config  {@link InternalConfig}, not {@code null}
+     * @param factory a {@code Supplier} of {@link ModelObjectFactory}, not {@code null}
+     * @return {@link SearchModel}
+     */
+    protected SearchModel createSearchModel(InternalConfig config, Supplier<ModelObjectFactory> factory) {
+        return new SearchModel(getGraph(), getOntPersonality(), config, config.useLoadNodesCache(),
+                config.isCollectCacheMetrics() ? metrics : null) {
 
             @Override
             public String toString() {
                 return String.format("[SearchModel]%s", getID());
             }
 
+            @Override
+            public ContentArrayCache getContentArrayCache() {
+                return InternalReadModel.this.getContentArrayCache();
+            }
+
+            @Override
+            public OntListCache getListCache() {
+                return InternalReadModel.this.getListCache();
+            }
+
             @Override
             @Nonnull
             public ModelObjectFactory getObjectFactory() {
-                return InternalReadModel.this.getObjectFactory();
+                return factory.get();
             }
         };
     }
@@ -348,23 +483,30 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         }
         List<ONTObject<? extends OWLEntity>> res = new ArrayList<>();
         ModelObjectFactory df = getObjectFactory();
-        if (e.canAs(OntClass.Named.class)) {
-            res.add(df.getClass(e.as(OntClass.Named.class)));
+        // each type is tested and wrapped in a single step, no exception is thrown
+        OntClass.Named c = e.getAs(OntClass.Named.class);
+        if (c != null) {
+            res.add(df.getClass(c));
         }
-        if (e.canAs(OntDataRange.Named.class)) {
-            res.add(df.getDatatype(e.as(OntDataRange.Named.class)));
+        OntDataRange.Named d = e.getAs(OntDataRange.Named.class);
+        if (d != null) {
+            res.add(df.getDatatype(d));
         }
-        if (e.canAs(OntAnnotationProperty.class)) {
-            res.add(df.getProperty(e.as(OntAnnotationProperty.class)));
+        OntAnnotationProperty ap = e.getAs(OntAnnotationProperty.class);
+        if (ap != null) {
+            res.add(df.getProperty(ap));
         }
-        if (e.canAs(OntDataProperty.class)) {
-            res.add(df.getProperty(e.as(OntDataProperty.class)));
+        OntDataProperty dp = e.getAs(OntDataProperty.class);
+        if (dp != null) {
+            res.add(df.getProperty(dp));
         }
-        if (e.canAs(OntObjectProperty.Named.class)) {
-            res.add(df.getProperty(e.as(OntObjectProperty.Named.class)));
+        OntObjectProperty.Named op = e.getAs(OntObjectProperty.Named.class);
+        if (op != null) {
+            res.add(df.getProperty(op));
         }
-        if (e.canAs(OntIndividual.Named.class)) {
-            res.add(df.getIndividual(e.as(OntIndividual.Named.class)));
+        OntIndividual.Named i = e.getAs(OntIndividual.Named.class);
+        if (i != null) {
+            res.add(df.getIndividual(i));
         }
         return res.stream().map(ONTObject::getOWLObject);
     }
@@ -529,6 +671,9 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
     @Override
     public Stream<OWLSubClassOfAxiom> listOWLSubClassOfAxiomsBySubject(OWLClass subject) {
         InternalConfig config = getConfig();
+        if (useReferencingAxiomsIndex(OWLComponentType.CLASS, config)) {
+            return selectIndexedAxioms(subject, OWLSubClassOfAxiom.class, x -> subject.equals(x.getSubClass()));
+        }
         if (!useAxiomsSearchOptimization(config)) {
             return ListAxioms.super.listOWLSubClassOfAxiomsBySubject(subject);
         }
@@ -552,6 +697,9 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
     @Override
     public Stream<OWLDisjointClassesAxiom> listOWLDisjointClassesAxioms(OWLClass clazz) {
         InternalConfig config = getConfig();
+        if (useReferencingAxiomsIndex(OWLComponentType.CLASS, config)) {
+            return selectIndexedAxioms(clazz, OWLDisjointClassesAxiom.class, x -> x.operands().anyMatch(clazz::equals));
+        }
         // bad performance of the graph-reading way if
         // there is a []-list with many disjoint classes (i.e. owl:AllDisjointClasses) =>
         // it is faster to use parsing of cached axioms (i.e. a classic way), if the cache is present
@@ -562,6 +710,14 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         return listOWLNaryAxiomAxiomsByOperand(OWLDisjointClassesAxiom.class, clazz);
     }
 
+    @Override
+    public Stream<OWLDisjointUnionAxiom> listOWLDisjointUnionAxioms(OWLClass subject) {
+        if (useReferencingAxiomsIndex(OWLComponentType.CLASS, getConfig())) {
+            return selectIndexedAxioms(subject, OWLDisjointUnionAxiom.class, x -> subject.equals(x.getOWLClass()));
+        }
+        return ListAxioms.super.listOWLDisjointUnionAxioms(subject);
+    }
+
     /**
      * Lists {@link OWLNaryAxiom N-Ary Axiom}s by the given {@link OWLObject} operand.
      *
@@ -579,6 +735,10 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
                                                                            Class<A> type,
                                                                            ByObjectSearcher<A, K> searcher) {
         InternalConfig config = getConfig();
+        if (operand instanceof OWLPrimitive
+                && useReferencingAxiomsIndex(OWLComponentType.get((OWLPrimitive) operand), config)) {
+            return selectIndexedAxioms((OWLPrimitive) operand, type, x -> x.operands().anyMatch(operand::equals));
+        }
         if (!useAxiomsSearchOptimization(config)) {
             return listOWLNaryAxiomAxiomsByOperand(type, operand);
         }
@@ -613,34 +773,65 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
     public Stream<OWLAxiom> listOWLAxioms(OWLPrimitive primitive) {
         OWLComponentType filter = OWLComponentType.get(primitive);
         InternalConfig config = getConfig();
-        if (useReferencingAxiomsSearchOptimization(filter, config)) {
-            ExtendedIterator<ONTObject<OWLAxiom>> res;
-            OntModel model = getSearchModel();
-            ModelObjectFactory factory = getObjectFactory();
-            if (filter == OWLComponentType.IRI) {
-                res = byIRI.listONTAxioms((IRI) primitive, model, factory, config);
-            } else if (filter == OWLComponentType.CLASS) {
-                res = byClass.listONTAxioms((OWLClass) primitive, model, factory, config);
-            } else if (filter == OWLComponentType.NAMED_OBJECT_PROPERTY) {
-                res = byObjectProperty.listONTAxioms((OWLObjectProperty) primitive, model, factory, config);
-            } else if (filter == OWLComponentType.ANNOTATION_PROPERTY) {
-                res = byAnnotationProperty.listONTAxioms((OWLAnnotationProperty) primitive, model, factory, config);
-            } else if (filter == OWLComponentType.DATATYPE_PROPERTY) {
-                res = byDataProperty.listONTAxioms((OWLDataProperty) primitive, model, factory, config);
-            } else if (filter == OWLComponentType.NAMED_INDIVIDUAL) {
-                res = byNamedIndividual.listONTAxioms((OWLNamedIndividual) primitive, model, factory, config);
-            } else if (filter == OWLComponentType.DATATYPE) {
-                res = byDatatype.listONTAxioms((OWLDatatype) primitive, model, factory, config);
-            } else if (filter == OWLComponentType.LITERAL) {
-                res = byLiteral.listONTAxioms((OWLLiteral) primitive, model, factory, config);
-            } else if (filter == OWLComponentType.ANONYMOUS_INDIVIDUAL) {
-                res = byAnonymousIndividual.listONTAxioms((OWLAnonymousIndividual) primitive, model, factory, config);
-            } else {
-                throw new OntApiException.IllegalArgument("Wrong type: " + filter);
-            }
-            return ModelIterators.reduceDistinct(res.mapWith(ONTObject::getOWLObject), config);
+        if (useReferencingAxiomsIndex(filter, config)) {
+            return selectIndexedAxioms(primitive, OWLAxiom.class, x -> true);
+        }
+        ReferencingAxiomsPlanner.Decision decision = planReferencingAxiomsSearch(filter, config);
+        Stream<OWLAxiom> res = decision.getStrategy() == ReferencingAxiomsPlanner.Strategy.GRAPH ?
+                searchReferencingAxioms(filter, primitive, config) :
+                selectReferencingAxioms(filter, primitive, config);
+        return planner.observe(res, decision);
+    }
+
+    /**
+     * Finds all axioms that reference the given primitive using the graph-search optimization.
+     *
+     * @param filter    {@link OWLComponentType} of the primitive
+     * @param primitive {@link OWLPrimitive}
+     * @param config    {@link InternalConfig}
+     * @return {@code Stream} of {@link OWLAxiom}s
+     */
+    protected Stream<OWLAxiom> searchReferencingAxioms(OWLComponentType filter,
+                                                       OWLPrimitive primitive,
+                                                       InternalConfig config) {
+        ExtendedIterator<ONTObject<OWLAxiom>> res;
+        OntModel model = getSearchModel();
+        ModelObjectFactory factory = getObjectFactory();
+        if (filter == OWLComponentType.IRI) {
+            res = byIRI.listONTAxioms((IRI) primitive, model, factory, config);
+        } else if (filter == OWLComponentType.CLASS) {
+            res = byClass.listONTAxioms((OWLClass) primitive, model, factory, config);
+        } else if (filter == OWLComponentType.NAMED_OBJECT_PROPERTY) {
+            res = byObjectProperty.listONTAxioms((OWLObjectProperty) primitive, model, factory, config);
+        } else if (filter == OWLComponentType.ANNOTATION_PROPERTY) {
+            res = byAnnotationProperty.listONTAxioms((OWLAnnotationProperty) primitive, model, factory, config);
+        } else if (filter == OWLComponentType.DATATYPE_PROPERTY) {
+            res = byDataProperty.listONTAxioms((OWLDataProperty) primitive, model, factory, config);
+        } else if (filter == OWLComponentType.NAMED_INDIVIDUAL) {
+            res = byNamedIndividual.listONTAxioms((OWLNamedIndividual) primitive, model, factory, config);
+        } else if (filter == OWLComponentType.DATATYPE) {
+            res = byDatatype.listONTAxioms((OWLDatatype) primitive, model, factory, config);
+        } else if (filter == OWLComponentType.LITERAL) {
+            res = byLiteral.listONTAxioms((OWLLiteral) primitive, model, factory, config);
+        } else if (filter == OWLComponentType.ANONYMOUS_INDIVIDUAL) {
+            res = byAnonymousIndividual.listONTAxioms((OWLAnonymousIndividual) primitive, model, factory, config);
+        } else {
+            throw new OntApiException.IllegalArgument("Wrong type: " + filter);
         }
-        // the default way:
+        return ModelIterators.reduceDistinct(res.mapWith(ONTObject::getOWLObject), config);
+    }
+
+    /**
+     * Selects all axioms that reference the given primitive from the content cache.
+     *
+     * @param filter    {@link OWLComponentType} of the primitive
+     * @param primitive {@link OWLPrimitive}
+     * @param config    {@link InternalConfig}
+     * @return {@code Stream} of {@link OWLAxiom}s
+     */
+    protected Stream<OWLAxiom> selectReferencingAxioms(OWLComponentType filter,
+                                                       OWLPrimitive primitive,
+                                                       InternalConfig config) {
         if (OWLTopObjectType.ANNOTATION.hasComponent(filter)) {
             // is type of annotation -> any axiom may contain the primitive
             return ModelIterators.reduce(OWLTopObjectType.axioms().flatMap(k -> {
@@ -654,51 +845,159 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
                 k -> k.keys().filter(x -> filter.contains(x, primitive)), config);
     }
 
+    /**
+     * Selects the axioms of the given type that reference the given primitive from the {@link #referencing index}.
+     * The result is a snapshot, so the model can be modified while the returned stream is being processed.
+     *
+     * @param primitive {@link OWLPrimitive} - entity, literal or anonymous individual, not {@code null}
+     * @param type      {@code Class}-type of {@link A}, not {@code null}
+     * @param filter    {@code Predicate} to test the selected axioms, not {@code null}
+     * @param <A>       subtype of {@link OWLAxiom}
+     * @return {@code Stream} of {@link A}s
+     */
+    protected <A extends OWLAxiom> Stream<A> selectIndexedAxioms(OWLPrimitive primitive,
+                                                                 Class<A> type,
+                                                                 Predicate<? super A> filter) {
+        Set<OWLAxiom> axioms = referencing.get(this).get(primitive);
+        if (axioms == null) {
+            return Stream.empty();
+        }
+        List<A> res = new ArrayList<>(axioms.size());
+        for (OWLAxiom a : axioms) {
+            if (!type.isInstance(a)) {
+                continue;
+            }
+            A x = type.cast(a);
+            if (filter.test(x)) {
+                res.add(x);
+            }
+        }
+        return res.stream();
+    }
+
+    /**
+     * Answers {@code true} if the {@link #referencing inverted index} can be used to find axioms by a primitive.
+     * IRIs are not indexed, since each of them may correspond to several entities.
+     *
+     * @param type   {@link OWLComponentType}
+     * @param config {@link InternalConfig}
+     * @return {@code boolean}
+     * @see InternalConfig#isIndexReferencingAxioms()
+     */
+    protected boolean useReferencingAxiomsIndex(OWLComponentType type, InternalConfig config) {
+        return config.isIndexReferencingAxioms() && config.useContentCache() && type != OWLComponentType.IRI;
+    }
+
+    /**
+     * Builds the {@link #referencing inverted index} from the whole content cache.
+     *
+     * @return a {@code Map} with {@link OWLPrimitive}s as keys and non-empty {@code Set}s of {@link OWLAxiom}s as values
+     */
+    protected Map<OWLPrimitive, Set<OWLAxiom>> loadReferencingIndex() {
+        warmUpContentCaches();
+        Map<OWLPrimitive, Set<OWLAxiom>> res = new HashMap<>();
+        filteredAxiomsCaches(OWLTopObjectType.axioms()).forEach(m -> m.keys().forEach(x -> indexAxiom(res, x)));
+        return res;
+    }
+
+    /**
+     * Puts the given axiom into the inverted index under each of its primitives.
+     *
+     * @param index {@code Map}, the index, not {@code null}
+     * @param axiom {@link OWLAxiom}, not {@code null}
+     * @see #loadReferencingIndex()
+     */
+    protected static void indexAxiom(Map<OWLPrimitive, Set<OWLAxiom>> index, OWLAxiom axiom) {
+        indexKeys(axiom).forEach(x -> index.computeIfAbsent(x, k -> new HashSet<>()).add(axiom));
+    }
+
+    /**
+     * Removes the given axiom from the inverted index.
+     *
+     * @param index {@code Map}, the index, not {@code null}
+     * @param axiom {@link OWLAxiom}, not {@code null}
+     * @see #indexAxiom(Map, OWLAxiom)
+     */
+    protected static void unindexAxiom(Map<OWLPrimitive, Set<OWLAxiom>> index, OWLAxiom axiom) {
+        indexKeys(axiom).forEach(x -> index.computeIfPresent(x, (k, v) -> v.remove(axiom) && v.isEmpty() ? null : v));
+    }
+
+    /**
+     * Lists all primitives (entities, literals and anonymous individuals) of the given axiom, which are index keys.
+     *
+     * @param axiom {@link OWLAxiom}, not {@code null}
+     * @return distinct {@code Stream} of {@link OWLPrimitive}s
+     */
+    protected static Stream<OWLPrimitive> indexKeys(OWLAxiom axiom) {
+        return Stream.of(axiom.signature(), axiom.anonymousIndividuals(), OWLComponentType.LITERAL.select(axiom))
+                .flatMap(Function.identity()).map(OWLPrimitive.class::cast).distinct();
+    }
+
     /**
      * Answers {@code true} if the graph optimization for referencing axioms functionality is allowed and makes sense.
+     * Unlike {@link #planReferencingAxiomsSearch(OWLComponentType, InternalConfig)}, this is a pure query,
+     * which does not change the statistics of the {@link #planner}.
      *
      * @param type   {@link OWLComponentType}
      * @param config {@link InternalConfig}
      * @return {@code boolean}
      * @see #useAxiomsSearchOptimization(InternalConfig)
+     * @see #planReferencingAxiomsSearch(OWLComponentType, InternalConfig)
      */
     protected boolean useReferencingAxiomsSearchOptimization(OWLComponentType type, InternalConfig config) {
+        ReferencingAxiomsPlanner.Strategy res = getFixedReferencingAxiomsStrategy(config);
+        if (res == null) {
+            res = planner.peek(type, this::getOWLAxiomCount);
+        }
+        return res == ReferencingAxiomsPlanner.Strategy.GRAPH;
+    }
+
+    /**
+     * Decides which way to use to find referencing axioms: the graph-search optimization or the cache traversal.
+     * If the content cache is disabled, not loaded yet, or contains manually added axioms,
+     * the choice is strict; otherwise it is delegated to the {@link #planner}.
+     *
+     * @param type   {@link OWLComponentType}
+     * @param config {@link InternalConfig}
+     * @return {@link ReferencingAxiomsPlanner.Decision}
+     */
+    protected ReferencingAxiomsPlanner.Decision planReferencingAxiomsSearch(OWLComponentType type,
+                                                                            InternalConfig config) {
+        ReferencingAxiomsPlanner.Strategy res = getFixedReferencingAxiomsStrategy(config);
+        return res != null ? planner.fixed(type, res) : planner.choose(type, this::getOWLAxiomCount);
+    }
+
+    /**
+     * Answers the strict way to find referencing axioms, if there is no choice.
+     *
+     * @param config {@link InternalConfig}
+     * @return {@link ReferencingAxiomsPlanner.Strategy} or {@code null} if the choice should be made by the planner
+     */
+    protected ReferencingAxiomsPlanner.Strategy getFixedReferencingAxiomsStrategy(InternalConfig config) {
         if (!config.useContentCache()) {
             // no cache at all -> always use the graph way
-            return true;
+            return ReferencingAxiomsPlanner.Strategy.GRAPH;
         }
         if (hasManuallyAddedAxioms()) {
             // manually added axioms cannot be derived from the graph
-            return false;
+            return ReferencingAxiomsPlanner.Strategy.CACHE;
         }
         // if cache is loaded - decide which way to use:
         // either the graph-optimization way or straightforward cache parsing
         if (contentCaches().allMatch(ObjectMap::isLoaded)) {
-            // The empirical founded threshold (right now I do not see a better solution)
-            // (for small ontologies it is better to use cache traversing instead of graph searching)
-            long threshold = -1;
-            if (type == OWLComponentType.DATATYPE) {
-                // the graph-optimized-way has usually worse performance in comparison with the classic cache parsing
-                // maybe it is because there are usually only a few owl-datatypes, but many theirs entrances;
-                return false;
-            } else if (type == OWLComponentType.CLASS) {
-                threshold = 200;
-            } else if (type == OWLComponentType.NAMED_OBJECT_PROPERTY) {
-                threshold = 2000;
-            } else if (type == OWLComponentType.ANNOTATION_PROPERTY) {
-                threshold = 2000;
-            } else if (type == OWLComponentType.DATATYPE_PROPERTY) {
-                threshold = 100;
-            } else if (type == OWLComponentType.NAMED_INDIVIDUAL) {
-                // the graph-way is usually faster, especially for big ontologies,
-                // but it may be not true in case of special complexity (e.g. with owl:AllDifferent)
-                threshold = 3000;
-            }
-            // for IRI graph optimization is always faster
-            // for literals and anonymous individuals too
-            return getOWLAxiomCount() >= threshold;
+            return null;
         }
-        return true;
+        return ReferencingAxiomsPlanner.Strategy.GRAPH;
+    }
+
+    /**
+     * Returns the planner that chooses the way to search referencing axioms.
+     * Its decisions can be used for debugging.
+     *
+     * @return {@link ReferencingAxiomsPlanner}
+     */
+    public ReferencingAxiomsPlanner getReferencingAxiomsPlanner() {
+        return planner;
     }
 
     /**
@@ -714,6 +1013,7 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
     }
 
     public Stream<OWLAxiom> listOWLAxioms() {
+        warmUpContentCaches();
         return ModelIterators.flatMap(filteredAxiomsCaches(OWLTopObjectType.axioms()), ObjectMap::keys, getConfig());
     }
 
@@ -752,6 +1052,7 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
     }
 
     public long getOWLAxiomCount() {
+        warmUpContentCaches();
         return getContentStore().entrySet().stream()
                 .filter(x -> x.getKey().isAxiom())
                 .mapToLong(x -> x.getValue().count()).sum();
@@ -761,6 +1062,26 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         return getAxiomsCache(OWLTopObjectType.get(a.getAxiomType())).contains(a);
     }
 
+    /**
+     * Answers whether the given axiom is in the content cache without loading anything.
+     * The method has no side effects, and, if the base graph is a {@link VersionedGraph}
+     * and the model is concurrent, it can be called without locking:
+     * the caller must validate the answer then.
+     *
+     * @param a {@link OWLAxiom}, not {@code null}
+     * @return {@code Boolean} or {@code null} if the answer is unknown (e.g. the content cache is not loaded)
+     * @see CacheObjectMapImpl#containsIfLoaded(OWLObject)
+     */
+    @SuppressWarnings("unchecked")
+    public Boolean containsIfLoaded(OWLAxiom a) {
+        Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> store = content.getIfPresent(this);
+        if (store == null) {
+            return null;
+        }
+        ObjectMap<? extends OWLObject> res = store.get(OWLTopObjectType.get(a.getAxiomType()));
+        return res instanceof CacheObjectMapImpl ? ((CacheObjectMapImpl<OWLAxiom>) res).containsIfLoaded(a) : null;
+    }
+
     public boolean contains(OWLAnnotation a) {
         return getHeaderCache().contains(a);
     }
@@ -770,6 +1091,9 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         if (containsNoAnnotations(map)) {
             return map.contains(a.isAnnotated() ? a.getAxiomWithoutAnnotations() : a);
         }
+        if (map instanceof CacheObjectMapImpl) {
+            return ((CacheObjectMapImpl<OWLAxiom>) map).containsIgnoreAnnotations(a);
+        }
         return map.contains(a) ||
                 (a.isAnnotated() && map.contains(a = a.getAxiomWithoutAnnotations())) ||
                 map.keys().anyMatch(a::equalsIgnoreAnnotations);
@@ -1078,6 +1402,152 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         return getContentStore().values().stream();
     }
 
+    /**
+     * Loads all axiom buckets at once, if the {@link InternalConfig#useContentCache() content cache} is enabled.
+     * Otherwise, does nothing.
+     * It is used by the operations that need all the axioms anyway:
+     * it is faster to load all buckets together than one by one.
+     *
+     * @see #loadContentCaches(Stream)
+     */
+    protected void warmUpContentCaches() {
+        if (getConfig().useContentCache()) {
+            loadContentCaches(OWLTopObjectType.axioms());
+        }
+    }
+
+    /**
+     * Loads all content buckets that are not loaded yet.
+     *
+     * @throws OntApiException if some bucket cannot be loaded
+     * @see #loadContentCaches(Stream)
+     */
+    protected void loadContentCaches() throws OntApiException {
+        loadContentCaches(OWLTopObjectType.all());
+    }
+
+    /**
+     * Loads the specified content buckets that are not loaded yet.
+     * If {@link InternalConfig#useParallelContentCacheLoading() parallel loading} is enabled,
+     * the buckets are loaded concurrently on a dedicated {@link ForkJoinPool}.
+     * Since the buckets are independent of each other, each loading task gets its own
+     * {@link SearchModel search model} and {@link ModelObjectFactory object factory},
+     * which are confined to the task thread.
+     * Otherwise, all axiom buckets are filled in a single pass over the base graph,
+     * see {@link AxiomsDispatcher}.
+     * The graph must not be changed during the operation,
+     * it is expected that the caller holds a read (or write) lock, if the model is used in a concurrent environment.
+     *
+     * @param types {@code Stream} of {@link OWLTopObjectType}s, not {@code null}
+     * @throws OntApiException if some bucket cannot be loaded
+     */
+    protected void loadContentCaches(Stream<OWLTopObjectType> types) throws OntApiException {
+        Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> store = getContentStore();
+        List<OWLTopObjectType> keys = types.filter(x -> !store.get(x).isLoaded()).collect(Collectors.toList());
+        InternalConfig conf = getConfig();
+        int parallelism = Math.min(keys.size(), conf.useParallelContentCacheLoading() ?
+                conf.getContentCacheLoadParallelism() : 1);
+        if (parallelism < 2) {
+            loadContentCaches(store, keys, conf);
+            return;
+        }
+        DataFactory df = getDataFactory();
+        List<Callable<Void>> tasks = new ArrayList<>(keys.size());
+        keys.forEach(k -> tasks.add(() -> {
+            loadContentCache(k, store.get(k), conf, df);
+            return null;
+        }));
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<Void> f : pool.invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OntApiException("Interrupted while loading the content cache", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new OntApiException("Unable to load the content cache", cause);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Loads the specified content buckets in the current thread.
+     * All axiom buckets are filled in a single pass over the base graph,
+     * the rest (i.e. the ontology header) are loaded as usual.
+     *
+     * @param store {@code Map} of {@link ObjectMap}s, not {@code null}
+     * @param keys  {@code Collection} of {@link OWLTopObjectType}s to load, not {@code null}
+     * @param conf  {@link InternalConfig}, not {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    private void loadContentCaches(Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> store,
+                                   Collection<OWLTopObjectType> keys,
+                                   InternalConfig conf) {
+        Set<OWLTopObjectType> axioms = EnumSet.noneOf(OWLTopObjectType.class);
+        keys.forEach(k -> {
+            ObjectMap<? extends OWLObject> map = store.get(k);
+            if (k.isAxiom() && map instanceof CacheObjectMapImpl) {
+                axioms.add(k);
+            } else {
+                map.load();
+            }
+        });
+        if (axioms.isEmpty()) {
+            return;
+        }
+        if (axioms.size() == 1) { // nothing to share
+            store.get(axioms.iterator().next()).load();
+            return;
+        }
+        // the buckets are filled directly while scanning the graph
+        Map<OWLTopObjectType, CacheObjectMapImpl<OWLAxiom>.Loader> loaders = new EnumMap<>(OWLTopObjectType.class);
+        axioms.forEach(k -> loaders.put(k, ((CacheObjectMapImpl<OWLAxiom>) store.get(k)).createLoader()));
+        AxiomsDispatcher.get().read(axioms, getSearchModel(), getObjectFactory(), conf,
+                (k, v) -> loaders.get(k).add(v));
+        loaders.values().forEach(CacheObjectMapImpl.Loader::finish);
+    }
+
+    /**
+     * Loads the given bucket using a fresh search model and a fresh object factory.
+     * While loading (including merging of duplicates), the created {@link ONTObject}s
+     * are bound to the task's own search model, since the shared one is not thread-safe;
+     * after that they are switched to the {@link #getSearchModel() shared search model} as usual.
+     *
+     * @param key  {@link OWLTopObjectType}, not {@code null}
+     * @param map  {@link ObjectMap} that corresponds to the {@code key}, not {@code null}
+     * @param conf {@link InternalConfig}, not {@code null}
+     * @param df   {@link DataFactory}, not {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    private void loadContentCache(OWLTopObjectType key,
+                                  ObjectMap<? extends OWLObject> map,
+                                  InternalConfig conf,
+                                  DataFactory df) {
+        if (!(map instanceof CacheObjectMapImpl)) {
+            map.load();
+            return;
+        }
+        ObjectsSearcher<OWLObject> searcher = key.getSearcher();
+        AtomicReference<OntModel> local = new AtomicReference<>();
+        // the manager's caches are not shared here, since they may be not thread-safe
+        ModelObjectFactory factory = createObjectFactory(df, null, () -> {
+            OntModel res = local.get();
+            return res != null ? res : getSearchModel();
+        });
+        local.set(createSearchModel(conf, () -> factory));
+        try {
+            ((CacheObjectMapImpl<OWLObject>) map).load(() -> searcher.listONTObjects(local.get(), factory, conf));
+        } finally {
+            local.set(null);
+        }
+    }
+
     /**
      * Creates a content store {@code Map}.
      *
@@ -1098,23 +1568,42 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
     protected ObjectMap<OWLObject> createContentObjectMap(OWLTopObjectType key) {
         ObjectsSearcher<OWLObject> searcher = key.getSearcher();
         InternalConfig conf = getConfig();
+        if (conf.useContentStream()) {
+            return new StreamObjectMapImpl<>(toLoader(searcher), toFinder(searcher), toTester(searcher),
+                    key.isDistinct());
+        }
         if (!conf.useContentCache()) {
             return new DirectObjectMapImpl<>(toLoader(searcher), toFinder(searcher), toTester(searcher));
         }
         boolean parallel = conf.parallel();
         boolean fastIterator = conf.useIteratorCache();
+        // the graph can be read concurrently with a writer, so the cache should be too:
+        boolean concurrentReads = parallel && getBaseGraph() instanceof VersionedGraph;
         boolean withMerge = !key.isDistinct();
-        if (!LOGGER.isDebugEnabled()) {
-            return new CacheObjectMapImpl<>(toLoader(searcher), withMerge, parallel, fastIterator);
+        boolean debug = LOGGER.isDebugEnabled();
+        boolean withMetrics = conf.isCollectCacheMetrics();
+        if (!debug && !withMetrics) {
+            return new CacheObjectMapImpl<>(toLoader(searcher), withMerge, parallel, fastIterator, concurrentReads);
         }
         OntID id = getID();
-        return new CacheObjectMapImpl<>(toLoader(searcher), withMerge, parallel, fastIterator) {
+        return new CacheObjectMapImpl<>(toLoader(searcher), withMerge, parallel, fastIterator, concurrentReads) {
+            @Override
+            protected CachedMap<OWLObject, ONTObject<OWLObject>> getMap() {
+                if (withMetrics && isLoaded()) {
+                    metrics.hit(InternalMetrics.Kind.CONTENT);
+                }
+                return super.getMap();
+            }
+
             @Override
-            protected CachedMap<OWLObject, ONTObject<OWLObject>> loadMap() {
-                Instant start = Instant.now();
-                CachedMap<OWLObject, ONTObject<OWLObject>> res = super.loadMap();
-                Duration d = Duration.between(start, Instant.now());
-                if (res.size() == 0) return res;
+            protected CachedMap<OWLObject, ONTObject<OWLObject>> loadMap(Loader loader) {
+                CachedMap<OWLObject, ONTObject<OWLObject>> res = super.loadMap(loader);
+                Duration d = Duration.ofNanos(loader.getElapsedTime());
+                if (withMetrics) {
+                    metrics.miss(InternalMetrics.Kind.CONTENT);
+                    metrics.load(key, d.toNanos());
+                }
+                if (!debug || res.size() == 0) return res;
                 // commons-lang3 is included in jena-arq (3.6.0)
                 LOGGER.debug("[{}]{}:::{}{}", id,
                         StringUtils.rightPad("[" + key + "]", 42),
@@ -0,0 +1,227 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.internal;
+
+import org.apache.jena.graph.Node;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A compact node-type classification table shared between several node caches.
+ * Each registered type gets its own index,
+ * and for each {@link Node} the table keeps two bits per type:
+ * whether the node has already been tested against the type and whether it can be viewed as that type.
+ * So, instead of a separate {@code Node -> Boolean} map for each type,
+ * there is only one entry per node, which contains the answers for all types.
+ * The table is not bounded and, therefore, can cover the whole graph:
+ * each type recognition is performed only once for a node, any subsequent check is a bit lookup.
+ * The table is filled lazily, on the first check of a node, not in one pass while loading,
+ * since such a pass would have to test every node against every type, including those that are never queried.
+ * The table is thread-safe: the two bits of a type lie in the same word, which is updated atomically in place.
+ * The number of tested nodes is maintained for each type, so the size of each per-type view is known at once.
+ *
+ * @see com.github.owlcs.ontapi.config.CacheSettings#isClassifyNodes()
+ */
+public class NodeClassifier {
+    private static final long KNOWN = 1;
+    private static final long VALUE = 2;
+    private static final int TYPES_PER_WORD = 32;
+
+    private final Map<Node, AtomicLongArray> table = new ConcurrentHashMap<>();
+    private final List<?> types;
+    private final LongAdder[] counts;
+    private final int words;
+
+    /**
+     * Creates a classifier for the given types.
+     *
+     * @param types {@code List} of types (e.g. {@code Class}es), not {@code null}, without duplicates
+     */
+    public NodeClassifier(List<?> types) {
+        this.types = List.copyOf(Objects.requireNonNull(types));
+        this.words = Math.max(1, (this.types.size() + TYPES_PER_WORD - 1) / TYPES_PER_WORD);
+        this.counts = new LongAdder[this.types.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    private static int shift(int index) {
+        return (index % TYPES_PER_WORD) << 1;
+    }
+
+    /**
+     * Answers the index of the given type.
+     *
+     * @param type {@code Object}, not {@code null}
+     * @return int
+     * @throws IllegalArgumentException if the type is not registered
+     */
+    protected int index(Object type) {
+        int res = types.indexOf(type);
+        if (res < 0) {
+            throw new IllegalArgumentException("Unknown type " + type);
+        }
+        return res;
+    }
+
+    /**
+     * Answers the result of the classification of the node with respect to the type with the given index.
+     *
+     * @param node  {@link Node}, not {@code null}
+     * @param index int, the type index
+     * @return {@code Boolean} or {@code null} if the node has not been tested yet
+     */
+    protected Boolean test(Node node, int index) {
+        AtomicLongArray bits = table.get(node);
+        if (bits == null) return null;
+        long res = bits.get(index / TYPES_PER_WORD) >>> shift(index);
+        if ((res & KNOWN) == 0) return null;
+        return (res & VALUE) != 0;
+    }
+
+    /**
+     * Records the result of the classification of the node with respect to the type with the given index.
+     *
+     * @param node  {@link Node}, not {@code null}
+     * @param index int, the type index
+     * @param value boolean
+     */
+    protected void mark(Node node, int index, boolean value) {
+        AtomicLongArray bits = table.computeIfAbsent(node, x -> new AtomicLongArray(words));
+        if ((update(bits, index, value ? KNOWN | VALUE : KNOWN) & KNOWN) == 0) {
+            counts[index].increment();
+        }
+    }
+
+    /**
+     * Discards the classification of the node with respect to the type with the given index.
+     *
+     * @param node  {@link Node}, not {@code null}
+     * @param index int, the type index
+     */
+    protected void unmark(Node node, int index) {
+        AtomicLongArray bits = table.get(node);
+        if (bits == null) return;
+        if ((update(bits, index, 0) & KNOWN) != 0) {
+            counts[index].decrement();
+        }
+    }
+
+    /**
+     * Atomically replaces the two bits of the type with the given index.
+     *
+     * @param bits  {@link AtomicLongArray}, not {@code null}
+     * @param index int, the type index
+     * @param value long, the new bits
+     * @return long, the previous bits
+     */
+    private static long update(AtomicLongArray bits, int index, long value) {
+        int i = index / TYPES_PER_WORD;
+        int shift = shift(index);
+        long mask = (KNOWN | VALUE) << shift;
+        long prev;
+        do {
+            prev = bits.get(i);
+        } while (!bits.compareAndSet(i, prev, (prev & ~mask) | (value << shift)));
+        return prev >>> shift;
+    }
+
+    /**
+     * Discards the classification of all nodes with respect to the type with the given index.
+     * Note: this operation traverses the whole table.
+     *
+     * @param index int, the type index
+     */
+    protected void unmarkAll(int index) {
+        table.keySet().forEach(n -> unmark(n, index));
+    }
+
+    /**
+     * Answers the number of the nodes that have been tested against the type with the given index.
+     *
+     * @param index int, the type index
+     * @return long
+     */
+    protected long count(int index) {
+        return counts[index].sum();
+    }
+
+    /**
+     * Answers the number of classified nodes.
+     *
+     * @return long
+     */
+    public long size() {
+        return table.size();
+    }
+
+    /**
+     * Discards the whole classification.
+     */
+    public void clear() {
+        table.clear();
+        for (LongAdder c : counts) {
+            c.reset();
+        }
+    }
+
+    /**
+     * Represents the classification for the given type as a {@code Node -> Boolean} cache,
+     * which can be used in place of a separate per-type cache.
+     *
+     * @param type {@code Object}, a registered type, not {@code null}
+     * @return {@link InternalCache}
+     */
+    public InternalCache<Node, Boolean> asCache(Object type) {
+        int index = index(type);
+        return new InternalCache<>() {
+            @Override
+            public void put(Node key, Boolean value) {
+                mark(key, index, value);
+            }
+
+            @Override
+            public Boolean get(Node key) {
+                return test(key, index);
+            }
+
+            @Override
+            public void remove(Node key) {
+                unmark(key, index);
+            }
+
+            @Override
+            public void clear() {
+                unmarkAll(index);
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return count(index) == 0;
+            }
+
+            @Override
+            public long size() {
+                return count(index);
+            }
+        };
+    }
+}
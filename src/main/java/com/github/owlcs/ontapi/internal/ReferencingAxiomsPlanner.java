@@ -0,0 +1,397 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.internal;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A simple adaptive planner to choose the way to search referencing axioms
+ * (see {@link InternalModel#listOWLAxioms(org.semanticweb.owlapi.model.OWLPrimitive)}):
+ * either the graph-search using {@link ByObjectSearcher}s, or the traversal of the loaded content cache.
+ * <p>
+ * For each {@link OWLComponentType} the planner keeps the number of queries and
+ * an exponentially weighted moving average of the observed latency of each {@link Strategy}.
+ * The latency of a query is the time spent inside the result stream to search the axioms,
+ * the time of the consumer's actions is not taken into account.
+ * The sample is recorded only when the stream is exhausted;
+ * a stream that is closed or abandoned before (e.g. after a short-circuit operation) gives no sample,
+ * since its partial time says nothing about the cost of the whole search.
+ * Until there are enough samples for both strategies, the choice is made by the empirical thresholds
+ * that are compared with the total number of axioms (see {@link #prior(OWLComponentType, long)}),
+ * and the other strategy is tried from time to time to collect samples.
+ * After that, the strategy with the lower average latency is chosen,
+ * while the other one is still periodically probed to notice changes.
+ * The last decision for each type is available via {@link #getDecision(OWLComponentType)} for debugging.
+ */
+public class ReferencingAxiomsPlanner {
+    /**
+     * The minimal number of samples for a strategy to trust its average latency.
+     */
+    static final int MIN_SAMPLES = 3;
+    /**
+     * During the warm-up each query with this period tries the strategy that lacks samples.
+     */
+    static final int WARM_UP_PERIOD = 8;
+    /**
+     * After the warm-up each query with this period tries the strategy which is considered the worst.
+     */
+    static final int EXPLORE_PERIOD = 64;
+    /**
+     * The smoothing factor for the moving averages.
+     */
+    static final double ALPHA = 0.2;
+
+    private final Stats[] stats = new Stats[OWLComponentType.values().length];
+
+    public ReferencingAxiomsPlanner() {
+        for (OWLComponentType t : OWLComponentType.values()) {
+            stats[t.ordinal()] = new Stats();
+        }
+    }
+
+    /**
+     * Answers the empirical strategy for the given type, which is based on the total number of axioms.
+     * For small ontologies it is better to use cache traversing instead of graph searching.
+     *
+     * @param type   {@link OWLComponentType}, not {@code null}
+     * @param axioms long, the number of axioms in the model
+     * @return {@link Strategy}
+     */
+    public static Strategy prior(OWLComponentType type, long axioms) {
+        long threshold;
+        switch (type) {
+            case DATATYPE:
+                // the graph-optimized-way has usually worse performance in comparison with the classic cache parsing
+                // maybe it is because there are usually only a few owl-datatypes, but many theirs entrances;
+                return Strategy.CACHE;
+            case CLASS:
+                threshold = 200;
+                break;
+            case NAMED_OBJECT_PROPERTY:
+            case ANNOTATION_PROPERTY:
+                threshold = 2000;
+                break;
+            case DATATYPE_PROPERTY:
+                threshold = 100;
+                break;
+            case NAMED_INDIVIDUAL:
+                // the graph-way is usually faster, especially for big ontologies,
+                // but it may be not true in case of special complexity (e.g. with owl:AllDifferent)
+                threshold = 3000;
+                break;
+            default:
+                // for IRI graph optimization is always faster
+                // for literals and anonymous individuals too
+                return Strategy.GRAPH;
+        }
+        return axioms >= threshold ? Strategy.GRAPH : Strategy.CACHE;
+    }
+
+    /**
+     * Chooses the strategy for the next query of the given type.
+     *
+     * @param type   {@link OWLComponentType}, not {@code null}
+     * @param axioms {@link LongSupplier} to get the number of axioms if needed, not {@code null}
+     * @return {@link Decision}
+     */
+    public Decision choose(OWLComponentType type, LongSupplier axioms) {
+        Stats s = stats[type.ordinal()];
+        synchronized (s) {
+            long query = ++s.queries;
+            Strategy best;
+            Reason reason;
+            if (s.samples[0] >= MIN_SAMPLES && s.samples[1] >= MIN_SAMPLES) {
+                best = s.averages[Strategy.GRAPH.ordinal()] <= s.averages[Strategy.CACHE.ordinal()] ?
+                        Strategy.GRAPH : Strategy.CACHE;
+                reason = Reason.MEASURED;
+                if (query % EXPLORE_PERIOD == 0) {
+                    best = best.other();
+                    reason = Reason.EXPLORE;
+                }
+            } else {
+                best = prior(type, axioms.getAsLong());
+                reason = Reason.PRIOR;
+                if (query % WARM_UP_PERIOD == 0 && s.samples[best.other().ordinal()] < MIN_SAMPLES) {
+                    best = best.other();
+                    reason = Reason.EXPLORE;
+                }
+            }
+            return s.last = new Decision(type, best, reason, s.averages.clone(), s.samples.clone());
+        }
+    }
+
+    /**
+     * Answers the strategy that is currently considered the best for the given type.
+     * Unlike {@link #choose(OWLComponentType, LongSupplier)} this method has no side effects:
+     * it does not count the query, does not explore and does not remember the decision.
+     *
+     * @param type   {@link OWLComponentType}, not {@code null}
+     * @param axioms {@link LongSupplier} to get the number of axioms if needed, not {@code null}
+     * @return {@link Strategy}
+     */
+    public Strategy peek(OWLComponentType type, LongSupplier axioms) {
+        Stats s = stats[type.ordinal()];
+        synchronized (s) {
+            if (s.samples[0] >= MIN_SAMPLES && s.samples[1] >= MIN_SAMPLES) {
+                return s.averages[Strategy.GRAPH.ordinal()] <= s.averages[Strategy.CACHE.ordinal()] ?
+                        Strategy.GRAPH : Strategy.CACHE;
+            }
+        }
+        return prior(type, axioms.getAsLong());
+    }
+
+    /**
+     * Records a decision, which is made not by this planner, but by a strict rule
+     * (e.g. when the content cache is disabled or not loaded yet).
+     *
+     * @param type     {@link OWLComponentType}, not {@code null}
+     * @param strategy {@link Strategy}, not {@code null}
+     * @return {@link Decision}
+     */
+    public Decision fixed(OWLComponentType type, Strategy strategy) {
+        Stats s = stats[type.ordinal()];
+        synchronized (s) {
+            return s.last = new Decision(type, strategy, Reason.FIXED, s.averages.clone(), s.samples.clone());
+        }
+    }
+
+    /**
+     * Registers the observed latency of the strategy.
+     *
+     * @param type     {@link OWLComponentType}, not {@code null}
+     * @param strategy {@link Strategy}, not {@code null}
+     * @param nanos    long, the latency in nanoseconds
+     */
+    public void record(OWLComponentType type, Strategy strategy, long nanos) {
+        Stats s = stats[type.ordinal()];
+        int i = strategy.ordinal();
+        synchronized (s) {
+            s.averages[i] = s.samples[i]++ == 0 ? nanos : ALPHA * nanos + (1 - ALPHA) * s.averages[i];
+        }
+    }
+
+    /**
+     * Wraps the given stream so that the time spent to search its elements is recorded when it is exhausted.
+     * Streams that are not exhausted are not recorded.
+     * Does nothing for {@link Reason#FIXED fixed} decisions.
+     *
+     * @param stream   {@code Stream}, not {@code null}
+     * @param decision {@link Decision}, not {@code null}
+     * @param <X>      anything
+     * @return {@code Stream}
+     */
+    public <X> Stream<X> observe(Stream<X> stream, Decision decision) {
+        if (decision.reason == Reason.FIXED) {
+            return stream;
+        }
+        Observer<X> res = new Observer<>(stream.spliterator(), decision);
+        return StreamSupport.stream(res, stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Returns the last decision made for the given type.
+     *
+     * @param type {@link OWLComponentType}, not {@code null}
+     * @return {@link Decision} or {@code null} if there were no queries of the given type
+     */
+    public Decision getDecision(OWLComponentType type) {
+        Stats s = stats[type.ordinal()];
+        synchronized (s) {
+            return s.last;
+        }
+    }
+
+    /**
+     * Forgets all the collected statistics.
+     */
+    public void reset() {
+        for (Stats s : stats) {
+            synchronized (s) {
+                s.queries = 0;
+                s.samples[0] = s.samples[1] = 0;
+                s.averages[0] = s.averages[1] = 0;
+                s.last = null;
+            }
+        }
+    }
+
+    /**
+     * The ways to find referencing axioms.
+     */
+    public enum Strategy {
+        /**
+         * To search in the graph using {@link ByObjectSearcher}s.
+         */
+        GRAPH,
+        /**
+         * To traverse the loaded content cache.
+         */
+        CACHE,
+        ;
+
+        Strategy other() {
+            return this == GRAPH ? CACHE : GRAPH;
+        }
+    }
+
+    /**
+     * The reasons for a decision.
+     */
+    public enum Reason {
+        /**
+         * The strategy is determined by a strict rule, the planner is not involved.
+         */
+        FIXED,
+        /**
+         * There are not enough samples yet, so the empirical thresholds are used.
+         */
+        PRIOR,
+        /**
+         * The strategy has the lowest average latency.
+         */
+        MEASURED,
+        /**
+         * The strategy is chosen to collect samples.
+         */
+        EXPLORE,
+    }
+
+    /**
+     * An immutable description of a decision, including the statistics on which it was based.
+     */
+    public static class Decision {
+        private final OWLComponentType type;
+        private final Strategy strategy;
+        private final Reason reason;
+        private final double[] averages;
+        private final long[] samples;
+
+        protected Decision(OWLComponentType type, Strategy strategy, Reason reason, double[] averages, long[] samples) {
+            this.type = Objects.requireNonNull(type);
+            this.strategy = Objects.requireNonNull(strategy);
+            this.reason = Objects.requireNonNull(reason);
+            this.averages = averages;
+            this.samples = samples;
+        }
+
+        public OWLComponentType getType() {
+            return type;
+        }
+
+        public Strategy getStrategy() {
+            return strategy;
+        }
+
+        public Reason getReason() {
+            return reason;
+        }
+
+        /**
+         * Returns the average latency of the given strategy at the moment of the decision.
+         *
+         * @param strategy {@link Strategy}, not {@code null}
+         * @return double, nanoseconds
+         */
+        public double getAverageLatency(Strategy strategy) {
+            return averages[strategy.ordinal()];
+        }
+
+        /**
+         * Returns the number of samples of the given strategy at the moment of the decision.
+         *
+         * @param strategy {@link Strategy}, not {@code null}
+         * @return long
+         */
+        public long getSamples(Strategy strategy) {
+            return samples[strategy.ordinal()];
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ENGLISH, "%s:%s(%s)[graph=%.0fns/%d, cache=%.0fns/%d]",
+                    type, strategy, reason,
+                    averages[Strategy.GRAPH.ordinal()], samples[Strategy.GRAPH.ordinal()],
+                    averages[Strategy.CACHE.ordinal()], samples[Strategy.CACHE.ordinal()]);
+        }
+    }
+
+    private static class Stats {
+        private final double[] averages = new double[2];
+        private final long[] samples = new long[2];
+        private long queries;
+        private Decision last;
+    }
+
+    /**
+     * A {@code Spliterator} that measures the time spent inside the source spliterator,
+     * excluding the time of the consumer's actions, and records it once the source is exhausted.
+     *
+     * @param <X> anything
+     */
+    private class Observer<X> extends Spliterators.AbstractSpliterator<X> {
+        private final Spliterator<X> from;
+        private final Decision decision;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile long spent;
+        private long mark;
+
+        private Observer(Spliterator<X> from, Decision decision) {
+            super(from.estimateSize(), from.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED));
+            this.from = from;
+            this.decision = decision;
+        }
+
+        private Consumer<X> wrap(Consumer<? super X> action) {
+            return x -> {
+                spent += System.nanoTime() - mark;
+                action.accept(x);
+                mark = System.nanoTime();
+            };
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super X> action) {
+            mark = System.nanoTime();
+            if (from.tryAdvance(wrap(action))) {
+                return true;
+            }
+            spent += System.nanoTime() - mark;
+            finish();
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super X> action) {
+            mark = System.nanoTime();
+            from.forEachRemaining(wrap(action));
+            spent += System.nanoTime() - mark;
+            finish();
+        }
+
+        private void finish() {
+            if (done.compareAndSet(false, true)) {
+                record(decision.type, decision.strategy, spent);
+            }
+        }
+    }
+}
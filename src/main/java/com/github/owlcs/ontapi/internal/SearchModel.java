@@ -81,7 +81,15 @@ public abstract class SearchModel extends OntGraphModelImpl implements HasObject
                           OntPersonality personality,
                           InternalConfig conf,
                           boolean withCache) {
-        super(graph, withCache ? cachedPersonality(personality, conf) : personality);
+        this(graph, personality, conf, withCache, null);
+    }
+
+    protected SearchModel(Graph graph,
+                          OntPersonality personality,
+                          InternalConfig conf,
+                          boolean withCache,
+                          InternalMetrics metrics) {
+        super(graph, withCache ? cachedPersonality(personality, conf, metrics) : personality);
         this.conf = Objects.requireNonNull(conf);
         this.personality = personality;
     }
@@ -109,16 +117,35 @@ public abstract class SearchModel extends OntGraphModelImpl implements HasObject
      * @return {@link OntPersonality}
      */
     public static OntPersonality cachedPersonality(OntPersonality from, InternalConfig conf) {
+        return cachedPersonality(from, conf, null);
+    }
+
+    /**
+     * Creates a {@link OntPersonality} with nodes cache inside, which accesses are registered in the given metrics.
+     *
+     * @param from    {@link OntPersonality} to inherit all settings
+     * @param conf    {@link InternalConfig} to get all control options
+     * @param metrics {@link InternalMetrics} to collect cache statistics, can be {@code null}
+     * @return {@link OntPersonality}
+     */
+    public static OntPersonality cachedPersonality(OntPersonality from, InternalConfig conf, InternalMetrics metrics) {
         if (!conf.useLoadNodesCache()) {
             throw new IllegalArgumentException("Negative cache size is specified");
         }
         int size = conf.getLoadNodesCacheSize();
         PersonalityBuilder res = PersonalityBuilder.from(from);
-        from.types(OntObject.class)
+        List<Class<? extends OntObject>> types = from.types(OntObject.class)
                 // do not cache SWRL.DArg (and, therefore, SWRL.Arg) since an instance of this type
                 // can be Literal with unpredictable length
                 .filter(x -> x != OntSWRL.DArg.class && x != OntSWRL.Arg.class)
-                .forEach(x -> CachedFactory.cache(res, from, x, size));
+                .collect(Collectors.toList());
+        if (conf.isClassifyNodes()) {
+            // one shared unbounded table for all types instead of a separate bounded cache for each type
+            NodeClassifier classifier = new NodeClassifier(types);
+            types.forEach(x -> CachedFactory.cache(res, from, x, classifier.asCache(x), metrics));
+        } else {
+            types.forEach(x -> CachedFactory.cache(res, from, x, size, metrics));
+        }
         return res.build();
     }
 
@@ -145,9 +172,23 @@ public abstract class SearchModel extends OntGraphModelImpl implements HasObject
             public ModelObjectFactory getObjectFactory() {
                 return SearchModel.this.getObjectFactory();
             }
+
+            @Override
+            public ContentArrayCache getContentArrayCache() {
+                return SearchModel.this.getContentArrayCache();
+            }
         };
     }
 
+    /**
+     * Returns the store for content arrays of the OWL objects, which are read through this model.
+     *
+     * @return {@link ContentArrayCache} or {@code null} if there is no store
+     */
+    public ContentArrayCache getContentArrayCache() {
+        return null;
+    }
+
     @Override
     public Set<Node> getSystemResources(Class<? extends OntObject> type) {
         return systemResources.computeIfAbsent(type, x -> super.getSystemResources(type));
@@ -217,28 +258,53 @@ public abstract class SearchModel extends OntGraphModelImpl implements HasObject
         private final InternalCache<Node, Boolean> canWrapCache;
 
         public CachedFactory(Class<? extends OntObject> type, ObjectFactory from, int limit, boolean parallel) {
+            this(type, from, InternalCache.createBounded(parallel, limit));
+        }
+
+        protected CachedFactory(Class<? extends OntObject> type, ObjectFactory from, InternalCache<Node, Boolean> cache) {
             this.type = Objects.requireNonNull(type);
             this.from = Objects.requireNonNull(from);
-            this.canWrapCache = InternalCache.createBounded(parallel, limit);
+            this.canWrapCache = Objects.requireNonNull(cache);
         }
 
         private static CachedFactory create(Class<? extends OntObject> type,
                                             ObjectFactory from,
-                                            int limit) {
+                                            int limit,
+                                            InternalMetrics metrics) {
 
             // Do not use caffeine due to danger of LiveLock
             // See issue #71 (https://github.com/avicomp/ont-api/issues/71)
-            return new CachedFactory(type,
-                    from instanceof CachedFactory ? ((CachedFactory) from).from : from,
-                    limit,
-                    false);
+            InternalCache<Node, Boolean> cache = metrics == null ? InternalCache.createBounded(false, limit) :
+                    metrics.createBounded(InternalMetrics.Kind.NODES, false, limit);
+            return new CachedFactory(type, unwrap(from), cache);
+        }
+
+        private static CachedFactory create(Class<? extends OntObject> type,
+                                            ObjectFactory from,
+                                            InternalCache<Node, Boolean> cache,
+                                            InternalMetrics metrics) {
+            return new CachedFactory(type, unwrap(from),
+                    metrics == null ? cache : metrics.count(InternalMetrics.Kind.NODES, cache));
+        }
+
+        private static ObjectFactory unwrap(ObjectFactory from) {
+            return from instanceof CachedFactory ? ((CachedFactory) from).from : from;
         }
 
         static void cache(PersonalityBuilder res,
                           OntPersonality from,
                           Class<? extends OntObject> type,
-                          int limit) {
-            res.add(type, create(type, from.getObjectFactory(type), limit));
+                          int limit,
+                          InternalMetrics metrics) {
+            res.add(type, create(type, from.getObjectFactory(type), limit, metrics));
+        }
+
+        static void cache(PersonalityBuilder res,
+                          OntPersonality from,
+                          Class<? extends OntObject> type,
+                          InternalCache<Node, Boolean> cache,
+                          InternalMetrics metrics) {
+            res.add(type, create(type, from.getObjectFactory(type), cache, metrics));
         }
 
         @Override
@@ -257,6 +323,18 @@ public abstract class SearchModel extends OntGraphModelImpl implements HasObject
             return from.createInstance(node, eg);
         }
 
+        @Override
+        public EnhNode wrapOrNull(Node node, EnhGraph eg) {
+            if (node.isLiteral()) return from.wrapOrNull(node, eg);
+            Boolean known = canWrapCache.get(node);
+            if (known != null) {
+                return known ? from.createInstance(node, eg) : null;
+            }
+            EnhNode res = from.wrapOrNull(node, eg);
+            canWrapCache.put(node, res != null);
+            return res;
+        }
+
         @Override
         public String toString() {
             return String.format("CachedFactory[%s]", OntObjectImpl.viewAsString(type));
@@ -0,0 +1,97 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.internal;
+
+import com.github.owlcs.ontapi.internal.objects.ONTStatementImpl;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.semanticweb.owlapi.model.OWLNaryAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.SWRLRule;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The implementation of {@link ObjectMap} that streams objects directly from a graph, like {@link DirectObjectMapImpl},
+ * but still guarantees that each listing contains no duplicates.
+ * Unlike the {@link CacheObjectMapImpl cache}, it does not materialize the whole content before returning the first item,
+ * so a single pass over a huge ontology (e.g. an export job) does not require heap proportional to its size.
+ * <p>
+ * The deduplication is cheap: only those objects that can be derived from several different graph statements
+ * are remembered during iteration.
+ * For the {@link OWLTopObjectType#isDistinct() distinct} types nothing is remembered at all.
+ * For other types, an {@link ONTStatementImpl ONT statement object}, whose main triple has no blank nodes,
+ * is a single possible source of the object, if the object is neither n-ary nor a SWRL rule,
+ * so it also does not require remembering.
+ * Thus, memory is proportional to the number of objects with anonymous parts (class expressions, lists, etc.),
+ * and not to the number of plain assertions that usually form the bulk of a large ABox.
+ * Note that the duplicates are skipped, not merged: the first found object is returned.
+ * <p>
+ * Like {@link DirectObjectMapImpl}, this map does not support modifications.
+ *
+ * @param <X> any subtype of {@link OWLObject}
+ * @see com.github.owlcs.ontapi.config.CacheSettings#CACHE_STREAM
+ */
+public class StreamObjectMapImpl<X extends OWLObject> extends DirectObjectMapImpl<X> {
+    private final boolean distinct;
+
+    /**
+     * Creates a streaming {@link ObjectMap} instance.
+     *
+     * @param loader   {@code Supplier}, that provides a {@code Stream} of {@link ONTObject}s, not {@code null}
+     * @param finder   {@code Function}, that maps an {@link OWLObject}-key to {@link ONTObject}-value, not {@code null}
+     * @param tester   {@code Predicate}, that tests if an {@link OWLObject}-key is present in this map, not {@code null}
+     * @param distinct if {@code true} the {@code loader} is known to produce no duplicates
+     */
+    public StreamObjectMapImpl(Supplier<Iterator<ONTObject<X>>> loader,
+                               Function<X, Optional<ONTObject<X>>> finder,
+                               Predicate<X> tester,
+                               boolean distinct) {
+        super(loader, finder, tester);
+        this.distinct = distinct;
+    }
+
+    /**
+     * Answers {@code true} if the given object can be derived only from its main triple,
+     * and, therefore, cannot appear twice while iterating.
+     *
+     * @param value {@link ONTObject}
+     * @return boolean
+     */
+    protected static boolean isUnique(ONTObject<?> value) {
+        OWLObject object = value.getOWLObject();
+        if (!(object instanceof ONTStatementImpl) || object instanceof OWLNaryAxiom || object instanceof SWRLRule) {
+            return false;
+        }
+        Triple triple = ((ONTStatementImpl) object).asTriple();
+        return !triple.getSubject().isBlank() && !triple.getObject().isBlank();
+    }
+
+    @Override
+    public ExtendedIterator<ONTObject<X>> listONTObjects() {
+        ExtendedIterator<ONTObject<X>> res = super.listONTObjects();
+        if (distinct) {
+            return res;
+        }
+        Set<X> seen = new HashSet<>();
+        return res.filterKeep(x -> isUnique(x) || seen.add(x.getOWLObject()));
+    }
+}
@@ -39,6 +39,7 @@ import org.semanticweb.owlapi.model.OWLObject;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -87,6 +88,11 @@ public abstract class AbstractListBasedTranslator<Axiom extends OWLLogicalAxiom,
         return getPredicate().equals(statement.getPredicate()) && filter(statement);
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return Collections.singleton(triggerByPredicate(getPredicate()));
+    }
+
     ONTObject<Axiom> makeAxiom(OntStatement statement,
                                Function<ONT_SUBJECT, ONTObject<? extends OWL_SUBJECT>> subjectExtractor,
                                BiFunction<ONT_SUBJECT, RDFNode, Optional<OntList<ONT_MEMBER>>> listExtractor,
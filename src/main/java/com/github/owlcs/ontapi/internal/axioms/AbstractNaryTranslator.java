@@ -126,6 +126,11 @@ public abstract class AbstractNaryTranslator<Axiom extends OWLAxiom & OWLNaryAxi
         return getPredicate().equals(statement.getPredicate()) && filter(statement);
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return Collections.singleton(triggerByPredicate(getPredicate()));
+    }
+
     protected boolean filter(Statement statement) {
         return statement.getSubject().canAs(getView()) && statement.getObject().canAs(getView());
     }
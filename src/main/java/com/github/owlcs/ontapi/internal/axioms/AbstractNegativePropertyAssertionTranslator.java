@@ -32,6 +32,8 @@ import org.apache.jena.vocabulary.RDF;
 import org.semanticweb.owlapi.model.*;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -72,6 +74,16 @@ public abstract class AbstractNegativePropertyAssertionTranslator<Axiom extends
                 && statement.getSubject().canAs(getView());
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return Collections.singleton(triggerByType(OWL.NegativePropertyAssertion));
+    }
+
+    @Override
+    public OntStatement prepareStatement(OntStatement statement) {
+        return asMainStatement(statement);
+    }
+
     /**
      * A base for data or object negative assertions
      *
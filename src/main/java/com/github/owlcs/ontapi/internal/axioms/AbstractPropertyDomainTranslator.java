@@ -29,6 +29,8 @@ import org.apache.jena.util.iterator.ExtendedIterator;
 import org.apache.jena.vocabulary.RDFS;
 import org.semanticweb.owlapi.model.*;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Supplier;
 
 /**
@@ -76,6 +78,11 @@ public abstract class AbstractPropertyDomainTranslator<Axiom extends OWLAxiom
         return RDFS.domain.equals(statement.getPredicate()) && filter(statement, config);
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return Collections.singleton(triggerByPredicate(RDFS.domain));
+    }
+
     @Override
     Triple createSearchTriple(Axiom axiom) {
         Node subject = TranslateHelper.getSearchNode(axiom.getProperty());
@@ -26,6 +26,8 @@ import org.apache.jena.util.iterator.ExtendedIterator;
 import org.apache.jena.vocabulary.RDFS;
 import org.semanticweb.owlapi.model.*;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Supplier;
 
 /**
@@ -77,6 +79,11 @@ public abstract class AbstractPropertyRangeTranslator<Axiom extends OWLAxiom
         return RDFS.range.equals(statement.getPredicate()) && filter(statement, config);
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return Collections.singleton(triggerByPredicate(RDFS.range));
+    }
+
     @Override
     Triple createSearchTriple(Axiom axiom) {
         Node subject = TranslateHelper.getSearchNode(axiom.getProperty());
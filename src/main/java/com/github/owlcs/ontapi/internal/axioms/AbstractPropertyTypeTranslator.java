@@ -32,6 +32,8 @@ import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.model.*;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -74,6 +76,11 @@ public abstract class AbstractPropertyTypeTranslator<Axiom extends OWLAxiom & Ha
                 && statement.getSubject().canAs(getView());
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return Collections.singleton(triggerByType(getType()));
+    }
+
     @Override
     public void write(Axiom axiom, OntModel model) {
         WriteHelper.writeTriple(model, axiom.getProperty(), RDF.type, getType(), axiom.annotationsAsList());
@@ -28,6 +28,8 @@ import org.apache.jena.vocabulary.RDFS;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLPropertyExpression;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Supplier;
 
 /**
@@ -61,6 +63,11 @@ public abstract class AbstractSubPropertyTranslator<Axiom extends OWLAxiom, P ex
         return RDFS.subPropertyOf.equals(statement.getPredicate()) && filter(statement, config);
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return Collections.singleton(triggerByPredicate(RDFS.subPropertyOf));
+    }
+
     @Override
     public void write(Axiom axiom, OntModel model) {
         WriteHelper.writeTriple(model, getSubProperty(axiom), RDFS.subPropertyOf, getSuperProperty(axiom),
@@ -30,6 +30,7 @@ import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.model.*;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.BiFunction;
@@ -90,6 +91,16 @@ public abstract class AbstractTwoWayNaryTranslator<Axiom extends OWLAxiom & OWLN
                 || (RDF.type.equals(statement.getPredicate()) && statement.getSubject().canAs(getDisjointView()));
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return Arrays.asList(triggerByPredicate(getPredicate()), triggerByType(getMembersType()));
+    }
+
+    @Override
+    public OntStatement prepareStatement(OntStatement statement) {
+        return RDF.type.equals(statement.getPredicate()) ? asMainStatement(statement) : statement;
+    }
+
     abstract Resource getMembersType();
 
     abstract Property getMembersPredicate();
@@ -70,6 +70,11 @@ public class ClassAssertionTranslator extends AbstractSimpleTranslator<OWLClassA
         return statement.isDeclaration() && filter(statement);
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return Collections.singleton(Triple.create(Node.ANY, RDF.Nodes.type, Node.ANY));
+    }
+
     public boolean filter(OntStatement statement) {
         // first class then individual,
         // since anonymous individual has more sophisticated and time-consuming checking
@@ -31,6 +31,7 @@ import org.semanticweb.owlapi.model.*;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -74,6 +75,11 @@ public class DatatypeDefinitionTranslator extends AbstractSimpleTranslator<OWLDa
                 && statement.getObject().canAs(OntDataRange.class);
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return Collections.singleton(triggerByPredicate(OWL.equivalentClass));
+    }
+
     @Override
     public ONTObject<OWLDatatypeDefinitionAxiom> toAxiomImpl(OntStatement statement,
                                                              ModelObjectFactory factory,
@@ -32,11 +32,9 @@ import org.apache.jena.util.iterator.ExtendedIterator;
 import org.apache.jena.util.iterator.NullIterator;
 import org.semanticweb.owlapi.model.*;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -50,6 +48,9 @@ import java.util.stream.Stream;
 @SuppressWarnings("WeakerAccess")
 public class DeclarationTranslator extends AbstractSimpleTranslator<OWLDeclarationAxiom> {
 
+    private static final Collection<Triple> TRIGGERS = Arrays.stream(Entities.values())
+            .map(x -> triggerByType(x.getResourceType())).collect(Collectors.toUnmodifiableList());
+
     @Override
     public void write(OWLDeclarationAxiom axiom, OntModel model) {
         WriteHelper.writeDeclarationTriple(model, axiom.getEntity(), RDF.type,
@@ -68,6 +69,7 @@ public class DeclarationTranslator extends AbstractSimpleTranslator<OWLDeclarati
 
     @Override
     public boolean testStatement(OntStatement statement, AxiomsSettings config) {
+        if (!config.isAllowReadDeclarations()) return false;
         if (!statement.getSubject().isURIResource()) return false;
         if (!statement.getObject().isURIResource()) return false;
         if (!statement.isDeclaration()) return false;
@@ -78,6 +80,16 @@ public class DeclarationTranslator extends AbstractSimpleTranslator<OWLDeclarati
                 .isPresent();
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return TRIGGERS;
+    }
+
+    @Override
+    public OntStatement prepareStatement(OntStatement statement) {
+        return asMainStatement(statement);
+    }
+
     @Override
     protected ExtendedIterator<OntStatement> listSearchStatements(OWLDeclarationAxiom key, OntModel model, AxiomsSettings config) {
         if (!config.isAllowReadDeclarations()) return NullIterator.instance();
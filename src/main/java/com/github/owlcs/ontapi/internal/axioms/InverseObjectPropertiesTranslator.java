@@ -34,6 +34,7 @@ import org.semanticweb.owlapi.model.*;
 import javax.annotation.ParametersAreNonnullByDefault;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.BiFunction;
@@ -80,6 +81,11 @@ public class InverseObjectPropertiesTranslator extends AbstractSimpleTranslator<
         return statement.getSubject().canAs(OntObjectProperty.class) && statement.getObject().canAs(OntObjectProperty.class);
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return Collections.singleton(triggerByPredicate(OWL.inverseOf));
+    }
+
     @Override
     public ONTObject<OWLInverseObjectPropertiesAxiom> toAxiomImpl(OntStatement statement,
                                                                   ModelObjectFactory factory,
@@ -20,6 +20,7 @@ import com.github.owlcs.ontapi.internal.objects.*;
 import com.github.owlcs.ontapi.jena.model.*;
 import com.github.owlcs.ontapi.jena.utils.Iter;
 import com.github.owlcs.ontapi.jena.utils.OntModels;
+import com.github.owlcs.ontapi.jena.vocabulary.SWRL;
 import com.github.owlcs.ontapi.owlapi.axioms.RuleImpl;
 import org.apache.jena.graph.FrontsTriple;
 import org.apache.jena.graph.Triple;
@@ -58,6 +59,16 @@ public class SWRLRuleTranslator extends AxiomTranslator<SWRLRule> {
         return statement.getSubject().canAs(OntSWRL.Imp.class);
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return Collections.singleton(triggerByType(SWRL.Imp));
+    }
+
+    @Override
+    public OntStatement prepareStatement(OntStatement statement) {
+        return asMainStatement(statement);
+    }
+
     @Override
     public ONTObject<SWRLRule> toAxiomImpl(OntStatement statement,
                                            ModelObjectFactory factory,
@@ -72,6 +72,11 @@ public class SubClassOfTranslator extends AxiomTranslator<OWLSubClassOfAxiom> {
         return statement.getPredicate().equals(RDFS.subClassOf) && filter(statement);
     }
 
+    @Override
+    public Collection<Triple> getTriggers() {
+        return Collections.singleton(triggerByPredicate(RDFS.subClassOf));
+    }
+
     public boolean filter(Statement s) {
         return s.getSubject().canAs(OntClass.class) && s.getObject().canAs(OntClass.class);
     }
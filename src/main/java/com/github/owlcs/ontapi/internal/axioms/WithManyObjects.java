@@ -237,7 +237,12 @@ interface WithManyObjects<E extends OWLObject> extends WithTriple {
         }
 
         default Stream<ONTObject<? extends OWLObject>> objects(ModelObjectFactory factory) {
-            return Stream.of(findByURI(getSubjectURI(), factory), findByURI(getObjectURI(), factory));
+            ONTObject<? extends E> s = findByURI(getSubjectURI(), factory);
+            ONTObject<? extends E> o = findByURI(getObjectURI(), factory);
+            // must be in the same order as the content of Complex is, since it is used while comparing,
+            // so that the equality does not depend on the direction of the triple (e.g. Y owl:disjointWith X);
+            // but not distinct: a triple (e.g. X owl:disjointWith X) always has two components
+            return s.getOWLObject().compareTo(o.getOWLObject()) <= 0 ? Stream.of(s, o) : Stream.of(o, s);
         }
 
         @Override
@@ -14,6 +14,7 @@
 
 package com.github.owlcs.ontapi.internal.objects;
 
+import com.github.owlcs.ontapi.internal.ContentArrayCache;
 import com.github.owlcs.ontapi.internal.HasObjectFactory;
 import com.github.owlcs.ontapi.internal.ModelObjectFactory;
 import com.github.owlcs.ontapi.internal.ONTObject;
@@ -95,6 +96,17 @@ public abstract class ONTObjectImpl extends OWLObjectImpl implements ONTComposit
         return HasObjectFactory.getObjectFactory(getModel());
     }
 
+    /**
+     * Returns the model-wide store for content arrays, if it is configured.
+     * Used by the {@link WithContent} implementations.
+     *
+     * @return {@link ContentArrayCache} or {@code null}
+     * @see WithContent#getContentArrayCache()
+     */
+    public ContentArrayCache getContentArrayCache() {
+        return ContentArrayCache.get(getModel());
+    }
+
     /**
      * Returns a {@link PersonalityModel personality model}.
      *
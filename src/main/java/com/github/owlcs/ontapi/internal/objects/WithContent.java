@@ -14,6 +14,7 @@
 
 package com.github.owlcs.ontapi.internal.objects;
 
+import com.github.owlcs.ontapi.internal.ContentArrayCache;
 import com.github.owlcs.ontapi.internal.InternalCache;
 
 /**
@@ -85,12 +86,25 @@ public interface WithContent<X> {
      * Creates a content-cache-container, which is used to store content,
      * that can always be derived from the graph
      * using the primary {@code ONTObject}'s information (such as triple or node).
+     * The storage is chosen at the creation time, see {@link #getContentArrayCache()}.
      *
      * @return {@link InternalCache.Loading}
      * @see #getContentCache()
      */
+    @SuppressWarnings("unchecked")
     default InternalCache.Loading<X, Object[]> createContentCache() {
-        return InternalCache.createSoftSingleton(x -> collectContent());
+        return ContentArrayCache.createLoading((X) this, getContentArrayCache(), x -> collectContent());
+    }
+
+    /**
+     * Returns a model-wide size-bounded store for content arrays, if it is configured.
+     * If there is no such store, the content is held as a {@link java.lang.ref.SoftReference soft reference}.
+     *
+     * @return {@link ContentArrayCache} or {@code null}
+     * @see com.github.owlcs.ontapi.config.CacheSettings#getContentArraysCacheSize()
+     */
+    default ContentArrayCache getContentArrayCache() {
+        return null;
     }
 
     /**
@@ -17,8 +17,6 @@ package com.github.owlcs.ontapi.internal.searchers.axioms;
 import com.github.owlcs.ontapi.internal.AxiomTranslator;
 import com.github.owlcs.ontapi.internal.OWLComponentType;
 import com.github.owlcs.ontapi.internal.searchers.ForClass;
-import com.github.owlcs.ontapi.jena.utils.Iter;
-import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLClass;
 
@@ -33,8 +31,8 @@ public class ByClass extends WithCardinality<OWLClass> implements ForClass {
     private static final Set<AxiomTranslator<OWLAxiom>> TRANSLATORS = selectTranslators(OWLComponentType.CLASS);
 
     @Override
-    protected ExtendedIterator<AxiomTranslator<OWLAxiom>> listTranslators() {
-        return Iter.create(TRANSLATORS);
+    protected Set<AxiomTranslator<OWLAxiom>> getTranslators() {
+        return TRANSLATORS;
     }
 
 }
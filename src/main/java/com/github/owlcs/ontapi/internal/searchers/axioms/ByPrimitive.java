@@ -122,16 +122,18 @@ public abstract class ByPrimitive<P extends OWLPrimitive> extends BaseByObject<O
     }
 
     /**
-     * Lists all {@link AxiomTranslator}-candidates.
+     * Returns all {@link AxiomTranslator}-candidates.
      *
-     * @return {@link ExtendedIterator}
+     * @return a {@code Set} of {@link AxiomTranslator}s
      */
-    protected ExtendedIterator<AxiomTranslator<OWLAxiom>> listTranslators() {
-        return Iter.create(TRANSLATORS);
+    protected Set<AxiomTranslator<OWLAxiom>> getTranslators() {
+        return TRANSLATORS;
     }
 
     /**
      * Lists translators.
+     * Only those candidates that are plausible for the statement's predicate (or {@code rdf:type} object)
+     * are tested, see {@link AxiomsDispatcher}.
      *
      * @param statement {@link OntStatement}
      * @param conf      {@link AxiomsSettings}
@@ -139,7 +141,9 @@ public abstract class ByPrimitive<P extends OWLPrimitive> extends BaseByObject<O
      */
     protected ExtendedIterator<? extends AxiomTranslator<OWLAxiom>> listTranslators(OntStatement statement,
                                                                                     AxiomsSettings conf) {
-        return listTranslators().filterKeep(t -> t.testStatement(statement, conf));
+        Set<AxiomTranslator<OWLAxiom>> candidates = getTranslators();
+        return Iter.create(AxiomsDispatcher.get().translators(statement.asTriple()))
+                .filterKeep(t -> candidates.contains(t) && t.testStatement(statement, conf));
     }
 
     /**
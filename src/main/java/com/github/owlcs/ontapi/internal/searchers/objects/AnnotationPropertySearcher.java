@@ -26,7 +26,6 @@ import com.github.owlcs.ontapi.jena.vocabulary.OWL;
 import org.apache.jena.graph.Node;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
-import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
 import org.semanticweb.owlapi.model.OWLAxiom;
 
@@ -42,8 +41,8 @@ public class AnnotationPropertySearcher extends PropertySearcher<OWLAnnotationPr
     private static final Set<AxiomTranslator<OWLAxiom>> TRANSLATORS = selectTranslators(null);
 
     @Override
-    protected ExtendedIterator<? extends AxiomTranslator<OWLAxiom>> listTranslators() {
-        return Iter.create(TRANSLATORS);
+    protected Set<AxiomTranslator<OWLAxiom>> getTranslators() {
+        return TRANSLATORS;
     }
 
     @Override
@@ -19,7 +19,6 @@ import com.github.owlcs.ontapi.config.AxiomsSettings;
 import com.github.owlcs.ontapi.internal.*;
 import com.github.owlcs.ontapi.internal.searchers.ForClass;
 import com.github.owlcs.ontapi.jena.model.OntModel;
-import com.github.owlcs.ontapi.jena.utils.Iter;
 import com.github.owlcs.ontapi.jena.vocabulary.OWL;
 import org.apache.jena.graph.Node;
 import org.apache.jena.rdf.model.Resource;
@@ -42,8 +41,8 @@ public class ClassSearcher extends WithCardinality<OWLClass> implements ForClass
     }
 
     @Override
-    protected ExtendedIterator<? extends AxiomTranslator<OWLAxiom>> listTranslators() {
-        return Iter.create(TRANSLATORS);
+    protected Set<AxiomTranslator<OWLAxiom>> getTranslators() {
+        return TRANSLATORS;
     }
 
     @Override
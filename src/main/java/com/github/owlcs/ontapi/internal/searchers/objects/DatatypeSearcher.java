@@ -74,8 +74,8 @@ public class DatatypeSearcher extends WithCardinality<OWLDatatype> implements Fo
     }
 
     @Override
-    protected ExtendedIterator<? extends AxiomTranslator<OWLAxiom>> listTranslators() {
-        return Iter.create(TRANSLATORS);
+    protected Set<AxiomTranslator<OWLAxiom>> getTranslators() {
+        return TRANSLATORS;
     }
 
     @Override
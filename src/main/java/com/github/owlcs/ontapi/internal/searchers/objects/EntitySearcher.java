@@ -32,6 +32,7 @@ import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLEntity;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -84,7 +85,7 @@ abstract class EntitySearcher<E extends OWLEntity> extends WithRootStatement imp
 
     protected abstract boolean containsEntity(String uri, OntModel m, AxiomsSettings conf);
 
-    protected abstract ExtendedIterator<? extends AxiomTranslator<OWLAxiom>> listTranslators();
+    protected abstract Set<AxiomTranslator<OWLAxiom>> getTranslators();
 
     protected abstract ONTObject<E> createEntity(String uri, OntModel model, ONTObjectFactory factory);
 
@@ -109,7 +110,9 @@ abstract class EntitySearcher<E extends OWLEntity> extends WithRootStatement imp
 
     protected final ExtendedIterator<? extends AxiomTranslator<OWLAxiom>> listTranslators(OntStatement statement,
                                                                                           AxiomsSettings conf) {
-        return listTranslators().filterKeep(t -> t.testStatement(statement, conf));
+        Set<AxiomTranslator<OWLAxiom>> candidates = getTranslators();
+        return Iter.create(AxiomsDispatcher.get().translators(statement.asTriple()))
+                .filterKeep(t -> candidates.contains(t) && t.testStatement(statement, conf));
     }
 
     /**
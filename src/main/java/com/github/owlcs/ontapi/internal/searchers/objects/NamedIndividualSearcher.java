@@ -43,8 +43,8 @@ public class NamedIndividualSearcher extends EntitySearcher<OWLNamedIndividual>
     private static final Set<AxiomTranslator<OWLAxiom>> TRANSLATORS = selectTranslators(OWLComponentType.NAMED_INDIVIDUAL);
 
     @Override
-    protected ExtendedIterator<? extends AxiomTranslator<OWLAxiom>> listTranslators() {
-        return Iter.create(TRANSLATORS);
+    protected Set<AxiomTranslator<OWLAxiom>> getTranslators() {
+        return TRANSLATORS;
     }
 
     @Override
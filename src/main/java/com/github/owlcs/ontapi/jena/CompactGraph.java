@@ -0,0 +1,501 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.jena;
+
+import org.apache.jena.graph.Capabilities;
+import org.apache.jena.graph.GraphEvents;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.AllCapabilities;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.shared.AddDeniedException;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+import org.apache.jena.util.iterator.NullIterator;
+import org.apache.jena.util.iterator.SingletonIterator;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A compact in-memory {@code Graph} that keeps data in primitive arrays instead of object indexes.
+ * <p>
+ * Each {@link Node} is stored only once, in a dictionary, which encodes it as an {@code int} id.
+ * A triple is a slot in three parallel {@code int} arrays (subject, predicate and object ids).
+ * The triples with the same subject, predicate or object are linked into doubly linked lists
+ * (also kept in {@code int} arrays), that serve as {@code SPO}, {@code POS} and {@code OSP} indexes,
+ * and an open-addressing hash table of slots is used for the exact lookup.
+ * So a triple costs about a dozen of {@code int}s, that is several times less
+ * than in the {@link org.apache.jena.mem.GraphMem}, which keeps {@code Triple} objects in three hash-bunch maps.
+ * To answer a {@link #find(Triple) find} query the shortest list among the concrete nodes of the pattern is chosen.
+ * <p>
+ * The graph can be used as a base graph of {@link UnionGraph} instead of the default one.
+ * It is not thread-safe, as well as the {@code GraphMem}.
+ * The dictionary is not shrunk when triples are deleted, it is only released by the {@link #clear()} method.
+ * Unlike {@code GraphMem}, this graph matches literals by term equality,
+ * i.e. {@link Capabilities#handlesLiteralTyping()} is {@code false}.
+ *
+ * @see com.github.owlcs.ontapi.config.LoadSettings#isUseCompactGraph()
+ */
+public class CompactGraph extends GraphBase {
+    private static final Capabilities CAPABILITIES = new AllCapabilities() {
+        @Override
+        public boolean handlesLiteralTyping() {
+            return false;
+        }
+    };
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int S = 0;
+    private static final int P = 1;
+    private static final int O = 2;
+
+    // the node dictionary: id -> node, and an open-addressing hash-table: position -> id + 1
+    private Node[] nodes;
+    private int[] nodeTable;
+    private int nodeCount;
+    // for each position (S, P, O) and node id: the head of the triples list, its length and modification counter
+    private int[][] heads;
+    private int[][] counts;
+    private int[][] versions;
+
+    // for each position (S, P, O) and triple slot: the node id, the next and previous slots in the list
+    private int[][] ids;
+    private int[][] next;
+    private int[][] prev;
+    // an open-addressing hash-table: position -> slot + 1
+    private int[] tripleTable;
+    // the number of used slots, including the deleted ones, which are chained into the free list
+    private int top;
+    private int free;
+    private int size;
+    private int modCount;
+    // the number of clearings, it is used to break iterators that are in progress
+    private int generation;
+
+    public CompactGraph() {
+        init();
+    }
+
+    private void init() {
+        nodes = new Node[INITIAL_CAPACITY];
+        nodeTable = new int[INITIAL_CAPACITY * 2];
+        nodeCount = 0;
+        heads = new int[3][INITIAL_CAPACITY];
+        counts = new int[3][INITIAL_CAPACITY];
+        versions = new int[3][INITIAL_CAPACITY];
+        ids = new int[3][INITIAL_CAPACITY];
+        next = new int[3][INITIAL_CAPACITY];
+        prev = new int[3][INITIAL_CAPACITY];
+        tripleTable = new int[INITIAL_CAPACITY * 2];
+        top = 0;
+        free = NONE;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of distinct nodes ever added to this graph after its creation or last clearing.
+     *
+     * @return int
+     */
+    public int dictionarySize() {
+        return nodeCount;
+    }
+
+    @Override
+    public void performAdd(Triple t) {
+        if (!Objects.requireNonNull(t).isConcrete()) {
+            throw new AddDeniedException("Attempt to add a non-concrete triple " + t);
+        }
+        int s = intern(t.getSubject());
+        int p = intern(t.getPredicate());
+        int o = intern(t.getObject());
+        if (findSlot(s, p, o) != NONE) {
+            return;
+        }
+        int slot = allocate();
+        ids[S][slot] = s;
+        ids[P][slot] = p;
+        ids[O][slot] = o;
+        link(S, s, slot);
+        link(P, p, slot);
+        link(O, o, slot);
+        if (++size * 2 > tripleTable.length) {
+            rehashTriples(tripleTable.length * 2);
+        } else {
+            insertSlot(slot);
+        }
+        modCount++;
+    }
+
+    @Override
+    public void performDelete(Triple t) {
+        int s = id(t.getSubject());
+        int p = id(t.getPredicate());
+        int o = id(t.getObject());
+        if (s == NONE || p == NONE || o == NONE) {
+            return;
+        }
+        int slot = findSlot(s, p, o);
+        if (slot == NONE) {
+            return;
+        }
+        deleteSlot(slot);
+        unlink(S, s, slot);
+        unlink(P, p, slot);
+        unlink(O, o, slot);
+        ids[S][slot] = NONE;
+        next[S][slot] = free;
+        free = slot;
+        size--;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        checkOpen();
+        init();
+        generation++;
+        getEventManager().notifyEvent(this, GraphEvents.removeAll);
+    }
+
+    @Override
+    protected ExtendedIterator<Triple> graphBaseFind(Triple m) {
+        Node sn = m.getMatchSubject();
+        Node pn = m.getMatchPredicate();
+        Node on = m.getMatchObject();
+        int s = sn == null ? NONE : id(sn);
+        int p = pn == null ? NONE : id(pn);
+        int o = on == null ? NONE : id(on);
+        if ((sn != null && s == NONE) || (pn != null && p == NONE) || (on != null && o == NONE)) {
+            return NullIterator.instance();
+        }
+        if (s != NONE && p != NONE && o != NONE) {
+            int slot = findSlot(s, p, o);
+            return slot == NONE ? NullIterator.instance() : new SingletonIterator<>(toTriple(slot)) {
+                @Override
+                public void remove() {
+                    delete(toTriple(slot));
+                }
+            };
+        }
+        // choose the shortest list:
+        int position = NONE;
+        int id = NONE;
+        int length = Integer.MAX_VALUE;
+        int[] pattern = {s, p, o};
+        for (int i = S; i <= O; i++) {
+            if (pattern[i] != NONE && counts[i][pattern[i]] < length) {
+                position = i;
+                id = pattern[i];
+                length = counts[i][id];
+            }
+        }
+        return new TripleIterator(position, id, s, p, o);
+    }
+
+    @Override
+    protected boolean graphBaseContains(Triple t) {
+        if (!t.isConcrete()) {
+            return super.graphBaseContains(t);
+        }
+        int s = id(t.getSubject());
+        int p = id(t.getPredicate());
+        int o = id(t.getObject());
+        return s != NONE && p != NONE && o != NONE && findSlot(s, p, o) != NONE;
+    }
+
+    @Override
+    protected int graphBaseSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        checkOpen();
+        return size == 0;
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return CAPABILITIES;
+    }
+
+    private Triple toTriple(int slot) {
+        return Triple.create(nodes[ids[S][slot]], nodes[ids[P][slot]], nodes[ids[O][slot]]);
+    }
+
+    /**
+     * Finds the id of the given node.
+     *
+     * @param node {@link Node}
+     * @return int, the id or {@link #NONE} if the node is not in the dictionary
+     */
+    private int id(Node node) {
+        int mask = nodeTable.length - 1;
+        for (int i = mix(node.hashCode()) & mask; ; i = (i + 1) & mask) {
+            int e = nodeTable[i];
+            if (e == 0) {
+                return NONE;
+            }
+            if (nodes[e - 1].equals(node)) {
+                return e - 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the given node, puts the node into the dictionary if it is absent.
+     *
+     * @param node {@link Node}
+     * @return int, the id
+     */
+    private int intern(Node node) {
+        int mask = nodeTable.length - 1;
+        int i = mix(node.hashCode()) & mask;
+        for (int e; (e = nodeTable[i]) != 0; i = (i + 1) & mask) {
+            if (nodes[e - 1].equals(node)) {
+                return e - 1;
+            }
+        }
+        int res = nodeCount++;
+        if (res == nodes.length) {
+            int capacity = nodes.length * 2;
+            nodes = Arrays.copyOf(nodes, capacity);
+            for (int k = S; k <= O; k++) {
+                heads[k] = Arrays.copyOf(heads[k], capacity);
+                counts[k] = Arrays.copyOf(counts[k], capacity);
+                versions[k] = Arrays.copyOf(versions[k], capacity);
+            }
+        }
+        nodes[res] = node;
+        for (int k = S; k <= O; k++) {
+            heads[k][res] = NONE;
+        }
+        if (nodeCount * 2 > nodeTable.length) {
+            rehashNodes(nodeTable.length * 2);
+        } else {
+            nodeTable[i] = res + 1;
+        }
+        return res;
+    }
+
+    private void rehashNodes(int length) {
+        int[] table = new int[length];
+        int mask = length - 1;
+        for (int id = 0; id < nodeCount; id++) {
+            int i = mix(nodes[id].hashCode()) & mask;
+            while (table[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            table[i] = id + 1;
+        }
+        nodeTable = table;
+    }
+
+    private int allocate() {
+        if (free != NONE) {
+            int res = free;
+            free = next[S][res];
+            return res;
+        }
+        if (top == ids[S].length) {
+            int capacity = top + (top >> 1);
+            for (int k = S; k <= O; k++) {
+                ids[k] = Arrays.copyOf(ids[k], capacity);
+                next[k] = Arrays.copyOf(next[k], capacity);
+                prev[k] = Arrays.copyOf(prev[k], capacity);
+            }
+        }
+        return top++;
+    }
+
+    private void link(int position, int id, int slot) {
+        int head = heads[position][id];
+        next[position][slot] = head;
+        prev[position][slot] = NONE;
+        if (head != NONE) {
+            prev[position][head] = slot;
+        }
+        heads[position][id] = slot;
+        counts[position][id]++;
+        versions[position][id]++;
+    }
+
+    private void unlink(int position, int id, int slot) {
+        int n = next[position][slot];
+        int p = prev[position][slot];
+        if (p == NONE) {
+            heads[position][id] = n;
+        } else {
+            next[position][p] = n;
+        }
+        if (n != NONE) {
+            prev[position][n] = p;
+        }
+        counts[position][id]--;
+        versions[position][id]++;
+    }
+
+    private int hash(int slot) {
+        return hash(ids[S][slot], ids[P][slot], ids[O][slot]);
+    }
+
+    private static int hash(int s, int p, int o) {
+        return mix((s * 31 + p) * 31 + o);
+    }
+
+    private static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int findSlot(int s, int p, int o) {
+        int mask = tripleTable.length - 1;
+        for (int i = hash(s, p, o) & mask; ; i = (i + 1) & mask) {
+            int e = tripleTable[i];
+            if (e == 0) {
+                return NONE;
+            }
+            int slot = e - 1;
+            if (ids[S][slot] == s && ids[P][slot] == p && ids[O][slot] == o) {
+                return slot;
+            }
+        }
+    }
+
+    private void insertSlot(int slot) {
+        int mask = tripleTable.length - 1;
+        int i = hash(slot) & mask;
+        while (tripleTable[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        tripleTable[i] = slot + 1;
+    }
+
+    private void deleteSlot(int slot) {
+        int mask = tripleTable.length - 1;
+        int i = hash(slot) & mask;
+        while (tripleTable[i] != slot + 1) {
+            i = (i + 1) & mask;
+        }
+        // backward shift deletion, to keep the probe sequences unbroken:
+        tripleTable[i] = 0;
+        for (int j = (i + 1) & mask; tripleTable[j] != 0; j = (j + 1) & mask) {
+            int k = hash(tripleTable[j] - 1) & mask;
+            if (i <= j ? (i < k && k <= j) : (i < k || k <= j)) {
+                continue;
+            }
+            tripleTable[i] = tripleTable[j];
+            tripleTable[j] = 0;
+            i = j;
+        }
+    }
+
+    private void rehashTriples(int length) {
+        tripleTable = new int[length];
+        for (int slot = 0; slot < top; slot++) {
+            if (ids[S][slot] != NONE) {
+                insertSlot(slot);
+            }
+        }
+    }
+
+    /**
+     * An iterator over a list of triples sharing the same node at the given position,
+     * or over all slots if there is no concrete node in the pattern.
+     * The iterator is fail-fast, as the iterators of the {@code GraphMem}:
+     * it throws {@link ConcurrentModificationException} if the list it walks through is modified,
+     * or, in case of iterating over all slots, if the graph is modified.
+     */
+    private class TripleIterator extends NiceIterator<Triple> {
+        private final int position;
+        private final int id;
+        private final int s, p, o;
+        private final int expectedGeneration = generation;
+        private int expectedModCount;
+        private int current;
+        private int last = NONE;
+
+        private TripleIterator(int position, int id, int s, int p, int o) {
+            this.position = position;
+            this.id = id;
+            this.expectedModCount = modCount();
+            this.s = s;
+            this.p = p;
+            this.o = o;
+            this.current = position == NONE ? seek(0) : skip(heads[position][id]);
+        }
+
+        private int seek(int slot) {
+            while (slot < top && ids[S][slot] == NONE) {
+                slot++;
+            }
+            return slot < top ? slot : NONE;
+        }
+
+        private int skip(int slot) {
+            while (slot != NONE && !matches(slot)) {
+                slot = next[position][slot];
+            }
+            return slot;
+        }
+
+        private boolean matches(int slot) {
+            return (s == NONE || ids[S][slot] == s)
+                    && (p == NONE || ids[P][slot] == p)
+                    && (o == NONE || ids[O][slot] == o);
+        }
+
+        private int modCount() {
+            return position == NONE ? modCount : versions[position][id];
+        }
+
+        private void checkModification() {
+            if (generation != expectedGeneration || modCount() != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            checkModification();
+            return current != NONE;
+        }
+
+        @Override
+        public Triple next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = current;
+            current = position == NONE ? seek(current + 1) : skip(next[position][current]);
+            return toTriple(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last == NONE) {
+                throw new IllegalStateException();
+            }
+            checkModification();
+            delete(toTriple(last));
+            last = NONE;
+            expectedModCount = modCount();
+        }
+    }
+}
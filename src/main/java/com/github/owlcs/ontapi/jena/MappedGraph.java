@@ -0,0 +1,561 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.jena;
+
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.graph.Capabilities;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.shared.AddDeniedException;
+import org.apache.jena.shared.DeleteDeniedException;
+import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.shared.impl.PrefixMappingImpl;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+import org.apache.jena.util.iterator.NullIterator;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * A read-only {@code Graph} that is backed by a memory-mapped binary file.
+ * <p>
+ * The file is produced once from any graph by the method {@link #write(Graph, Path)},
+ * and then it can be {@link #open(Path) opened} almost instantly in any number of processes:
+ * the data is not parsed and not loaded into the heap,
+ * instead, it is accessed through {@link MappedByteBuffer}s,
+ * so the pages are loaded lazily and shared between JVMs via the OS page cache.
+ * <p>
+ * The file contains a dictionary of nodes, sorted by their binary form,
+ * so a node id is obtained by binary search, and three sorted arrays of triple ids
+ * ({@code SPO}, {@code POS} and {@code OSP}), which are used to answer any {@link #find(Triple) find} query
+ * by binary search of the range with the given concrete nodes.
+ * The prefixes of the source graph are also stored.
+ * Each section must be less than 2GB.
+ * <p>
+ * The graph is immutable: any attempt to modify it causes {@link AddDeniedException} or {@link DeleteDeniedException}.
+ * It is safe to use it from several threads.
+ * It can be used as a base graph of an ontology, which is then imported by other (modifiable) ontologies,
+ * e.g. via {@link com.github.owlcs.ontapi.OntologyManager#addOntology(Graph, com.github.owlcs.ontapi.config.OntLoaderConfiguration)}.
+ * This graph matches literals by term equality, i.e. {@link Capabilities#handlesLiteralTyping()} is {@code false}.
+ *
+ * @see CompactGraph
+ */
+public class MappedGraph extends GraphBase {
+    private static final long MAGIC = 0x4F4E544150494D47L; // "ONTAPIMG"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8 + 4 + 4 + 4 + 8;
+    private static final int CACHE_SIZE = 1 << 12;
+    private static final int NONE = -1;
+
+    private static final byte URI = 1;
+    private static final byte BLANK = 2;
+    private static final byte LITERAL = 3;
+    private static final byte LANG_LITERAL = 4;
+
+    private static final int SPO = 0;
+    private static final int POS = 1;
+    private static final int OSP = 2;
+
+    private static final Capabilities CAPABILITIES = new Capabilities() {
+        @Override
+        public boolean sizeAccurate() {
+            return true;
+        }
+
+        @Override
+        public boolean addAllowed() {
+            return false;
+        }
+
+        @Override
+        public boolean deleteAllowed() {
+            return false;
+        }
+
+        @Override
+        public boolean handlesLiteralTyping() {
+            return false;
+        }
+    };
+
+    private final Path file;
+    private final int nodeCount;
+    private final int tripleCount;
+    private final IntBuffer offsets;
+    private final ByteBuffer data;
+    private final IntBuffer[] indexes;
+    private final Map<String, String> prefixes;
+    // a direct-mapped cache of decoded nodes, the entries are immutable, so there is no need for synchronization
+    private final CachedNode[] cache;
+
+    protected MappedGraph(Path file,
+                          int nodeCount,
+                          int tripleCount,
+                          IntBuffer offsets,
+                          ByteBuffer data,
+                          IntBuffer[] indexes,
+                          Map<String, String> prefixes) {
+        this.file = file;
+        this.nodeCount = nodeCount;
+        this.tripleCount = tripleCount;
+        this.offsets = offsets;
+        this.data = data;
+        this.indexes = indexes;
+        this.prefixes = prefixes;
+        this.cache = new CachedNode[Math.min(CACHE_SIZE, Math.max(nodeCount, 1))];
+    }
+
+    /**
+     * Compiles the given graph into a binary file, that can be opened by the method {@link #open(Path)}.
+     * The existing file is overwritten.
+     *
+     * @param graph {@link Graph} the source, not {@code null}
+     * @param file  {@link Path} the target file, not {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(Graph graph, Path file) throws IOException {
+        Map<Node, byte[]> dictionary = new HashMap<>();
+        List<Triple> triples = graph.find().toList();
+        for (Triple t : triples) {
+            dictionary.computeIfAbsent(t.getSubject(), MappedGraph::encode);
+            dictionary.computeIfAbsent(t.getPredicate(), MappedGraph::encode);
+            dictionary.computeIfAbsent(t.getObject(), MappedGraph::encode);
+        }
+        List<Map.Entry<Node, byte[]>> nodes = new ArrayList<>(dictionary.entrySet());
+        nodes.sort((a, b) -> Arrays.compareUnsigned(a.getValue(), b.getValue()));
+        Map<Node, Integer> ids = new HashMap<>(nodes.size() * 2);
+        for (int i = 0; i < nodes.size(); i++) {
+            ids.put(nodes.get(i).getKey(), i);
+        }
+        int[][] rows = new int[triples.size()][];
+        for (int i = 0; i < rows.length; i++) {
+            Triple t = triples.get(i);
+            rows[i] = new int[]{ids.get(t.getSubject()), ids.get(t.getPredicate()), ids.get(t.getObject())};
+        }
+        long dataLength = 0;
+        for (Map.Entry<Node, byte[]> e : nodes) {
+            dataLength += e.getValue().length;
+        }
+        checkSection(dataLength);
+        checkSection(12L * rows.length);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeLong(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(nodes.size());
+            out.writeInt(rows.length);
+            out.writeLong(dataLength);
+            int offset = 0;
+            for (Map.Entry<Node, byte[]> e : nodes) {
+                out.writeInt(offset);
+                offset += e.getValue().length;
+            }
+            out.writeInt(offset);
+            for (Map.Entry<Node, byte[]> e : nodes) {
+                out.write(e.getValue());
+            }
+            for (int index = SPO; index <= OSP; index++) {
+                int[] order = columns(index);
+                Arrays.sort(rows, Comparator.<int[]>comparingInt(r -> r[order[0]])
+                        .thenComparingInt(r -> r[order[1]])
+                        .thenComparingInt(r -> r[order[2]]));
+                for (int[] r : rows) {
+                    out.writeInt(r[order[0]]);
+                    out.writeInt(r[order[1]]);
+                    out.writeInt(r[order[2]]);
+                }
+            }
+            Map<String, String> prefixes = graph.getPrefixMapping().getNsPrefixMap();
+            out.writeInt(prefixes.size());
+            for (Map.Entry<String, String> e : prefixes.entrySet()) {
+                out.writeUTF(e.getKey());
+                out.writeUTF(e.getValue());
+            }
+        }
+    }
+
+    /**
+     * Opens the binary file, that is produced by the method {@link #write(Graph, Path)}, as a read-only graph.
+     *
+     * @param file {@link Path}, not {@code null}
+     * @return {@link MappedGraph}
+     * @throws IOException if an I/O error occurs or the file has wrong format
+     */
+    public static MappedGraph open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getLong() != MAGIC) {
+                throw new IOException("Not a mapped graph file: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported version " + version + ": " + file);
+            }
+            int nodes = header.getInt();
+            int triples = header.getInt();
+            long dataLength = header.getLong();
+            long position = HEADER_SIZE;
+            IntBuffer offsets = channel.map(FileChannel.MapMode.READ_ONLY, position, 4L * (nodes + 1)).asIntBuffer();
+            position += 4L * (nodes + 1);
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, position, dataLength);
+            position += dataLength;
+            IntBuffer[] indexes = new IntBuffer[3];
+            for (int index = SPO; index <= OSP; index++) {
+                indexes[index] = channel.map(FileChannel.MapMode.READ_ONLY, position, 12L * triples).asIntBuffer();
+                position += 12L * triples;
+            }
+            Map<String, String> prefixes = new LinkedHashMap<>();
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(position))));
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                prefixes.put(in.readUTF(), in.readUTF());
+            }
+            return new MappedGraph(file, nodes, triples, offsets, data, indexes, prefixes);
+        }
+    }
+
+    private static void checkSection(long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("The graph is too large: a section size is " + size);
+        }
+    }
+
+    /**
+     * Returns the order of the triple positions (0 - subject, 1 - predicate, 2 - object) for the given index.
+     *
+     * @param index int
+     * @return array of three positions
+     */
+    private static int[] columns(int index) {
+        switch (index) {
+            case SPO:
+                return new int[]{0, 1, 2};
+            case POS:
+                return new int[]{1, 2, 0};
+            case OSP:
+                return new int[]{2, 0, 1};
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    private static byte[] encode(Node node) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (node.isURI()) {
+                out.writeByte(URI);
+                writeString(out, node.getURI());
+            } else if (node.isBlank()) {
+                out.writeByte(BLANK);
+                writeString(out, node.getBlankNodeLabel());
+            } else if (node.isLiteral()) {
+                String lang = node.getLiteralLanguage();
+                if (lang != null && !lang.isEmpty()) {
+                    out.writeByte(LANG_LITERAL);
+                    writeString(out, node.getLiteralLexicalForm());
+                    writeString(out, lang);
+                } else {
+                    out.writeByte(LITERAL);
+                    writeString(out, node.getLiteralLexicalForm());
+                    writeString(out, node.getLiteralDatatypeURI());
+                }
+            } else {
+                throw new IllegalArgumentException("Unsupported node " + node);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Returns the file that backs this graph.
+     *
+     * @return {@link Path}
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void performAdd(Triple t) {
+        throw new AddDeniedException("Read-only graph " + file);
+    }
+
+    @Override
+    public void performDelete(Triple t) {
+        throw new DeleteDeniedException("Read-only graph " + file);
+    }
+
+    @Override
+    public void clear() {
+        throw new DeleteDeniedException("Read-only graph " + file);
+    }
+
+    @Override
+    public void remove(Node s, Node p, Node o) {
+        throw new DeleteDeniedException("Read-only graph " + file);
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return CAPABILITIES;
+    }
+
+    @Override
+    protected PrefixMapping createPrefixMapping() {
+        return new PrefixMappingImpl().setNsPrefixes(prefixes).lock();
+    }
+
+    @Override
+    protected int graphBaseSize() {
+        return tripleCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        checkOpen();
+        return tripleCount == 0;
+    }
+
+    @Override
+    protected boolean graphBaseContains(Triple t) {
+        if (!t.isConcrete()) {
+            return super.graphBaseContains(t);
+        }
+        return graphBaseFind(t).hasNext();
+    }
+
+    @Override
+    protected ExtendedIterator<Triple> graphBaseFind(Triple m) {
+        Node sn = m.getMatchSubject();
+        Node pn = m.getMatchPredicate();
+        Node on = m.getMatchObject();
+        int s = sn == null ? NONE : id(sn);
+        int p = pn == null ? NONE : id(pn);
+        int o = on == null ? NONE : id(on);
+        if ((sn != null && s == NONE) || (pn != null && p == NONE) || (on != null && o == NONE)) {
+            return NullIterator.instance();
+        }
+        int index;
+        int[] prefix;
+        if (s != NONE) {
+            if (p != NONE) {
+                index = SPO;
+                prefix = o != NONE ? new int[]{s, p, o} : new int[]{s, p};
+            } else if (o != NONE) {
+                index = OSP;
+                prefix = new int[]{o, s};
+            } else {
+                index = SPO;
+                prefix = new int[]{s};
+            }
+        } else if (p != NONE) {
+            index = POS;
+            prefix = o != NONE ? new int[]{p, o} : new int[]{p};
+        } else if (o != NONE) {
+            index = OSP;
+            prefix = new int[]{o};
+        } else {
+            index = SPO;
+            prefix = new int[0];
+        }
+        IntBuffer rows = indexes[index];
+        return new RowIterator(index, bound(rows, prefix, false), bound(rows, prefix, true));
+    }
+
+    /**
+     * Finds the first row, that is greater than (if {@code upper}) or greater or equal to the given prefix.
+     *
+     * @param rows   {@link IntBuffer} the index
+     * @param prefix array of ids
+     * @param upper  boolean
+     * @return int, a row number
+     */
+    private int bound(IntBuffer rows, int[] prefix, boolean upper) {
+        int lo = 0;
+        int hi = tripleCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = compare(rows, mid, prefix);
+            if (c < 0 || (upper && c == 0)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int compare(IntBuffer rows, int row, int[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            int c = Integer.compare(rows.get(3 * row + i), prefix[i]);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Finds the id of the given node in the dictionary.
+     *
+     * @param node {@link Node}
+     * @return int, the id or {@link #NONE}
+     */
+    private int id(Node node) {
+        if (!node.isURI() && !node.isBlank() && !node.isLiteral()) {
+            return NONE;
+        }
+        byte[] key = encode(node);
+        int lo = 0;
+        int hi = nodeCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = compare(mid, key);
+            if (c < 0) {
+                lo = mid + 1;
+            } else if (c > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return NONE;
+    }
+
+    private int compare(int id, byte[] key) {
+        int from = offsets.get(id);
+        int length = offsets.get(id + 1) - from;
+        int n = Math.min(length, key.length);
+        for (int i = 0; i < n; i++) {
+            int c = Byte.toUnsignedInt(data.get(from + i)) - Byte.toUnsignedInt(key[i]);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return length - key.length;
+    }
+
+    private Node node(int id) {
+        int i = id & (cache.length - 1);
+        CachedNode res = cache[i];
+        if (res == null || res.id != id) {
+            cache[i] = res = new CachedNode(id, decode(id));
+        }
+        return res.node;
+    }
+
+    private Node decode(int id) {
+        int position = offsets.get(id);
+        byte kind = data.get(position++);
+        String first = readString(position);
+        position += 4 + data.getInt(position);
+        switch (kind) {
+            case URI:
+                return NodeFactory.createURI(first);
+            case BLANK:
+                return NodeFactory.createBlankNode(first);
+            case LANG_LITERAL:
+                return NodeFactory.createLiteral(first, readString(position));
+            case LITERAL:
+                return NodeFactory.createLiteral(first, TypeMapper.getInstance().getSafeTypeByName(readString(position)));
+            default:
+                throw new IllegalStateException("Corrupted file " + file + ": unknown node kind " + kind);
+        }
+    }
+
+    private String readString(int position) {
+        int length = data.getInt(position);
+        byte[] res = new byte[length];
+        for (int i = 0; i < length; i++) {
+            res[i] = data.get(position + 4 + i);
+        }
+        return new String(res, StandardCharsets.UTF_8);
+    }
+
+    private Triple triple(int index, int row) {
+        IntBuffer rows = indexes[index];
+        int a = rows.get(3 * row);
+        int b = rows.get(3 * row + 1);
+        int c = rows.get(3 * row + 2);
+        switch (index) {
+            case SPO:
+                return Triple.create(node(a), node(b), node(c));
+            case POS:
+                return Triple.create(node(c), node(a), node(b));
+            case OSP:
+                return Triple.create(node(b), node(c), node(a));
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    private static class CachedNode {
+        private final int id;
+        private final Node node;
+
+        private CachedNode(int id, Node node) {
+            this.id = id;
+            this.node = node;
+        }
+    }
+
+    /**
+     * An iterator over a range of rows of the given index.
+     */
+    private class RowIterator extends NiceIterator<Triple> {
+        private final int index;
+        private final int end;
+        private int current;
+
+        private RowIterator(int index, int start, int end) {
+            this.index = index;
+            this.current = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current < end;
+        }
+
+        @Override
+        public Triple next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return triple(index, current++);
+        }
+    }
+}
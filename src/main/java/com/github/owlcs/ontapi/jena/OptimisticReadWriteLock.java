@@ -0,0 +1,193 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.jena;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ReadWriteLock} that additionally supports optimistic (lock-free) reads.
+ * <p>
+ * Read and write locks are provided by the reentrant {@link ReentrantReadWriteLock},
+ * since in ONT-API the same lock is shared between a manager, its ontologies and their graphs,
+ * and therefore it is acquired recursively.
+ * In addition, each outermost write section is marked with the write lock of an internal {@link StampedLock}.
+ * This allows performing short side-effect-free read operations (see {@link #optimisticRead(Supplier)})
+ * without touching the shared state of the read lock, that may become a bottleneck on read-mostly workloads:
+ * such an operation is performed without locking and then validated;
+ * if a write has happened meanwhile, it is repeated under the ordinary read lock.
+ * Note that the validation happens only after the operation completes,
+ * so the operation must be safe against concurrent modifications of the data it reads:
+ * it is suitable only for data structures that are documented to be safe for concurrent reads
+ * (such as {@link VersionedGraph}), but not for e.g. {@link org.apache.jena.mem.GraphMem}.
+ * <p>
+ * The write lock does not support {@link Condition}s.
+ *
+ * @see RWLockedGraph
+ * @see StampedLock#tryOptimisticRead()
+ */
+public class OptimisticReadWriteLock implements ReadWriteLock, Serializable {
+    private static final long serialVersionUID = 4307616483934570268L;
+
+    private final ReentrantReadWriteLock delegate;
+    private final StampedLock stamped = new StampedLock();
+    private final Lock writeLock = new WriteLock();
+    // the stamp of the outermost write section; accessed only by the write lock holder
+    private transient long stamp;
+
+    /**
+     * Creates a non-fair lock.
+     */
+    public OptimisticReadWriteLock() {
+        this(false);
+    }
+
+    /**
+     * Creates a lock with the given fairness policy.
+     *
+     * @param fair {@code true} if the lock should use a fair ordering policy
+     * @see ReentrantReadWriteLock#ReentrantReadWriteLock(boolean)
+     */
+    public OptimisticReadWriteLock(boolean fair) {
+        this.delegate = new ReentrantReadWriteLock(fair);
+    }
+
+    @Override
+    public Lock readLock() {
+        return delegate.readLock();
+    }
+
+    @Override
+    public Lock writeLock() {
+        return writeLock;
+    }
+
+    /**
+     * Performs the given read operation optimistically.
+     * The operation must be short and must not have any side effects,
+     * since it can be run concurrently with a writer and its result may be discarded.
+     * It also must always terminate when reading a concurrently modified data,
+     * since the validation is performed only after the operation is completed.
+     * Any exceptions and errors thrown by an invalidated attempt are ignored.
+     * If the attempt is invalidated by a write (or the write lock is currently held),
+     * the operation is performed once again under the {@link #readLock() read lock}.
+     *
+     * @param op  {@link Supplier}, not {@code null}
+     * @param <X> the type of result
+     * @return {@link X}
+     */
+    public <X> X optimisticRead(Supplier<X> op) {
+        long s = stamped.tryOptimisticRead();
+        if (s != 0) {
+            try {
+                X res = op.get();
+                if (stamped.validate(s)) {
+                    return res;
+                }
+            } catch (RuntimeException | Error e) {
+                if (stamped.validate(s)) {
+                    throw e;
+                }
+            }
+        }
+        Lock lock = readLock();
+        lock.lock();
+        try {
+            return op.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void startWrite() {
+        if (delegate.getWriteHoldCount() == 1) {
+            stamp = stamped.writeLock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s]", getClass().getSimpleName(), delegate);
+    }
+
+    /**
+     * The write lock: the reentrant write lock plus the stamped lock for the outermost section.
+     */
+    private class WriteLock implements Lock, Serializable {
+        private static final long serialVersionUID = -2173545729840567214L;
+
+        private Lock delegate() {
+            return delegate.writeLock();
+        }
+
+        @Override
+        public void lock() {
+            delegate().lock();
+            startWrite();
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            delegate().lockInterruptibly();
+            startWrite();
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (!delegate().tryLock()) {
+                return false;
+            }
+            startWrite();
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            if (!delegate().tryLock(time, unit)) {
+                return false;
+            }
+            startWrite();
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            if (delegate.getWriteHoldCount() == 1) {
+                stamped.unlockWrite(stamp);
+            }
+            delegate().unlock();
+        }
+
+        /**
+         * Conditions are not supported:
+         * waiting on a condition would release the reentrant write lock, but not the stamped one,
+         * so any other writer would block forever.
+         *
+         * @return nothing
+         * @throws UnsupportedOperationException always
+         */
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("Conditions are not supported by " +
+                    OptimisticReadWriteLock.class.getSimpleName());
+        }
+    }
+}
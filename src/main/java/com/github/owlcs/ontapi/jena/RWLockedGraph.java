@@ -39,11 +39,15 @@ import java.util.stream.Collectors;
 
 /**
  * A {@code Graph} Wrapper with {@link ReadWriteLock} inside (that is the OWL-API synchronization style).
+ * If the lock is {@link OptimisticReadWriteLock} and the base graph allows reading concurrently with a writer
+ * (see {@link #supportsOptimisticReads(Graph)}), then point queries
+ * ({@link #contains(Triple)}, {@link #size()}, {@link #isEmpty()}) are performed without acquiring the read lock.
  * There is also an additional other type of synchronization that ensures thread-safety of using iterators.
  * This is necessary since {@link Iterator iterator}s are lazy in nature.
  * <p>
  * Note: the current implementation may temporarily put the iterator data in memory,
  * for more details see the {@link #find(Triple)} description.
+ * If this is undesirable, consider {@link VersionedGraph}, whose iterators work over immutable snapshots.
  * <p>
  * Also note: although this {@code Graph} is expected to be thread safe,
  * it does not mean that a model, that wraps this graph, is also will be safe in multithreading:
@@ -241,12 +245,12 @@ public class RWLockedGraph implements Graph {
 
     @Override
     public boolean contains(Node s, Node p, Node o) {
-        return withReadLock(() -> base.contains(s, p, o));
+        return withOptimisticReadLock(() -> base.contains(s, p, o));
     }
 
     @Override
     public boolean contains(Triple t) {
-        return withReadLock(() -> base.contains(t));
+        return withOptimisticReadLock(() -> base.contains(t));
     }
 
     @Override
@@ -289,6 +293,8 @@ public class RWLockedGraph implements Graph {
 
     @Override
     public boolean isEmpty() {
+        if (isOptimistic())
+            return withOptimisticReadLock(base::isEmpty);
         lock.readLock().lock();
         try {
             if (base instanceof GraphMem)
@@ -301,7 +307,7 @@ public class RWLockedGraph implements Graph {
 
     @Override
     public int size() {
-        return withReadLock(base::size);
+        return withOptimisticReadLock(base::size);
     }
 
     @Override
@@ -347,6 +353,48 @@ public class RWLockedGraph implements Graph {
         }
     }
 
+    /**
+     * Performs a short side-effect-free read operation, such as {@code contains} or {@code size}.
+     * If the lock is {@link OptimisticReadWriteLock} and the base graph supports it,
+     * the operation is performed optimistically, without locking, otherwise under the read lock.
+     * Iterators are always created under the ordinary read lock.
+     *
+     * @param op  {@link Supplier}
+     * @param <X> anything
+     * @return {@link X}
+     * @see OptimisticReadWriteLock#optimisticRead(Supplier)
+     */
+    protected <X> X withOptimisticReadLock(Supplier<X> op) {
+        if (isOptimistic()) {
+            return ((OptimisticReadWriteLock) lock).optimisticRead(op);
+        }
+        return withReadLock(op);
+    }
+
+    /**
+     * Answers {@code true} if the point queries are performed using optimistic reads.
+     *
+     * @return boolean
+     */
+    public boolean isOptimistic() {
+        return lock instanceof OptimisticReadWriteLock && supportsOptimisticReads(base);
+    }
+
+    /**
+     * Answers {@code true} if the given graph can be read concurrently with a writer without any locking,
+     * i.e. a reader always sees some consistent state and never hangs or corrupts the graph.
+     * Only the {@link VersionedGraph} is known to be such a graph.
+     * Note that an ordinary {@link GraphMem} is not:
+     * an unlocked read during a write (e.g. while the hash table is being resized)
+     * can run into an exception or even an endless loop, that cannot be detected by the validation of the stamp.
+     *
+     * @param graph {@link Graph}
+     * @return boolean
+     */
+    protected boolean supportsOptimisticReads(Graph graph) {
+        return graph instanceof VersionedGraph;
+    }
+
     /**
      * Waits for all other (that are created by other threads) iterators.
      * After operation is finished, all iterators must be either done or cached in the from of snapshot.
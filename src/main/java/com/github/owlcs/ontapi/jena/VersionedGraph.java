@@ -0,0 +1,409 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.jena;
+
+import com.github.andrewoma.dexx.collection.HashMap;
+import com.github.andrewoma.dexx.collection.HashSet;
+import com.github.andrewoma.dexx.collection.Map;
+import com.github.andrewoma.dexx.collection.Pair;
+import com.github.andrewoma.dexx.collection.Set;
+import com.github.owlcs.ontapi.jena.utils.Iter;
+import org.apache.jena.graph.Capabilities;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphEvents;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.AllCapabilities;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.shared.AddDeniedException;
+import org.apache.jena.shared.DeleteDeniedException;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * A thread-safe in-memory {@code Graph} that is based on immutable (persistent) versioned indexes.
+ * <p>
+ * The data is kept in three persistent hash-indexes ({@code SPO}, {@code POS} and {@code OSP}),
+ * which are never changed in place:
+ * each modification produces a new {@link Version version} that shares most of its structure with the previous one,
+ * and then publishes it atomically.
+ * Writers are serialized, while readers do not use any locks at all:
+ * each {@link #find(Triple) find} operation iterates over the version that was current at the moment of the call,
+ * so an iterator is never affected by concurrent modifications and never needs to be copied into memory
+ * (unlike {@link RWLockedGraph}, see {@link RWLockedGraph#waitForEmptyIterators()}).
+ * This makes it suitable for long-running read jobs (e.g. export or validation) running next to live edits.
+ * A stable read-only view of the current version can also be obtained explicitly, see {@link #snapshot()}.
+ * <p>
+ * Unlike {@link org.apache.jena.mem.GraphMem}, this graph matches literals by term equality,
+ * i.e. {@link Capabilities#handlesLiteralTyping()} is {@code false}.
+ * Also note that the event manager is notified after the new version is published,
+ * so listeners may observe the changes of other threads in any order.
+ *
+ * @see RWLockedGraph
+ */
+public class VersionedGraph extends GraphBase {
+    private static final Capabilities CAPABILITIES = new AllCapabilities() {
+        @Override
+        public boolean handlesLiteralTyping() {
+            return false;
+        }
+    };
+
+    private final Object writeLock = new Object();
+    private volatile Version current = Version.EMPTY;
+
+    /**
+     * Returns the number of the current version.
+     * The number is incremented on each effective modification of the graph.
+     *
+     * @return long
+     */
+    public long getVersion() {
+        return current.number;
+    }
+
+    /**
+     * Returns an immutable read-only {@code Graph} view of the current version.
+     * The returned graph does not reflect subsequent modifications and does not require any locking.
+     *
+     * @return {@link Graph}
+     */
+    public Graph snapshot() {
+        return new Snapshot(current);
+    }
+
+    @Override
+    public void performAdd(Triple t) {
+        Objects.requireNonNull(t);
+        if (!t.isConcrete()) {
+            throw new AddDeniedException("Attempt to add a non-concrete triple " + t);
+        }
+        synchronized (writeLock) {
+            current = current.add(t);
+        }
+    }
+
+    @Override
+    public void performDelete(Triple t) {
+        synchronized (writeLock) {
+            current = current.delete(t);
+        }
+    }
+
+    @Override
+    public void clear() {
+        checkOpen();
+        synchronized (writeLock) {
+            current = current.clear();
+        }
+        getEventManager().notifyEvent(this, GraphEvents.removeAll);
+    }
+
+    @Override
+    protected ExtendedIterator<Triple> graphBaseFind(Triple m) {
+        return new RemovableIterator(current.find(m));
+    }
+
+    @Override
+    protected boolean graphBaseContains(Triple t) {
+        return current.contains(t);
+    }
+
+    @Override
+    protected int graphBaseSize() {
+        return current.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        checkOpen();
+        return current.size == 0;
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return CAPABILITIES;
+    }
+
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            current = Version.EMPTY;
+        }
+        super.close();
+    }
+
+    /**
+     * An iterator over a version that supports removing.
+     * Since the version is immutable, removing does not affect the iteration.
+     */
+    private class RemovableIterator extends NiceIterator<Triple> {
+        private final Iterator<Triple> base;
+        private Triple last;
+
+        private RemovableIterator(Iterator<Triple> base) {
+            this.base = base;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return base.hasNext();
+        }
+
+        @Override
+        public Triple next() {
+            return last = base.next();
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            delete(last);
+            last = null;
+        }
+    }
+
+    /**
+     * A read-only graph over the fixed version.
+     */
+    public static class Snapshot extends GraphBase {
+        private static final Capabilities CAPABILITIES = new AllCapabilities() {
+            @Override
+            public boolean addAllowed() {
+                return false;
+            }
+
+            @Override
+            public boolean deleteAllowed() {
+                return false;
+            }
+
+            @Override
+            public boolean handlesLiteralTyping() {
+                return false;
+            }
+        };
+        private final Version version;
+
+        protected Snapshot(Version version) {
+            this.version = Objects.requireNonNull(version);
+        }
+
+        /**
+         * Returns the number of the version.
+         *
+         * @return long
+         */
+        public long getVersion() {
+            return version.number;
+        }
+
+        @Override
+        public void performAdd(Triple t) {
+            throw new AddDeniedException("Read-only snapshot");
+        }
+
+        @Override
+        public void performDelete(Triple t) {
+            throw new DeleteDeniedException("Read-only snapshot");
+        }
+
+        @Override
+        public void clear() {
+            throw new DeleteDeniedException("Read-only snapshot");
+        }
+
+        @Override
+        public void remove(Node s, Node p, Node o) {
+            throw new DeleteDeniedException("Read-only snapshot");
+        }
+
+        @Override
+        protected ExtendedIterator<Triple> graphBaseFind(Triple m) {
+            return Iter.create(version.find(m));
+        }
+
+        @Override
+        protected boolean graphBaseContains(Triple t) {
+            return version.contains(t);
+        }
+
+        @Override
+        protected int graphBaseSize() {
+            return version.size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return version.size == 0;
+        }
+
+        @Override
+        public Capabilities getCapabilities() {
+            return CAPABILITIES;
+        }
+    }
+
+    /**
+     * An immutable state of the graph: three persistent indexes and the number of triples.
+     * Each index is a two-level map, e.g. {@code SPO} is {@code subject -> predicate -> set of objects}.
+     */
+    protected static final class Version {
+        private static final Version EMPTY = new Version(0, 0, HashMap.empty(), HashMap.empty(), HashMap.empty());
+
+        private final long number;
+        private final int size;
+        private final Map<Node, Map<Node, Set<Node>>> spo;
+        private final Map<Node, Map<Node, Set<Node>>> pos;
+        private final Map<Node, Map<Node, Set<Node>>> osp;
+
+        private Version(long number,
+                        int size,
+                        Map<Node, Map<Node, Set<Node>>> spo,
+                        Map<Node, Map<Node, Set<Node>>> pos,
+                        Map<Node, Map<Node, Set<Node>>> osp) {
+            this.number = number;
+            this.size = size;
+            this.spo = spo;
+            this.pos = pos;
+            this.osp = osp;
+        }
+
+        private static Map<Node, Map<Node, Set<Node>>> put(Map<Node, Map<Node, Set<Node>>> index,
+                                                           Node a, Node b, Node c) {
+            Map<Node, Set<Node>> level = index.get(a);
+            if (level == null) {
+                level = HashMap.empty();
+            }
+            Set<Node> values = level.get(b);
+            if (values == null) {
+                values = HashSet.empty();
+            }
+            return index.put(a, level.put(b, values.add(c)));
+        }
+
+        private static Map<Node, Map<Node, Set<Node>>> remove(Map<Node, Map<Node, Set<Node>>> index,
+                                                              Node a, Node b, Node c) {
+            Map<Node, Set<Node>> level = index.get(a);
+            Set<Node> values = level.get(b).remove(c);
+            level = values.isEmpty() ? level.remove(b) : level.put(b, values);
+            return level.isEmpty() ? index.remove(a) : index.put(a, level);
+        }
+
+        private static Set<Node> get(Map<Node, Map<Node, Set<Node>>> index, Node a, Node b) {
+            Map<Node, Set<Node>> level = index.get(a);
+            return level == null ? null : level.get(b);
+        }
+
+        boolean contains(Triple t) {
+            if (!t.isConcrete()) {
+                return find(t).hasNext();
+            }
+            Set<Node> objects = get(spo, t.getSubject(), t.getPredicate());
+            return objects != null && objects.contains(t.getObject());
+        }
+
+        Version add(Triple t) {
+            if (contains(t)) {
+                return this;
+            }
+            Node s = t.getSubject();
+            Node p = t.getPredicate();
+            Node o = t.getObject();
+            return new Version(number + 1, size + 1, put(spo, s, p, o), put(pos, p, o, s), put(osp, o, s, p));
+        }
+
+        Version delete(Triple t) {
+            if (!t.isConcrete() || !contains(t)) {
+                return this;
+            }
+            Node s = t.getSubject();
+            Node p = t.getPredicate();
+            Node o = t.getObject();
+            return new Version(number + 1, size - 1, remove(spo, s, p, o), remove(pos, p, o, s), remove(osp, o, s, p));
+        }
+
+        Version clear() {
+            return size == 0 ? this : new Version(number + 1, 0, HashMap.empty(), HashMap.empty(), HashMap.empty());
+        }
+
+        /**
+         * Lists all triples matching the pattern using the most suitable index.
+         *
+         * @param m {@link Triple} pattern
+         * @return {@code Iterator} of {@link Triple}s
+         */
+        Iterator<Triple> find(Triple m) {
+            Node s = m.getSubject();
+            Node p = m.getPredicate();
+            Node o = m.getObject();
+            if (s.isConcrete()) {
+                if (!p.isConcrete() && o.isConcrete()) {
+                    return find(osp, o, s, p, (a, b, c) -> Triple.create(b, c, a));
+                }
+                return find(spo, s, p, o, (a, b, c) -> Triple.create(a, b, c));
+            }
+            if (p.isConcrete()) {
+                return find(pos, p, o, s, (a, b, c) -> Triple.create(c, a, b));
+            }
+            if (o.isConcrete()) {
+                return find(osp, o, s, p, (a, b, c) -> Triple.create(b, c, a));
+            }
+            return Iter.flatMap(Iter.create(spo.iterator()),
+                    x -> level(x.component1(), x.component2(), (a, b, c) -> Triple.create(a, b, c)));
+        }
+
+        private static Iterator<Triple> find(Map<Node, Map<Node, Set<Node>>> index,
+                                             Node a, Node b, Node c,
+                                             TripleFactory factory) {
+            Map<Node, Set<Node>> level = index.get(a);
+            if (level == null) {
+                return NiceIterator.emptyIterator();
+            }
+            if (!b.isConcrete()) {
+                // the index is chosen so that the third node is never concrete here
+                return level(a, level, factory);
+            }
+            Set<Node> values = level.get(b);
+            if (values == null) {
+                return NiceIterator.emptyIterator();
+            }
+            if (c.isConcrete()) {
+                return values.contains(c) ? Iter.of(factory.create(a, b, c)) : NiceIterator.emptyIterator();
+            }
+            return Iter.create(values.iterator()).mapWith(x -> factory.create(a, b, x));
+        }
+
+        private static Iterator<Triple> level(Node a, Map<Node, Set<Node>> level, TripleFactory factory) {
+            return Iter.flatMap(Iter.create(level.iterator()), (Pair<Node, Set<Node>> x) -> {
+                Node b = x.component1();
+                return Iter.create(x.component2().iterator()).mapWith(c -> factory.create(a, b, c));
+            });
+        }
+    }
+
+    /**
+     * Creates a {@link Triple} from the nodes in the index order.
+     */
+    @FunctionalInterface
+    private interface TripleFactory {
+        Triple create(Node a, Node b, Node c);
+    }
+}
@@ -1199,6 +1199,11 @@ public abstract class OntCEImpl extends OntObjectImpl implements OntClass {
             return map(node, eg) != null;
         }
 
+        @Override
+        public EnhNode wrapOrNull(Node node, EnhGraph eg) {
+            return createInstance(node, eg);
+        }
+
         @Override
         public EnhNode wrap(Node node, EnhGraph eg) throws OntJenaException {
             Factory f = map(node, eg);
@@ -331,5 +331,10 @@ public class OntDRImpl extends OntObjectImpl implements OntDataRange {
                 throw ex;
             return wrap(node, eg, ex, anonymous);
         }
+
+        @Override
+        public EnhNode wrapOrNull(Node node, EnhGraph eg) {
+            return createInstance(node, eg);
+        }
     }
 }
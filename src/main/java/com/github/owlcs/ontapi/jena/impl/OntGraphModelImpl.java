@@ -66,6 +66,17 @@ public class OntGraphModelImpl extends UnionModel implements OntModel, Personali
         super(graph, OntPersonality.asJenaPersonality(personality));
     }
 
+    /**
+     * Answers the cache of {@code []}-list members, that is used while reading {@link OntListImpl OntList}s.
+     * Since the cache must be bound to the graph through a listener,
+     * it is not created by default, but it can be provided by a subclass.
+     *
+     * @return {@link OntListCache} or {@code null} if there is no list cache
+     */
+    protected OntListCache getListCache() {
+        return null;
+    }
+
     /**
      * Creates a fresh ontology resource (i.e. {@code @uri rdf:type owl:Ontology} triple)
      * and moves to it all content from existing ontology resources (if they present).
@@ -0,0 +1,204 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.jena.impl;
+
+import com.github.owlcs.ontapi.jena.vocabulary.RDF;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.sparql.util.graph.GraphListenerBase;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of materialized {@link RDF#List rdf:List} contents,
+ * which allows to read {@code []}-lists (e.g. {@code owl:unionOf}, {@code owl:oneOf}, {@code owl:propertyChainAxiom})
+ * without walking the {@code rdf:first}/{@code rdf:rest} chain through the graph every time.
+ * For each cached list the head {@link Node} is mapped to the array of its {@code rdf:first} objects.
+ * The cache is a {@link org.apache.jena.graph.GraphListener Graph Listener}:
+ * it must be registered in the event manager of the graph from which the lists are read,
+ * and then any added or deleted triple whose subject is a cell of some cached list discards that list.
+ * Any other (bulk) graph event discards the whole cache.
+ * Only well-formed lists that entirely belong to the graph are cached.
+ *
+ * @see OntGraphModelImpl#getListCache()
+ */
+public class OntListCache extends GraphListenerBase {
+    private static final Node FIRST = RDF.first.asNode();
+
+    private final Graph graph;
+    private final Map<Node, Entry> lists = new ConcurrentHashMap<>();
+    // a list cell (a head or a b-node from the rdf:rest chain) -> heads of the cached lists containing this cell
+    private final Map<Node, Set<Node>> cells = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache for the given graph.
+     * Note that the cache is not registered as listener automatically.
+     *
+     * @param graph {@link Graph} to read lists, not {@code null}
+     */
+    public OntListCache(Graph graph) {
+        this.graph = Objects.requireNonNull(graph);
+    }
+
+    /**
+     * Answers the graph, whose lists are cached.
+     *
+     * @return {@link Graph}
+     */
+    public Graph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Answers the list members ({@code rdf:first} objects) in their natural order,
+     * loading them from the graph if they are not cached yet.
+     *
+     * @param head  {@link Node}, the list head, not {@code null} and not {@code rdf:nil}
+     * @return an {@code Array} of {@link Node}s
+     * or {@code null} if the list is not well-formed or is not in the graph and, therefore, cannot be cached
+     */
+    public Node[] get(Node head) {
+        Entry res = lists.get(head);
+        if (res != null) {
+            return res.members;
+        }
+        if ((res = load(graph, head)) == null) {
+            return null;
+        }
+        put(head, res);
+        return res.members;
+    }
+
+    /**
+     * Reads the list from the graph.
+     *
+     * @param graph {@link Graph}, not {@code null}
+     * @param head  {@link Node}, not {@code null}
+     * @return {@link Entry} or {@code null} if the list is broken
+     */
+    protected static Entry load(Graph graph, Node head) {
+        List<Node> members = new ArrayList<>();
+        List<Node> chain = new ArrayList<>();
+        Iterator<List<Triple>> it = new OntListImpl.RDFListIterator(graph, head);
+        try {
+            while (it.hasNext()) {
+                List<Triple> batch = it.next();
+                Node first = null;
+                for (Triple t : batch) {
+                    if (FIRST.equals(t.getPredicate())) {
+                        first = t.getObject();
+                        break;
+                    }
+                }
+                if (first == null) {
+                    return null;
+                }
+                chain.add(batch.get(0).getSubject());
+                members.add(first);
+            }
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+        return new Entry(members.toArray(new Node[0]), chain.toArray(new Node[0]));
+    }
+
+    private synchronized void put(Node head, Entry entry) {
+        lists.put(head, entry);
+        for (Node c : entry.cells) {
+            cells.computeIfAbsent(c, x -> new HashSet<>()).add(head);
+        }
+    }
+
+    /**
+     * Discards all cached lists that contain the given node as a cell.
+     *
+     * @param cell {@link Node}, not {@code null}
+     */
+    public synchronized void invalidate(Node cell) {
+        Set<Node> heads = cells.remove(cell);
+        if (heads == null) {
+            return;
+        }
+        for (Node head : heads) {
+            Entry entry = lists.remove(head);
+            if (entry == null) continue;
+            for (Node c : entry.cells) {
+                Set<Node> other = cells.get(c);
+                if (other == null) continue;
+                other.remove(head);
+                if (other.isEmpty()) {
+                    cells.remove(c);
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards the whole cache.
+     */
+    public synchronized void clear() {
+        lists.clear();
+        cells.clear();
+    }
+
+    /**
+     * Answers the number of cached lists.
+     *
+     * @return int
+     */
+    public int size() {
+        return lists.size();
+    }
+
+    @Override
+    protected void addEvent(Triple t) {
+        invalidate(t.getSubject());
+    }
+
+    @Override
+    protected void deleteEvent(Triple t) {
+        invalidate(t.getSubject());
+    }
+
+    @Override
+    public void notifyAddGraph(Graph g, Graph other) {
+        clear();
+    }
+
+    @Override
+    public void notifyDeleteGraph(Graph g, Graph other) {
+        clear();
+    }
+
+    @Override
+    public void notifyEvent(Graph source, Object value) {
+        clear();
+    }
+
+    /**
+     * A cached list: members and cells.
+     */
+    protected static class Entry {
+        private final Node[] members;
+        private final Node[] cells;
+
+        protected Entry(Node[] members, Node[] cells) {
+            this.members = members;
+            this.cells = cells;
+        }
+    }
+}
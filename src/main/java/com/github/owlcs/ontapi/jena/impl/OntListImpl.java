@@ -415,15 +415,37 @@ public abstract class OntListImpl<E extends RDFNode> extends ResourceImpl implem
      * @return {@link ExtendedIterator} of {@link E}-elements
      */
     public ExtendedIterator<E> listMembers() {
+        OntGraphModelImpl m = getModel();
+        Node[] cached = getCachedMembers();
+        if (cached != null) {
+            return Iter.of(cached)
+                    .mapWith(x -> m.getNodeAs(x, RDFNode.class))
+                    .filterKeep(this::isValid)
+                    .mapWith(this::cast);
+        }
         Iterator<List<Triple>> it = createRDFListIterator();
         if (it == null) return NullIterator.instance();
-        OntGraphModelImpl m = getModel();
         return Iter.create(it)
                 .mapWith(x -> createRDFFirst(m, x).getObject())
                 .filterKeep(this::isValid)
                 .mapWith(this::cast);
     }
 
+    /**
+     * Answers the member nodes from the {@link OntListCache model's list cache}, if it is available.
+     *
+     * @return an {@code Array} of {@link Node}s or {@code null}
+     * in case there is no cache, or this list is {@code rdf:nil}, or the list is broken
+     */
+    protected Node[] getCachedMembers() {
+        OntGraphModelImpl m = getModel();
+        OntListCache cache = m.getListCache();
+        if (cache == null) return null;
+        RDFList list = getRDFList();
+        if (isNil(list)) return null;
+        return cache.get(list.asNode());
+    }
+
     @Override
     public Stream<OntStatement> spec() {
         return Iter.asStream(listSpec(), getCharacteristics());
@@ -437,6 +459,15 @@ public abstract class OntListImpl<E extends RDFNode> extends ResourceImpl implem
 
     @Override
     public boolean contains(E item) {
+        Node[] cached = getCachedMembers();
+        if (cached != null) {
+            // literals are compared by value, as the graph does:
+            Node node = item.asNode();
+            for (Node n : cached) {
+                if (n.sameValueAs(node)) return true;
+            }
+            return false;
+        }
         RDFList list = getRDFList();
         if (isNil(list)) return false;
         return Iter.anyMatch(getModel().getGraph().find(Node.ANY, RDF.first.asNode(), item.asNode()),
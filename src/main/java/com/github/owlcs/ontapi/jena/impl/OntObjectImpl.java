@@ -24,6 +24,8 @@ import com.github.owlcs.ontapi.jena.model.OntStatement;
 import com.github.owlcs.ontapi.jena.utils.Iter;
 import com.github.owlcs.ontapi.jena.vocabulary.RDF;
 import org.apache.jena.enhanced.EnhGraph;
+import org.apache.jena.enhanced.EnhNode;
+import org.apache.jena.enhanced.Implementation;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.*;
@@ -248,6 +250,9 @@ public class OntObjectImpl extends ResourceImpl implements OntObject {
      * @see UnionModel#getNodeAs(Node, Class)
      */
     public static <X extends RDFNode> X getNodeAs(RDFNode node, Class<X> view) {
+        if (node instanceof OntObjectImpl) {
+            return ((OntObjectImpl) node).asOrNull(view);
+        }
         try {
             return node.as(view);
         } catch (JenaException ignore) {
@@ -255,6 +260,52 @@ public class OntObjectImpl extends ResourceImpl implements OntObject {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * Impl note: the found view is remembered, so the subsequent call of the method {@link #as(Class)}
+     * with the same {@code view} does not evaluate the type filters again.
+     *
+     * @param view a {@code Class}-type of the desired RDF view (interface)
+     * @param <X>  any subtype of {@link RDFNode}
+     * @return boolean
+     */
+    @Override
+    protected <X extends RDFNode> boolean canSupport(Class<X> view) {
+        return asOrNull(view) != null;
+    }
+
+    /**
+     * Answers a view of this node that conforms to the given interface {@code view},
+     * or {@code null} if there is no such view.
+     * If the view is backed by an {@link ObjectFactory},
+     * the node is tested and wrapped in a single step (see {@link ObjectFactory#wrapOrNull(Node, EnhGraph)}),
+     * no exception is thrown in that case.
+     * The found view is cached at the object level, as for the method {@link #as(Class)}.
+     *
+     * @param view a {@code Class}-type of the desired RDF view (interface)
+     * @param <X>  any subtype of {@link RDFNode}
+     * @return an instance of the type {@link X} or {@code null}
+     */
+    protected <X extends RDFNode> X asOrNull(Class<X> view) {
+        if (alreadyHasView(view)) {
+            return as(view);
+        }
+        if (enhGraph == null) {
+            return null;
+        }
+        Implementation factory = getPersonality().getImplementation(view);
+        if (!(factory instanceof ObjectFactory)) {
+            // not an ONT-API view, the standard jena way
+            return super.canSupport(view) ? as(view) : null;
+        }
+        EnhNode res = ((ObjectFactory) factory).wrapOrNull(node, enhGraph);
+        if (res == null) {
+            return null;
+        }
+        addView(res);
+        return view.cast(res);
+    }
+
     /**
      * Creates a fresh {@link OntObject} instance.
      *
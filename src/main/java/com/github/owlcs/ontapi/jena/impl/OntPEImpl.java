@@ -164,29 +164,32 @@ public abstract class OntPEImpl extends OntObjectImpl implements OntProperty {
             if (!node.isURI()) {
                 return anonymous.createInstance(node, eg);
             }
-            for (Factory f : factories) {
-                EnhNode res = safeWrap(node, eg, f.f);
-                if (res != null) return res;
+            return wrapNamed(node, eg);
+        }
+
+        @Override
+        public EnhNode wrapOrNull(Node node, EnhGraph eg) {
+            if (!node.isURI()) {
+                return anonymous.wrapOrNull(node, eg);
             }
-            return null;
+            return wrapNamed(node, eg);
         }
 
         @Override
         public EnhNode wrap(Node node, EnhGraph eg) {
             if (node.isBlank())
                 return anonymous.wrap(node, eg);
-            OntJenaException.Conversion ex = new OntJenaException.Conversion("Can't convert node " +
-                    node + " to Property Expression");
-            if (!node.isURI())
-                throw ex;
+            EnhNode res = node.isURI() ? wrapNamed(node, eg) : null;
+            if (res != null) return res;
+            throw new OntJenaException.Conversion("Can't convert node " + node + " to Property Expression");
+        }
+
+        private EnhNode wrapNamed(Node node, EnhGraph eg) {
             for (Factory f : factories) {
-                try {
-                    return f.f.wrap(node, eg);
-                } catch (OntJenaException.Conversion c) {
-                    ex.addSuppressed(c);
-                }
+                EnhNode res = safeWrap(node, eg, f.f);
+                if (res != null) return res;
             }
-            throw ex;
+            return null;
         }
 
         private static class Factory {
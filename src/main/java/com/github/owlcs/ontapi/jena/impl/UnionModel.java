@@ -16,8 +16,12 @@ package com.github.owlcs.ontapi.jena.impl;
 
 import com.github.owlcs.ontapi.jena.OntJenaException;
 import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.impl.conf.ObjectFactory;
 import com.github.owlcs.ontapi.jena.utils.Graphs;
 import org.apache.jena.atlas.lib.Cache;
+import org.apache.jena.enhanced.EnhGraph;
+import org.apache.jena.enhanced.EnhNode;
+import org.apache.jena.enhanced.Implementation;
 import org.apache.jena.enhanced.Personality;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Node;
@@ -135,7 +139,8 @@ public class UnionModel extends ModelCom {
 
     /**
      * Returns a {@link RDFNode} for the given type and, if the result is present, caches it node at the model level.
-     * The method works silently: normally no exception is expected.
+     * The method works silently: normally no exception is expected;
+     * for the types backed by {@link ObjectFactory}s no exception is even created (see {@link #probeNodeAs(Node, Class)}).
      *
      * @param node {@link Node}
      * @param type {@link Class}-type
@@ -146,9 +151,13 @@ public class UnionModel extends ModelCom {
      */
     public <N extends RDFNode> N findNodeAs(Node node, Class<N> type) {
         try {
-            return getNodeAs(node, type);
+            return probeNodeAs(node, type);
         } catch (OntJenaException.Conversion ignore) {
-            // ignore
+            return null;
+        } catch (OntJenaException e) {
+            throw e;
+        } catch (JenaException ignore) {
+            // a non-ONT-API view
             return null;
         }
     }
@@ -200,7 +209,7 @@ public class UnionModel extends ModelCom {
         Set<Node> nodes = visited.get();
         try {
             if (nodes.add(node)) {
-                return getNodeAsInternal(node, type);
+                return probeNodeAs(node, type);
             }
             throw new OntJenaException.Recursion("Can't cast to " + OntObjectImpl.viewAsString(type) + ": " +
                     "graph contains a recursion for node <" + node + ">");
@@ -232,6 +241,42 @@ public class UnionModel extends ModelCom {
                 Objects.requireNonNull(type, "Null class view."));
     }
 
+    /**
+     * Answers an enhanced node that wraps the given node and conforms to the given interface type,
+     * or {@code null} if no match found.
+     * The returned RDF node is cached at the model-level.
+     * If the type is backed by an {@link ObjectFactory},
+     * the node is tested and wrapped in a single step (see {@link ObjectFactory#wrapOrNull(Node, EnhGraph)}),
+     * and no exception is thrown;
+     * otherwise the method delegates to {@link #getNodeAsInternal(Node, Class)}.
+     *
+     * @param node a node (assumed to be in this graph)
+     * @param type a type denoting the enhanced facet desired
+     * @param <N>  a subtype of {@link RDFNode}
+     * @return an enhanced node or {@code null}
+     * @throws JenaException unable to construct a new RDF view of a type that is not backed by {@link ObjectFactory}
+     */
+    protected <N extends RDFNode> N probeNodeAs(Node node, Class<N> type) {
+        RDFNode cached = enhNodes.getIfPresent(Objects.requireNonNull(node, "Null node"));
+        if (cached instanceof OntObjectImpl) {
+            return ((OntObjectImpl) cached).asOrNull(Objects.requireNonNull(type, "Null class view."));
+        }
+        if (cached != null) {
+            return getNodeAsInternal(node, type);
+        }
+        Implementation factory = getPersonality().getImplementation(Objects.requireNonNull(type, "Null class view."));
+        if (!(factory instanceof ObjectFactory)) {
+            return getNodeAsInternal(node, type);
+        }
+        EnhNode wrapped = ((ObjectFactory) factory).wrapOrNull(node, this);
+        if (wrapped == null) {
+            return null;
+        }
+        N res = type.cast(wrapped);
+        enhNodes.put(node, res);
+        return res;
+    }
+
     @Override
     public String toString() {
         return String.format("UnionModel{%s}", Graphs.getName(getBaseGraph()));
@@ -87,6 +87,11 @@ public class WrappedFactoryImpl extends BaseFactoryImpl {
         return getDelegate(eg).wrap(node, eg);
     }
 
+    @Override
+    public EnhNode wrapOrNull(Node node, EnhGraph eg) {
+        return getDelegate(eg).wrapOrNull(node, eg);
+    }
+
     @Override
     public String toString() {
         return String.format("Factory[%s]", OntObjectImpl.viewAsString(type));
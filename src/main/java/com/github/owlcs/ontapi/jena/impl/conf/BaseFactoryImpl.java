@@ -41,11 +41,7 @@ public abstract class BaseFactoryImpl extends Implementation implements ObjectFa
     }
 
     protected static EnhNode safeWrap(Node n, EnhGraph g, ObjectFactory f) {
-        try {
-            return f.wrap(n, g);
-        } catch (OntJenaException.Conversion c) {
-            return null;
-        }
+        return f.wrapOrNull(n, g);
     }
 
     protected static boolean canWrap(Node node, EnhGraph eg, ObjectFactory... factories) {
@@ -64,23 +60,15 @@ public abstract class BaseFactoryImpl extends Implementation implements ObjectFa
 
     protected static EnhNode wrap(Node node, EnhGraph eg, OntJenaException.Conversion ex, ObjectFactory... factories) {
         for (ObjectFactory f : factories) {
-            try {
-                return f.wrap(node, eg);
-            } catch (OntJenaException.Conversion c) {
-                ex.addSuppressed(c);
-            }
+            EnhNode res = f.wrapOrNull(node, eg);
+            if (res != null) return res;
         }
         throw ex;
     }
 
     protected static EnhNode wrap(Node node, EnhGraph eg, OntJenaException.Conversion ex, Iterable<ObjectFactory> factories) {
-        for (ObjectFactory f : factories) {
-            try {
-                return f.wrap(node, eg);
-            } catch (OntJenaException.Conversion c) {
-                ex.addSuppressed(c);
-            }
-        }
+        EnhNode res = safeWrap(node, eg, factories);
+        if (res != null) return res;
         throw ex;
     }
 
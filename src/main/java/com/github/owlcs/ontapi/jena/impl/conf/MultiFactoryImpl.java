@@ -75,8 +75,13 @@ public class MultiFactoryImpl extends BaseFactoryImpl {
     @Override
     public EnhNode createInstance(Node node, EnhGraph eg) {
         if (fittingFilter != null && !fittingFilter.test(node, eg)) return null;
-        return Iter.findFirst(Iter.filter(listFactories(), f -> f.canWrap(node, eg))
-                .mapWith(f -> f.createInstance(node, eg))).orElse(null);
+        return Iter.findFirst(listFactories().mapWith(f -> f.wrapOrNull(node, eg)).filterDrop(Objects::isNull))
+                .orElse(null);
+    }
+
+    @Override
+    public EnhNode wrapOrNull(Node node, EnhGraph eg) {
+        return createInstance(node, eg);
     }
 
     @Override
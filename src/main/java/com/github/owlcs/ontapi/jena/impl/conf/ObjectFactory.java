@@ -96,6 +96,22 @@ public interface ObjectFactory {
         return createInstance(node, eg);
     }
 
+    /**
+     * Tests the given pair of {@link Node node} and {@link EnhGraph graph}
+     * and creates a fresh {@link EnhNode} instance in a single step, if it is possible.
+     * Unlike the method {@link #wrap(Node, EnhGraph)}, this method does not throw any exception
+     * in case the wrapping is impossible, and, unlike the pair {@link #canWrap(Node, EnhGraph)}
+     * and {@link #wrap(Node, EnhGraph)}, does not evaluate the type filters twice.
+     * This is the preferred way to probe a node for the interface on read paths.
+     *
+     * @param node {@link Node}, not {@code null}
+     * @param eg   {@link EnhGraph}, not {@code null}
+     * @return {@link EnhNode} or {@code null} if the node cannot represent the type in the graph
+     */
+    default EnhNode wrapOrNull(Node node, EnhGraph eg) {
+        return canWrap(node, eg) ? createInstance(node, eg) : null;
+    }
+
     /**
      * Makes interface-defined changes in the given graph
      * and returns a new enhanced node, wrapping the given {@link Node}.
@@ -14,8 +14,11 @@
 
 package com.github.owlcs.ontapi.jena.utils;
 
+import com.github.owlcs.ontapi.jena.CompactGraph;
+import com.github.owlcs.ontapi.jena.MappedGraph;
 import com.github.owlcs.ontapi.jena.RWLockedGraph;
 import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.VersionedGraph;
 import com.github.owlcs.ontapi.jena.model.OntModel;
 import com.github.owlcs.ontapi.jena.vocabulary.OWL;
 import com.github.owlcs.ontapi.jena.vocabulary.RDF;
@@ -185,7 +188,8 @@ public class Graphs {
      * @see Graphs#size(Graph)
      */
     public static boolean isSized(Graph graph) {
-        if (graph instanceof GraphMem) {
+        if (graph instanceof GraphMem || graph instanceof CompactGraph || graph instanceof MappedGraph
+                || graph instanceof VersionedGraph) {
             return true;
         }
         if (graph instanceof UnionGraph) {
@@ -203,12 +207,14 @@ public class Graphs {
      * @see Graphs#isSized(Graph)
      */
     public static long size(Graph graph) {
-        if (graph instanceof GraphMem) {
+        if (graph instanceof GraphMem || graph instanceof CompactGraph || graph instanceof MappedGraph
+                || graph instanceof VersionedGraph) {
             return graph.size();
         }
         if (graph instanceof UnionGraph && ((UnionGraph) graph).getUnderlying().isEmpty()) {
             Graph bg = ((UnionGraph) graph).getBaseGraph();
-            if (bg instanceof GraphMem) {
+            if (bg instanceof GraphMem || bg instanceof CompactGraph || bg instanceof MappedGraph
+                    || bg instanceof VersionedGraph) {
                 return bg.size();
             }
         }
@@ -22,17 +22,41 @@ import java.util.stream.Stream;
 
 /**
  * A transformation statistic object, which is an outcome of transform process.
- * Notice that it holds everything in memory.
+ * For each {@link Type} and {@link Transform} it holds the number of the tracked triples
+ * and a bounded sample of them: at most {@link #getLimit()} triples are kept in memory,
+ * the rest is only counted.
+ * In the full mode ({@link #FULL}) it holds every tracked triple in memory.
  * <p>
  * Created by @szuev on 27.06.2018.
+ *
+ * @see GraphTransformers#setStatsLimit(int)
  */
 public class GraphStats {
+    /**
+     * The default maximum number of triples to keep for each type and transform.
+     * Note that the loader metadata ({@code getUnparsedTriples()} and {@code getGuessedDeclarations()})
+     * is copied from the stats, and therefore it is complete only in the {@link #FULL} mode.
+     */
+    public static final int DEFAULT_SAMPLE_LIMIT = 1024;
+    /**
+     * The limit, that means every triple is kept in memory.
+     */
+    public static final int FULL = -1;
+
     protected final Graph graph;
+    protected final int limit;
     protected Map<Type, Map<String, Set<Triple>>> triples = new EnumMap<>(Type.class);
-    protected Set<GraphStats> sub = new HashSet<>();
+    protected Map<Type, Map<String, Long>> counts = new EnumMap<>(Type.class);
+    // use linked set to keep the order of sub-graphs, it does not depend on the transformation mode:
+    protected Set<GraphStats> sub = new LinkedHashSet<>();
 
     protected GraphStats(Graph graph) {
+        this(graph, FULL);
+    }
+
+    protected GraphStats(Graph graph, int limit) {
         this.graph = Objects.requireNonNull(graph);
+        this.limit = limit;
     }
 
     protected void putTriples(Transform transform,
@@ -46,30 +70,123 @@ public class GraphStats {
     }
 
     protected void put(Type type, String name, Set<Triple> triples) {
-        map(type).computeIfAbsent(name, s -> new HashSet<>()).addAll(triples);
+        put(type, name, triples, triples.size());
+    }
+
+    /**
+     * Registers the given number of triples, and puts the triples from the sample while the limit allows.
+     *
+     * @param type   {@link Type}
+     * @param name   String, the transform id
+     * @param sample {@code Collection} of {@link Triple}s, a part of the tracked triples (or all of them)
+     * @param count  long, the total number of the tracked triples
+     */
+    protected void put(Type type, String name, Collection<Triple> sample, long count) {
+        Set<Triple> res = map(type).computeIfAbsent(name, s -> new HashSet<>());
+        for (Triple t : sample) {
+            if (isFull(res)) break;
+            res.add(t);
+        }
+        counts(type).merge(name, count, Long::sum);
+    }
+
+    /**
+     * Registers the triples from the given stream one by one, without collecting them all in memory.
+     *
+     * @param type    {@link Type}
+     * @param name    String, the transform id
+     * @param triples {@code Stream} of {@link Triple}s
+     */
+    protected void put(Type type, String name, Stream<Triple> triples) {
+        Set<Triple> res = map(type).computeIfAbsent(name, s -> new HashSet<>());
+        long count = 0;
+        Iterator<Triple> it = triples.iterator();
+        while (it.hasNext()) {
+            Triple t = it.next();
+            if (isFull(res) ? !res.contains(t) : res.add(t)) {
+                count++;
+            }
+        }
+        counts(type).merge(name, count, Long::sum);
+    }
+
+    private boolean isFull(Set<Triple> sample) {
+        return limit >= 0 && sample.size() >= limit;
     }
 
     protected void putStats(GraphStats other) {
         this.sub.add(other);
     }
 
+    /**
+     * Returns the tracked triples for the given type and transform.
+     * Note: if the stats are not {@link #isComplete() complete}, only a sample is returned.
+     *
+     * @param type {@link Type}
+     * @param name String, the transform id
+     * @return unmodifiable {@code Set} of {@link Triple}s
+     */
     public Set<Triple> getTriples(Type type, String name) {
         return getUnmodifiable(map(type), name);
     }
 
+    /**
+     * Lists the tracked triples for the given type.
+     * Note: if the stats are not {@link #isComplete() complete}, only a sample is returned.
+     *
+     * @param type {@link Type}
+     * @return {@code Stream} of {@link Triple}s
+     */
     public Stream<Triple> triples(Type type) {
         return map(type).values().stream().flatMap(Collection::stream);
     }
 
+    /**
+     * Returns the number of the tracked triples for the given type and transform.
+     *
+     * @param type {@link Type}
+     * @param name String, the transform id
+     * @return long
+     */
+    public long count(Type type, String name) {
+        return counts(type).getOrDefault(name, 0L);
+    }
+
+    /**
+     * Returns the number of the tracked triples for the given type.
+     *
+     * @param type {@link Type}
+     * @return long
+     */
+    public long count(Type type) {
+        return counts(type).values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Answers {@code true} if this object holds all the tracked triples, not only samples.
+     *
+     * @return boolean
+     */
+    public boolean isComplete() {
+        return counts.entrySet().stream().allMatch(e -> e.getValue().entrySet().stream()
+                .allMatch(x -> x.getValue() == getTriples(e.getKey(), x.getKey()).size()));
+    }
+
+    /**
+     * Returns the maximum number of triples that are kept in memory for each type and transform.
+     *
+     * @return int, a negative number means the full mode
+     */
+    public int getLimit() {
+        return limit;
+    }
+
     public boolean hasTriples(Type type, String name) {
-        if (!triples.containsKey(type)) return false;
-        if (!triples.get(type).containsKey(name)) return false;
-        return !triples.get(type).get(name).isEmpty();
+        return count(type, name) > 0;
     }
 
     public boolean hasTriples(Type type) {
-        if (!triples.containsKey(type)) return false;
-        return triples.get(type).values().stream().anyMatch(x -> !x.isEmpty());
+        return count(type) > 0;
     }
 
     public boolean hasTriples() {
@@ -84,6 +201,10 @@ public class GraphStats {
         return triples.computeIfAbsent(type, t -> new HashMap<>());
     }
 
+    protected Map<String, Long> counts(Type type) {
+        return counts.computeIfAbsent(type, t -> new HashMap<>());
+    }
+
     public Graph getGraph() {
         return graph;
     }
@@ -25,7 +25,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 /**
@@ -60,6 +62,8 @@ public class GraphTransformers implements Serializable {
     protected Map<String, Transform> set = new LinkedHashMap<>();
     // by default any graph is allowed to be transformed:
     protected GraphFilter filter = GraphFilter.TRUE;
+    // by default all tracked triples are kept, since they are used by the loader metadata:
+    protected int statsLimit = GraphStats.DEFAULT_SAMPLE_LIMIT;
 
     /**
      * Sets the global (system-wide) transformation manager.
@@ -110,13 +114,14 @@ public class GraphTransformers implements Serializable {
     }
 
     /**
-     * Creates an empty transformation manager with the only filter copied.
+     * Creates an empty transformation manager with the only filter and stats limit copied.
      *
      * @return new instance
      */
     protected GraphTransformers empty() {
         GraphTransformers res = new GraphTransformers();
         res.filter = this.filter;
+        res.statsLimit = this.statsLimit;
         return res;
     }
 
@@ -270,6 +275,37 @@ public class GraphTransformers implements Serializable {
         return filter;
     }
 
+    /**
+     * Creates a copy of this {@link GraphTransformers Store} with a new limit for the {@link GraphStats}.
+     * The limit is the maximum number of triples that are kept in memory for each transform and type of changes,
+     * the rest of the tracked triples are only counted.
+     * By default it is {@link GraphStats#DEFAULT_SAMPLE_LIMIT}, so the memory does not depend on the graph size;
+     * the unparsed triples and the guessed declarations of the loader metadata, which are copied from the stats,
+     * are also truncated.
+     * Use {@link GraphStats#FULL} to keep every tracked triple,
+     * which may be inappropriate for a huge graphs containing a lot of missed declarations.
+     *
+     * @param limit int, a non-negative number or {@link GraphStats#FULL}
+     * @return a copy of this {@link GraphTransformers manager} with new stats limit
+     */
+    public GraphTransformers setStatsLimit(int limit) {
+        if (limit < GraphStats.FULL) {
+            throw new IllegalArgumentException("Wrong stats limit: " + limit);
+        }
+        GraphTransformers res = copy();
+        res.statsLimit = limit;
+        return res;
+    }
+
+    /**
+     * Returns the maximum number of triples that are kept in {@link GraphStats} for each transform and type.
+     *
+     * @return int, a non-negative number or {@link GraphStats#FULL}
+     */
+    public int getStatsLimit() {
+        return statsLimit;
+    }
+
     /**
      * Performs all graph transformations operations.
      *
@@ -294,7 +330,7 @@ public class GraphTransformers implements Serializable {
     public GraphStats transform(Graph graph, Set<Graph> skip) throws TransformException {
         List<Graph> children = Graphs.toUnion(graph).getUnderlying().listGraphs().toList();
         Graph base = Graphs.getBase(graph);
-        GraphStats res = new GraphStats(base);
+        GraphStats res = createStats(base);
         for (Graph g : children) {
             try {
                 res.putStats(transform(g, skip));
@@ -305,10 +341,104 @@ public class GraphTransformers implements Serializable {
         if (skip.contains(base)) {
             return res;
         }
-        if (!getFilter().test(graph)) {
-            skip.add(base);
+        process(graph, base, res);
+        skip.add(base);
+        return res;
+    }
+
+    /**
+     * Recursively performs all graph transformations operations
+     * processing independent sub-graphs concurrently using the given {@code executor}
+     * (which is expected to be a {@link java.util.concurrent.ForkJoinPool}).
+     * <p>
+     * The {@code UnionGraph} hierarchy is traversed in the calling thread in the same order
+     * as by the method {@link #transform(Graph, Set)}, so each base graph is processed only once,
+     * and the returned {@link GraphStats} tree is the same as in the sequential mode.
+     * A graph is transformed only after all its sub-graphs are transformed,
+     * and the transforms are applied to a single graph one after another, in the order of this store;
+     * the graphs, that do not depend on each other, are processed in parallel.
+     *
+     * @param graph    {@link Graph}, in most cases it is {@link UnionGraph} with sub-graphs
+     * @param skip     a modifiable {@code Set} of {@link Graph}s to exclude from transformations,
+     *                 see {@link #transform(Graph, Set)}
+     * @param executor {@link Executor} to run transformations, not {@code null}
+     * @return {@link GraphStats} a container with result
+     * @throws TransformException if something is wrong
+     */
+    public GraphStats transform(Graph graph, Set<Graph> skip, Executor executor) throws TransformException {
+        Objects.requireNonNull(executor);
+        Map<Graph, CompletableFuture<Void>> tasks = new HashMap<>();
+        GraphStats res = plan(graph, skip, tasks, executor);
+        try {
+            tasks.get(res.getGraph()).join();
+        } catch (CompletionException e) {
+            Throwable cause = e;
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new TransformException(cause);
+        }
+        return res;
+    }
+
+    /**
+     * Traverses the graph hierarchy and schedules the transformations.
+     * For each base graph the {@code tasks} map contains a future,
+     * that completes when the graph and all its sub-graphs are processed.
+     *
+     * @param graph    {@link Graph} to process
+     * @param skip     a {@code Set} of {@link Graph}s to exclude from transformations
+     * @param tasks    a {@code Map} to store futures
+     * @param executor {@link Executor}
+     * @return {@link GraphStats} for the given graph, its content is populated asynchronously
+     */
+    private GraphStats plan(Graph graph,
+                            Set<Graph> skip,
+                            Map<Graph, CompletableFuture<Void>> tasks,
+                            Executor executor) {
+        List<Graph> children = Graphs.toUnion(graph).getUnderlying().listGraphs().toList();
+        Graph base = Graphs.getBase(graph);
+        GraphStats res = createStats(base);
+        List<CompletableFuture<Void>> dependencies = new ArrayList<>(children.size());
+        for (Graph g : children) {
+            GraphStats child = plan(g, skip, tasks, executor);
+            res.putStats(child);
+            // the same as in the sequential mode, each level puts itself as a parent into the failure:
+            dependencies.add(tasks.get(child.getGraph()).whenComplete((x, e) -> {
+                Throwable t = e instanceof CompletionException ? e.getCause() : e;
+                if (t instanceof StoreException) {
+                    ((StoreException) t).putParent(graph);
+                }
+            }));
+        }
+        CompletableFuture<Void> ready = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]));
+        if (!skip.add(base)) {
+            tasks.putIfAbsent(base, ready);
             return res;
         }
+        tasks.put(base, ready.thenRunAsync(() -> process(graph, base, res), executor));
+        return res;
+    }
+
+    /**
+     * Performs all suitable transforms on the given graph, one by one, collecting the outcome into the stats.
+     * Sub-graphs are not processed.
+     *
+     * @param graph {@link Graph} to transform
+     * @param base  {@link Graph} the base graph of the {@code graph} to track changes
+     * @param res   {@link GraphStats} to put results
+     * @throws StoreException if a transform fails
+     */
+    protected void process(Graph graph, Graph base, GraphStats res) throws StoreException {
+        if (!getFilter().test(graph)) {
+            return;
+        }
         transforms()
                 .filter(x -> x.test(graph))
                 .forEach(x -> {
@@ -317,63 +447,92 @@ public class GraphTransformers implements Serializable {
                     }
                     GraphEventManager events = base.getEventManager();
                     TransformListener listener = createTrackListener();
-                    Set<Triple> uncertainTriples;
+                    String name = x.id();
                     try {
                         events.register(listener);
-                        uncertainTriples = x.apply(graph).collect(Collectors.toSet());
+                        res.put(GraphStats.Type.UNPARSED, name, x.apply(graph));
                     } catch (JenaException e) {
                         throw new StoreException(x, e);
                     } finally {
                         events.unregister(listener);
                     }
-                    res.putTriples(x,
-                            listener.getAdded(),
-                            listener.getDeleted(),
-                            uncertainTriples);
-
+                    res.put(GraphStats.Type.ADDED, name, listener.getAdded(), listener.getAddedCount());
+                    res.put(GraphStats.Type.DELETED, name, listener.getDeleted(), listener.getDeletedCount());
                 });
-        skip.add(base);
-        return res;
+    }
+
+    protected GraphStats createStats(Graph base) {
+        return new GraphStats(base, statsLimit);
     }
 
     protected TransformListener createTrackListener() {
-        return new TransformListener();
+        return new TransformListener(statsLimit);
     }
 
     @Override
     public boolean equals(Object o) {
         return this == o || o instanceof GraphTransformers
                 && set.equals(((GraphTransformers) o).set)
-                && filter.equals(((GraphTransformers) o).filter);
+                && filter.equals(((GraphTransformers) o).filter)
+                && statsLimit == ((GraphTransformers) o).statsLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(set, filter);
+        return Objects.hash(set, filter, statsLimit);
     }
 
     /**
      * The listener to control graph changes while transformations.
-     * Note: it keeps any tracked (added and removed) {@code Triple} in memory.
-     * This may be inappropriate for a huge graphs containing a lot of missed declarations.
+     * Note: it keeps at most {@code limit} tracked (added and removed) {@code Triple}s in memory,
+     * the rest are only counted.
+     * The counters are exact while the limit is not reached, after that they are approximate:
+     * a triple that is not in memory can be counted twice, if it is added (or removed) several times.
+     * A negative limit means that any tracked triple is kept in memory,
+     * which may be inappropriate for a huge graphs containing a lot of missed declarations.
      * <p>
      * Created by @szuev on 27.06.2018.
      */
     public static class TransformListener extends GraphListenerBase {
 
+        private final int limit;
         private final Set<Triple> added = new HashSet<>();
         private final Set<Triple> deleted = new HashSet<>();
+        private long addedCount;
+        private long deletedCount;
+
+        public TransformListener() {
+            this(GraphStats.FULL);
+        }
+
+        public TransformListener(int limit) {
+            this.limit = limit;
+        }
 
         @Override
         protected void addEvent(Triple t) {
-            added.add(t);
-            deleted.remove(t);
+            if (deleted.remove(t)) {
+                deletedCount--;
+            }
+            addedCount += track(added, t);
         }
 
         @Override
         protected void deleteEvent(Triple t) {
-            added.remove(t);
-            deleted.add(t);
+            if (added.remove(t)) {
+                addedCount--;
+            }
+            deletedCount += track(deleted, t);
+        }
+
+        private int track(Set<Triple> set, Triple t) {
+            if (set.contains(t)) {
+                return 0;
+            }
+            if (limit < 0 || set.size() < limit) {
+                set.add(t);
+            }
+            return 1;
         }
 
         @Override
@@ -393,6 +552,14 @@ public class GraphTransformers implements Serializable {
         public Set<Triple> getDeleted() {
             return Collections.unmodifiableSet(deleted);
         }
+
+        public long getAddedCount() {
+            return addedCount;
+        }
+
+        public long getDeletedCount() {
+            return deletedCount;
+        }
     }
 
     /**
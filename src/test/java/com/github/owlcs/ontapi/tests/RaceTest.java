@@ -16,7 +16,13 @@ package com.github.owlcs.ontapi.tests;
 
 import com.github.owlcs.ontapi.OntManagers;
 import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.OntologyModelImpl;
 import com.github.owlcs.ontapi.OntologyManager;
+import com.github.owlcs.ontapi.internal.InternalModel;
+import com.github.owlcs.ontapi.jena.OptimisticReadWriteLock;
+import com.github.owlcs.ontapi.jena.RWLockedGraph;
+import com.github.owlcs.ontapi.jena.VersionedGraph;
+import org.apache.jena.graph.Graph;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.semanticweb.owlapi.model.*;
@@ -101,7 +107,63 @@ public class RaceTest {
 
     @Test
     public void testConcurrency() throws InterruptedException, ExecutionException {
-        OntologyManager m = OntManagers.createConcurrentManager();
+        testConcurrency(OntManagers.createConcurrentManager());
+    }
+
+    @Test
+    public void testConcurrencyWithOptimisticLock() throws InterruptedException, ExecutionException {
+        testConcurrency(OntManagers.createConcurrentManager(new OptimisticReadWriteLock()));
+    }
+
+    @Test
+    public void testContainsAxiomWithOptimisticLock() throws InterruptedException, ExecutionException {
+        OntologyManager m = OntManagers.createConcurrentManager(new OptimisticReadWriteLock());
+        Assertions.assertTrue(m.getOntologyLoaderConfiguration().isUseVersionedGraph());
+        OWLDataFactory df = m.getOWLDataFactory();
+        Ontology o = m.createOntology();
+        Graph base = o.asGraphModel().getBaseGraph();
+        Assertions.assertTrue(base instanceof RWLockedGraph);
+        Assertions.assertTrue(((RWLockedGraph) base).isOptimistic());
+        Assertions.assertTrue(((RWLockedGraph) base).get() instanceof VersionedGraph);
+
+        OWLAxiom present = df.getOWLDeclarationAxiom(df.getOWLClass("test#present"));
+        OWLAxiom absent = df.getOWLDeclarationAxiom(df.getOWLClass("test#absent"));
+        o.add(present);
+        Assertions.assertTrue(o.containsAxiom(present));
+        Assertions.assertFalse(o.containsAxiom(absent));
+        // the axiom cache is loaded, so the answer is known without locking:
+        InternalModel model = ((OntologyModelImpl.Concurrent) o).delegate().getBase();
+        Assertions.assertEquals(Boolean.TRUE, model.containsIfLoaded(present));
+        Assertions.assertEquals(Boolean.FALSE, model.containsIfLoaded(absent));
+
+        AtomicBoolean process = new AtomicBoolean(true);
+        ExecutorService service = Executors.newFixedThreadPool(4);
+        List<Future<?>> res = new ArrayList<>();
+        res.add(service.submit(toTask(o, process, (x, ready) -> {
+            while (ready.get()) {
+                OWLAxiom a = df.getOWLDeclarationAxiom(df.getOWLClass("test#c" + ThreadLocalRandom.current().nextInt()));
+                x.add(a);
+                x.remove(a);
+            }
+        })));
+        for (int i = 0; i < 3; i++) {
+            res.add(service.submit(toTask(o, process, (x, ready) -> {
+                while (ready.get()) {
+                    Assertions.assertTrue(x.containsAxiom(present));
+                    Assertions.assertFalse(x.containsAxiom(absent));
+                }
+            })));
+        }
+        Thread.sleep(TIMEOUT / 10);
+        process.set(false);
+        service.shutdown();
+        for (Future<?> f : res) {
+            f.get();
+        }
+        Assertions.assertEquals(1, o.getAxiomCount());
+    }
+
+    private static void testConcurrency(OntologyManager m) throws InterruptedException, ExecutionException {
         m.getOntologyConfigurator().setAllowReadDeclarations(false);
         Ontology o = m.createOntology();
         AtomicBoolean process = new AtomicBoolean(true);
@@ -19,12 +19,15 @@ import com.github.owlcs.ontapi.OntManagers;
 import com.github.owlcs.ontapi.Ontology;
 import com.github.owlcs.ontapi.OntologyManager;
 import com.github.owlcs.ontapi.internal.AxiomTranslator;
+import com.github.owlcs.ontapi.internal.AxiomsDispatcher;
 import com.github.owlcs.ontapi.internal.InternalConfig;
 import com.github.owlcs.ontapi.internal.ONTObject;
 import com.github.owlcs.ontapi.internal.ONTObjectFactory;
+import com.github.owlcs.ontapi.internal.OWLTopObjectType;
 import com.github.owlcs.ontapi.jena.OntModelFactory;
 import com.github.owlcs.ontapi.jena.model.OntIndividual;
 import com.github.owlcs.ontapi.jena.model.OntModel;
+import com.github.owlcs.ontapi.jena.model.OntStatement;
 import com.github.owlcs.ontapi.tests.ModelData;
 import org.apache.jena.graph.BlankNodeId;
 import org.apache.jena.rdf.model.AnonId;
@@ -35,13 +38,14 @@ import org.apache.jena.vocabulary.SKOS;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.semanticweb.owlapi.model.*;
 
-import java.util.Collections;
-import java.util.Optional;
+import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -232,6 +236,51 @@ public class AxiomTranslatorTest {
         testContainsAndFind(createModel, type);
     }
 
+    @ParameterizedTest
+    @EnumSource(value = ModelData.class)
+    public void testSinglePassRead(ModelData data) {
+        testSinglePassRead(data, newManager());
+        OntologyManager m = newManager();
+        m.getOntologyConfigurator().setLoadAnnotationAxioms(false).setSplitAxiomAnnotations(true);
+        testSinglePassRead(data, m);
+    }
+
+    private void testSinglePassRead(ModelData data, OntologyManager manager) {
+        OntModel ont = ((Ontology) data.fetch(manager)).asGraphModel();
+        ONTObjectFactory f = AxiomTranslator.getObjectFactory(ont);
+        InternalConfig c = AxiomTranslator.getConfig(ont);
+        Set<OWLTopObjectType> types = OWLTopObjectType.axioms().collect(Collectors.toSet());
+
+        Map<OWLTopObjectType, Set<OWLAxiom>> actual = new EnumMap<>(OWLTopObjectType.class);
+        AxiomsDispatcher.get().read(types, ont, f, c,
+                (k, v) -> actual.computeIfAbsent(k, x -> new HashSet<>()).add(v.getOWLObject()));
+        types.forEach(k -> {
+            Set<OWLAxiom> expected = AxiomTranslator.get(k.getAxiomType()).listONTObjects(ont, f, c)
+                    .mapWith(ONTObject::getOWLObject).toSet();
+            Assertions.assertEquals(expected, actual.getOrDefault(k, Collections.emptySet()), "Wrong " + k);
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ModelData.class)
+    public void testDispatcherSelection(ModelData data) {
+        OntModel ont = ((Ontology) data.fetch(newManager())).asGraphModel();
+        InternalConfig c = AxiomTranslator.getConfig(ont);
+        List<AxiomTranslator<OWLAxiom>> all = OWLTopObjectType.axioms()
+                .map(x -> AxiomTranslator.<OWLAxiom>get(x.getAxiomType())).collect(Collectors.toList());
+        ont.localStatements().forEach(s -> {
+            // the test must be performed for both common and root (main) statements
+            OntStatement main = s.getSubject().getMainStatement();
+            Stream.of(s, main).filter(x -> x != null && x.asTriple().equals(s.asTriple())).forEach(x -> {
+                Set<AxiomTranslator<OWLAxiom>> expected = all.stream()
+                        .filter(t -> t.testStatement(x, c)).collect(Collectors.toSet());
+                Set<AxiomTranslator<OWLAxiom>> actual = AxiomsDispatcher.get().translators(x.asTriple()).stream()
+                        .filter(t -> t.testStatement(x, c)).collect(Collectors.toSet());
+                Assertions.assertEquals(expected, actual, "Wrong selection for " + x);
+            });
+        });
+    }
+
     private <X extends OWLAxiom> void testContainsAndFind(Function<OntologyManager, OntModel> create, Class<X> type) {
         OntologyManager m = newManager();
         testContainsAndFind(x -> create.apply(m)
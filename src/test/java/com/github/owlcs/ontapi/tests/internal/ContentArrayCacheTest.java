@@ -0,0 +1,116 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.internal;
+
+import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.internal.ContentArrayCache;
+import com.github.owlcs.ontapi.internal.InternalCache;
+import com.github.owlcs.ontapi.internal.objects.WithContent;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link ContentArrayCache}.
+ */
+public class ContentArrayCacheTest {
+
+    @Test
+    public void testDisabledStoreGivesPlainSoftCache() {
+        AtomicInteger calls = new AtomicInteger();
+        InternalCache.Loading<Object, Object[]> c = ContentArrayCache.createLoading(new Object(), null, x -> {
+            calls.incrementAndGet();
+            return new Object[]{x};
+        });
+        Assertions.assertSame(InternalCache.createSoftSingleton(x -> null).getClass(), c.getClass());
+        Assertions.assertTrue(c.isEmpty());
+        Object[] res = c.get("a");
+        Assertions.assertSame(res, c.get("a"));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertFalse(c.isEmpty());
+    }
+
+    @Test
+    public void testEvictAndReload() {
+        // each array of two elements weighs 3, so only two arrays fit into the store
+        ContentArrayCache store = new ContentArrayCache(7);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ContentArrayCache(0));
+        AtomicInteger calls = new AtomicInteger();
+        List<InternalCache.Loading<Object, Object[]>> owners = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            owners.add(ContentArrayCache.createLoading(new Object(), store, x -> {
+                calls.incrementAndGet();
+                return new Object[]{x, x};
+            }));
+        }
+        owners.forEach(c -> Assertions.assertTrue(c.isEmpty()));
+        owners.forEach(c -> c.get("x"));
+        Assertions.assertEquals(3, calls.get());
+        Assertions.assertEquals(2, store.size());
+        // the first one is evicted and restored using the loader:
+        Assertions.assertTrue(owners.get(0).isEmpty());
+        Assertions.assertEquals("y", owners.get(0).get("y")[0]);
+        Assertions.assertEquals(4, calls.get());
+        Assertions.assertEquals(2, store.size());
+
+        owners.get(0).clear();
+        Assertions.assertTrue(owners.get(0).isEmpty());
+        Assertions.assertEquals(1, store.size());
+        store.clear();
+        Assertions.assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testOntologyContentArrays() throws Exception {
+        OWLOntologyDocumentSource src = ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE);
+        OntologyManager m1 = OntManagers.createManager();
+        Ontology o1 = m1.loadOntologyFromOntologyDocument(src);
+        Assertions.assertNull(ContentTestBase.getBase(o1).getContentArrayCache());
+
+        int size = 100;
+        OntologyManager m2 = OntManagers.createManager();
+        m2.getOntologyConfigurator().setContentArraysCacheSize(size);
+        Ontology o2 = m2.loadOntologyFromOntologyDocument(src);
+        ContentArrayCache arrays = ContentTestBase.getBase(o2).getContentArrayCache();
+        Assertions.assertNotNull(arrays);
+        Assertions.assertEquals(size, arrays.getMaximumSize());
+
+        Set<OWLAxiom> expected = o1.axioms().collect(Collectors.toSet());
+        Assertions.assertEquals(expected, o2.axioms().collect(Collectors.toSet()));
+        // the content is read twice: the evicted arrays are restored from the graph
+        Assertions.assertEquals(expected, o2.axioms().collect(Collectors.toSet()));
+        Assertions.assertTrue(arrays.size() > 0);
+        Assertions.assertTrue(arrays.size() <= size, "Size: " + arrays.size());
+
+        // if the store is disabled, the objects use the ordinary soft cache without any wrapper:
+        Class<?> plain = InternalCache.createSoftSingleton(x -> null).getClass();
+        List<WithContent<?>> objects = o1.axioms().filter(x -> x instanceof WithContent)
+                .map(x -> (WithContent<?>) x).collect(Collectors.toList());
+        Assertions.assertFalse(objects.isEmpty());
+        objects.forEach(x -> Assertions.assertSame(plain, x.getContentCache().getClass()));
+
+        o2.clearCache();
+        Assertions.assertEquals(0, arrays.size());
+        Assertions.assertEquals(expected, o2.axioms().collect(Collectors.toSet()));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.internal;
+
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.internal.InternalModelImpl;
+import com.github.owlcs.ontapi.internal.ObjectMap;
+import com.github.owlcs.ontapi.internal.OWLTopObjectType;
+import com.github.owlcs.ontapi.jena.model.OntModel;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObject;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * To test the selective invalidation of the content cache
+ * when the graph is changed directly, i.e. bypassing the OWL-API interface.
+ */
+public class ContentCacheInvalidationTest {
+
+    @Test
+    public void testAnnotationAssertionReleasesOnlyAssertionBuckets() throws Exception {
+        Ontology o = ContentTestBase.loadPizza();
+        OntModel g = o.asGraphModel();
+        String ns = g.getID().getURI() + "#";
+        InternalModelImpl im = ContentTestBase.getBase(o);
+        long count = o.getAxiomCount();
+        Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> map = ContentTestBase.getContentStore(im);
+        Set<OWLTopObjectType> assertions = EnumSet.of(OWLTopObjectType.ANNOTATION_ASSERTION,
+                OWLTopObjectType.DATA_PROPERTY_ASSERTION, OWLTopObjectType.OBJECT_PROPERTY_ASSERTION);
+
+        g.getOntClass(ns + "Pizza").addLabel("test");
+        Assertions.assertSame(map, ContentTestBase.getContentStore(im));
+        OWLTopObjectType.axioms().forEach(k -> Assertions.assertEquals(!assertions.contains(k),
+                map.get(k).isLoaded(), "Wrong state: " + k));
+        Assertions.assertEquals(count + 1, o.getAxiomCount());
+
+        g.remove(g.getOntClass(ns + "Pizza"), RDFS.label, g.createLiteral("test"));
+        Assertions.assertSame(map, ContentTestBase.getContentStore(im));
+        Assertions.assertTrue(map.get(OWLTopObjectType.DECLARATION).isLoaded());
+        Assertions.assertEquals(count, o.getAxiomCount());
+    }
+
+    @Test
+    public void testSubClassOfReleasesOnlyItsBucket() throws Exception {
+        Ontology o = ContentTestBase.loadPizza();
+        OntModel g = o.asGraphModel();
+        String ns = g.getID().getURI() + "#";
+        InternalModelImpl im = ContentTestBase.getBase(o);
+        long count = o.getAxiomCount();
+        Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> map = ContentTestBase.getContentStore(im);
+
+        g.getOntClass(ns + "Pizza").addSuperClass(g.getOntClass(ns + "IceCream"));
+        Assertions.assertSame(map, ContentTestBase.getContentStore(im));
+        Assertions.assertFalse(map.get(OWLTopObjectType.SUBCLASS_OF).isLoaded());
+        Assertions.assertTrue(map.get(OWLTopObjectType.DECLARATION).isLoaded());
+        Assertions.assertEquals(count + 1, o.getAxiomCount());
+        OWLDataFactory df = o.getOWLOntologyManager().getOWLDataFactory();
+        Assertions.assertTrue(o.containsAxiom(df.getOWLSubClassOfAxiom(df.getOWLClass(ns + "Pizza"),
+                df.getOWLClass(ns + "IceCream"))));
+    }
+
+    @Test
+    public void testDeclarationReleasesWholeCache() throws Exception {
+        Ontology o = ContentTestBase.loadPizza();
+        OntModel g = o.asGraphModel();
+        String ns = g.getID().getURI() + "#";
+        InternalModelImpl im = ContentTestBase.getBase(o);
+        long count = o.getAxiomCount();
+        Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> map = ContentTestBase.getContentStore(im);
+
+        g.createOntClass(ns + "X");
+        Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> reloaded = ContentTestBase.getContentStore(im);
+        Assertions.assertNotSame(map, reloaded);
+        OWLTopObjectType.axioms().forEach(k -> Assertions.assertFalse(reloaded.get(k).isLoaded(), "Loaded: " + k));
+        Assertions.assertEquals(count + 1, o.getAxiomCount());
+    }
+}
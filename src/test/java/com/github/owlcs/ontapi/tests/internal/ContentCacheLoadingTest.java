@@ -0,0 +1,133 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.internal;
+
+import com.github.owlcs.ontapi.DataFactory;
+import com.github.owlcs.ontapi.OntFormat;
+import com.github.owlcs.ontapi.OntManagers;
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.OntologyManager;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * To test the parallel loading of the content cache buckets,
+ * which must give the same result as the sequential single-pass loading.
+ *
+ * @see com.github.owlcs.ontapi.config.CacheSettings#getContentCacheLoadParallelism()
+ */
+public class ContentCacheLoadingTest {
+    /**
+     * An ontology with many duplicate (i.e. merged while loading) n-ary axioms, annotated and not.
+     */
+    private static final String DUPLICATES = String.join("\n",
+            "@prefix :     <http://ex.com#> .",
+            "@prefix owl:  <http://www.w3.org/2002/07/owl#> .",
+            "@prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .",
+            "<http://ex.com> a owl:Ontology .",
+            ":A a owl:Class . :B a owl:Class . :C a owl:Class . :D a owl:Class .",
+            ":p a owl:ObjectProperty . :q a owl:ObjectProperty .",
+            ":i1 a owl:NamedIndividual . :i2 a owl:NamedIndividual .",
+            ":A owl:disjointWith :B . :B owl:disjointWith :A .",
+            "[ a owl:AllDisjointClasses ; owl:members ( :A :B ) ] .",
+            "[ a owl:AllDisjointClasses ; owl:members ( :B :A ) ] .",
+            "[ a owl:AllDisjointClasses ; owl:members ( :B :A :C ) ] .",
+            ":A owl:equivalentClass :C . :C owl:equivalentClass :A .",
+            ":D rdfs:subClassOf :A .",
+            ":i1 owl:differentFrom :i2 . :i2 owl:differentFrom :i1 .",
+            "[ a owl:AllDifferent ; owl:distinctMembers ( :i1 :i2 ) ] .",
+            ":p owl:equivalentProperty :q . :q owl:equivalentProperty :p .",
+            "[ a owl:Axiom ; owl:annotatedSource :A ; owl:annotatedProperty owl:disjointWith ; " +
+                    "owl:annotatedTarget :B ; rdfs:comment \"x\" ] .",
+            "[ a owl:Axiom ; owl:annotatedSource :B ; owl:annotatedProperty owl:disjointWith ; " +
+                    "owl:annotatedTarget :A ; rdfs:comment \"y\" ] .",
+            "[ a owl:Axiom ; owl:annotatedSource :C ; owl:annotatedProperty owl:equivalentClass ; " +
+                    "owl:annotatedTarget :A ; rdfs:label \"z\" ] .",
+            "[ a owl:Axiom ; owl:annotatedSource :D ; owl:annotatedProperty rdfs:subClassOf ; " +
+                    "owl:annotatedTarget :A ; rdfs:label \"s\" ] .",
+            "[ a owl:Axiom ; owl:annotatedSource :q ; owl:annotatedProperty owl:equivalentProperty ; " +
+                    "owl:annotatedTarget :p ; rdfs:comment \"e\" ] .");
+
+    public static Stream<Arguments> sources() {
+        return Stream.of(
+                Arguments.of("family", (Supplier<OWLOntologyDocumentSource>)
+                        () -> ReadWriteUtils.getFileDocumentSource("/ontapi/family.ttl", OntFormat.TURTLE)),
+                Arguments.of("pizza", (Supplier<OWLOntologyDocumentSource>)
+                        () -> ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE)),
+                Arguments.of("duplicates", (Supplier<OWLOntologyDocumentSource>)
+                        () -> ReadWriteUtils.getStringDocumentSource(DUPLICATES, OntFormat.TURTLE)));
+    }
+
+    private static Ontology load(Supplier<OWLOntologyDocumentSource> source,
+                                 int parallelism) throws OWLOntologyCreationException {
+        OntologyManager m = OntManagers.createManager();
+        m.getOntologyConfigurator().setContentCacheLoadParallelism(parallelism);
+        return m.loadOntologyFromOntologyDocument(source.get());
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("sources")
+    public void testParallelLoadingIsSameAsSequential(String name,
+                                                       Supplier<OWLOntologyDocumentSource> source) throws Exception {
+        Ontology expected = load(source, 1);
+        Set<OWLAxiom> axioms = expected.axioms().collect(Collectors.toSet());
+        for (int i = 0; i < 5; i++) {
+            Ontology actual = load(source, 8);
+            Assertions.assertEquals(expected.getAxiomCount(), actual.getAxiomCount(), name);
+            Assertions.assertEquals(axioms, actual.axioms().collect(Collectors.toSet()), name);
+            Assertions.assertEquals(expected.annotations().collect(Collectors.toSet()),
+                    actual.annotations().collect(Collectors.toSet()), name);
+            AxiomType.AXIOM_TYPES.forEach(t -> Assertions.assertEquals(
+                    expected.axioms(t).collect(Collectors.toSet()),
+                    actual.axioms(t).collect(Collectors.toSet()), name + ": " + t));
+            // the annotations of merged axioms:
+            Assertions.assertEquals(expected.axioms().map(OWLAxiom::annotationsAsList).collect(Collectors.toSet()),
+                    actual.axioms().map(OWLAxiom::annotationsAsList).collect(Collectors.toSet()), name);
+        }
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("sources")
+    public void testModifyAfterParallelLoading(String name,
+                                               Supplier<OWLOntologyDocumentSource> source) throws Exception {
+        Ontology expected = load(source, 1);
+        Ontology actual = load(source, 8);
+        long count = expected.getAxiomCount();
+        Assertions.assertEquals(count, actual.getAxiomCount(), name);
+
+        DataFactory df = actual.getOWLOntologyManager().getOWLDataFactory();
+        OWLAxiom a = df.getOWLSubClassOfAxiom(df.getOWLClass("A"), df.getOWLClass("B"));
+        actual.clearCache();
+        actual.add(a);
+        Assertions.assertTrue(actual.containsAxiom(a));
+        Assertions.assertEquals(count + 1, actual.getAxiomCount());
+        actual.remove(a);
+        Assertions.assertEquals(count, actual.getAxiomCount());
+        Assertions.assertEquals(expected.axioms().collect(Collectors.toSet()),
+                actual.axioms().collect(Collectors.toSet()), name);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.internal;
+
+import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.config.CacheSettings;
+import com.github.owlcs.ontapi.internal.OWLTopObjectType;
+import com.github.owlcs.ontapi.internal.ObjectMap;
+import com.github.owlcs.ontapi.internal.StreamObjectMapImpl;
+import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.jena.model.OntModel;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * To test the streaming content mode ({@link CacheSettings#CACHE_STREAM}),
+ * where axioms are read directly from the graph and deduplicated on the fly.
+ */
+public class ContentStreamTest {
+
+    private static OntModel createModel() {
+        OntModel g = OntModelFactory.createModel(ReadWriteUtils.loadResourceTTLFile("/ontapi/pizza.ttl").getGraph());
+        String ns = g.getID().getURI() + "#";
+        // the same axioms from different statements:
+        g.getOntClass(ns + "Pizza").addDisjointClass(g.getOntClass(ns + "IceCream"));
+        g.getOntClass(ns + "IceCream").addDisjointClass(g.getOntClass(ns + "Pizza"));
+        g.createIndividual(ns + "a").addDifferentIndividual(g.createIndividual(ns + "b"));
+        g.getIndividual(ns + "b").addDifferentIndividual(g.getIndividual(ns + "a"));
+        return g;
+    }
+
+    private static OntologyManager createManager(int level) {
+        OntologyManager res = OntManagers.createManager();
+        res.getOntologyConfigurator().setModelCacheLevel(level);
+        return res;
+    }
+
+    @Test
+    public void testStreamModeConfig() {
+        Assertions.assertTrue(createManager(CacheSettings.CACHE_STREAM).getOntologyLoaderConfiguration().useContentStream());
+        Assertions.assertFalse(createManager(0).getOntologyLoaderConfiguration().useContentStream());
+        Assertions.assertFalse(OntManagers.createManager().getOntologyLoaderConfiguration().useContentStream());
+    }
+
+    @Test
+    public void testStreamDeduplicatesAndRetainsNothing() throws Exception {
+        OntModel g = createModel();
+        Ontology o1 = OntManagers.createManager().addOntology(g.getGraph());
+        Ontology o2 = createManager(CacheSettings.CACHE_STREAM).addOntology(g.getGraph());
+        Ontology o3 = createManager(0).addOntology(g.getGraph());
+
+        Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> map = ContentTestBase.getContentStore(ContentTestBase.getBase(o2));
+        OWLTopObjectType.all().forEach(k -> Assertions.assertTrue(map.get(k) instanceof StreamObjectMapImpl, "Wrong map: " + k));
+
+        Set<OWLAxiom> expected = o1.axioms().collect(Collectors.toSet());
+        Assertions.assertEquals(expected.size(), o2.axioms().count());
+        Assertions.assertEquals(expected, o2.axioms().collect(Collectors.toSet()));
+        Assertions.assertEquals(expected.size(), o2.getAxiomCount());
+        Assertions.assertEquals(o1.axioms(AxiomType.DIFFERENT_INDIVIDUALS).count(),
+                o2.axioms(AxiomType.DIFFERENT_INDIVIDUALS).count());
+        Assertions.assertEquals(o1.axioms(AxiomType.DISJOINT_CLASSES).count(),
+                o2.axioms(AxiomType.DISJOINT_CLASSES).count());
+        // without the content cache the duplicates are not merged:
+        Assertions.assertTrue(o3.axioms().count() > expected.size());
+        Assertions.assertEquals(expected, o3.axioms().collect(Collectors.toSet()));
+        OWLTopObjectType.all().forEach(k -> Assertions.assertFalse(map.get(k).isLoaded(), "Loaded: " + k));
+    }
+
+    @Test
+    public void testStreamSeesDirectChanges() {
+        OntModel g = createModel();
+        String ns = g.getID().getURI() + "#";
+        Ontology o = createManager(CacheSettings.CACHE_STREAM).addOntology(g.getGraph());
+        long count = o.getAxiomCount();
+
+        o.asGraphModel().getOntClass(ns + "Pizza").addComment("x");
+        Assertions.assertEquals(count + 1, o.getAxiomCount());
+        o.asGraphModel().getOntClass(ns + "Pizza").addDisjointClass(o.asGraphModel().getOntClass(ns + "Food"));
+        Assertions.assertEquals(count + 2, o.getAxiomCount());
+        Assertions.assertEquals(count + 2, o.axioms().count());
+    }
+}
@@ -14,15 +14,22 @@
 
 package com.github.owlcs.ontapi.tests.internal;
 
+import com.github.owlcs.ontapi.*;
 import com.github.owlcs.ontapi.internal.InternalCache;
+import com.github.owlcs.ontapi.internal.InternalModelImpl;
+import com.github.owlcs.ontapi.internal.OWLTopObjectType;
+import com.github.owlcs.ontapi.internal.ObjectMap;
 import com.github.owlcs.ontapi.internal.objects.WithContent;
 import com.github.owlcs.ontapi.tests.TestFactory.Data;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
 import org.junit.jupiter.api.Assertions;
 import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -57,8 +64,32 @@ abstract class ContentTestBase extends ObjectFactoryTestBase {
         return findDeclaredField(inst, "content");
     }
 
-    @SuppressWarnings({"unchecked", "SameParameterValue"})
-    private static <X> X findDeclaredField(Object inst, String name) {
+    static InternalModelImpl getBase(Ontology o) {
+        return (InternalModelImpl) ((BaseModel) o).getBase();
+    }
+
+    /**
+     * Returns the content cache store of the model, loading it if needed.
+     *
+     * @param m {@link InternalModelImpl}
+     * @return {@code Map}
+     */
+    static Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> getContentStore(InternalModelImpl m) {
+        InternalCache.Loading<InternalModelImpl, Map<OWLTopObjectType, ObjectMap<? extends OWLObject>>> res =
+                findDeclaredField(m, "content");
+        return res.get(m);
+    }
+
+    static Ontology loadPizza() throws OWLOntologyCreationException {
+        return loadPizza(OntManagers.createManager());
+    }
+
+    static Ontology loadPizza(OntologyManager m) throws OWLOntologyCreationException {
+        return m.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <X> X findDeclaredField(Object inst, String name) {
         AssertionError error = new AssertionError("Can't find field '" + name + "'");
         Class<?> type = inst.getClass();
         Set<Class<?>> seen = new HashSet<>();
@@ -72,7 +103,7 @@ abstract class ContentTestBase extends ObjectFactoryTestBase {
                     return (X) res.get(inst);
                 }
             } catch (Exception e) {
-                error.addSuppressed(error);
+                error.addSuppressed(e);
             }
             type = type.getSuperclass();
             if (!seen.add(type)) {
@@ -0,0 +1,143 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.internal;
+
+import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.internal.InternalCache;
+import com.github.owlcs.ontapi.internal.InternalMetrics;
+import com.github.owlcs.ontapi.internal.OWLTopObjectType;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link InternalMetrics} and {@link OntMetrics}.
+ */
+public class InternalMetricsTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InternalMetricsTest.class);
+
+    @Test
+    public void testCountHitsAndMisses() {
+        InternalMetrics metrics = new InternalMetrics();
+        InternalCache<String, String> base = InternalCache.fromMap(new HashMap<>());
+        // the wrapper must not query the size of the cache:
+        InternalCache<String, String> cache = metrics.count(InternalMetrics.Kind.OBJECTS, new InternalCache<>() {
+            @Override
+            public void put(String key, String value) {
+                base.put(key, value);
+            }
+
+            @Override
+            public String get(String key) {
+                return base.get(key);
+            }
+
+            @Override
+            public void remove(String key) {
+                base.remove(key);
+            }
+
+            @Override
+            public void clear() {
+                base.clear();
+            }
+
+            @Override
+            public boolean isEmpty() {
+                throw new AssertionError();
+            }
+
+            @Override
+            public long size() {
+                throw new AssertionError();
+            }
+        });
+        Assertions.assertEquals("A", cache.get("a", String::toUpperCase));
+        Assertions.assertEquals("A", cache.get("a", String::toUpperCase));
+        Assertions.assertEquals("B", cache.get("b", String::toUpperCase));
+        Assertions.assertNull(cache.get("c"));
+        Assertions.assertEquals("B", cache.get("b"));
+        Assertions.assertEquals(2, metrics.getHits(InternalMetrics.Kind.OBJECTS));
+        Assertions.assertEquals(3, metrics.getMisses(InternalMetrics.Kind.OBJECTS));
+        Assertions.assertEquals(0, metrics.getEvictions(InternalMetrics.Kind.OBJECTS));
+        Assertions.assertEquals(0, metrics.getHits(InternalMetrics.Kind.NODES));
+
+        metrics.reset();
+        Assertions.assertEquals(0, metrics.getHits(InternalMetrics.Kind.OBJECTS));
+        Assertions.assertEquals(0, metrics.getMisses(InternalMetrics.Kind.OBJECTS));
+    }
+
+    @Test
+    public void testCountEvictions() {
+        InternalMetrics metrics = new InternalMetrics();
+        InternalCache<Integer, String> cache = metrics.createBounded(InternalMetrics.Kind.NODES, false, 2);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(String.valueOf(i), cache.get(i, String::valueOf));
+        }
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(5, metrics.getMisses(InternalMetrics.Kind.NODES));
+        Assertions.assertEquals(3, metrics.getEvictions(InternalMetrics.Kind.NODES));
+        Assertions.assertEquals("4", cache.get(4, String::valueOf));
+        Assertions.assertEquals(1, metrics.getHits(InternalMetrics.Kind.NODES));
+        Assertions.assertEquals(3, metrics.getEvictions(InternalMetrics.Kind.NODES));
+    }
+
+    @Test
+    public void testOntologyMetrics() throws Exception {
+        OWLOntologyDocumentSource src = ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE);
+        OntologyManager m1 = OntManagers.createManager();
+        Ontology o1 = m1.loadOntologyFromOntologyDocument(src);
+        OntologyManager m2 = OntManagers.createManager();
+        m2.getOntologyConfigurator().setCollectCacheMetrics(true);
+        Ontology o2 = m2.loadOntologyFromOntologyDocument(src);
+        Assertions.assertEquals(o1.getAxiomCount(), o2.getAxiomCount());
+
+        OntMetrics disabled = OntMetrics.of(o1);
+        Assertions.assertEquals(0, disabled.getMisses(InternalMetrics.Kind.CONTENT));
+        Assertions.assertEquals(0, disabled.getLoadCount(OWLTopObjectType.SUBCLASS_OF));
+
+        o2.axioms().collect(Collectors.toSet());
+        OntMetrics metrics = OntMetrics.of(o2);
+        LOGGER.debug("{}", metrics);
+        Assertions.assertTrue(metrics.getMisses(InternalMetrics.Kind.CONTENT) > 0);
+        Assertions.assertTrue(metrics.getHits(InternalMetrics.Kind.CONTENT) > 0);
+        Assertions.assertTrue(metrics.getHits(InternalMetrics.Kind.OBJECTS) > 0);
+        Assertions.assertTrue(metrics.getMisses(InternalMetrics.Kind.NODES) > 0);
+        Assertions.assertEquals(1, metrics.getLoadCount(OWLTopObjectType.SUBCLASS_OF));
+        Assertions.assertTrue(metrics.getLoadTime(OWLTopObjectType.SUBCLASS_OF).toNanos() > 0);
+        Assertions.assertEquals(metrics.getHits(InternalMetrics.Kind.CONTENT),
+                OntMetrics.of(m2).getHits(InternalMetrics.Kind.CONTENT));
+
+        ObjectName name = new ObjectName("com.github.owlcs.ontapi:type=OntMetrics,name=" + getClass().getSimpleName());
+        OntMetrics.register(m2, name);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            Assertions.assertNotNull(server.getAttribute(name, "Hits"));
+            server.invoke(name, "reset", null, null);
+        } finally {
+            server.unregisterMBean(name);
+        }
+        Assertions.assertEquals(0, OntMetrics.of(o2).getHits(InternalMetrics.Kind.CONTENT));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.internal;
+
+import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.internal.InternalCache;
+import com.github.owlcs.ontapi.internal.InternalMetrics;
+import com.github.owlcs.ontapi.internal.NodeClassifier;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * To test {@link NodeClassifier}.
+ */
+public class NodeClassifierTest {
+
+    private static NodeClassifier create(int types) {
+        return new NodeClassifier(IntStream.range(0, types).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testMarkAndTest() {
+        NodeClassifier classifier = create(130);
+        Node n = NodeFactory.createBlankNode();
+        InternalCache<Node, Boolean> c1 = classifier.asCache(1);
+        InternalCache<Node, Boolean> c2 = classifier.asCache(129);
+        InternalCache<Node, Boolean> c3 = classifier.asCache(32);
+        Assertions.assertNull(c1.get(n));
+        Assertions.assertTrue(c1.isEmpty());
+
+        c1.put(n, true);
+        c2.put(n, false);
+        c3.put(n, true);
+        Assertions.assertEquals(1, classifier.size());
+        Assertions.assertTrue(c1.get(n));
+        Assertions.assertFalse(c2.get(n));
+        Assertions.assertTrue(c3.get(n));
+        Assertions.assertNull(classifier.asCache(0).get(n));
+        Assertions.assertNull(classifier.asCache(65).get(n));
+
+        // overwriting does not change the counters:
+        c1.put(n, false);
+        Assertions.assertFalse(c1.get(n));
+        Assertions.assertEquals(1, c1.size());
+
+        c1.remove(n);
+        Assertions.assertNull(c1.get(n));
+        Assertions.assertEquals(0, c1.size());
+        Assertions.assertEquals(1, c2.size());
+        c2.clear();
+        Assertions.assertTrue(c2.isEmpty());
+        Assertions.assertTrue(c3.get(n));
+
+        classifier.clear();
+        Assertions.assertEquals(0, classifier.size());
+        Assertions.assertTrue(c3.isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> classifier.asCache(130));
+    }
+
+    @Test
+    public void testConcurrentMarks() throws Exception {
+        int types = 40;
+        int nodes = 1000;
+        NodeClassifier classifier = create(types);
+        List<Node> list = IntStream.range(0, nodes).mapToObj(i -> NodeFactory.createURI("x" + i))
+                .collect(Collectors.toList());
+        ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> res = new ArrayList<>();
+            for (int t = 0; t < types; t++) {
+                InternalCache<Node, Boolean> cache = classifier.asCache(t);
+                int type = t;
+                res.add(service.submit(() -> list.forEach(n -> cache.put(n, (n.hashCode() + type) % 2 == 0))));
+            }
+            for (Future<?> f : res) {
+                f.get();
+            }
+        } finally {
+            service.shutdown();
+            Assertions.assertTrue(service.awaitTermination(1, TimeUnit.MINUTES));
+        }
+        Assertions.assertEquals(nodes, classifier.size());
+        for (int t = 0; t < types; t++) {
+            InternalCache<Node, Boolean> cache = classifier.asCache(t);
+            Assertions.assertEquals(nodes, cache.size());
+            int type = t;
+            list.forEach(n -> Assertions.assertEquals((n.hashCode() + type) % 2 == 0, cache.get(n)));
+        }
+    }
+
+    @Test
+    public void testReadAxiomsWithClassifier() throws Exception {
+        OWLOntologyDocumentSource src = ReadWriteUtils.getFileDocumentSource("/ontapi/family.ttl", OntFormat.TURTLE);
+        OntologyManager m1 = OntManagers.createManager();
+        Ontology o1 = m1.loadOntologyFromOntologyDocument(src);
+        OntologyManager m2 = OntManagers.createManager();
+        m2.getOntologyConfigurator().setClassifyNodes(true).setCollectCacheMetrics(true);
+        Ontology o2 = m2.loadOntologyFromOntologyDocument(src);
+
+        Assertions.assertEquals(o1.axioms().collect(Collectors.toSet()), o2.axioms().collect(Collectors.toSet()));
+        Assertions.assertEquals(o1.getAxiomCount(), o2.getAxiomCount());
+        OntMetrics metrics = OntMetrics.of(o2);
+        Assertions.assertTrue(metrics.getHits(InternalMetrics.Kind.NODES) > 0);
+        Assertions.assertTrue(metrics.getMisses(InternalMetrics.Kind.NODES) > 0);
+        Assertions.assertEquals(0, metrics.getEvictions(InternalMetrics.Kind.NODES));
+    }
+}
@@ -19,15 +19,16 @@ import com.github.owlcs.ontapi.Ontology;
 import com.github.owlcs.ontapi.OntologyManager;
 import com.github.owlcs.ontapi.internal.ONTObject;
 import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.jena.model.OntClass;
 import com.github.owlcs.ontapi.jena.model.OntModel;
 import com.github.owlcs.ontapi.utils.ReadWriteUtils;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.semanticweb.owlapi.model.AxiomType;
-import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
-import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.Arrays;
 
 /**
  * Created by @szz on 12.09.2019.
@@ -75,4 +76,44 @@ public class ONTObjectContentTest {
         o.remove(ont.getOWLObject());
         Assertions.assertEquals(1, g.size());
     }
+
+    @Test
+    public void testDisjointClassesEqualityDoesNotDependOnTripleDirection() {
+        OntologyManager m = OntManagers.createManager();
+        OWLDataFactory df = m.getOWLDataFactory();
+        Ontology o1 = m.createOntology();
+        OntModel g1 = o1.asGraphModel();
+        g1.createOntClass("X").addDisjointClass(g1.createOntClass("Y"));
+        Ontology o2 = m.createOntology();
+        OntModel g2 = o2.asGraphModel();
+        g2.createOntClass("Y").addDisjointClass(g2.createOntClass("X"));
+        Ontology o3 = m.createOntology();
+        OntModel g3 = o3.asGraphModel();
+        g3.createDisjointClasses(g3.createOntClass("Y"), g3.createOntClass("X"));
+
+        OWLAxiom expected = df.getOWLDisjointClassesAxiom(df.getOWLClass("X"), df.getOWLClass("Y"));
+        OWLAxiom simpleXY = o1.axioms(AxiomType.DISJOINT_CLASSES).findFirst().orElseThrow(AssertionError::new);
+        OWLAxiom simpleYX = o2.axioms(AxiomType.DISJOINT_CLASSES).findFirst().orElseThrow(AssertionError::new);
+        OWLAxiom complex = o3.axioms(AxiomType.DISJOINT_CLASSES).findFirst().orElseThrow(AssertionError::new);
+        for (OWLAxiom a : Arrays.asList(simpleXY, simpleYX, complex)) {
+            Assertions.assertEquals(expected, a);
+            Assertions.assertEquals(expected.hashCode(), a.hashCode());
+            // the complex (owl:AllDisjointClasses) axiom compares its sorted content with the simple axiom components:
+            Assertions.assertEquals(complex, a);
+        }
+        Assertions.assertEquals(simpleXY, simpleYX);
+        Assertions.assertEquals(simpleYX, simpleXY);
+    }
+
+    @Test
+    public void testSelfDisjointClassesComponents() {
+        Ontology o = OntManagers.createManager().createOntology();
+        OntModel g = o.asGraphModel();
+        OntClass.Named x = g.createOntClass("X");
+        x.addDisjointClass(x);
+
+        OWLDisjointClassesAxiom a = o.axioms(AxiomType.DISJOINT_CLASSES).findFirst().orElseThrow(AssertionError::new);
+        // the components are not distinct, as the triple has two of them:
+        Assertions.assertEquals(2, a.components().count());
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.internal;
+
+import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.internal.InternalCache;
+import com.github.owlcs.ontapi.internal.OWLComponentType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * To test the inverted index of referencing axioms.
+ *
+ * @see com.github.owlcs.ontapi.config.CacheSettings#isIndexReferencingAxioms()
+ */
+public class ReferencingAxiomsIndexTest {
+    private static final String NS = "http://www.co-ode.org/ontologies/pizza/pizza.owl#";
+
+    private static InternalCache.Loading<?, ?> getIndex(Ontology o) {
+        return ContentTestBase.findDeclaredField(ContentTestBase.getBase(o), "referencing");
+    }
+
+    private static Ontology loadPizza(boolean index) throws Exception {
+        OntologyManager m = OntManagers.createManager();
+        m.getOntologyConfigurator().setIndexReferencingAxioms(index);
+        return ContentTestBase.loadPizza(m);
+    }
+
+    private static void assertReferencingAxioms(Ontology expected, Ontology actual) {
+        Set<OWLPrimitive> primitives = new HashSet<>(expected.signature().collect(Collectors.toSet()));
+        expected.axioms().forEach(a -> {
+            a.anonymousIndividuals().forEach(primitives::add);
+            OWLComponentType.LITERAL.select(a).forEach(x -> primitives.add((OWLLiteral) x));
+        });
+        primitives.forEach(x -> Assertions.assertEquals(expected.referencingAxioms(x).collect(Collectors.toSet()),
+                actual.referencingAxioms(x).collect(Collectors.toSet()), "Wrong axioms for " + x));
+        expected.classesInSignature().forEach(x -> Assertions.assertEquals(expected.axioms(x).collect(Collectors.toSet()),
+                actual.axioms(x).collect(Collectors.toSet()), "Wrong class axioms for " + x));
+    }
+
+    @Test
+    public void testIndexIsBuiltOnlyIfEnabled() throws Exception {
+        Ontology o1 = loadPizza(false);
+        Ontology o2 = loadPizza(true);
+        OWLClass c = o1.getOWLOntologyManager().getOWLDataFactory().getOWLClass(NS + "Pizza");
+        Assertions.assertTrue(getIndex(o1).isEmpty());
+        Assertions.assertTrue(getIndex(o2).isEmpty());
+        Assertions.assertEquals(o1.referencingAxioms(c).collect(Collectors.toSet()),
+                o2.referencingAxioms(c).collect(Collectors.toSet()));
+        Assertions.assertTrue(getIndex(o1).isEmpty());
+        Assertions.assertFalse(getIndex(o2).isEmpty());
+        assertReferencingAxioms(o1, o2);
+    }
+
+    @Test
+    public void testIndexIsUpdatedOnAxiomChanges() throws Exception {
+        Ontology o1 = loadPizza(false);
+        Ontology o2 = loadPizza(true);
+        OWLDataFactory df = o1.getOWLOntologyManager().getOWLDataFactory();
+        OWLClass c = df.getOWLClass(NS + "NewPizza");
+        OWLClass p = df.getOWLClass(NS + "Pizza");
+        OWLAxiom a1 = df.getOWLSubClassOfAxiom(c, p);
+        OWLAxiom a2 = df.getOWLAnnotationAssertionAxiom(c.getIRI(), df.getRDFSLabel(df.getOWLLiteral("new", "en")));
+        Assertions.assertEquals(0, o2.referencingAxioms(c).count());
+        InternalCache.Loading<?, ?> index = getIndex(o2);
+        Assertions.assertFalse(index.isEmpty());
+
+        Arrays.asList(o1, o2).forEach(o -> o.add(a1, a2));
+        Assertions.assertFalse(index.isEmpty());
+        Assertions.assertEquals(Set.of(a1), o2.referencingAxioms(c).collect(Collectors.toSet()));
+        Assertions.assertEquals(Set.of(a1, a2), o2.referencingAxioms(c.getIRI()).collect(Collectors.toSet()));
+        Assertions.assertEquals(Set.of(a1), o2.axioms(c).collect(Collectors.toSet()));
+        assertReferencingAxioms(o1, o2);
+
+        Arrays.asList(o1, o2).forEach(o -> o.remove(a1));
+        Assertions.assertFalse(index.isEmpty());
+        Assertions.assertEquals(0, o2.referencingAxioms(c).count());
+        Assertions.assertEquals(0, o2.axioms(c).count());
+        assertReferencingAxioms(o1, o2);
+    }
+
+    @Test
+    public void testIndexIsDiscardedOnDirectChanges() throws Exception {
+        Ontology o1 = loadPizza(false);
+        Ontology o2 = loadPizza(true);
+        OWLClass c = o1.getOWLOntologyManager().getOWLDataFactory().getOWLClass(NS + "NewPizza");
+        Assertions.assertEquals(0, o2.referencingAxioms(c).count());
+        Assertions.assertFalse(getIndex(o2).isEmpty());
+
+        Arrays.asList(o1, o2).forEach(o -> o.asGraphModel().getOntClass(NS + "Pizza")
+                .addSuperClass(o.asGraphModel().createOntClass(c.getIRI().getIRIString())));
+        Assertions.assertTrue(getIndex(o2).isEmpty());
+        Assertions.assertEquals(2, o2.referencingAxioms(c).count());
+        Assertions.assertFalse(getIndex(o2).isEmpty());
+        assertReferencingAxioms(o1, o2);
+    }
+}
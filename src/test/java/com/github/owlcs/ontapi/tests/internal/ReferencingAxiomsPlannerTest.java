@@ -0,0 +1,182 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.internal;
+
+import com.github.owlcs.ontapi.BaseModel;
+import com.github.owlcs.ontapi.OntFormat;
+import com.github.owlcs.ontapi.OntManagers;
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.internal.InternalModelImpl;
+import com.github.owlcs.ontapi.internal.OWLComponentType;
+import com.github.owlcs.ontapi.internal.ReferencingAxiomsPlanner;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * To test {@link ReferencingAxiomsPlanner}.
+ */
+public class ReferencingAxiomsPlannerTest {
+
+    @Test
+    public void testPrior() {
+        Assertions.assertEquals(ReferencingAxiomsPlanner.Strategy.CACHE,
+                ReferencingAxiomsPlanner.prior(OWLComponentType.DATATYPE, 1_000_000));
+        Assertions.assertEquals(ReferencingAxiomsPlanner.Strategy.CACHE,
+                ReferencingAxiomsPlanner.prior(OWLComponentType.CLASS, 199));
+        Assertions.assertEquals(ReferencingAxiomsPlanner.Strategy.GRAPH,
+                ReferencingAxiomsPlanner.prior(OWLComponentType.CLASS, 200));
+        Assertions.assertEquals(ReferencingAxiomsPlanner.Strategy.GRAPH,
+                ReferencingAxiomsPlanner.prior(OWLComponentType.LITERAL, 0));
+    }
+
+    @Test
+    public void testChooseByLatency() {
+        ReferencingAxiomsPlanner planner = new ReferencingAxiomsPlanner();
+        OWLComponentType type = OWLComponentType.CLASS;
+        ReferencingAxiomsPlanner.Decision d = planner.choose(type, () -> 10);
+        Assertions.assertEquals(ReferencingAxiomsPlanner.Strategy.CACHE, d.getStrategy());
+        Assertions.assertEquals(ReferencingAxiomsPlanner.Reason.PRIOR, d.getReason());
+        Assertions.assertSame(d, planner.getDecision(type));
+
+        for (int i = 0; i < 3; i++) {
+            planner.record(type, ReferencingAxiomsPlanner.Strategy.CACHE, 1_000_000);
+            planner.record(type, ReferencingAxiomsPlanner.Strategy.GRAPH, 1_000);
+        }
+        d = planner.choose(type, () -> {
+            throw new AssertionError("The axiom count must not be calculated");
+        });
+        Assertions.assertEquals(ReferencingAxiomsPlanner.Strategy.GRAPH, d.getStrategy());
+        Assertions.assertEquals(ReferencingAxiomsPlanner.Reason.MEASURED, d.getReason());
+        Assertions.assertEquals(3, d.getSamples(ReferencingAxiomsPlanner.Strategy.CACHE));
+
+        planner.reset();
+        Assertions.assertNull(planner.getDecision(type));
+    }
+
+    @Test
+    public void testObserve() {
+        ReferencingAxiomsPlanner planner = new ReferencingAxiomsPlanner();
+        OWLComponentType type = OWLComponentType.IRI;
+        ReferencingAxiomsPlanner.Decision d = planner.choose(type, () -> 0);
+        List<String> res = planner.observe(Stream.of("a", "b"), d).collect(Collectors.toList());
+        Assertions.assertEquals(List.of("a", "b"), res);
+        Assertions.assertEquals(1, planner.choose(type, () -> 0).getSamples(d.getStrategy()));
+
+        d = planner.fixed(type, ReferencingAxiomsPlanner.Strategy.CACHE);
+        Assertions.assertEquals(ReferencingAxiomsPlanner.Reason.FIXED, d.getReason());
+        Assertions.assertEquals(1, planner.observe(Stream.of("c"), d).count());
+        Assertions.assertEquals(0, planner.choose(type, () -> 0).getSamples(ReferencingAxiomsPlanner.Strategy.CACHE));
+    }
+
+    @Test
+    public void testPeekHasNoSideEffects() {
+        ReferencingAxiomsPlanner planner = new ReferencingAxiomsPlanner();
+        OWLComponentType type = OWLComponentType.CLASS;
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(ReferencingAxiomsPlanner.Strategy.CACHE, planner.peek(type, () -> 10));
+        }
+        Assertions.assertNull(planner.getDecision(type));
+        // the warm-up exploration depends only on the number of real queries:
+        for (int i = 1; i < 8; i++) {
+            Assertions.assertEquals(ReferencingAxiomsPlanner.Reason.PRIOR, planner.choose(type, () -> 10).getReason());
+        }
+        ReferencingAxiomsPlanner.Decision d = planner.choose(type, () -> 10);
+        Assertions.assertEquals(ReferencingAxiomsPlanner.Reason.EXPLORE, d.getReason());
+        Assertions.assertEquals(ReferencingAxiomsPlanner.Strategy.GRAPH, d.getStrategy());
+        Assertions.assertEquals(ReferencingAxiomsPlanner.Strategy.CACHE, planner.peek(type, () -> 10));
+    }
+
+    @Test
+    public void testObserveExcludesConsumerTime() {
+        ReferencingAxiomsPlanner planner = new ReferencingAxiomsPlanner();
+        OWLComponentType type = OWLComponentType.IRI;
+        ReferencingAxiomsPlanner.Decision d = planner.choose(type, () -> 0);
+        long start = System.nanoTime();
+        planner.observe(Stream.of("a", "b", "c"), d).forEach(x -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        });
+        long total = System.nanoTime() - start;
+        d = planner.choose(type, () -> 0);
+        Assertions.assertEquals(1, d.getSamples(d.getStrategy()));
+        Assertions.assertTrue(d.getAverageLatency(d.getStrategy()) < total / 2d,
+                "Latency: " + d.getAverageLatency(d.getStrategy()) + ", total: " + total);
+    }
+
+    @Test
+    public void testObserveShortCircuitStreams() {
+        ReferencingAxiomsPlanner planner = new ReferencingAxiomsPlanner();
+        OWLComponentType type = OWLComponentType.LITERAL;
+        ReferencingAxiomsPlanner.Strategy strategy = ReferencingAxiomsPlanner.Strategy.GRAPH;
+
+        // closed before exhausted, not recorded:
+        try (Stream<String> s = planner.observe(Stream.of("a", "b"), planner.choose(type, () -> 0))) {
+            Assertions.assertEquals("a", s.iterator().next());
+        }
+        Assertions.assertEquals(0, planner.choose(type, () -> 0).getSamples(strategy));
+
+        // abandoned after a short-circuit, not recorded:
+        Assertions.assertTrue(planner.observe(Stream.of("c", "d"), planner.choose(type, () -> 0)).anyMatch("c"::equals));
+        Assertions.assertEquals(0, planner.choose(type, () -> 0).getSamples(strategy));
+
+        // a short-circuit that exhausts the stream is recorded, but never twice:
+        Stream<String> s = planner.observe(Stream.of("e", "f"), planner.choose(type, () -> 0));
+        Assertions.assertFalse(s.anyMatch("x"::equals));
+        s.close();
+        Assertions.assertEquals(1, planner.choose(type, () -> 0).getSamples(strategy));
+
+        // exhausted iterator:
+        Iterator<String> it = planner.observe(Stream.of("g"), planner.choose(type, () -> 0)).iterator();
+        it.next();
+        Assertions.assertFalse(it.hasNext());
+        Assertions.assertFalse(it.hasNext());
+        Assertions.assertEquals(2, planner.choose(type, () -> 0).getSamples(strategy));
+    }
+
+    @Test
+    public void testReferencingAxioms() throws Exception {
+        Ontology o = OntManagers.createManager().loadOntologyFromOntologyDocument(
+                ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE));
+        InternalModelImpl m = (InternalModelImpl) ((BaseModel) o).getBase();
+        ReferencingAxiomsPlanner planner = m.getReferencingAxiomsPlanner();
+        // the planner works only when the whole content cache is loaded:
+        m.forceLoad();
+        List<OWLClass> classes = o.classesInSignature().collect(Collectors.toList());
+        for (OWLClass c : classes) {
+            Set<OWLAxiom> expected = o.axioms().filter(x -> x.containsEntityInSignature(c)).collect(Collectors.toSet());
+            // enough queries to try both strategies:
+            for (int i = 0; i < 2; i++) {
+                Assertions.assertEquals(expected, o.referencingAxioms(c).collect(Collectors.toSet()), "Class " + c);
+            }
+        }
+        ReferencingAxiomsPlanner.Decision d = planner.getDecision(OWLComponentType.CLASS);
+        Assertions.assertNotNull(d);
+        Assertions.assertNotEquals(ReferencingAxiomsPlanner.Reason.FIXED, d.getReason());
+        Assertions.assertTrue(d.getSamples(ReferencingAxiomsPlanner.Strategy.GRAPH) > 0);
+        Assertions.assertTrue(d.getSamples(ReferencingAxiomsPlanner.Strategy.CACHE) > 0);
+    }
+}
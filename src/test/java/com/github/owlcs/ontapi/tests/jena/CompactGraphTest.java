@@ -0,0 +1,157 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.jena;
+
+import com.github.owlcs.ontapi.OntManagers;
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.OntologyManager;
+import com.github.owlcs.ontapi.jena.CompactGraph;
+import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.utils.Graphs;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.mem.GraphMem;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link CompactGraph}.
+ */
+public class CompactGraphTest {
+
+    private static Set<Triple> find(Graph g, Node s, Node p, Node o) {
+        return g.find(s, p, o).toSet();
+    }
+
+    private static Node uri(int i) {
+        return NodeFactory.createURI("x" + i);
+    }
+
+    @Test
+    public void testFindPatterns() {
+        Graph expected = ReadWriteUtils.loadResourceTTLFile("/ontapi/pizza.ttl").getGraph();
+        CompactGraph actual = new CompactGraph();
+        expected.find().forEachRemaining(actual::add);
+        Assertions.assertEquals(expected.size(), actual.size());
+        Assertions.assertEquals(expected.find().toSet(), actual.find().toSet());
+
+        List<Triple> sample = expected.find().toList().subList(0, 300);
+        for (Triple t : sample) {
+            Assertions.assertTrue(actual.contains(t));
+            Node s = t.getSubject();
+            Node p = t.getPredicate();
+            Node o = t.getObject();
+            for (int i = 0; i < 8; i++) {
+                Node ms = (i & 1) == 0 ? Node.ANY : s;
+                Node mp = (i & 2) == 0 ? Node.ANY : p;
+                Node mo = (i & 4) == 0 ? Node.ANY : o;
+                Assertions.assertEquals(find(expected, ms, mp, mo), find(actual, ms, mp, mo),
+                        "Wrong result for pattern " + Triple.createMatch(ms, mp, mo));
+            }
+        }
+        sample.forEach(actual::delete);
+        Assertions.assertEquals(expected.size() - sample.size(), actual.size());
+        sample.forEach(t -> Assertions.assertFalse(actual.contains(t)));
+        sample.forEach(expected::delete);
+        Assertions.assertEquals(expected.find().toSet(), actual.find().toSet());
+        sample.forEach(actual::add);
+        Assertions.assertEquals(expected.size() + sample.size(), actual.size());
+
+        actual.clear();
+        Assertions.assertTrue(actual.isEmpty());
+        Assertions.assertEquals(0, actual.find().toList().size());
+        Assertions.assertEquals(0, actual.dictionarySize());
+    }
+
+    @Test
+    public void testRandomModifications() {
+        Random r = new Random(42);
+        Graph expected = new GraphMem();
+        CompactGraph actual = new CompactGraph();
+        for (int i = 0; i < 20_000; i++) {
+            Triple t = Triple.create(uri(r.nextInt(50)), uri(r.nextInt(5)), uri(r.nextInt(50)));
+            if (r.nextInt(3) == 0) {
+                expected.delete(t);
+                actual.delete(t);
+            } else {
+                expected.add(t);
+                actual.add(t);
+            }
+            if (i % 1000 == 0) {
+                Assertions.assertEquals(expected.size(), actual.size());
+                Assertions.assertEquals(find(expected, t.getSubject(), Node.ANY, Node.ANY),
+                        find(actual, t.getSubject(), Node.ANY, Node.ANY));
+                Assertions.assertEquals(find(expected, Node.ANY, t.getPredicate(), t.getObject()),
+                        find(actual, Node.ANY, t.getPredicate(), t.getObject()));
+            }
+        }
+        Assertions.assertEquals(expected.size(), actual.size());
+        Assertions.assertEquals(expected.find().toSet(), actual.find().toSet());
+        Assertions.assertTrue(actual.dictionarySize() <= 100);
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        CompactGraph g = new CompactGraph();
+        for (int i = 0; i < 10; i++) {
+            g.add(Triple.create(uri(i % 2), uri(100), uri(i)));
+        }
+        ExtendedIterator<Triple> it = g.find(uri(0), Node.ANY, Node.ANY);
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        Assertions.assertEquals(5, g.size());
+        Assertions.assertEquals(0, g.find(uri(0), Node.ANY, Node.ANY).toList().size());
+        Assertions.assertEquals(5, g.find(Node.ANY, uri(100), Node.ANY).toList().size());
+
+        ExtendedIterator<Triple> it2 = g.find();
+        it2.next();
+        g.add(Triple.create(uri(1), uri(1), uri(1)));
+        Assertions.assertThrows(ConcurrentModificationException.class, it2::hasNext);
+    }
+
+    @Test
+    public void testLoadOntologyWithCompactGraph() throws Exception {
+        IRI iri = IRI.create(ReadWriteUtils.getResourceURI("ontapi/pizza.ttl"));
+        OntologyManager m1 = OntManagers.createManager();
+        OntologyManager m2 = OntManagers.createManager();
+        m2.getOntologyConfigurator().setUseCompactGraph(true);
+        Assertions.assertTrue(m2.getOntologyLoaderConfiguration().isUseCompactGraph());
+        Ontology o1 = m1.loadOntology(iri);
+        Ontology o2 = m2.loadOntology(iri);
+        Graph base = ((UnionGraph) o2.asGraphModel().getGraph()).getBaseGraph();
+        Assertions.assertTrue(base instanceof CompactGraph);
+        Assertions.assertEquals(Graphs.getBase(o1.asGraphModel().getGraph()).size(), base.size());
+        Set<OWLAxiom> expected = o1.axioms().collect(Collectors.toSet());
+        Assertions.assertEquals(expected, o2.axioms().collect(Collectors.toSet()));
+
+        Ontology o3 = m2.createOntology(IRI.create("http://x"));
+        Assertions.assertTrue(Graphs.getBase(o3.asGraphModel().getGraph()) instanceof CompactGraph);
+        o3.add(expected);
+        Assertions.assertEquals(expected.size(), o3.getAxiomCount());
+        o3.remove(expected);
+        Assertions.assertEquals(0, o3.getAxiomCount());
+    }
+}
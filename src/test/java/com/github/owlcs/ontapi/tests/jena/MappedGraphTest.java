@@ -0,0 +1,132 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.jena;
+
+import com.github.owlcs.ontapi.OntManagers;
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.OntologyManager;
+import com.github.owlcs.ontapi.jena.MappedGraph;
+import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.utils.Graphs;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.shared.AddDeniedException;
+import org.apache.jena.shared.DeleteDeniedException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.parameters.Imports;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link MappedGraph}.
+ */
+public class MappedGraphTest {
+
+    private static Set<Triple> find(Graph g, Node s, Node p, Node o) {
+        return g.find(s, p, o).toSet();
+    }
+
+    private static Graph loadPizza() {
+        return ReadWriteUtils.loadResourceTTLFile("/ontapi/pizza.ttl").getGraph();
+    }
+
+    @Test
+    public void testFindPatterns(@TempDir Path dir) throws Exception {
+        Graph expected = loadPizza();
+        Path file = dir.resolve("pizza.bin");
+        MappedGraph.write(expected, file);
+        Assertions.assertTrue(Files.size(file) > 0);
+
+        MappedGraph actual = MappedGraph.open(file);
+        Assertions.assertEquals(file, actual.getFile());
+        Assertions.assertEquals(expected.size(), actual.size());
+        Assertions.assertEquals(expected.find().toSet(), actual.find().toSet());
+        Assertions.assertEquals(expected.getPrefixMapping().getNsPrefixMap(),
+                actual.getPrefixMapping().getNsPrefixMap());
+
+        List<Triple> sample = expected.find().toList();
+        for (Triple t : sample) {
+            Assertions.assertTrue(actual.contains(t));
+            Node s = t.getSubject();
+            Node p = t.getPredicate();
+            Node o = t.getObject();
+            for (int i = 1; i < 8; i++) {
+                Node ms = (i & 1) == 0 ? Node.ANY : s;
+                Node mp = (i & 2) == 0 ? Node.ANY : p;
+                Node mo = (i & 4) == 0 ? Node.ANY : o;
+                Assertions.assertEquals(find(expected, ms, mp, mo), find(actual, ms, mp, mo),
+                        "Wrong result for pattern " + Triple.createMatch(ms, mp, mo));
+            }
+        }
+        Node unknown = NodeFactory.createURI("http://unknown");
+        Assertions.assertFalse(actual.find(unknown, Node.ANY, Node.ANY).hasNext());
+        Assertions.assertFalse(actual.contains(unknown, unknown, unknown));
+    }
+
+    @Test
+    public void testReadOnly(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("pizza.bin");
+        MappedGraph.write(loadPizza(), file);
+        MappedGraph g = MappedGraph.open(file);
+        Triple t = g.find().next();
+        Node x = NodeFactory.createURI("x");
+        Assertions.assertThrows(AddDeniedException.class, () -> g.add(Triple.create(x, x, x)));
+        Assertions.assertThrows(DeleteDeniedException.class, () -> g.delete(t));
+        Assertions.assertThrows(DeleteDeniedException.class, g::clear);
+        Assertions.assertThrows(Exception.class, () -> g.getPrefixMapping().setNsPrefix("x", "http://x#"));
+        Assertions.assertTrue(g.contains(t));
+    }
+
+    @Test
+    public void testMappedGraphAsImport(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("pizza.bin");
+        Graph source = loadPizza();
+        MappedGraph.write(source, file);
+
+        OntologyManager m = OntManagers.createManager();
+        Ontology pizza = m.addOntology(MappedGraph.open(file), m.getOntologyLoaderConfiguration());
+        Assertions.assertTrue(Graphs.getBase(pizza.asGraphModel().getGraph()) instanceof MappedGraph);
+        Set<OWLAxiom> expected = OntManagers.createManager().addOntology(source).axioms().collect(Collectors.toSet());
+        Assertions.assertEquals(expected, pizza.axioms().collect(Collectors.toSet()));
+
+        Ontology o = m.createOntology(IRI.create("http://x"));
+        OWLDataFactory df = m.getOWLDataFactory();
+        m.applyChange(new AddImport(o,
+                df.getOWLImportsDeclaration(pizza.getOntologyID().getOntologyIRI().orElseThrow())));
+        UnionGraph union = (UnionGraph) o.asGraphModel().getGraph();
+        Assertions.assertTrue(union.getUnderlying().graphs().anyMatch(g -> Graphs.getBase(g) instanceof MappedGraph));
+        Assertions.assertEquals(expected.size(), o.axioms(Imports.INCLUDED)
+                .filter(expected::contains).count());
+
+        OWLAxiom a = df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create("http://x#C")));
+        o.add(a);
+        Assertions.assertTrue(o.containsAxiom(a));
+        Assertions.assertFalse(pizza.containsAxiom(a));
+        Assertions.assertEquals(source.size(), Graphs.getBase(pizza.asGraphModel().getGraph()).size());
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.jena;
+
+import com.github.owlcs.ontapi.OntManagers;
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.OntologyManager;
+import com.github.owlcs.ontapi.jena.impl.OntGraphModelImpl;
+import com.github.owlcs.ontapi.jena.impl.OntListCache;
+import com.github.owlcs.ontapi.jena.impl.conf.OntModelConfig;
+import com.github.owlcs.ontapi.jena.model.OntClass;
+import com.github.owlcs.ontapi.jena.model.OntDataRange;
+import com.github.owlcs.ontapi.jena.model.OntModel;
+import com.github.owlcs.ontapi.jena.vocabulary.RDF;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.GraphListener;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.impl.SimpleEventManager;
+import org.apache.jena.mem.GraphMem;
+import org.apache.jena.rdf.model.Literal;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link OntListCache}.
+ */
+public class OntListCacheTest {
+    private static final String NS = "http://ex.com#";
+
+    private static List<Node> members(Node[] array) {
+        return array == null ? null : Arrays.asList(array);
+    }
+
+    @Test
+    public void testMembersAreTrackedByListener() {
+        CachedModel m = new CachedModel();
+        OntModel plain = new OntGraphModelImpl(m.getGraph(), OntModelConfig.getPersonality());
+        OntClass a = m.createOntClass(NS + "A");
+        OntClass b = m.createOntClass(NS + "B");
+        OntClass c = m.createOntClass(NS + "C");
+        OntClass.UnionOf u = m.createObjectUnionOf(a, b);
+        Node head = u.getList().asNode();
+
+        Assertions.assertEquals(0, m.cache.size());
+        Assertions.assertEquals(List.of(a, b), u.getList().members().collect(Collectors.toList()));
+        Assertions.assertEquals(List.of(a.asNode(), b.asNode()), members(m.cache.get(head)));
+        Assertions.assertEquals(1, m.cache.size());
+        Assertions.assertTrue(u.getList().contains(b));
+        Assertions.assertFalse(u.getList().contains(c));
+
+        // a change of some list cell (the tail here) discards the list:
+        u.getList().addLast(c);
+        Assertions.assertEquals(0, m.cache.size());
+        Assertions.assertEquals(List.of(a, b, c), u.getList().members().collect(Collectors.toList()));
+        Assertions.assertTrue(u.getList().contains(c));
+        Assertions.assertEquals(1, m.cache.size());
+
+        u.getList().removeFirst();
+        Assertions.assertEquals(0, m.cache.size());
+        Assertions.assertEquals(List.of(b, c), u.getList().members().collect(Collectors.toList()));
+        Assertions.assertFalse(u.getList().contains(a));
+        Assertions.assertEquals(plain.ontObjects(OntClass.UnionOf.class).findFirst().orElseThrow(AssertionError::new)
+                .getList().members().collect(Collectors.toList()), u.getList().members().collect(Collectors.toList()));
+
+        // any bulk event clears the whole cache:
+        m.cache.get(head);
+        Assertions.assertEquals(1, m.cache.size());
+        m.getBaseGraph().getEventManager().notifyEvent(m.getBaseGraph(), "test");
+        Assertions.assertEquals(0, m.cache.size());
+    }
+
+    @Test
+    public void testBrokenListIsNotCached() {
+        CachedModel m = new CachedModel();
+        OntClass.UnionOf u = m.createObjectUnionOf(m.createOntClass(NS + "A"), m.createOntClass(NS + "B"));
+        Assertions.assertNull(m.cache.get(m.createOntClass(NS + "C").asNode()));
+        // remove the rdf:first from the second cell:
+        Node second = m.getBaseGraph().find(u.getList().asNode(),
+                RDF.rest.asNode(), Node.ANY).next().getObject();
+        m.getBaseGraph().remove(second, RDF.first.asNode(), Node.ANY);
+        Assertions.assertNull(m.cache.get(u.getList().asNode()));
+        Assertions.assertEquals(0, m.cache.size());
+    }
+
+    @Test
+    public void testContainsLiteralByValue() {
+        CachedModel m = new CachedModel();
+        OntModel plain = new OntGraphModelImpl(m.getGraph(), OntModelConfig.getPersonality());
+        m.createDataOneOf(m.createTypedLiteral("1", XSDDatatype.XSDint), m.createTypedLiteral("2", XSDDatatype.XSDint));
+        Literal same = m.createTypedLiteral("01", XSDDatatype.XSDint);
+        Literal other = m.createTypedLiteral("3", XSDDatatype.XSDint);
+
+        OntDataRange.OneOf withoutCache = plain.ontObjects(OntDataRange.OneOf.class).findFirst()
+                .orElseThrow(AssertionError::new);
+        OntDataRange.OneOf withCache = m.ontObjects(OntDataRange.OneOf.class).findFirst()
+                .orElseThrow(AssertionError::new);
+        Assertions.assertTrue(withoutCache.getList().contains(same));
+        Assertions.assertFalse(withoutCache.getList().contains(other));
+        Assertions.assertEquals(0, m.cache.size());
+        Assertions.assertTrue(withCache.getList().contains(same));
+        Assertions.assertFalse(withCache.getList().contains(other));
+        Assertions.assertEquals(1, m.cache.size());
+    }
+
+    @Test
+    public void testListenerIsRegisteredOnlyIfEnabled() {
+        ListenersGraph g1 = new ListenersGraph();
+        ListenersGraph g2 = new ListenersGraph();
+        OntologyManager m1 = OntManagers.createManager();
+        m1.getOntologyConfigurator().setCacheListMembers(false);
+        OntologyManager m2 = OntManagers.createManager();
+        m2.getOntologyConfigurator().setCacheListMembers(true);
+        Ontology o1 = m1.addOntology(g1);
+        Ontology o2 = m2.addOntology(g2);
+        for (Ontology o : List.of(o1, o2)) {
+            OntModel g = o.asGraphModel();
+            g.createOntClass(NS + "X").addSuperClass(g.createObjectUnionOf(g.createOntClass(NS + "A"),
+                    g.createOntClass(NS + "B")));
+            Assertions.assertEquals(4, o.axioms().count());
+        }
+        Assertions.assertEquals(0, g1.count(OntListCache.class));
+        Assertions.assertEquals(1, g2.count(OntListCache.class));
+
+        o2.clearCache();
+        Assertions.assertEquals(0, g2.count(OntListCache.class));
+        Assertions.assertEquals(4, o2.axioms().count());
+        Assertions.assertEquals(1, g2.count(OntListCache.class));
+    }
+
+    /**
+     * A model with the list cache.
+     */
+    private static class CachedModel extends OntGraphModelImpl {
+        private final OntListCache cache;
+
+        CachedModel() {
+            super(new GraphMem(), OntModelConfig.getPersonality());
+            this.cache = new OntListCache(getBaseGraph());
+            getBaseGraph().getEventManager().register(cache);
+        }
+
+        @Override
+        protected OntListCache getListCache() {
+            return cache;
+        }
+    }
+
+    /**
+     * A graph that allows to inspect its listeners.
+     */
+    private static class ListenersGraph extends GraphMem {
+        private final Manager manager = new Manager();
+
+        ListenersGraph() {
+            this.gem = manager;
+        }
+
+        long count(Class<? extends GraphListener> type) {
+            return manager.listeners().stream().filter(type::isInstance).count();
+        }
+
+        private static class Manager extends SimpleEventManager {
+            List<GraphListener> listeners() {
+                return listeners;
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@ import com.github.owlcs.ontapi.jena.OntJenaException;
 import com.github.owlcs.ontapi.jena.OntModelFactory;
 import com.github.owlcs.ontapi.jena.OntVocabulary;
 import com.github.owlcs.ontapi.jena.impl.OntIndividualImpl;
+import com.github.owlcs.ontapi.jena.impl.PersonalityModel;
 import com.github.owlcs.ontapi.jena.impl.conf.*;
 import com.github.owlcs.ontapi.jena.model.*;
 import com.github.owlcs.ontapi.jena.vocabulary.OWL;
@@ -26,6 +27,7 @@ import com.github.owlcs.ontapi.utils.ReadWriteUtils;
 import org.apache.jena.enhanced.EnhGraph;
 import org.apache.jena.enhanced.EnhNode;
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.rdf.model.*;
 import org.apache.jena.sparql.vocabulary.FOAF;
 import org.apache.jena.vocabulary.RDFS;
@@ -35,6 +37,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -291,6 +294,53 @@ public class PersonalityTest {
         Assertions.assertEquals(4, disjoint3.members().count());
     }
 
+    @Test
+    public void testProbeNodeAs() {
+        String ns = "http://ex.com#";
+        AtomicInteger count = new AtomicInteger();
+        OntFilter filter = OntFilter.URI.and(new OntFilter.HasType(OWL.NamedIndividual));
+        ObjectFactory factory = new CommonFactoryImpl(new OntMaker.Default(IndividualImpl.class) {
+            @Override
+            public EnhNode instance(Node node, EnhGraph eg) {
+                return new IndividualImpl(node, eg);
+            }
+        }, new OntFinder.ByPredicate(RDF.type), (n, g) -> {
+            count.incrementAndGet();
+            return filter.test(n, g);
+        });
+        OntPersonality personality = PersonalityBuilder.from(OntModelConfig.ONT_PERSONALITY_LAX)
+                .add(OntIndividual.Named.class, factory)
+                .build();
+        OntModel m = OntModelFactory.createModel(OntModelFactory.createDefaultGraph(), personality);
+        m.createResource(ns + "i1", OWL.NamedIndividual);
+        m.createResource(ns + "c1", OWL.Class);
+        PersonalityModel pm = PersonalityModel.asPersonalityModel(m);
+
+        Node i1 = NodeFactory.createURI(ns + "i1");
+        Node c1 = NodeFactory.createURI(ns + "c1");
+        Assertions.assertNull(factory.wrapOrNull(c1, (EnhGraph) m));
+        Assertions.assertNotNull(factory.wrapOrNull(i1, (EnhGraph) m));
+        Assertions.assertEquals(2, count.get());
+
+        count.set(0);
+        Assertions.assertNotNull(pm.findNodeAs(i1, OntIndividual.Named.class));
+        Assertions.assertEquals(1, count.get());
+        Assertions.assertNull(pm.findNodeAs(c1, OntIndividual.Named.class));
+        Assertions.assertEquals(2, count.get());
+        Assertions.assertNotNull(pm.findNodeAs(c1, OntClass.Named.class));
+        Assertions.assertNull(pm.fetchNodeAs(c1, OntIndividual.Named.class));
+        Assertions.assertEquals(3, count.get());
+
+        // the test and the wrapping are done once for the pair canAs + as
+        count.set(0);
+        OntObject o = m.createResource(ns + "i2", OWL.NamedIndividual).as(OntObject.class);
+        Assertions.assertTrue(o.canAs(OntIndividual.Named.class));
+        Assertions.assertNotNull(o.as(OntIndividual.Named.class));
+        Assertions.assertNotNull(o.getAs(OntIndividual.Named.class));
+        Assertions.assertNull(o.getAs(OntClass.Named.class));
+        Assertions.assertEquals(1, count.get());
+    }
+
     public static OntPersonality buildCustomPersonality() {
         LOGGER.debug("Create new Named Individual Factory");
         OntPersonality from = OntModelConfig.ONT_PERSONALITY_LAX;
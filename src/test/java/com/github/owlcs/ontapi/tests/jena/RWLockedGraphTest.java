@@ -17,7 +17,9 @@ package com.github.owlcs.ontapi.tests.jena;
 import com.github.owlcs.ontapi.internal.AxiomTranslator;
 import com.github.owlcs.ontapi.internal.ONTObject;
 import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.jena.OptimisticReadWriteLock;
 import com.github.owlcs.ontapi.jena.RWLockedGraph;
+import com.github.owlcs.ontapi.jena.VersionedGraph;
 import com.github.owlcs.ontapi.jena.model.OntClass;
 import com.github.owlcs.ontapi.jena.model.OntModel;
 import com.github.owlcs.ontapi.jena.vocabulary.OWL;
@@ -25,6 +27,9 @@ import com.github.owlcs.ontapi.jena.vocabulary.RDF;
 import com.github.owlcs.ontapi.utils.ReadWriteUtils;
 import org.apache.jena.graph.Factory;
 import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphUtil;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.shared.PrefixMapping;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -41,6 +46,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -144,6 +150,105 @@ public class RWLockedGraphTest {
         LOGGER.debug("Duration: {}", Duration.between(s, e));
     }
 
+    @Test
+    public void testRaceModifyAndListWithOptimisticLock() throws Exception {
+        Graph g = new VersionedGraph();
+        GraphUtil.addInto(g, loadPizza());
+        RWLockedGraph gg = new RWLockedGraph(g, new OptimisticReadWriteLock());
+        Assertions.assertTrue(gg.isOptimistic());
+        OntModel m = OntModelFactory.createModel(gg);
+        Instant s = Instant.now();
+        testRace(m);
+        Instant e = Instant.now();
+        LOGGER.debug("Duration: {}", Duration.between(s, e));
+    }
+
+    @Test
+    public void testOptimisticReadWriteLock() throws Exception {
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+        RWLockedGraph g = new RWLockedGraph(new VersionedGraph(), lock);
+        Triple t = Triple.create(NodeFactory.createURI("s"), NodeFactory.createURI("p"), NodeFactory.createURI("o"));
+        Assertions.assertTrue(g.isEmpty());
+        // reentrant write lock:
+        lock.writeLock().lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                g.add(t);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            // the writer itself reads under the read lock:
+            Assertions.assertTrue(g.contains(t));
+            // other readers wait for the end of the write section:
+            Future<Integer> size = Executors.newSingleThreadExecutor().submit(g::size);
+            Assertions.assertThrows(TimeoutException.class, () -> size.get(100, TimeUnit.MILLISECONDS));
+            g.add(Triple.create(t.getSubject(), t.getPredicate(), NodeFactory.createURI("o2")));
+            lock.writeLock().unlock();
+            Assertions.assertEquals(2, size.get());
+        } finally {
+            if (lock.writeLock().tryLock()) {
+                lock.writeLock().unlock();
+            }
+        }
+        Assertions.assertFalse(g.isEmpty());
+        Assertions.assertEquals(2, g.size());
+        Assertions.assertTrue(g.contains(t));
+    }
+
+    @Test
+    public void testOptimisticReadsOnlyForSafeGraphs() {
+        AtomicInteger count = new AtomicInteger();
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock() {
+            @Override
+            public <X> X optimisticRead(Supplier<X> op) {
+                count.incrementAndGet();
+                return super.optimisticRead(op);
+            }
+        };
+        Triple t = Triple.create(NodeFactory.createURI("s"), NodeFactory.createURI("p"), NodeFactory.createURI("o"));
+        RWLockedGraph mem = new RWLockedGraph(Factory.createGraphMem(), lock);
+        Assertions.assertFalse(mem.isOptimistic());
+        Assertions.assertFalse(new RWLockedGraph(new VersionedGraph(), new ReentrantReadWriteLock()).isOptimistic());
+        mem.add(t);
+        Assertions.assertTrue(mem.contains(t));
+        Assertions.assertEquals(1, mem.size());
+        Assertions.assertFalse(mem.isEmpty());
+        Assertions.assertEquals(0, count.get());
+
+        RWLockedGraph versioned = new RWLockedGraph(new VersionedGraph(), lock);
+        Assertions.assertTrue(versioned.isOptimistic());
+        versioned.add(t);
+        Assertions.assertTrue(versioned.contains(t));
+        Assertions.assertEquals(1, versioned.size());
+        Assertions.assertFalse(versioned.isEmpty());
+        Assertions.assertEquals(3, count.get());
+    }
+
+    @Test
+    public void testOptimisticReadRetriesOnErrors() {
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+        AtomicInteger calls = new AtomicInteger();
+        // the first attempt is invalidated by a concurrent write and fails with an error:
+        int res = lock.optimisticRead(() -> {
+            if (calls.incrementAndGet() == 1) {
+                CompletableFuture.runAsync(() -> {
+                    lock.writeLock().lock();
+                    lock.writeLock().unlock();
+                }).join();
+                throw new StackOverflowError("Inconsistent data");
+            }
+            return 42;
+        });
+        Assertions.assertEquals(42, res);
+        Assertions.assertEquals(2, calls.get());
+        // a valid attempt rethrows the error as is:
+        Assertions.assertThrows(AssertionError.class, () -> lock.optimisticRead(() -> {
+            throw new AssertionError();
+        }));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> lock.writeLock().newCondition());
+    }
+
     @Test
     public void testConcurrentPrefixes() throws ExecutionException, InterruptedException {
         PrefixMapping pm = new RWLockedGraph(Factory.createGraphMem(), new ReentrantReadWriteLock()).getPrefixMapping();
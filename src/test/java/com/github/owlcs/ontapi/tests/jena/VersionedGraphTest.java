@@ -0,0 +1,146 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.tests.jena;
+
+import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.jena.VersionedGraph;
+import com.github.owlcs.ontapi.jena.model.OntClass;
+import com.github.owlcs.ontapi.jena.model.OntModel;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * To test {@link VersionedGraph}.
+ */
+public class VersionedGraphTest {
+
+    private static Set<Triple> find(Graph g, Node s, Node p, Node o) {
+        return g.find(s, p, o).toSet();
+    }
+
+    @Test
+    public void testFindPatterns() {
+        Graph expected = ReadWriteUtils.loadResourceTTLFile("/ontapi/pizza.ttl").getGraph();
+        VersionedGraph actual = new VersionedGraph();
+        expected.find().forEachRemaining(actual::add);
+        Assertions.assertEquals(expected.size(), actual.size());
+
+        List<Triple> sample = expected.find().toList().subList(0, 200);
+        for (Triple t : sample) {
+            Assertions.assertTrue(actual.contains(t));
+            Node s = t.getSubject();
+            Node p = t.getPredicate();
+            Node o = t.getObject();
+            for (int i = 0; i < 8; i++) {
+                Node ms = (i & 1) == 0 ? Node.ANY : s;
+                Node mp = (i & 2) == 0 ? Node.ANY : p;
+                Node mo = (i & 4) == 0 ? Node.ANY : o;
+                Assertions.assertEquals(find(expected, ms, mp, mo), find(actual, ms, mp, mo),
+                        "Wrong result for pattern " + Triple.createMatch(ms, mp, mo));
+            }
+        }
+        sample.forEach(actual::delete);
+        Assertions.assertEquals(expected.size() - sample.size(), actual.size());
+        sample.forEach(t -> Assertions.assertFalse(actual.contains(t)));
+        actual.clear();
+        Assertions.assertTrue(actual.isEmpty());
+        Assertions.assertEquals(0, actual.find().toList().size());
+    }
+
+    @Test
+    public void testSnapshotIsStable() {
+        VersionedGraph g = new VersionedGraph();
+        OntModel m = OntModelFactory.createModel(g);
+        m.createOntClass("A");
+        m.createOntClass("B");
+        long version = g.getVersion();
+        Graph snapshot = g.snapshot();
+        Assertions.assertEquals(2, snapshot.size());
+
+        ExtendedIterator<Triple> it = g.find();
+        m.createOntClass("C");
+        Assertions.assertEquals(2, it.toList().size());
+        Assertions.assertEquals(2, snapshot.size());
+        Assertions.assertEquals(3, g.size());
+        Assertions.assertTrue(g.getVersion() > version);
+        Assertions.assertEquals(version, ((VersionedGraph.Snapshot) snapshot).getVersion());
+        Assertions.assertThrows(Exception.class, () -> snapshot.add(g.find().next()));
+
+        // remove while iterating: no ConcurrentModificationException
+        it = g.find();
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        Assertions.assertTrue(g.isEmpty());
+        Assertions.assertEquals(0, m.classes().count());
+    }
+
+    @Test
+    public void testModifyWhileIterating() throws Exception {
+        VersionedGraph g = new VersionedGraph();
+        OntModel m = OntModelFactory.createModel(g);
+        for (int i = 0; i < 100; i++) {
+            m.createOntClass("C" + i);
+        }
+        AtomicBoolean process = new AtomicBoolean(true);
+        ExecutorService service = Executors.newFixedThreadPool(4);
+        List<Future<?>> res = new ArrayList<>();
+        res.add(service.submit(() -> {
+            for (int i = 0; i < 500; i++) {
+                OntClass c = m.createOntClass("X" + i);
+                if (i % 2 == 0) {
+                    m.removeOntObject(c);
+                }
+            }
+            process.set(false);
+        }));
+        for (int i = 0; i < 3; i++) {
+            res.add(service.submit(() -> {
+                while (process.get()) {
+                    Graph snapshot = g.snapshot();
+                    Set<Triple> triples = new HashSet<>();
+                    g.snapshot().find().forEachRemaining(triples::add);
+                    Assertions.assertTrue(triples.size() >= 100);
+                    Assertions.assertTrue(snapshot.size() >= 100);
+                    m.classes().forEach(OntClass::getURI);
+                }
+            }));
+        }
+        service.shutdown();
+        for (Future<?> f : res) {
+            f.get();
+        }
+        Assertions.assertTrue(service.awaitTermination(1, TimeUnit.MINUTES));
+        Assertions.assertEquals(350, m.classes().count());
+        Assertions.assertEquals(350, g.size());
+        Assertions.assertTrue(g.contains(NodeFactory.createURI("X1"), Node.ANY, Node.ANY));
+    }
+}
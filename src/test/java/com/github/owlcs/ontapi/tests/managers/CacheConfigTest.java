@@ -399,6 +399,72 @@ public class CacheConfigTest {
         });
     }
 
+    @Test
+    public void testContentCacheLoadParallelism() {
+        Assertions.assertEquals(Prop.CONTENT_CACHE_LOAD_PARALLELISM.getInt(), new OntConfig().getContentCacheLoadParallelism());
+        OntLoaderConfiguration conf = new OntConfig().buildLoaderConfiguration();
+        Assertions.assertFalse(conf.useParallelContentCacheLoading());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> conf.setContentCacheLoadParallelism(0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new OntConfig().setContentCacheLoadParallelism(-1));
+
+        OntLoaderConfiguration parallel = conf.setContentCacheLoadParallelism(4);
+        Assertions.assertNotSame(conf, parallel);
+        Assertions.assertEquals(4, parallel.getContentCacheLoadParallelism());
+        Assertions.assertTrue(parallel.useParallelContentCacheLoading());
+        Assertions.assertFalse(parallel.setModelCacheLevel(CacheSettings.CACHE_CONTENT, false)
+                .useParallelContentCacheLoading());
+    }
+
+    @Test
+    public void testContentArraysCache() {
+        Assertions.assertEquals(Prop.CONTENT_ARRAYS_CACHE_SIZE.getInt(), new OntConfig().getContentArraysCacheSize());
+        OntLoaderConfiguration conf = new OntConfig().buildLoaderConfiguration();
+        Assertions.assertFalse(conf.useContentArraysCache());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> conf.setContentArraysCacheSize(-1));
+        Assertions.assertTrue(conf.setContentArraysCacheSize(42).useContentArraysCache());
+        OntologyManager m1 = OntManagers.createManager();
+        OntologyManager m2 = OntManagers.createManager();
+        m2.getOntologyConfigurator().setContentArraysCacheSize(42);
+        Assertions.assertNull(getBase(m1.createOntology()).getContentArrayCache());
+        Assertions.assertEquals(42, getBase(m2.createOntology()).getContentArrayCache().getMaximumSize());
+    }
+
+    @Test
+    public void testCollectCacheMetrics() {
+        Assertions.assertEquals(Prop.CACHE_METRICS.getBoolean(), new OntConfig().isCollectCacheMetrics());
+        OntLoaderConfiguration conf = new OntConfig().buildLoaderConfiguration();
+        Assertions.assertEquals(Prop.CACHE_METRICS.getBoolean(), conf.isCollectCacheMetrics());
+        Assertions.assertTrue(conf.setCollectCacheMetrics(true).isCollectCacheMetrics());
+    }
+
+    @Test
+    public void testIndexReferencingAxioms() {
+        Assertions.assertEquals(Prop.REFERENCES_INDEX.getBoolean(), new OntConfig().isIndexReferencingAxioms());
+        OntLoaderConfiguration conf = new OntConfig().buildLoaderConfiguration();
+        Assertions.assertEquals(Prop.REFERENCES_INDEX.getBoolean(), conf.isIndexReferencingAxioms());
+        Assertions.assertTrue(conf.setIndexReferencingAxioms(true).isIndexReferencingAxioms());
+    }
+
+    @Test
+    public void testClassifyNodes() {
+        Assertions.assertEquals(Prop.NODES_CLASSIFIER.getBoolean(), new OntConfig().isClassifyNodes());
+        OntLoaderConfiguration conf = new OntConfig().buildLoaderConfiguration();
+        Assertions.assertEquals(Prop.NODES_CLASSIFIER.getBoolean(), conf.isClassifyNodes());
+        Assertions.assertTrue(conf.setClassifyNodes(true).isClassifyNodes());
+    }
+
+    @Test
+    public void testCacheListMembers() {
+        Assertions.assertEquals(Prop.LISTS.getBoolean(), new OntConfig().isCacheListMembers());
+        OntologyManager m1 = OntManagers.createManager();
+        m1.getOntologyConfigurator().setCacheListMembers(false);
+        OntologyManager m2 = OntManagers.createManager();
+        m2.getOntologyConfigurator().setCacheListMembers(true);
+        Assertions.assertNull(getBase(m1.createOntology()).getListCache());
+        Assertions.assertNotNull(getBase(m2.createOntology()).getListCache());
+    }
+
     @Test
     public void testContentCacheLevels() {
         OntConfig c = new OntConfig();
@@ -509,7 +575,13 @@ public class CacheConfigTest {
         IRI_CACHE_SIZE(OntSettings.ONT_API_MANAGER_CACHE_IRIS.key() + ".integer"),
         NODES_CACHE_SIZE(OntSettings.ONT_API_LOAD_CONF_CACHE_NODES.key() + ".integer"),
         OBJECTS_CACHE_SIZE(OntSettings.ONT_API_LOAD_CONF_CACHE_OBJECTS.key() + ".integer"),
-        CONTENT_CACHE_LEVEL(OntSettings.ONT_API_LOAD_CONF_CACHE_MODEL.key() + ".integer");
+        CONTENT_CACHE_LEVEL(OntSettings.ONT_API_LOAD_CONF_CACHE_MODEL.key() + ".integer"),
+        CONTENT_CACHE_LOAD_PARALLELISM(OntSettings.ONT_API_LOAD_CONF_CACHE_LOAD_PARALLELISM.key() + ".integer"),
+        CONTENT_ARRAYS_CACHE_SIZE(OntSettings.ONT_API_LOAD_CONF_CACHE_CONTENT_ARRAYS.key() + ".integer"),
+        CACHE_METRICS(OntSettings.ONT_API_LOAD_CONF_CACHE_METRICS.key() + ".boolean"),
+        REFERENCES_INDEX(OntSettings.ONT_API_LOAD_CONF_CACHE_REFERENCES_INDEX.key() + ".boolean"),
+        NODES_CLASSIFIER(OntSettings.ONT_API_LOAD_CONF_CACHE_NODES_CLASSIFIER.key() + ".boolean"),
+        LISTS(OntSettings.ONT_API_LOAD_CONF_CACHE_LISTS.key() + ".boolean");
         private final String key;
 
         Prop(String key) {
@@ -520,6 +592,10 @@ public class CacheConfigTest {
             return Integer.parseInt(get());
         }
 
+        boolean getBoolean() {
+            return Boolean.parseBoolean(get());
+        }
+
         private String get() {
             return Objects.requireNonNull(OntSettings.PROPERTIES.getProperty(key), "Null " + key);
         }
@@ -29,8 +29,12 @@ import com.github.owlcs.ontapi.transforms.OWLRecursiveTransform;
 import com.github.owlcs.ontapi.transforms.Transform;
 import com.github.owlcs.ontapi.utils.*;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.jena.graph.Factory;
 import org.apache.jena.graph.Graph;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.RDFList;
+import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.vocabulary.RDFS;
 import org.junit.jupiter.api.Assertions;
@@ -43,11 +47,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -793,4 +802,218 @@ public class LoadFactoryManagerTest {
             throw new AssertionError(e);
         }
     }
+
+    @Test
+    public void testSniffFormat() {
+        Map<String, OntFormat> data = new LinkedHashMap<>();
+        data.put("<?xml version=\"1.0\"?>\n<!DOCTYPE rdf:RDF [\n<!ENTITY owl \"http://www.w3.org/2002/07/owl#\" >\n]>\n" +
+                "<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\"/>", OntFormat.RDF_XML);
+        data.put("<?xml version=\"1.0\"?>\n<!-- comment -->\n" +
+                "<Ontology xmlns=\"http://www.w3.org/2002/07/owl#\" ontologyIRI=\"http://x\"/>", OntFormat.OWL_XML);
+        data.put("<TriX xmlns=\"http://www.w3.org/2004/03/trix/trix-1/\"/>", OntFormat.TRIX);
+        data.put("{ \"@context\" : {}, \"@id\" : \"http://x\" }", OntFormat.JSON_LD);
+        data.put("{ \"http://x\" : { } }", OntFormat.RDF_JSON);
+        data.put("Prefix(:=<http://x#>)\nOntology(<http://x>)", OntFormat.FUNCTIONAL_SYNTAX);
+        data.put("Prefix: : <http://x#>\nOntology: <http://x>", OntFormat.MANCHESTER_SYNTAX);
+        data.put("# comment\n@prefix : <http://x#> .", OntFormat.TURTLE);
+        data.put("\uFEFFPREFIX : <http://x#>", OntFormat.TURTLE);
+        data.put("<http://x> <http://y> <http://z> .", null);
+        data.put("", null);
+        data.forEach((txt, expected) -> {
+            byte[] bytes = txt.getBytes(StandardCharsets.UTF_8);
+            Assertions.assertEquals(expected, OntGraphUtils.sniffFormat(bytes, bytes.length), "Wrong format for " + txt);
+        });
+    }
+
+    @Test
+    public void testLoadSniffedFormat() throws OWLOntologyCreationException {
+        String txt = "{\n" +
+                "  \"@id\" : \"http://test#A\",\n" +
+                "  \"@type\" : \"http://www.w3.org/2002/07/owl#Class\"\n" +
+                "}";
+        OntologyManager m = OntManagers.createManager();
+        Ontology o = m.loadOntologyFromOntologyDocument(new StringDocumentSource(txt));
+        Assertions.assertEquals(OntFormat.JSON_LD.createOwlFormat().getKey(), m.getOntologyFormat(o).getKey());
+        Assertions.assertEquals(1, o.axioms(AxiomType.DECLARATION).count());
+    }
+
+    @Test
+    public void testOpenSourceOnce() throws OWLOntologyCreationException {
+        StringBuilder ttl = new StringBuilder("@prefix : <http://test#> .\n" +
+                "@prefix owl: <http://www.w3.org/2002/07/owl#> .\n");
+        StringBuilder nt = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            ttl.append(":C").append(i).append(" a owl:Class .\n");
+            nt.append("<http://test#C").append(i).append("> <http://www.w3.org/1999/02/22-rdf-syntax-ns#type> ")
+                    .append("<http://www.w3.org/2002/07/owl#Class> .\n");
+        }
+        Assertions.assertTrue(ttl.length() > OntGraphUtils.SNIFF_SIZE);
+        Assertions.assertTrue(nt.length() > OntGraphUtils.SNIFF_SIZE);
+
+        // the sniffed format is correct: the source is read once
+        CountingSource src1 = new CountingSource(ttl.toString());
+        Assertions.assertEquals(1000, loadDeclarations(src1));
+        Assertions.assertEquals(1, src1.opens);
+
+        // the format is not guessed: the source is read once, the other formats are tried using the buffer
+        CountingSource src2 = new CountingSource(nt.toString());
+        Assertions.assertEquals(1000, loadDeclarations(src2));
+        Assertions.assertEquals(1, src2.opens);
+
+        // the sniffed format is wrong (the document is broken after the beginning):
+        // the other formats are tried using the buffer, the source is not reopened by Jena
+        CountingSource src3 = new CountingSource(ttl + ":X a :Y :Z ?");
+        Assertions.assertThrows(OntologyFactoryImpl.UnsupportedFormatException.class,
+                () -> OntGraphUtils.readGraph(Factory.createGraphMem(), src3,
+                        OntManagers.createManager().getOntologyLoaderConfiguration()));
+        Assertions.assertEquals(1, src3.opens);
+    }
+
+    @Test
+    public void testKeepReplayBufferIfSniffedFormatIsNotSupportedByJena() {
+        StringBuilder owx = new StringBuilder("<?xml version=\"1.0\"?>\n" +
+                "<Ontology xmlns=\"http://www.w3.org/2002/07/owl#\" ontologyIRI=\"http://test\">\n");
+        for (int i = 0; i < 1000; i++) {
+            owx.append("    <Declaration><Class IRI=\"http://test#C").append(i).append("\"/></Declaration>\n");
+        }
+        // the text content makes the document invalid RDF/XML:
+        owx.append("    text\n</Ontology>");
+        Assertions.assertTrue(owx.length() > OntGraphUtils.SNIFF_SIZE);
+        Assertions.assertEquals(OntFormat.OWL_XML, OntGraphUtils.sniffFormat(owx.toString().getBytes(StandardCharsets.UTF_8),
+                OntGraphUtils.SNIFF_SIZE));
+
+        // OWL/XML is skipped, all the other formats are tried using the buffer:
+        CountingSource src = new CountingSource(owx.toString());
+        OntologyFactoryImpl.UnsupportedFormatException e = Assertions.assertThrows(
+                OntologyFactoryImpl.UnsupportedFormatException.class,
+                () -> OntGraphUtils.readGraph(Factory.createGraphMem(), src,
+                        OntManagers.createManager().getOntologyLoaderConfiguration()));
+        Assertions.assertTrue(e.getSuppressed().length > 2);
+        Assertions.assertEquals(1, src.opens);
+    }
+
+    private static long loadDeclarations(OWLOntologyDocumentSource source) throws OWLOntologyCreationException {
+        return OntManagers.createManager().loadOntologyFromOntologyDocument(source).axioms(AxiomType.DECLARATION).count();
+    }
+
+    /**
+     * A source that counts opened streams.
+     */
+    private static class CountingSource extends StreamDocumentSource {
+        private final byte[] bytes;
+        private int opens;
+
+        CountingSource(String txt) {
+            super(new ByteArrayInputStream(new byte[0]), IRI.create("http://test"));
+            this.bytes = txt.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Optional<InputStream> getInputStream() {
+            opens++;
+            return Optional.of(new ByteArrayInputStream(bytes));
+        }
+    }
+
+    @Test
+    public void testLoadImportsClosureConcurrently() throws Exception {
+        String ns = "http://test.com/concurrent/";
+        Map<String, List<String>> tree = new LinkedHashMap<>();
+        tree.put("A", List.of("B", "C", "D"));
+        tree.put("B", List.of("E"));
+        tree.put("C", List.of("E", "F"));
+        tree.put("D", List.of("Missing"));
+        tree.put("E", List.of("A"));
+        tree.put("F", List.of());
+        Path dir = Files.createTempDirectory("ont-api-imports-");
+        Map<IRI, IRI> files = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> e : tree.entrySet()) {
+            OntModel o = OntModelFactory.createModel();
+            o.setID(ns + e.getKey());
+            e.getValue().forEach(x -> o.getID().addImport(ns + x));
+            o.createOntClass(ns + e.getKey() + "#Class");
+            Path file = dir.resolve(e.getKey() + ".ttl");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                o.write(out, "ttl");
+            }
+            files.put(IRI.create(ns + e.getKey()), IRI.create(file.toUri()));
+        }
+        Function<Integer, OntologyManager> createManager = parallelism -> {
+            OntologyManager m = OntManagers.createManager();
+            files.forEach((k, v) -> m.getIRIMappers().add(FileMap.create(k, v)));
+            m.getOntologyConfigurator().setImportsLoadParallelism(parallelism);
+            return m;
+        };
+        Function<OntologyManager, List<String>> describe = m -> m.ontologies()
+                .map(o -> o.getOntologyID() + " => " + o.imports().map(OWLOntology::getOntologyID)
+                        .map(String::valueOf).sorted().collect(Collectors.joining(", ")) + " : " + o.getAxiomCount())
+                .collect(Collectors.toList());
+
+        OntologyManager m1 = createManager.apply(1);
+        OntologyManager m2 = createManager.apply(4);
+        Assertions.assertEquals(4, m2.getOntologyLoaderConfiguration().getImportsLoadParallelism());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m2.getOntologyConfigurator().setImportsLoadParallelism(0));
+        // missing import -> exception, nothing is loaded:
+        Assertions.assertThrows(UnloadableImportException.class, () -> m1.loadOntology(IRI.create(ns + "A")));
+        Assertions.assertThrows(UnloadableImportException.class, () -> m2.loadOntology(IRI.create(ns + "A")));
+        Assertions.assertEquals(0, m1.ontologies().count());
+        Assertions.assertEquals(0, m2.ontologies().count());
+
+        Stream.of(m1, m2).forEach(m -> m.setOntologyLoaderConfiguration(m.getOntologyLoaderConfiguration()
+                .setMissingImportHandlingStrategy(MissingImportHandlingStrategy.SILENT)));
+        m1.loadOntology(IRI.create(ns + "A"));
+        m2.loadOntology(IRI.create(ns + "A"));
+        List<String> expected = describe.apply(m1);
+        LOGGER.debug("Ontologies: {}", expected);
+        Assertions.assertEquals(6, expected.size());
+        Assertions.assertEquals(expected, describe.apply(m2));
+    }
+
+    @Test
+    public void testTransformImportsClosureConcurrently() throws Exception {
+        String ns = "http://test.com/transforms/";
+        Map<String, List<String>> tree = new LinkedHashMap<>();
+        tree.put("A", List.of("B", "C"));
+        tree.put("B", List.of("D"));
+        tree.put("C", List.of("D", "E"));
+        tree.put("D", List.of());
+        tree.put("E", List.of());
+        Path dir = Files.createTempDirectory("ont-api-transforms-");
+        Map<IRI, IRI> files = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> e : tree.entrySet()) {
+            Model o = ModelFactory.createDefaultModel();
+            Resource id = o.createResource(ns + e.getKey(), OWL.Ontology);
+            e.getValue().forEach(x -> id.addProperty(OWL.imports, o.createResource(ns + x)));
+            // undeclared entities, to be fixed by transforms:
+            o.createResource(ns + e.getKey() + "#A").addProperty(RDFS.subClassOf, o.createResource(ns + e.getKey() + "#B"));
+            Path file = dir.resolve(e.getKey() + ".ttl");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                o.write(out, "ttl");
+            }
+            files.put(IRI.create(ns + e.getKey()), IRI.create(file.toUri()));
+        }
+        Function<Integer, OntologyManager> createManager = parallelism -> {
+            OntologyManager m = OntManagers.createManager();
+            files.forEach((k, v) -> m.getIRIMappers().add(FileMap.create(k, v)));
+            m.getOntologyConfigurator().setTransformsParallelism(parallelism);
+            return m;
+        };
+        Function<OntologyManager, List<String>> describe = m -> m.ontologies()
+                .sorted(Comparator.comparing(o -> String.valueOf(o.getOntologyID())))
+                .map(o -> o.getOntologyID() + " : " + o.axioms().map(String::valueOf).sorted()
+                        .collect(Collectors.joining(", ")))
+                .collect(Collectors.toList());
+
+        OntologyManager m1 = createManager.apply(1);
+        OntologyManager m2 = createManager.apply(3);
+        Assertions.assertEquals(3, m2.getOntologyLoaderConfiguration().getTransformsParallelism());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m2.getOntologyConfigurator().setTransformsParallelism(-1));
+        m1.loadOntology(IRI.create(ns + "A"));
+        m2.loadOntology(IRI.create(ns + "A"));
+        List<String> expected = describe.apply(m1);
+        LOGGER.debug("Ontologies: {}", expected);
+        Assertions.assertEquals(5, expected.size());
+        Assertions.assertEquals(expected, describe.apply(m2));
+        Assertions.assertEquals(3, m2.getOntology(IRI.create(ns + "D")).getAxiomCount());
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2021, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.managers;
+
+import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.internal.InternalModel;
+import com.github.owlcs.ontapi.internal.ONTWrapperImpl;
+import com.github.owlcs.ontapi.internal.OWLTopObjectType;
+import com.github.owlcs.ontapi.jena.model.OntClass;
+import com.github.owlcs.ontapi.jena.model.OntModel;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.Imports;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link OntSnapshots}.
+ */
+public class SnapshotManagerTest {
+
+    private static InternalModel getBase(Ontology o) {
+        return OWLAdapter.get().asBaseModel(o).getBase();
+    }
+
+    private static OntologyManager createManager() throws OWLOntologyCreationException {
+        OntologyManager m = OntManagers.createManager();
+        IRI pizza = IRI.create(ReadWriteUtils.getResourceURI("ontapi/pizza.ttl"));
+        Ontology p = m.loadOntology(pizza);
+        Ontology o = m.createOntology(IRI.create("http://snapshot"));
+        o.asGraphModel().addImport(p.asGraphModel());
+        OntModel g = o.asGraphModel();
+        OntClass c = g.createOntClass("http://snapshot#C");
+        c.addSuperClass(g.createObjectSomeValuesFrom(g.createObjectProperty("http://snapshot#p"),
+                g.createObjectUnionOf(g.createOntClass("http://snapshot#A"), g.createOntClass("http://snapshot#B"))));
+        c.addSuperClass(g.createOntClass("http://snapshot#A")).annotate(g.getRDFSComment(), g.createLiteral("x"));
+        c.createIndividual().addComment("anonymous");
+        return m;
+    }
+
+    private static byte[] write(OntologyManager m, boolean withContent) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OntSnapshots.write(m, out, withContent);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testManagerSnapshotWithContent() throws Exception {
+        OntologyManager m1 = createManager();
+        m1.ontologies().forEach(o -> o.axioms().forEach(x -> {
+        }));
+        OntologyManager m2 = OntManagers.createManager();
+        List<Ontology> res = OntSnapshots.read(m2, new ByteArrayInputStream(write(m1, true)));
+        Assertions.assertEquals(2, res.size());
+        Assertions.assertEquals(2, m2.ontologies().count());
+        for (Ontology expected : m1.ontologies().map(Ontology.class::cast).collect(Collectors.toList())) {
+            Ontology actual = m2.getOntology(expected.getOntologyID());
+            Assertions.assertNotNull(actual);
+            // the content is restored from the snapshot, not read from the graph:
+            Assertions.assertTrue(getBase(actual).listCachedContent(OWLTopObjectType.DECLARATION)
+                    .allMatch(x -> x instanceof ONTWrapperImpl));
+            Assertions.assertEquals(expected.axioms().collect(Collectors.toSet()),
+                    actual.axioms().collect(Collectors.toSet()));
+            Assertions.assertEquals(expected.annotations().collect(Collectors.toSet()),
+                    actual.annotations().collect(Collectors.toSet()));
+            Assertions.assertEquals(expected.getAxiomCount(Imports.INCLUDED), actual.getAxiomCount(Imports.INCLUDED));
+            Assertions.assertEquals(m1.getOntologyDocumentIRI(expected), m2.getOntologyDocumentIRI(actual));
+            Assertions.assertEquals(expected.asGraphModel().getBaseGraph().size(),
+                    actual.asGraphModel().getBaseGraph().size());
+        }
+        Ontology o1 = m1.getOntology(IRI.create("http://snapshot"));
+        Ontology o2 = m2.getOntology(IRI.create("http://snapshot"));
+        Assertions.assertNotNull(o1);
+        Assertions.assertNotNull(o2);
+        Assertions.assertEquals(1, o2.imports().count());
+        // the triples of the restored axioms are known, so they can be removed:
+        Set<OWLAxiom> axioms = o1.axioms(AxiomType.SUBCLASS_OF).collect(Collectors.toSet());
+        Assertions.assertEquals(2, axioms.size());
+        o1.remove(axioms);
+        o2.remove(axioms);
+        Assertions.assertEquals(o1.axioms().collect(Collectors.toSet()), o2.axioms().collect(Collectors.toSet()));
+        Assertions.assertEquals(o1.asGraphModel().getBaseGraph().size(), o2.asGraphModel().getBaseGraph().size());
+        Assertions.assertTrue(o2.asGraphModel().getBaseGraph().isIsomorphicWith(o1.asGraphModel().getBaseGraph()));
+    }
+
+    @Test
+    public void testOntologySnapshotWithoutContent() throws Exception {
+        OntologyManager m1 = createManager();
+        Ontology o1 = m1.getOntology(IRI.create("http://snapshot"));
+        Assertions.assertNotNull(o1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OntSnapshots.write(o1, out, false);
+
+        OntologyManager m2 = OntManagers.createManager();
+        // transformations are not performed for the snapshot graphs:
+        m2.getOntologyConfigurator().setPerformTransformation(true);
+        List<Ontology> res = OntSnapshots.read(m2, new ByteArrayInputStream(out.toByteArray()));
+        Assertions.assertEquals(2, res.size());
+        Ontology o2 = res.get(0);
+        Assertions.assertEquals(o1.getOntologyID(), o2.getOntologyID());
+        Assertions.assertEquals(0, getBase(o2).listCachedContent(OWLTopObjectType.DECLARATION).count());
+        Assertions.assertEquals(o1.axioms(Imports.INCLUDED).collect(Collectors.toSet()),
+                o2.axioms(Imports.INCLUDED).collect(Collectors.toSet()));
+        Assertions.assertTrue(o2.asGraphModel().getBaseGraph().isIsomorphicWith(o1.asGraphModel().getBaseGraph()));
+        Assertions.assertEquals(o1.asGraphModel().getNsPrefixMap(), o2.asGraphModel().getNsPrefixMap());
+
+        // the same ontologies are already in the manager:
+        Assertions.assertThrows(OntApiException.class,
+                () -> OntSnapshots.read(m2, new ByteArrayInputStream(out.toByteArray())));
+        Assertions.assertThrows(IOException.class,
+                () -> OntSnapshots.read(m2, new ByteArrayInputStream(new byte[]{1, 2, 3})));
+    }
+
+    @Test
+    public void testRejectCorruptedTripleIndex() throws Exception {
+        OntologyManager m1 = createManager();
+        m1.ontologies().forEach(o -> o.axioms().forEach(x -> {
+        }));
+        byte[] data = write(m1, true);
+        // the snapshot ends with the triple indexes of the last content object followed by the reset marker:
+        Assertions.assertEquals(ObjectStreamConstants.TC_RESET, data[data.length - 1]);
+        ByteBuffer.wrap(data, data.length - 5, 4).putInt(Integer.MAX_VALUE);
+
+        IOException e = Assertions.assertThrows(IOException.class,
+                () -> OntSnapshots.read(OntManagers.createManager(), new ByteArrayInputStream(data)));
+        Assertions.assertTrue(e.getMessage().startsWith("Wrong triple index " + Integer.MAX_VALUE), e.getMessage());
+    }
+
+    @Test
+    public void testRejectNotAllowedClasses() throws Exception {
+        // a hand-made snapshot (see OntSnapshots#write) with a single ontology,
+        // that contains an empty graph and a content object of a foreign type
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeLong(0x4F4E544150495350L);
+            out.writeInt(2);
+            out.writeInt(1);
+            out.writeUTF("");
+            out.writeUTF("");
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeInt(1);
+            out.writeUTF(OWLTopObjectType.DECLARATION.name());
+            out.writeInt(1);
+            out.writeObject(new File("x"));
+            out.writeInt(0);
+        }
+        OntologyManager m = OntManagers.createManager();
+        Assertions.assertThrows(InvalidClassException.class,
+                () -> OntSnapshots.read(m, new ByteArrayInputStream(bytes.toByteArray())));
+        Assertions.assertEquals(0, m.ontologies().count());
+    }
+
+    @Test
+    public void testLargeGraphSnapshot() throws Exception {
+        OntologyManager m1 = OntManagers.createManager();
+        Ontology o = m1.createOntology(IRI.create("http://large"));
+        OntModel g = o.asGraphModel();
+        for (int i = 0; i < 5000; i++) {
+            g.createOntClass("http://large#C" + i).addComment("comment #" + i);
+        }
+        Assertions.assertEquals(10000, o.getAxiomCount());
+        OntologyManager m2 = OntManagers.createManager();
+        List<Ontology> res = OntSnapshots.read(m2, new ByteArrayInputStream(write(m1, true)));
+        Assertions.assertEquals(1, res.size());
+        Assertions.assertEquals(g.getBaseGraph().size(), res.get(0).asGraphModel().getBaseGraph().size());
+        Assertions.assertEquals(o.axioms().collect(Collectors.toSet()), res.get(0).axioms().collect(Collectors.toSet()));
+    }
+}
@@ -17,9 +17,11 @@ package com.github.owlcs.ontapi.tests.model;
 import com.github.owlcs.ontapi.OntManagers;
 import com.github.owlcs.ontapi.tests.ModelData;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
@@ -50,4 +52,31 @@ public class ContainsAxiomsIgnoreAnnotationsTest {
             Assertions.assertTrue(ont.containsAxiomIgnoreAnnotations(b));
         });
     }
+
+    @Test
+    public void testContainsAxiomsAfterModification() {
+        OWLOntologyManager m = newManager();
+        OWLDataFactory df = m.getOWLDataFactory();
+        OWLOntology ont = ModelData.PIZZA.fetch(m);
+        OWLClass a = df.getOWLClass("A");
+        OWLClass b = df.getOWLClass("B");
+        OWLAxiom plain = df.getOWLSubClassOfAxiom(a, b);
+        OWLAxiom x = df.getOWLSubClassOfAxiom(a, b, Collections.singleton(df.getRDFSComment("X")));
+        OWLAxiom y = df.getOWLSubClassOfAxiom(a, b, Collections.singleton(df.getRDFSLabel("Y")));
+        Assertions.assertFalse(ont.containsAxiomIgnoreAnnotations(x));
+
+        ont.add(x);
+        ont.add(y);
+        Assertions.assertTrue(ont.containsAxiomIgnoreAnnotations(plain));
+        Assertions.assertTrue(ont.containsAxiomIgnoreAnnotations(y));
+
+        ont.remove(x);
+        Assertions.assertTrue(ont.containsAxiomIgnoreAnnotations(plain));
+        Assertions.assertTrue(ont.containsAxiomIgnoreAnnotations(x));
+
+        ont.remove(y);
+        Assertions.assertFalse(ont.containsAxiomIgnoreAnnotations(plain));
+        Assertions.assertFalse(ont.containsAxiomIgnoreAnnotations(x));
+        testContainsIgnoreAnnotations(ont);
+    }
 }
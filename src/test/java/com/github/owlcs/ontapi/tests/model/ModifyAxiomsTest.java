@@ -15,6 +15,7 @@
 package com.github.owlcs.ontapi.tests.model;
 
 import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.config.CacheSettings;
 import com.github.owlcs.ontapi.jena.impl.conf.OntModelConfig;
 import com.github.owlcs.ontapi.jena.model.*;
 import com.github.owlcs.ontapi.jena.vocabulary.OWL;
@@ -26,13 +27,16 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * To test {@link OWLOntology#addAxiom(OWLAxiom)} and {@link OWLOntology#removeAxiom(OWLAxiom)}.
@@ -463,4 +467,105 @@ public class ModifyAxiomsTest {
         Assertions.assertEquals(3, o.axioms().peek(x -> LOGGER.debug("{}", x)).count());
         Assertions.assertEquals(4, o.asGraphModel().size());
     }
+
+    @Test
+    public void testBulkAddRemoveAxioms() {
+        List<OWLAxiom> axioms = ReadWriteUtils.convertJenaToONT(ReadWriteUtils.loadResourceTTLFile("ontapi/family.ttl"))
+                .axioms().sorted().collect(Collectors.toList());
+        List<OWLAxiom> half = axioms.subList(0, axioms.size() / 2);
+
+        OntologyManager m = OntManagers.createManager();
+        List<OWLOntologyChange> events = new ArrayList<>();
+        m.addOntologyChangeListener(events::addAll);
+        Ontology bulk = m.createOntology(IRI.create("http://x"));
+        Ontology single = OntManagers.createManager().createOntology(IRI.create("http://x"));
+        axioms.forEach(single::add);
+
+        Assertions.assertEquals(ChangeApplied.SUCCESSFULLY,
+                bulk.addAxioms(Stream.concat(axioms.stream(), half.stream())));
+        Assertions.assertEquals(axioms.size(), events.size());
+        Assertions.assertEquals(single.axioms().collect(Collectors.toSet()), bulk.axioms().collect(Collectors.toSet()));
+        Assertions.assertTrue(single.asGraphModel().getBaseGraph().isIsomorphicWith(bulk.asGraphModel().getBaseGraph()));
+        Assertions.assertEquals(ChangeApplied.NO_OPERATION, bulk.addAxioms(half.stream()));
+
+        half.forEach(single::remove);
+        Assertions.assertEquals(ChangeApplied.SUCCESSFULLY, bulk.removeAxioms(half.stream()));
+        Assertions.assertEquals(single.axioms().collect(Collectors.toSet()), bulk.axioms().collect(Collectors.toSet()));
+        Assertions.assertTrue(single.asGraphModel().getBaseGraph().isIsomorphicWith(bulk.asGraphModel().getBaseGraph()));
+        bulk.clearCache();
+        single.clearCache();
+        Assertions.assertEquals(single.axioms().collect(Collectors.toSet()), bulk.axioms().collect(Collectors.toSet()));
+
+        Assertions.assertEquals(ChangeApplied.SUCCESSFULLY, bulk.removeAxioms(bulk.axioms()));
+        Assertions.assertTrue(bulk.isEmpty());
+        Assertions.assertEquals(1, bulk.asGraphModel().size());
+    }
+
+    @Test
+    public void testRemoveAxiomsWithTriplesCache() {
+        OntologyManager m1 = OntManagers.createManager();
+        OntologyManager m2 = OntManagers.createManager();
+        m2.getOntologyConfigurator().setModelCacheLevel(CacheSettings.CACHE_TRIPLES, true);
+        Ontology expected = m1.addOntology(ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph());
+        Ontology actual = m2.addOntology(ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph());
+
+        List<OWLAxiom> axioms = expected.axioms().sorted().collect(Collectors.toList());
+        Assertions.assertEquals(axioms, actual.axioms().sorted().collect(Collectors.toList()));
+        // every third axiom one by one, then the rest in bulk, then the header
+        for (int i = 0; i < axioms.size(); i += 3) {
+            OWLAxiom a = axioms.get(i);
+            expected.remove(a);
+            actual.remove(a);
+            Assertions.assertEquals(expected.asGraphModel().size(), actual.asGraphModel().size(), "Axiom: " + a);
+        }
+        Assertions.assertTrue(expected.asGraphModel().getGraph().isIsomorphicWith(actual.asGraphModel().getGraph()));
+        expected.clearCache();
+        actual.clearCache();
+        Assertions.assertEquals(expected.axioms().collect(Collectors.toSet()),
+                actual.axioms().collect(Collectors.toSet()));
+
+        actual.add(axioms.get(0));
+        expected.add(axioms.get(0));
+        expected.removeAxioms(expected.axioms());
+        actual.removeAxioms(actual.axioms());
+        expected.annotations().collect(Collectors.toList())
+                .forEach(a -> expected.applyChange(new RemoveOntologyAnnotation(expected, a)));
+        actual.annotations().collect(Collectors.toList())
+                .forEach(a -> actual.applyChange(new RemoveOntologyAnnotation(actual, a)));
+        Assertions.assertTrue(actual.isEmpty());
+        Assertions.assertTrue(expected.asGraphModel().getGraph().isIsomorphicWith(actual.asGraphModel().getGraph()));
+    }
+
+    @Test
+    public void testRemoveAxiomWithSharedClassExpressionAndTriplesCache() {
+        OntologyManager man = OntManagers.createManager();
+        man.getOntologyConfigurator().setModelCacheLevel(CacheSettings.CACHE_TRIPLES, true);
+        OWLDataFactory df = man.getOWLDataFactory();
+        Ontology o = man.createOntology(IRI.create("X"));
+
+        OntModel m = o.asGraphModel();
+        OntClass ce = m.createObjectUnionOf(m.createOntClass("y"), m.createOntClass("z"));
+        m.createOntClass("x").addSuperClass(ce);
+        m.createOntClass("y").addSuperClass(ce);
+        Assertions.assertEquals(5, o.axioms().count());
+        Assertions.assertEquals(12, m.size());
+
+        o.remove(o.subClassAxiomsForSubClass(df.getOWLClass("x")).findFirst().orElseThrow(AssertionError::new));
+        Assertions.assertEquals(4, o.axioms().count());
+        Assertions.assertEquals(11, m.size());
+
+        o.remove(o.subClassAxiomsForSubClass(df.getOWLClass("y")).findFirst().orElseThrow(AssertionError::new));
+        Assertions.assertEquals(3, o.axioms().count());
+        Assertions.assertEquals(4, m.size());
+
+        // the declaration is used by the axiom added after building the index
+        o.add(df.getOWLSubClassOfAxiom(df.getOWLClass("x"), df.getOWLClass("q")));
+        o.remove(df.getOWLDeclarationAxiom(df.getOWLClass("q")));
+        Assertions.assertEquals(6, m.size());
+        o.remove(df.getOWLDeclarationAxiom(df.getOWLClass("x")));
+        Assertions.assertEquals(6, m.size());
+        o.axioms().collect(Collectors.toList()).forEach(o::remove);
+        Assertions.assertTrue(o.isEmpty());
+        Assertions.assertEquals(1, m.size());
+    }
 }
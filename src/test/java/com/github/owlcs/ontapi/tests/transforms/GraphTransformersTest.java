@@ -38,6 +38,7 @@ import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.shared.JenaException;
 import org.apache.jena.util.FileManager;
 import org.apache.jena.vocabulary.RDFS;
 import org.junit.jupiter.api.Assertions;
@@ -49,6 +50,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -332,6 +334,164 @@ public class GraphTransformersTest {
         Assertions.assertEquals(expectedIndividuals, actualIndividuals);
     }
 
+    @Test
+    public void testParallelTransforms() {
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        GraphTransformers st = GraphTransformers.get().addFirst(new Transform() {
+            @Override
+            public Stream<Triple> apply(Graph g) {
+                processed.add(Graphs.getURI(g));
+                return Stream.empty();
+            }
+
+            @Override
+            public String id() {
+                return "Order Checker";
+            }
+        });
+        UnionGraph expected = createHierarchy();
+        GraphStats expectedStats = st.transform(expected);
+        Assertions.assertEquals(5, processed.size());
+        processed.clear();
+
+        UnionGraph actual = createHierarchy();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        GraphStats actualStats;
+        try {
+            actualStats = st.transform(actual, new HashSet<>(), pool);
+        } finally {
+            pool.shutdown();
+        }
+        // each graph is processed once and only after all its imports:
+        Assertions.assertEquals(5, processed.size());
+        Assertions.assertEquals(5, new HashSet<>(processed).size());
+        Assertions.assertTrue(processed.indexOf("http://c") < processed.indexOf("http://a"));
+        Assertions.assertTrue(processed.indexOf("http://c") < processed.indexOf("http://b"));
+        Assertions.assertTrue(processed.indexOf("http://d") < processed.indexOf("http://b"));
+        Assertions.assertEquals("http://root", processed.get(4));
+
+        Map<String, Graph> expectedGraphs = new HashMap<>();
+        expected.listBaseGraphs().forEachRemaining(g -> expectedGraphs.put(Graphs.getURI(g), g));
+        actual.listBaseGraphs().forEachRemaining(g -> Assertions.assertTrue(g.isIsomorphicWith(expectedGraphs.get(Graphs.getURI(g)))));
+        Assertions.assertEquals(toList(expectedStats), toList(actualStats));
+        Assertions.assertEquals(List.of("http://a", "http://c", "http://b", "http://c", "http://d"),
+                actualStats.stats(true).map(x -> Graphs.getURI(x.getGraph())).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testParallelTransformsFailure() {
+        GraphTransformers st = GraphTransformers.get().addFirst(new Transform() {
+            @Override
+            public Stream<Triple> apply(Graph g) {
+                if ("http://c".equals(Graphs.getURI(g))) {
+                    throw new JenaException("Can't process " + Graphs.getURI(g));
+                }
+                return Stream.empty();
+            }
+
+            @Override
+            public String id() {
+                return "Failure";
+            }
+        });
+        UnionGraph expected = createHierarchy();
+        Set<Graph> expectedSkip = new HashSet<>();
+        GraphTransformers.StoreException expectedError = Assertions.assertThrows(GraphTransformers.StoreException.class,
+                () -> st.transform(expected, expectedSkip));
+        // the failed graph is not marked as processed:
+        Assertions.assertEquals(Set.of(), uris(expectedSkip));
+
+        UnionGraph actual = createHierarchy();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        GraphTransformers.StoreException actualError;
+        try {
+            actualError = Assertions.assertThrows(GraphTransformers.StoreException.class,
+                    () -> st.transform(actual, new HashSet<>(), pool));
+        } finally {
+            pool.shutdown();
+        }
+        // the same parent as in the sequential mode:
+        Assertions.assertEquals(expectedError.getMessage(), actualError.getMessage());
+        Assertions.assertTrue(actualError.getMessage().startsWith(Graphs.getName(actual) + " => "),
+                "Wrong message: " + actualError.getMessage());
+    }
+
+    private static Set<String> uris(Set<Graph> graphs) {
+        return graphs.stream().map(Graphs::getURI).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testStatsLimit() throws OWLOntologyCreationException {
+        Model m = ModelFactory.createDefaultModel();
+        m.createResource("http://x", OWL.Ontology);
+        for (int i = 0; i < 50; i++) {
+            m.createResource("http://x#C" + i).addProperty(RDFS.subClassOf, m.createResource("http://x#D" + i));
+        }
+        GraphTransformers full = GraphTransformers.get().setStatsLimit(GraphStats.FULL);
+        GraphTransformers bounded = GraphTransformers.get().setStatsLimit(10);
+        Assertions.assertEquals(GraphStats.DEFAULT_SAMPLE_LIMIT, GraphTransformers.get().getStatsLimit());
+        Assertions.assertNotEquals(full, bounded);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bounded.setStatsLimit(-2));
+
+        GraphStats expected = full.transform(ModelFactory.createDefaultModel().add(m).getGraph());
+        GraphStats actual = bounded.transform(ModelFactory.createDefaultModel().add(m).getGraph());
+        Assertions.assertTrue(expected.isComplete());
+        Assertions.assertFalse(actual.isComplete());
+        String declarations = OWLDeclarationTransform.class.getSimpleName();
+        Assertions.assertEquals(100, expected.count(GraphStats.Type.ADDED, declarations));
+        Assertions.assertEquals(100, expected.getTriples(GraphStats.Type.ADDED, declarations).size());
+        Assertions.assertEquals(100, actual.count(GraphStats.Type.ADDED, declarations));
+        Assertions.assertEquals(10, actual.getTriples(GraphStats.Type.ADDED, declarations).size());
+        Assertions.assertTrue(expected.getTriples(GraphStats.Type.ADDED, declarations)
+                .containsAll(actual.getTriples(GraphStats.Type.ADDED, declarations)));
+        Assertions.assertEquals(expected.count(GraphStats.Type.ADDED), actual.count(GraphStats.Type.ADDED));
+        Assertions.assertEquals(expected.count(GraphStats.Type.DELETED), actual.count(GraphStats.Type.DELETED));
+
+        // the loader metadata is a copy of the stats:
+        Assertions.assertEquals(100, loadMetaData(m, null).getGuessedDeclarations().size());
+        Assertions.assertEquals(100, loadMetaData(m, full).getGuessedDeclarations().size());
+        Assertions.assertEquals(10, loadMetaData(m, bounded).getGuessedDeclarations().size());
+        Assertions.assertEquals(0, loadMetaData(m, bounded).getUnparsedTriples().count());
+    }
+
+    private static OWLOntologyLoaderMetaData loadMetaData(Model m,
+                                                          GraphTransformers transformers) throws OWLOntologyCreationException {
+        OntologyManager manager = OntManagers.createManager();
+        if (transformers != null) {
+            manager.getOntologyConfigurator().setGraphTransformers(transformers);
+        }
+        Ontology o = manager.loadOntologyFromOntologyDocument(ReadWriteUtils.getStringDocumentSource(
+                ReadWriteUtils.toString(m, OntFormat.TURTLE), OntFormat.TURTLE));
+        Assertions.assertEquals(150, o.getAxiomCount());
+        return manager.getOntologyFormat(o).getOntologyLoaderMetaData().orElseThrow(AssertionError::new);
+    }
+
+    private static List<Object> toList(GraphStats stats) {
+        return Stream.concat(Stream.of(stats), stats.stats(true))
+                .map(x -> List.of(Graphs.getURI(x.getGraph()),
+                        x.triples(GraphStats.Type.ADDED).collect(Collectors.toSet()),
+                        x.triples(GraphStats.Type.DELETED).collect(Collectors.toSet())))
+                .collect(Collectors.toList());
+    }
+
+    private static UnionGraph createHierarchy() {
+        UnionGraph c = createUndeclared("http://c");
+        UnionGraph d = createUndeclared("http://d");
+        UnionGraph a = createUndeclared("http://a").addGraph(c);
+        UnionGraph b = createUndeclared("http://b").addGraph(c).addGraph(d);
+        return createUndeclared("http://root").addGraph(a).addGraph(b);
+    }
+
+    private static UnionGraph createUndeclared(String uri) {
+        Model m = ModelFactory.createDefaultModel();
+        m.createResource(uri, OWL.Ontology);
+        for (int i = 0; i < 5; i++) {
+            m.createResource(uri + "#C" + i).addProperty(RDFS.subClassOf, m.createResource(uri + "#D" + i));
+            m.createResource(uri + "#p" + i).addProperty(RDFS.domain, m.createResource(uri + "#C" + i));
+        }
+        return new UnionGraph(m.getGraph());
+    }
+
     private static boolean isNotBuiltIn(OWLEntity entity) {
         return !entity.isBuiltIn() && !ADDITIONAL_BUILT_IN_ENTITIES.contains(entity.getIRI());
     }